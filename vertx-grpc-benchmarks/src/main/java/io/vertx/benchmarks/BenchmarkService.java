@@ -0,0 +1,91 @@
+package io.vertx.benchmarks;
+
+import com.google.protobuf.ByteString;
+import io.vertx.benchmarks.grpc.Payload;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.eventbus.EventBusGrpcServer;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerRequest;
+import io.vertx.grpc.server.GrpcServerResponse;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * The benchmark service methods and their Vert.x gRPC server implementation.
+ */
+public final class BenchmarkService {
+
+  public static final ServiceName SERVICE_NAME = ServiceName.create("benchmark", "BenchmarkService");
+
+  public static final ServiceMethod<Payload, Payload> UNARY = ServiceMethod.server(SERVICE_NAME, "Unary", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  public static final ServiceMethod<Payload, Payload> UNARY_FAST_PATH = ServiceMethod.server(SERVICE_NAME, "UnaryFastPath", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  public static final ServiceMethod<Payload, Payload> CLIENT_STREAMING = ServiceMethod.server(SERVICE_NAME, "ClientStreaming", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  public static final ServiceMethod<Payload, Payload> SERVER_STREAMING = ServiceMethod.server(SERVICE_NAME, "ServerStreaming", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  public static final ServiceMethod<Payload, Payload> BIDI_STREAMING = ServiceMethod.server(SERVICE_NAME, "BidiStreaming", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+
+  public static final ServiceMethod<Payload, Payload> UNARY_CLIENT = ServiceMethod.client(SERVICE_NAME, "Unary", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  public static final ServiceMethod<Payload, Payload> UNARY_FAST_PATH_CLIENT = ServiceMethod.client(SERVICE_NAME, "UnaryFastPath", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  public static final ServiceMethod<Payload, Payload> CLIENT_STREAMING_CLIENT = ServiceMethod.client(SERVICE_NAME, "ClientStreaming", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  public static final ServiceMethod<Payload, Payload> SERVER_STREAMING_CLIENT = ServiceMethod.client(SERVICE_NAME, "ServerStreaming", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  public static final ServiceMethod<Payload, Payload> BIDI_STREAMING_CLIENT = ServiceMethod.client(SERVICE_NAME, "BidiStreaming", GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+
+  private BenchmarkService() {
+  }
+
+  /**
+   * Bind the benchmark service methods to {@code server}.
+   */
+  public static void bind(GrpcServer server) {
+    bindCallHandlers(server::callHandler);
+    server.unaryCallHandler(UNARY_FAST_PATH, Future::succeededFuture);
+  }
+
+  /**
+   * Bind the benchmark service methods to {@code server}, except {@code UnaryFastPath}.
+   */
+  public static void bind(EventBusGrpcServer server) {
+    bindCallHandlers(server::callHandler);
+  }
+
+  private static void bindCallHandlers(BiConsumer<ServiceMethod<Payload, Payload>, Handler<GrpcServerRequest<Payload, Payload>>> server) {
+    server.accept(UNARY, call -> call.handler(msg -> call.response().end(msg)));
+    server.accept(CLIENT_STREAMING, call -> {
+      int[] count = new int[1];
+      call.handler(msg -> count[0]++);
+      call.endHandler(v -> call.response().end(Payload.newBuilder().setCount(count[0]).build()));
+    });
+    server.accept(SERVER_STREAMING, call -> call.handler(msg -> {
+      GrpcServerResponse<Payload, Payload> response = call.response();
+      Payload reply = msg.toBuilder().clearCount().build();
+      for (int i = 0; i < msg.getCount(); i++) {
+        response.write(reply);
+      }
+      response.end();
+    }));
+    server.accept(BIDI_STREAMING, call -> {
+      GrpcServerResponse<Payload, Payload> response = call.response();
+      call.handler(response::write);
+      call.endHandler(v -> response.end());
+    });
+  }
+
+  /**
+   * @return a payload with a {@code size} bytes body
+   */
+  public static Payload payload(int size) {
+    byte[] body = new byte[size];
+    new Random(0).nextBytes(body);
+    return Payload.newBuilder().setBody(ByteString.copyFrom(body)).build();
+  }
+
+  public static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,69 @@
+package io.vertx.benchmarks.codec;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcCompressor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compression and decompression of a text-like payload with the built-in compressors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompressionBenchmark {
+
+  private static final String[] WORDS = { "grpc", "vertx", "message", "stream", "service", "method", "payload", "status" };
+
+  @Param({"gzip", "deflate", "snappy", "zstd"})
+  public String encoding;
+
+  @Param({"1024", "65536"})
+  public int messageSize;
+
+  private GrpcCompressor compressor;
+  private Buffer uncompressed;
+  private Buffer compressed;
+
+  @Setup
+  public void setup() {
+    switch (encoding) {
+      case "gzip":
+        compressor = GrpcCompressor.gzip();
+        break;
+      case "deflate":
+        compressor = GrpcCompressor.deflate();
+        break;
+      case "snappy":
+        compressor = GrpcCompressor.snappy();
+        break;
+      case "zstd":
+        compressor = GrpcCompressor.zstd();
+        break;
+      default:
+        throw new IllegalArgumentException(encoding);
+    }
+    Random random = new Random(0);
+    uncompressed = Buffer.buffer();
+    while (uncompressed.length() < messageSize) {
+      uncompressed.appendString(WORDS[random.nextInt(WORDS.length)]).appendString(" ");
+    }
+    uncompressed = uncompressed.getBuffer(0, messageSize);
+    compressed = compressor.compress(uncompressed);
+  }
+
+  @Benchmark
+  public Buffer compress() {
+    return compressor.compress(uncompressed);
+  }
+
+  @Benchmark
+  public Buffer decompress() {
+    return compressor.decompress(compressed);
+  }
+}
@@ -0,0 +1,52 @@
+package io.vertx.benchmarks.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.benchmarks.BenchmarkService;
+import io.vertx.benchmarks.grpc.Payload;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding a protobuf message to a length-prefixed gRPC frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GrpcMessageEncoderBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  public int messageSize;
+
+  private Payload payload;
+  private GrpcMessageEncoder<Payload> encoder;
+
+  @Setup
+  public void setup() {
+    payload = BenchmarkService.payload(messageSize);
+    encoder = GrpcMessageEncoder.encoder();
+  }
+
+  @Benchmark
+  public Buffer byteArray() {
+    return DefaultGrpcMessage.encode(GrpcMessage.message("identity", Buffer.buffer(payload.toByteArray())));
+  }
+
+  @Benchmark
+  public int pooled() {
+    ProtobufGrpcMessage message = (ProtobufGrpcMessage) encoder.encode(payload, WireFormat.PROTOBUF);
+    ByteBuf encoded = message.encode(false);
+    int len = encoded.readableBytes();
+    encoded.release();
+    return len;
+  }
+}
@@ -0,0 +1,67 @@
+package io.vertx.benchmarks.codec;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.impl.Http2GrpcMessageDeframer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deframing a stream of small messages packed in HTTP/2 DATA frames, i.e. several messages per frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SmallMessageDeframerBenchmark {
+
+  /**
+   * Max HTTP/2 DATA frame size with the default settings.
+   */
+  private static final int MAX_CHUNK_SIZE = 16 * 1024;
+
+  @Param({"16", "128", "1024"})
+  public int messageSize;
+
+  @Param({"1000"})
+  public int messages;
+
+  private List<Buffer> chunks;
+
+  @Setup
+  public void setup() {
+    byte[] bytes = new byte[messageSize];
+    new Random(0).nextBytes(bytes);
+    Buffer stream = Buffer.buffer();
+    for (int i = 0; i < messages; i++) {
+      stream.appendBuffer(DefaultGrpcMessage.encode(GrpcMessage.message("identity", Buffer.buffer(bytes))));
+    }
+    chunks = new ArrayList<>();
+    for (int pos = 0; pos < stream.length(); pos += MAX_CHUNK_SIZE) {
+      chunks.add(stream.getBuffer(pos, Math.min(pos + MAX_CHUNK_SIZE, stream.length())));
+    }
+  }
+
+  @Benchmark
+  public void deframe(Blackhole blackhole) {
+    Http2GrpcMessageDeframer deframer = new Http2GrpcMessageDeframer("identity", WireFormat.PROTOBUF);
+    deframer.maxMessageSize(Integer.MAX_VALUE);
+    for (Buffer chunk : chunks) {
+      deframer.update(chunk);
+      Object ret;
+      while ((ret = deframer.next()) != null) {
+        blackhole.consume(ret);
+      }
+    }
+    deframer.end();
+  }
+}
@@ -0,0 +1,106 @@
+package io.vertx.benchmarks.routing;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.impl.GrpcServerImpl;
+import io.vertx.grpc.server.impl.MountPoint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.benchmarks.BenchmarkService.await;
+
+/**
+ * Request path lookup in the server routing table, through the routing performed by each call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoutingTableBenchmark {
+
+  private static final int METHODS_PER_SERVICE = 10;
+
+  @Param({"10", "300"})
+  public int methods;
+
+  private Vertx vertx;
+  private GrpcServerImpl server;
+  private String methodPath;
+  private String mountPointPath;
+  private String unknownPath;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    server = (GrpcServerImpl) GrpcServer.server(vertx);
+    for (int i = 0; i < methods; i++) {
+      ServiceMethod<Buffer, Buffer> method = ServiceMethod.server(
+        ServiceName.create("benchmark", "Service" + (i / METHODS_PER_SERVICE)),
+        "Method" + (i % METHODS_PER_SERVICE),
+        GrpcMessageEncoder.IDENTITY,
+        GrpcMessageDecoder.IDENTITY);
+      server.callHandler(method, request -> {
+      });
+      methodPath = "/" + method.fullMethodName();
+    }
+    server.callHandler(new Mounted(), request -> {
+    });
+    mountPointPath = "/v1/resources/1234/items";
+    unknownPath = "/benchmark.Unknown/Method";
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    await(vertx.close());
+  }
+
+  @Benchmark
+  public boolean method() {
+    return server.isRouted(methodPath);
+  }
+
+  @Benchmark
+  public boolean mountPoint() {
+    return server.isRouted(mountPointPath);
+  }
+
+  @Benchmark
+  public boolean unknown() {
+    return server.isRouted(unknownPath);
+  }
+
+  /**
+   * A method mounted on a parent path, like a transcoded method.
+   */
+  private static class Mounted implements ServiceMethod<Buffer, Buffer>, MountPoint<Buffer, Buffer> {
+    @Override
+    public ServiceName serviceName() {
+      return ServiceName.create("benchmark", "Transcoded");
+    }
+    @Override
+    public String methodName() {
+      return "Get";
+    }
+    @Override
+    public GrpcMessageDecoder<Buffer> decoder() {
+      return GrpcMessageDecoder.IDENTITY;
+    }
+    @Override
+    public GrpcMessageEncoder<Buffer> encoder() {
+      return GrpcMessageEncoder.IDENTITY;
+    }
+    @Override
+    public List<String> paths() {
+      return List.of("/v1/resources");
+    }
+  }
+}
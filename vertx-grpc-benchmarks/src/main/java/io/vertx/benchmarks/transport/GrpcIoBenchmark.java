@@ -0,0 +1,153 @@
+package io.vertx.benchmarks.transport;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.stub.StreamObserver;
+import io.vertx.benchmarks.BenchmarkService;
+import io.vertx.benchmarks.grpc.BenchmarkServiceGrpc;
+import io.vertx.benchmarks.grpc.Payload;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.grpcio.client.GrpcIoClient;
+import io.vertx.grpcio.client.GrpcIoClientChannel;
+import io.vertx.grpcio.server.GrpcIoServer;
+import io.vertx.grpcio.server.GrpcIoServiceBridge;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.benchmarks.BenchmarkService.await;
+
+/**
+ * A grpc-java service called with a grpc-java blocking stub, each side runs either on the Vert.x bridge
+ * ({@link GrpcIoServer}/{@link GrpcIoClient}) or on the grpc-java Netty transport.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GrpcIoBenchmark {
+
+  @Param({"vertx", "netty"})
+  public String server;
+
+  @Param({"vertx", "netty"})
+  public String client;
+
+  @Param({"16", "1024", "65536"})
+  public int messageSize;
+
+  @Param({"100"})
+  public int streamSize;
+
+  private Vertx vertx;
+  private HttpServer vertxServer;
+  private Server nettyServer;
+  private GrpcIoClient vertxClient;
+  private ManagedChannel nettyChannel;
+  private BenchmarkServiceGrpc.BenchmarkServiceBlockingStub stub;
+  private Payload payload;
+  private Payload serverStreamingRequest;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    int port;
+    switch (server) {
+      case "vertx":
+        GrpcIoServer grpcServer = GrpcIoServer.server(vertx);
+        GrpcIoServiceBridge.bridge(new EchoService()).bind(grpcServer);
+        vertxServer = await(vertx.createHttpServer(new HttpServerOptions().setPort(0).setHost("localhost"))
+          .requestHandler(grpcServer)
+          .listen());
+        port = vertxServer.actualPort();
+        break;
+      case "netty":
+        nettyServer = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+          .addService(new EchoService())
+          .build()
+          .start();
+        port = nettyServer.getPort();
+        break;
+      default:
+        throw new IllegalArgumentException(server);
+    }
+    switch (client) {
+      case "vertx":
+        vertxClient = GrpcIoClient.client(vertx, new HttpClientOptions()
+          .setProtocolVersion(HttpVersion.HTTP_2)
+          .setHttp2ClearTextUpgrade(false));
+        stub = BenchmarkServiceGrpc.newBlockingStub(new GrpcIoClientChannel(vertxClient, SocketAddress.inetSocketAddress(port, "localhost")));
+        break;
+      case "netty":
+        nettyChannel = ManagedChannelBuilder.forAddress("localhost", port).usePlaintext().build();
+        stub = BenchmarkServiceGrpc.newBlockingStub(nettyChannel);
+        break;
+      default:
+        throw new IllegalArgumentException(client);
+    }
+    payload = BenchmarkService.payload(messageSize);
+    serverStreamingRequest = payload.toBuilder().setCount(streamSize).build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    if (nettyChannel != null) {
+      nettyChannel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+    }
+    if (vertxClient != null) {
+      await(vertxClient.close());
+    }
+    if (nettyServer != null) {
+      nettyServer.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+    }
+    if (vertxServer != null) {
+      await(vertxServer.close());
+    }
+    await(vertx.close());
+  }
+
+  @Benchmark
+  public Payload unary() {
+    return stub.unary(payload);
+  }
+
+  @Benchmark
+  public int serverStreaming() {
+    int count = 0;
+    Iterator<Payload> it = stub.serverStreaming(serverStreamingRequest);
+    while (it.hasNext()) {
+      it.next();
+      count++;
+    }
+    return count;
+  }
+
+  private static class EchoService extends BenchmarkServiceGrpc.BenchmarkServiceImplBase {
+
+    @Override
+    public void unary(Payload request, StreamObserver<Payload> responseObserver) {
+      responseObserver.onNext(request);
+      responseObserver.onCompleted();
+    }
+
+    @Override
+    public void serverStreaming(Payload request, StreamObserver<Payload> responseObserver) {
+      Payload reply = request.toBuilder().clearCount().build();
+      for (int i = 0; i < request.getCount(); i++) {
+        responseObserver.onNext(reply);
+      }
+      responseObserver.onCompleted();
+    }
+  }
+}
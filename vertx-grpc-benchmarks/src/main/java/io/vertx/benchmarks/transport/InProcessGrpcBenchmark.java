@@ -0,0 +1,111 @@
+package io.vertx.benchmarks.transport;
+
+import io.vertx.benchmarks.BenchmarkService;
+import io.vertx.benchmarks.grpc.Payload;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.inprocess.InProcessGrpcClient;
+import io.vertx.grpc.inprocess.InProcessGrpcClientOptions;
+import io.vertx.grpc.inprocess.InProcessGrpcServer;
+import io.vertx.grpc.server.GrpcServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.benchmarks.BenchmarkService.await;
+
+/**
+ * Vert.x gRPC client calling a Vert.x gRPC server with the in-process transport, compare with {@link VertxGrpcBenchmark}
+ * for the cost of loopback HTTP/2 and serialization.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InProcessGrpcBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  public int messageSize;
+
+  @Param({"100"})
+  public int streamSize;
+
+  @Param({"false", "true"})
+  public boolean copyMessages;
+
+  private Vertx vertx;
+  private InProcessGrpcServer server;
+  private InProcessGrpcClient client;
+  private Payload payload;
+  private Payload serverStreamingRequest;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    GrpcServer grpcServer = GrpcServer.server(vertx);
+    BenchmarkService.bind(grpcServer);
+    server = InProcessGrpcServer.bind(vertx, "benchmark", grpcServer);
+    client = InProcessGrpcClient.client(vertx, "benchmark", new InProcessGrpcClientOptions().setCopyMessages(copyMessages));
+    payload = BenchmarkService.payload(messageSize);
+    serverStreamingRequest = payload.toBuilder().setCount(streamSize).build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    await(server.close());
+    await(vertx.close());
+  }
+
+  @Benchmark
+  public Payload unary() throws Exception {
+    return await(client
+      .request(BenchmarkService.UNARY_CLIENT)
+      .compose(request -> request.send(payload))
+      .compose(GrpcClientResponse::last));
+  }
+
+  @Benchmark
+  public Payload clientStreaming() throws Exception {
+    return await(client
+      .request(BenchmarkService.CLIENT_STREAMING_CLIENT)
+      .compose(request -> {
+        for (int i = 1; i < streamSize; i++) {
+          request.write(payload);
+        }
+        request.end(payload);
+        return request.response();
+      })
+      .compose(GrpcClientResponse::last));
+  }
+
+  @Benchmark
+  public int serverStreaming() throws Exception {
+    return await(client
+      .request(BenchmarkService.SERVER_STREAMING_CLIENT)
+      .compose(request -> request.send(serverStreamingRequest))
+      .compose(InProcessGrpcBenchmark::count));
+  }
+
+  @Benchmark
+  public int bidiStreaming() throws Exception {
+    return await(client
+      .request(BenchmarkService.BIDI_STREAMING_CLIENT)
+      .compose(request -> {
+        Future<Integer> count = request.response().compose(InProcessGrpcBenchmark::count);
+        for (int i = 1; i < streamSize; i++) {
+          request.write(payload);
+        }
+        request.end(payload);
+        return count;
+      }));
+  }
+
+  private static Future<Integer> count(GrpcClientResponse<Payload, Payload> response) {
+    int[] count = new int[1];
+    response.handler(msg -> count[0]++);
+    return response.end().map(v -> count[0]);
+  }
+}
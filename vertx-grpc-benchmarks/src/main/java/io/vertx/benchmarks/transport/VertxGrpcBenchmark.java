@@ -0,0 +1,130 @@
+package io.vertx.benchmarks.transport;
+
+import io.vertx.benchmarks.BenchmarkService;
+import io.vertx.benchmarks.grpc.Payload;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientRequest;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.server.GrpcServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.vertx.benchmarks.BenchmarkService.await;
+
+/**
+ * Vert.x gRPC client calling a Vert.x gRPC server over loopback HTTP/2.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VertxGrpcBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  public int messageSize;
+
+  @Param({"100"})
+  public int streamSize;
+
+  private Vertx vertx;
+  private HttpServer httpServer;
+  private GrpcClient client;
+  private SocketAddress server;
+  private Payload payload;
+  private Payload serverStreamingRequest;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    GrpcServer grpcServer = GrpcServer.server(vertx);
+    BenchmarkService.bind(grpcServer);
+    httpServer = await(vertx.createHttpServer(new HttpServerOptions().setPort(0).setHost("localhost"))
+      .requestHandler(grpcServer)
+      .listen());
+    server = SocketAddress.inetSocketAddress(httpServer.actualPort(), "localhost");
+    client = GrpcClient.client(vertx, new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+    payload = BenchmarkService.payload(messageSize);
+    serverStreamingRequest = payload.toBuilder().setCount(streamSize).build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    await(client.close());
+    await(httpServer.close());
+    await(vertx.close());
+  }
+
+  @Benchmark
+  public Payload unary() throws Exception {
+    return await(client
+      .request(server, BenchmarkService.UNARY_CLIENT)
+      .compose(request -> request.send(payload))
+      .compose(GrpcClientResponse::last));
+  }
+
+  /**
+   * Same as {@link #unary()} with a server handler bound with {@link GrpcServer#unaryCallHandler}, run with {@code -prof gc}
+   * to compare the allocations per call.
+   */
+  @Benchmark
+  public Payload unaryFastPath() throws Exception {
+    return await(client
+      .request(server, BenchmarkService.UNARY_FAST_PATH_CLIENT)
+      .compose(request -> request.send(payload))
+      .compose(GrpcClientResponse::last));
+  }
+
+  @Benchmark
+  public Payload clientStreaming() throws Exception {
+    return await(client
+      .request(server, BenchmarkService.CLIENT_STREAMING_CLIENT)
+      .compose(request -> {
+        for (int i = 1; i < streamSize; i++) {
+          request.write(payload);
+        }
+        request.end(payload);
+        return request.response();
+      })
+      .compose(GrpcClientResponse::last));
+  }
+
+  @Benchmark
+  public int serverStreaming() throws Exception {
+    return await(client
+      .request(server, BenchmarkService.SERVER_STREAMING_CLIENT)
+      .compose(request -> request.send(serverStreamingRequest))
+      .compose(VertxGrpcBenchmark::count));
+  }
+
+  @Benchmark
+  public int bidiStreaming() throws Exception {
+    return await(client
+      .request(server, BenchmarkService.BIDI_STREAMING_CLIENT)
+      .compose(request -> {
+        Future<Integer> count = request.response().compose(VertxGrpcBenchmark::count);
+        for (int i = 1; i < streamSize; i++) {
+          request.write(payload);
+        }
+        request.end(payload);
+        return count;
+      }));
+  }
+
+  private static Future<Integer> count(GrpcClientResponse<Payload, Payload> response) {
+    int[] count = new int[1];
+    response.handler(msg -> count[0]++);
+    return response.end().map(v -> count[0]);
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.MultiMap;
+import io.vertx.core.net.Address;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Options of a single unary call made with {@link GrpcClient#call(io.vertx.grpc.common.ServiceMethod, Object, CallOptions)}.
+ */
+@Unstable
+public class CallOptions {
+
+  private Address server;
+  private long timeout;
+  private TimeUnit timeoutUnit;
+  private MultiMap headers;
+
+  /**
+   * Default options.
+   */
+  public CallOptions() {
+    timeoutUnit = TimeUnit.SECONDS;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public CallOptions(CallOptions other) {
+    server = other.server;
+    timeout = other.timeout;
+    timeoutUnit = other.timeoutUnit;
+    headers = other.headers != null ? MultiMap.caseInsensitiveMultiMap().addAll(other.headers) : null;
+  }
+
+  /**
+   * @return the server to call or {@code null} to use the client default
+   */
+  public Address getServer() {
+    return server;
+  }
+
+  /**
+   * Set the server to call, when {@code null} the client default server is used.
+   *
+   * @param server the server
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CallOptions setServer(Address server) {
+    this.server = server;
+    return this;
+  }
+
+  /**
+   * @return the call timeout, {@code 0} to use the client default
+   */
+  public long getTimeout() {
+    return timeout;
+  }
+
+  /**
+   * Set the call timeout, sent to the server with the {@code grpc-timeout} header, {@code 0} uses the client default.
+   *
+   * @param timeout the timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CallOptions setTimeout(long timeout) {
+    if (timeout < 0L) {
+      throw new IllegalArgumentException("Timeout must be >= 0");
+    }
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * @return the unit of the call timeout
+   */
+  public TimeUnit getTimeoutUnit() {
+    return timeoutUnit;
+  }
+
+  /**
+   * Set the unit of the call timeout.
+   *
+   * @param timeoutUnit the unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CallOptions setTimeoutUnit(TimeUnit timeoutUnit) {
+    this.timeoutUnit = Objects.requireNonNull(timeoutUnit);
+    return this;
+  }
+
+  /**
+   * @return the request headers or {@code null}
+   */
+  public MultiMap getHeaders() {
+    return headers;
+  }
+
+  /**
+   * Set the headers sent with the request.
+   *
+   * @param headers the headers
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CallOptions setHeaders(MultiMap headers) {
+    this.headers = headers;
+    return this;
+  }
+
+  /**
+   * Add a header sent with the request.
+   *
+   * @param name the header name
+   * @param value the header value
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CallOptions addHeader(String name, String value) {
+    if (headers == null) {
+      headers = MultiMap.caseInsensitiveMultiMap();
+    }
+    headers.add(name, value);
+    return this;
+  }
+}
@@ -10,6 +10,7 @@
  */
 package io.vertx.grpc.client;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -149,6 +150,50 @@ public interface GrpcClient {
    */
   <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(ServiceMethod<Resp, Req> method);
 
+  /**
+   * Call a unary {@code method} of the remote {@code server}. The call is hedged when the method or the client options
+   * declare a {@link io.vertx.grpc.common.GrpcHedgingPolicy}, otherwise the request headers, message and end of stream
+   * are written at once and the response message is decoded without the streaming machinery.
+   *
+   * @param server the server hosting the service
+   * @param method the grpc method
+   * @param message the request message
+   * @return the future response message, failed with {@link InvalidStatusException} when the call status is not {@code OK}
+   */
+  default <Req, Resp> Future<Resp> call(Address server, ServiceMethod<Resp, Req> method, Req message) {
+    return request(server, method).compose(request -> request.send(message).compose(GrpcClientResponse::last));
+  }
+
+  /**
+   * Like {@link #call(Address, ServiceMethod, Object)} with the default remote server.
+   */
+  default <Req, Resp> Future<Resp> call(ServiceMethod<Resp, Req> method, Req message) {
+    return request(method).compose(request -> request.send(message).compose(GrpcClientResponse::last));
+  }
+
+  /**
+   * Like {@link #call(Address, ServiceMethod, Object)} with per call {@code options}.
+   *
+   * @param method the grpc method
+   * @param message the request message
+   * @param options the call options
+   * @return the future response message, failed with {@link InvalidStatusException} when the call status is not {@code OK}
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default <Req, Resp> Future<Resp> call(ServiceMethod<Resp, Req> method, Req message, CallOptions options) {
+    Address server = options.getServer();
+    Future<GrpcClientRequest<Req, Resp>> fut = server != null ? request(server, method) : request(method);
+    return fut.compose(request -> {
+      if (options.getTimeout() > 0L) {
+        request.timeout(options.getTimeout(), options.getTimeoutUnit());
+      }
+      if (options.getHeaders() != null) {
+        request.headers().addAll(options.getHeaders());
+      }
+      return request.send(message).compose(GrpcClientResponse::last);
+    });
+  }
+
   /**
    * Close this client.
    */
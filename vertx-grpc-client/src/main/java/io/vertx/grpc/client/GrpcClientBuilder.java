@@ -75,6 +75,14 @@ public interface GrpcClientBuilder<C> {
   @GenIgnore({"permitted-type"})
   GrpcClientBuilder<C> withLoadBalancer(LoadBalancer loadBalancer);
 
+  /**
+   * Configure the client metrics, e.g. {@link GrpcClientMetricsAggregator#create()}, by default metrics are disabled.
+   *
+   * @param metrics the client metrics
+   */
+  @GenIgnore({"permitted-type"})
+  GrpcClientBuilder<C> withMetrics(GrpcClientMetrics<?> metrics);
+
   /**
    * Build and return the client.
    * @return the client as configured by this builder
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.HistogramSnapshot;
+
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the metrics of a method aggregated by {@link GrpcClientMetricsAggregator}.
+ */
+@Unstable
+public final class GrpcClientMethodMetrics {
+
+  private final long activeCalls;
+  private final long messagesSent;
+  private final long bytesSent;
+  private final long messagesReceived;
+  private final long bytesReceived;
+  private final long retryAttempts;
+  private final long hedgeAttempts;
+  private final Map<GrpcStatus, Long> statuses;
+  private final HistogramSnapshot streamAcquisition;
+  private final HistogramSnapshot timeToFirstByte;
+  private final HistogramSnapshot latency;
+
+  public GrpcClientMethodMetrics(long activeCalls, long messagesSent, long bytesSent, long messagesReceived,
+                                 long bytesReceived, long retryAttempts, long hedgeAttempts, Map<GrpcStatus, Long> statuses,
+                                 HistogramSnapshot streamAcquisition, HistogramSnapshot timeToFirstByte,
+                                 HistogramSnapshot latency) {
+    this.activeCalls = activeCalls;
+    this.messagesSent = messagesSent;
+    this.bytesSent = bytesSent;
+    this.messagesReceived = messagesReceived;
+    this.bytesReceived = bytesReceived;
+    this.retryAttempts = retryAttempts;
+    this.hedgeAttempts = hedgeAttempts;
+    this.statuses = statuses;
+    this.streamAcquisition = streamAcquisition;
+    this.timeToFirstByte = timeToFirstByte;
+    this.latency = latency;
+  }
+
+  /**
+   * @return the number of calls in progress
+   */
+  public long activeCalls() {
+    return activeCalls;
+  }
+
+  /**
+   * @return the number of calls that have ended
+   */
+  public long calls() {
+    return latency.count();
+  }
+
+  /**
+   * @return the number of messages sent
+   */
+  public long messagesSent() {
+    return messagesSent;
+  }
+
+  /**
+   * @return the number of bytes sent
+   */
+  public long bytesSent() {
+    return bytesSent;
+  }
+
+  /**
+   * @return the number of messages received
+   */
+  public long messagesReceived() {
+    return messagesReceived;
+  }
+
+  /**
+   * @return the number of bytes received
+   */
+  public long bytesReceived() {
+    return bytesReceived;
+  }
+
+  /**
+   * @return the number of retry attempts
+   */
+  public long retryAttempts() {
+    return retryAttempts;
+  }
+
+  /**
+   * @return the number of hedged attempts sent in addition to the first attempt of a call
+   */
+  public long hedgeAttempts() {
+    return hedgeAttempts;
+  }
+
+  /**
+   * @return the number of ended calls per status, statuses without calls are omitted
+   */
+  public Map<GrpcStatus, Long> statuses() {
+    return statuses;
+  }
+
+  /**
+   * @return the histogram of the time waited for an HTTP/2 stream in nanoseconds
+   */
+  public HistogramSnapshot streamAcquisition() {
+    return streamAcquisition;
+  }
+
+  /**
+   * @return the histogram of the time between the request headers and the first response frame in nanoseconds
+   */
+  public HistogramSnapshot timeToFirstByte() {
+    return timeToFirstByte;
+  }
+
+  /**
+   * @return the call duration histogram in nanoseconds
+   */
+  public HistogramSnapshot latency() {
+    return latency;
+  }
+}
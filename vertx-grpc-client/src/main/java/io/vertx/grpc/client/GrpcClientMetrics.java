@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceName;
+
+/**
+ * <p>The client metrics SPI, invoked by the client for each call.</p>
+ *
+ * <p>The timings of a call let tell apart the time spent waiting for an HTTP/2 stream, e.g. when the connection pool is
+ * starved, from the time spent by the server processing the call. Callbacks are invoked on the call context and should
+ * not block.</p>
+ *
+ * @param <M> the type of the method metric
+ */
+@Unstable
+public interface GrpcClientMetrics<M> {
+
+  /**
+   * Resolve the metric of a method, this is called when the request headers of a call are sent and when a retried or
+   * hedged call is created.
+   *
+   * @param serviceName the service name
+   * @param methodName the method name
+   * @return the method metric
+   */
+  M method(ServiceName serviceName, String methodName);
+
+  /**
+   * Called when the HTTP/2 stream of a call has been acquired.
+   *
+   * @param method the method metric
+   * @param durationNanos the time waited for the stream in nanoseconds
+   */
+  default void streamAcquired(M method, long durationNanos) {
+  }
+
+  /**
+   * Called when the request headers of a call have been sent.
+   *
+   * @param method the method metric
+   */
+  default void headersSent(M method) {
+  }
+
+  /**
+   * Called when the first response frame of a call has been received.
+   *
+   * @param method the method metric
+   * @param durationNanos the time elapsed since the request headers were sent in nanoseconds
+   */
+  default void firstResponseByte(M method, long durationNanos) {
+  }
+
+  /**
+   * Called when a message is sent.
+   *
+   * @param method the method metric
+   * @param size the message size in bytes
+   */
+  default void messageSent(M method, long size) {
+  }
+
+  /**
+   * Called when a message has been received.
+   *
+   * @param method the method metric
+   * @param size the message size in bytes
+   */
+  default void messageReceived(M method, long size) {
+  }
+
+  /**
+   * Called when a call is retried after a failed attempt, before the retry backoff.
+   *
+   * @param method the method metric
+   */
+  default void retryAttempt(M method) {
+  }
+
+  /**
+   * Called when a hedged attempt is sent in addition to the first attempt of a call.
+   *
+   * @param method the method metric
+   */
+  default void hedgeAttempt(M method) {
+  }
+
+  /**
+   * Called when a call ends, i.e. when the response ends, fails or when the call is cancelled.
+   *
+   * @param method the method metric
+   * @param status the call status
+   * @param durationNanos the call duration in nanoseconds, including the stream acquisition
+   */
+  default void callEnd(M method, GrpcStatus status, long durationNanos) {
+  }
+}
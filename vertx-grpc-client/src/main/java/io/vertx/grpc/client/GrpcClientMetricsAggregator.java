@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.client.impl.GrpcClientMetricsAggregatorImpl;
+
+import java.util.Map;
+
+/**
+ * The default {@link GrpcClientMetrics}, a lock-free in-memory aggregation of the client calls per service method.
+ */
+@Unstable
+public interface GrpcClientMetricsAggregator extends GrpcClientMetrics<Object> {
+
+  /**
+   * @return a new aggregator
+   */
+  static GrpcClientMetricsAggregator create() {
+    return new GrpcClientMetricsAggregatorImpl();
+  }
+
+  /**
+   * @return a snapshot of the metrics keyed by full method name, e.g. {@code helloworld.Greeter/SayHello}
+   */
+  Map<String, GrpcClientMethodMetrics> snapshot();
+
+}
@@ -11,7 +11,14 @@
 package io.vertx.grpc.client;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.GrpcCoalescingPolicy;
+import io.vertx.grpc.common.GrpcHedgingPolicy;
+import io.vertx.grpc.common.GrpcRetryPolicy;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -41,10 +48,43 @@ public class GrpcClientOptions {
    */
   public static final long DEFAULT_MAX_MESSAGE_SIZE = 256 * 1024;
 
+  /**
+   * The default compressors = {@code [gzip]}
+   */
+  public static final List<GrpcCompressor> DEFAULT_COMPRESSORS = List.of(GrpcCompressor.gzip());
+
+  /**
+   * The default hedging budget = {@code 0.1}, hedged attempts add at most 10% of calls
+   */
+  public static final double DEFAULT_HEDGING_BUDGET = 0.1D;
+
+  /**
+   * The default maximum size in bytes of the messages kept per call to be replayed by a retry = {@code 1MB}
+   */
+  public static final int DEFAULT_RETRY_BUFFER_SIZE = 1024 * 1024;
+
+  /**
+   * The default maximum number of retry tokens = {@code 10}
+   */
+  public static final int DEFAULT_RETRY_MAX_TOKENS = 10;
+
+  /**
+   * The default number of retry tokens earned by a successful call = {@code 0.1}
+   */
+  public static final double DEFAULT_RETRY_TOKEN_RATIO = 0.1D;
+
   private boolean scheduleDeadlineAutomatically;
   private int timeout;
   private TimeUnit timeoutUnit;
   private long maxMessageSize;
+  private List<GrpcCompressor> compressors;
+  private GrpcHedgingPolicy hedgingPolicy;
+  private double hedgingBudget;
+  private GrpcRetryPolicy retryPolicy;
+  private int retryBufferSize;
+  private int retryMaxTokens;
+  private double retryTokenRatio;
+  private GrpcCoalescingPolicy coalescingPolicy;
 
   /**
    * Default constructor.
@@ -54,6 +94,11 @@ public class GrpcClientOptions {
     timeout = DEFAULT_TIMEOUT;
     timeoutUnit = DEFAULT_TIMEOUT_UNIT;
     this.maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+    this.compressors = new ArrayList<>(DEFAULT_COMPRESSORS);
+    this.hedgingBudget = DEFAULT_HEDGING_BUDGET;
+    this.retryBufferSize = DEFAULT_RETRY_BUFFER_SIZE;
+    this.retryMaxTokens = DEFAULT_RETRY_MAX_TOKENS;
+    this.retryTokenRatio = DEFAULT_RETRY_TOKEN_RATIO;
   }
 
   /**
@@ -66,6 +111,14 @@ public class GrpcClientOptions {
     timeout = other.timeout;
     timeoutUnit = other.timeoutUnit;
     maxMessageSize = other.maxMessageSize;
+    compressors = new ArrayList<>(other.compressors);
+    hedgingPolicy = other.hedgingPolicy != null ? new GrpcHedgingPolicy(other.hedgingPolicy) : null;
+    hedgingBudget = other.hedgingBudget;
+    retryPolicy = other.retryPolicy != null ? new GrpcRetryPolicy(other.retryPolicy) : null;
+    retryBufferSize = other.retryBufferSize;
+    retryMaxTokens = other.retryMaxTokens;
+    retryTokenRatio = other.retryTokenRatio;
+    coalescingPolicy = other.coalescingPolicy != null ? new GrpcCoalescingPolicy(other.coalescingPolicy) : null;
   }
 
   /**
@@ -158,4 +211,194 @@ public class GrpcClientOptions {
     this.maxMessageSize = maxMessageSize;
     return this;
   }
+
+  /**
+   * @return the compressors used to compress requests and decompress responses, their encodings are advertised with the
+   *         {@code grpc-accept-encoding} header
+   */
+  @GenIgnore
+  public List<GrpcCompressor> getCompressors() {
+    return compressors;
+  }
+
+  /**
+   * Set the compressors used to compress requests and decompress responses.
+   *
+   * @param compressors the compressors
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcClientOptions setCompressors(List<GrpcCompressor> compressors) {
+    this.compressors = new ArrayList<>(Objects.requireNonNull(compressors));
+    return this;
+  }
+
+  /**
+   * Add a compressor, replacing any compressor registered for the same encoding.
+   *
+   * @param compressor the compressor
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcClientOptions addCompressor(GrpcCompressor compressor) {
+    Objects.requireNonNull(compressor);
+    compressors.removeIf(c -> c.encoding().equals(compressor.encoding()));
+    compressors.add(compressor);
+    return this;
+  }
+
+  /**
+   * @return the hedging policy applied to unary calls, {@code null} when calls are not hedged
+   */
+  @GenIgnore
+  public GrpcHedgingPolicy getHedgingPolicy() {
+    return hedgingPolicy;
+  }
+
+  /**
+   * Set the hedging policy applied to the unary calls of methods that do not declare their own
+   * {@link io.vertx.grpc.common.ServiceMethod#hedgingPolicy() policy}, by default calls are not hedged.
+   *
+   * @param hedgingPolicy the hedging policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcClientOptions setHedgingPolicy(GrpcHedgingPolicy hedgingPolicy) {
+    this.hedgingPolicy = hedgingPolicy;
+    return this;
+  }
+
+  /**
+   * @return the ratio of hedged attempts to calls allowed by the client
+   */
+  public double getHedgingBudget() {
+    return hedgingBudget;
+  }
+
+  /**
+   * <p>Set the ratio of hedged attempts to calls allowed by the client, e.g. {@code 0.1} allows one hedged attempt every
+   * ten calls on average.</p>
+   *
+   * <p>The budget is shared by all the calls of the client so hedging cannot amplify the load when a backend is unavailable.</p>
+   *
+   * @param hedgingBudget the hedging budget
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setHedgingBudget(double hedgingBudget) {
+    if (hedgingBudget < 0D) {
+      throw new IllegalArgumentException("Hedging budget must be >= 0");
+    }
+    this.hedgingBudget = hedgingBudget;
+    return this;
+  }
+
+  /**
+   * @return the retry policy applied to calls, {@code null} when calls are not retried
+   */
+  @GenIgnore
+  public GrpcRetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
+  /**
+   * Set the retry policy applied to the calls of methods that do not declare their own
+   * {@link io.vertx.grpc.common.ServiceMethod#retryPolicy() policy}, by default calls are not retried.
+   *
+   * @param retryPolicy the retry policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcClientOptions setRetryPolicy(GrpcRetryPolicy retryPolicy) {
+    this.retryPolicy = retryPolicy;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of the messages kept per call to be replayed by a retry
+   */
+  public int getRetryBufferSize() {
+    return retryBufferSize;
+  }
+
+  /**
+   * Set the maximum size in bytes of the messages kept per call to be replayed by a retry, a call sending more bytes
+   * before receiving the response headers is not retried.
+   *
+   * @param retryBufferSize the buffer size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setRetryBufferSize(int retryBufferSize) {
+    if (retryBufferSize < 0) {
+      throw new IllegalArgumentException("Retry buffer size must be >= 0");
+    }
+    this.retryBufferSize = retryBufferSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of retry tokens
+   */
+  public int getRetryMaxTokens() {
+    return retryMaxTokens;
+  }
+
+  /**
+   * <p>Set the maximum number of retry tokens of the client, retries are throttled as defined by the gRPC service config
+   * {@code retryThrottling}.</p>
+   *
+   * <p>Each failed attempt costs a token and each successful call earns {@link #getRetryTokenRatio()} token, calls are
+   * not retried while the client has half of the maximum number of tokens or less.</p>
+   *
+   * @param retryMaxTokens the maximum number of tokens
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setRetryMaxTokens(int retryMaxTokens) {
+    if (retryMaxTokens < 1) {
+      throw new IllegalArgumentException("Retry max tokens must be > 0");
+    }
+    this.retryMaxTokens = retryMaxTokens;
+    return this;
+  }
+
+  /**
+   * @return the number of retry tokens earned by a successful call
+   */
+  public double getRetryTokenRatio() {
+    return retryTokenRatio;
+  }
+
+  /**
+   * Set the number of retry tokens earned by a successful call.
+   *
+   * @param retryTokenRatio the token ratio
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setRetryTokenRatio(double retryTokenRatio) {
+    if (retryTokenRatio <= 0D) {
+      throw new IllegalArgumentException("Retry token ratio must be > 0");
+    }
+    this.retryTokenRatio = retryTokenRatio;
+    return this;
+  }
+
+  /**
+   * @return the coalescing policy applied to request messages, {@code null} when each message is written on its own
+   */
+  @GenIgnore
+  public GrpcCoalescingPolicy getCoalescingPolicy() {
+    return coalescingPolicy;
+  }
+
+  /**
+   * Set the coalescing policy packing the messages of a request stream into fewer writes, by default each message is
+   * written on its own.
+   *
+   * @param coalescingPolicy the coalescing policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcClientOptions setCoalescingPolicy(GrpcCoalescingPolicy coalescingPolicy) {
+    this.coalescingPolicy = coalescingPolicy;
+    return this;
+  }
 }
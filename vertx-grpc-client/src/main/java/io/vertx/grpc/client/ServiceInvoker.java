@@ -5,6 +5,7 @@ import io.vertx.codegen.annotations.Unstable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.WireFormat;
 
 /**
  * A contract for issuing gRPC client requests by service method, without requiring
@@ -26,4 +27,19 @@ public interface ServiceInvoker {
   @GenIgnore(GenIgnore.PERMITTED_TYPE)
   <Req, Resp> Future<GrpcClientRequest<Req, Resp>> invoker(ServiceMethod<Resp, Req> method);
 
+  /**
+   * Call a unary service method, implementations can override it to provide a faster path than a request.
+   *
+   * @param method the gRPC service method
+   * @param message the request message
+   * @param format the wire format
+   * @return the future response message
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default <Req, Resp> Future<Resp> call(ServiceMethod<Resp, Req> method, Req message, WireFormat format) {
+    return invoker(method).compose(req -> {
+      req.format(format);
+      return req.end(message).compose(v -> req.response().compose(GrpcClientResponse::last));
+    });
+  }
 }
@@ -17,6 +17,7 @@ import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.core.net.endpoint.LoadBalancer;
 import io.vertx.grpc.client.GrpcClient;
 import io.vertx.grpc.client.GrpcClientBuilder;
+import io.vertx.grpc.client.GrpcClientMetrics;
 import io.vertx.grpc.client.GrpcClientOptions;
 
 import java.util.List;
@@ -35,6 +36,7 @@ public class GrpcClientBuilderImpl<C extends GrpcClient> implements GrpcClientBu
   private HttpClientOptions httpTransportOptions;
   private HttpClientConfig httpTransportConfig;
   private ClientSSLOptions sslTransportOptions;
+  private GrpcClientMetrics<?> metrics;
 
   public GrpcClientBuilderImpl(Vertx vertx) {
     this.vertx = vertx;
@@ -70,6 +72,12 @@ public class GrpcClientBuilderImpl<C extends GrpcClient> implements GrpcClientBu
     return this;
   }
 
+  @Override
+  public GrpcClientBuilderImpl<C> withMetrics(GrpcClientMetrics<?> metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   @Override
   public GrpcClientBuilder<C> with(HttpClientConfig transportConfig) {
     if (transportConfig != null) {
@@ -119,11 +127,11 @@ public class GrpcClientBuilderImpl<C extends GrpcClient> implements GrpcClientBu
     if (options == null) {
       options = new GrpcClientOptions();
     }
-    return create(vertx, options, builder.build());
+    return create(vertx, options, metrics, builder.build());
   }
 
-  protected C create(Vertx vertx, GrpcClientOptions options, HttpClient transport) {
-    GrpcClient client = new GrpcClientImpl(vertx, options, transport, true);
+  protected C create(Vertx vertx, GrpcClientOptions options, GrpcClientMetrics<?> metrics, HttpClient transport) {
+    GrpcClient client = new GrpcClientImpl(vertx, options, metrics, transport, true);
     return (C) client;
   }
 }
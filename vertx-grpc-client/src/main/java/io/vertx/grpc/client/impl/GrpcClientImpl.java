@@ -22,15 +22,26 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.net.Address;
+import io.vertx.grpc.client.CallOptions;
+import io.vertx.grpc.client.GrpcClientMetrics;
 import io.vertx.grpc.client.GrpcClientOptions;
 import io.vertx.grpc.client.GrpcClientRequest;
 import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.client.InvalidStatusException;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.GrpcMessageDecoder;
 import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.GrpcCoalescingPolicy;
+import io.vertx.grpc.common.GrpcHedgingPolicy;
 import io.vertx.grpc.common.GrpcLocal;
+import io.vertx.grpc.common.GrpcRetryPolicy;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -44,18 +55,40 @@ public class GrpcClientImpl implements GrpcClient {
   private final long maxMessageSize;
   private final int timeout;
   private final TimeUnit timeoutUnit;
+  private final GrpcCompressorRegistry compressors;
+  private final GrpcClientMetrics<Object> metrics;
+  private final GrpcHedgingPolicy hedgingPolicy;
+  private final HedgingBudget hedgingBudget;
+  private final ConcurrentHashMap<ServiceMethod<?, ?>, HedgingDelay> hedgingDelays = new ConcurrentHashMap<>();
+  private final GrpcRetryPolicy retryPolicy;
+  private final RetryThrottle retryThrottle;
+  private final int retryBufferSize;
+  private final GrpcCoalescingPolicy coalescingPolicy;
 
   public GrpcClientImpl(Vertx vertx, HttpClient client) {
-    this(vertx, new GrpcClientOptions(), client, false);
+    this(vertx, new GrpcClientOptions(), null, client, false);
   }
 
   protected GrpcClientImpl(Vertx vertx, GrpcClientOptions grpcOptions, HttpClient client, boolean close) {
+    this(vertx, grpcOptions, null, client, close);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected GrpcClientImpl(Vertx vertx, GrpcClientOptions grpcOptions, GrpcClientMetrics<?> metrics, HttpClient client, boolean close) {
     this.vertx = vertx;
     this.client = client;
     this.scheduleDeadlineAutomatically = grpcOptions.getScheduleDeadlineAutomatically();
     this.maxMessageSize = grpcOptions.getMaxMessageSize();;
     this.timeout = grpcOptions.getTimeout();
     this.timeoutUnit = grpcOptions.getTimeoutUnit();
+    this.compressors = GrpcCompressorRegistry.create(grpcOptions.getCompressors());
+    this.metrics = (GrpcClientMetrics<Object>) metrics;
+    this.hedgingPolicy = grpcOptions.getHedgingPolicy() != null ? new GrpcHedgingPolicy(grpcOptions.getHedgingPolicy()) : null;
+    this.hedgingBudget = new HedgingBudget(grpcOptions.getHedgingBudget());
+    this.retryPolicy = grpcOptions.getRetryPolicy() != null ? new GrpcRetryPolicy(grpcOptions.getRetryPolicy()) : null;
+    this.retryThrottle = new RetryThrottle(grpcOptions.getRetryMaxTokens(), grpcOptions.getRetryTokenRatio());
+    this.retryBufferSize = grpcOptions.getRetryBufferSize();
+    this.coalescingPolicy = grpcOptions.getCoalescingPolicy() != null ? new GrpcCoalescingPolicy(grpcOptions.getCoalescingPolicy()) : null;
     this.closeClient = close;
   }
 
@@ -64,12 +97,15 @@ public class GrpcClientImpl implements GrpcClient {
   }
 
   private Future<GrpcClientRequest<Buffer, Buffer>> request(RequestOptions options) {
+    long start = metrics != null ? System.nanoTime() : 0L;
     return client.request(options)
       .map(httpRequest -> {
+        ContextInternal context = ((PromiseInternal<?>)httpRequest.response()).context();
         GrpcClientRequestImpl<Buffer, Buffer> grpcRequest = new GrpcClientRequestImpl<>(
-          ((PromiseInternal<?>)httpRequest.response()).context(),
-          new Http2GrpcClientInvoker(httpRequest, maxMessageSize),
+          context,
+          invoker(context, httpRequest, options, retryPolicy(null)),
           scheduleDeadlineAutomatically,
+          compressors,
           GrpcMessageEncoder.IDENTITY,
           GrpcMessageDecoder.IDENTITY) {
           @Override
@@ -77,6 +113,10 @@ public class GrpcClientImpl implements GrpcClient {
             return httpRequest.connection();
           }
         };
+        grpcRequest.maxMessageSize(maxMessageSize);
+        if (metrics != null) {
+          grpcRequest.metrics(metrics, start, System.nanoTime());
+        }
         configureTimeout(grpcRequest);
         return grpcRequest;
       });
@@ -128,12 +168,15 @@ public class GrpcClientImpl implements GrpcClient {
   }
 
   private <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(RequestOptions options, ServiceMethod<Resp, Req> method) {
+    long start = metrics != null ? System.nanoTime() : 0L;
     return client.request(options)
       .map(request -> {
+        ContextInternal context = ((PromiseInternal<?>)request.response()).context();
         GrpcClientRequestImpl<Req, Resp> call = new GrpcClientRequestImpl<>(
-          ((PromiseInternal<?>)request.response()).context(),
-          new Http2GrpcClientInvoker(request, maxMessageSize),
+          context,
+          invoker(context, request, options, retryPolicy(method)),
           scheduleDeadlineAutomatically,
+          compressors,
           method.encoder(),
           method.decoder()) {
           public HttpConnection connection() {
@@ -142,11 +185,140 @@ public class GrpcClientImpl implements GrpcClient {
         };
         call.serviceName(method.serviceName());
         call.methodName(method.methodName());
+        call.maxMessageSize(maxMessageSize);
+        if (metrics != null) {
+          call.metrics(metrics, start, System.nanoTime());
+        }
         configureTimeout(call);
         return call;
       });
   }
 
+  private GrpcRetryPolicy retryPolicy(ServiceMethod<?, ?> method) {
+    GrpcRetryPolicy policy = method != null ? method.retryPolicy() : null;
+    if (policy == null) {
+      policy = retryPolicy;
+    }
+    return policy != null && policy.getMaxAttempts() > 1 ? policy : null;
+  }
+
+  private GrpcClientInvoker invoker(ContextInternal context, HttpClientRequest request, RequestOptions options, GrpcRetryPolicy policy) {
+    GrpcClientInvoker invoker = new Http2GrpcClientInvoker(request, maxMessageSize, compressors, coalescingPolicy);
+    if (policy == null) {
+      return invoker;
+    }
+    return (serviceName, methodName) -> new RetryingGrpcStream(
+      context,
+      invoker.invoke(serviceName, methodName),
+      () -> client.request(options).map(next -> new Http2GrpcClientInvoker(next, maxMessageSize, compressors, coalescingPolicy).invoke(serviceName, methodName)),
+      policy,
+      retryThrottle,
+      retryBufferSize,
+      metrics,
+      metrics != null ? metrics.method(serviceName, methodName) : null);
+  }
+
+  @Override
+  public <Req, Resp> Future<Resp> call(Address server, ServiceMethod<Resp, Req> method, Req message) {
+    return call(server, method, message, null);
+  }
+
+  @Override
+  public <Req, Resp> Future<Resp> call(ServiceMethod<Resp, Req> method, Req message) {
+    return call(null, method, message, null);
+  }
+
+  @Override
+  public <Req, Resp> Future<Resp> call(ServiceMethod<Resp, Req> method, Req message, CallOptions options) {
+    return call(options.getServer(), method, message, options);
+  }
+
+  private <Req, Resp> Future<Resp> call(Address server, ServiceMethod<Resp, Req> method, Req message, CallOptions options) {
+    GrpcHedgingPolicy policy = hedgingPolicy(method);
+    if (policy != null) {
+      return hedge(() -> request(server, method, options), method, policy, message);
+    }
+    if (retryPolicy(method) != null) {
+      return request(server, method, options).compose(request -> request.send(message).compose(GrpcClientResponse::last));
+    }
+    long timeout;
+    TimeUnit timeoutUnit;
+    if (options != null && options.getTimeout() > 0L) {
+      timeout = options.getTimeout();
+      timeoutUnit = options.getTimeoutUnit();
+    } else {
+      // A deadline is only propagated from a context, avoid creating one when called from a non Vert.x thread
+      ContextInternal current = ContextInternal.current();
+      GrpcLocal local = current != null ? current.getLocal(GrpcLocal.CONTEXT_LOCAL_KEY) : null;
+      if (local != null) {
+        timeout = local.deadline().toEpochMilli() - System.currentTimeMillis();
+        timeoutUnit = TimeUnit.MILLISECONDS;
+        if (timeout <= 0L) {
+          return current.failedFuture(new InvalidStatusException(GrpcStatus.OK, GrpcStatus.DEADLINE_EXCEEDED));
+        }
+      } else {
+        timeout = this.timeout;
+        timeoutUnit = this.timeoutUnit;
+      }
+    }
+    RequestOptions requestOptions = new RequestOptions().setMethod(HttpMethod.POST);
+    if (server != null) {
+      requestOptions.setServer(server);
+    }
+    long start = metrics != null ? System.nanoTime() : 0L;
+    return client.request(requestOptions).compose(httpRequest -> {
+      UnaryClientCall<Req, Resp> call = new UnaryClientCall<>(httpRequest, method, compressors, maxMessageSize);
+      if (metrics != null) {
+        call.metrics(metrics, start, System.nanoTime());
+      }
+      return call.send(message, options != null ? options.getHeaders() : null, timeout, timeoutUnit, scheduleDeadlineAutomatically);
+    });
+  }
+
+  private <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(Address server, ServiceMethod<Resp, Req> method, CallOptions options) {
+    Future<GrpcClientRequest<Req, Resp>> fut = server != null ? request(server, method) : request(method);
+    if (options == null) {
+      return fut;
+    }
+    return fut.map(request -> {
+      if (options.getTimeout() > 0L) {
+        request.timeout(options.getTimeout(), options.getTimeoutUnit());
+      }
+      if (options.getHeaders() != null) {
+        request.headers().addAll(options.getHeaders());
+      }
+      return request;
+    });
+  }
+
+  private GrpcHedgingPolicy hedgingPolicy(ServiceMethod<?, ?> method) {
+    GrpcHedgingPolicy policy = method.hedgingPolicy();
+    if (policy == null) {
+      policy = hedgingPolicy;
+    }
+    return policy != null && policy.getMaxAttempts() > 1 ? policy : null;
+  }
+
+  private <Req, Resp> Future<Resp> hedge(Supplier<Future<GrpcClientRequest<Req, Resp>>> requestFactory,
+                                         ServiceMethod<Resp, Req> method,
+                                         GrpcHedgingPolicy policy,
+                                         Req message) {
+    HedgingDelay delay = null;
+    if (policy.getDelayPercentile() > 0D) {
+      delay = hedgingDelays.computeIfAbsent(method, m -> new HedgingDelay(policy));
+    }
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    Object metric = metrics != null ? metrics.method(method.serviceName(), method.methodName()) : null;
+    HedgingCall<Req, Resp> call = new HedgingCall<>(context, requestFactory, message, policy, hedgingBudget, delay, metrics, metric);
+    // Attempts are created on the call context
+    if (context.isRunningOnContext()) {
+      call.start();
+    } else {
+      context.runOnContext(v -> call.start());
+    }
+    return call.future();
+  }
+
   @Override
   public Future<Void> close() {
     if (closeClient) {
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.vertx.grpc.client.GrpcClientMethodMetrics;
+import io.vertx.grpc.client.GrpcClientMetricsAggregator;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.common.impl.LogHistogram;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GrpcClientMetricsAggregatorImpl implements GrpcClientMetricsAggregator {
+
+  private static final GrpcStatus[] STATUSES = GrpcStatus.values();
+
+  // Keyed by service name then method name, avoids building the full method name for each call
+  private final ConcurrentHashMap<ServiceName, ConcurrentHashMap<String, MethodMetrics>> services = new ConcurrentHashMap<>();
+
+  @Override
+  public Object method(ServiceName serviceName, String methodName) {
+    ConcurrentHashMap<String, MethodMetrics> methods = services.get(serviceName);
+    if (methods == null) {
+      methods = services.computeIfAbsent(serviceName, k -> new ConcurrentHashMap<>());
+    }
+    MethodMetrics metrics = methods.get(methodName);
+    if (metrics == null) {
+      metrics = methods.computeIfAbsent(methodName, k -> new MethodMetrics());
+    }
+    return metrics;
+  }
+
+  @Override
+  public void streamAcquired(Object method, long durationNanos) {
+    ((MethodMetrics) method).streamAcquisition.record(durationNanos);
+  }
+
+  @Override
+  public void headersSent(Object method) {
+    ((MethodMetrics) method).activeCalls.increment();
+  }
+
+  @Override
+  public void firstResponseByte(Object method, long durationNanos) {
+    ((MethodMetrics) method).timeToFirstByte.record(durationNanos);
+  }
+
+  @Override
+  public void messageSent(Object method, long size) {
+    MethodMetrics metrics = (MethodMetrics) method;
+    metrics.messagesSent.increment();
+    metrics.bytesSent.add(size);
+  }
+
+  @Override
+  public void messageReceived(Object method, long size) {
+    MethodMetrics metrics = (MethodMetrics) method;
+    metrics.messagesReceived.increment();
+    metrics.bytesReceived.add(size);
+  }
+
+  @Override
+  public void retryAttempt(Object method) {
+    ((MethodMetrics) method).retryAttempts.increment();
+  }
+
+  @Override
+  public void hedgeAttempt(Object method) {
+    ((MethodMetrics) method).hedgeAttempts.increment();
+  }
+
+  @Override
+  public void callEnd(Object method, GrpcStatus status, long durationNanos) {
+    MethodMetrics metrics = (MethodMetrics) method;
+    metrics.activeCalls.decrement();
+    metrics.statuses[status.ordinal()].increment();
+    metrics.latency.record(durationNanos);
+  }
+
+  @Override
+  public Map<String, GrpcClientMethodMetrics> snapshot() {
+    Map<String, GrpcClientMethodMetrics> snapshot = new HashMap<>();
+    services.forEach((serviceName, methods) -> methods.forEach((methodName, metrics) -> {
+      snapshot.put(serviceName.fullyQualifiedName() + '/' + methodName, metrics.snapshot());
+    }));
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  private static class MethodMetrics {
+
+    private final LongAdder activeCalls = new LongAdder();
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder messagesReceived = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder retryAttempts = new LongAdder();
+    private final LongAdder hedgeAttempts = new LongAdder();
+    private final LongAdder[] statuses = new LongAdder[STATUSES.length];
+    private final LogHistogram streamAcquisition = new LogHistogram();
+    private final LogHistogram timeToFirstByte = new LogHistogram();
+    private final LogHistogram latency = new LogHistogram();
+
+    MethodMetrics() {
+      for (int i = 0; i < statuses.length; i++) {
+        statuses[i] = new LongAdder();
+      }
+    }
+
+    GrpcClientMethodMetrics snapshot() {
+      Map<GrpcStatus, Long> counts = new EnumMap<>(GrpcStatus.class);
+      for (GrpcStatus status : STATUSES) {
+        long count = statuses[status.ordinal()].sum();
+        if (count > 0L) {
+          counts.put(status, count);
+        }
+      }
+      return new GrpcClientMethodMetrics(
+        activeCalls.sum(),
+        messagesSent.sum(),
+        bytesSent.sum(),
+        messagesReceived.sum(),
+        bytesReceived.sum(),
+        retryAttempts.sum(),
+        hedgeAttempts.sum(),
+        Collections.unmodifiableMap(counts),
+        streamAcquisition.snapshot(),
+        timeToFirstByte.snapshot(),
+        latency.snapshot());
+    }
+  }
+}
@@ -19,15 +19,19 @@ import io.vertx.core.Timer;
 
 import java.time.Duration;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.client.GrpcClientMetrics;
+import io.vertx.grpc.client.GrpcClientOptions;
 import io.vertx.grpc.client.GrpcClientRequest;
 import io.vertx.grpc.client.GrpcClientResponse;
 import io.vertx.grpc.common.*;
 import io.vertx.grpc.common.impl.DefaultGrpcCancelFrame;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 import io.vertx.grpc.common.impl.DefaultGrpcHeadersFrame;
 import io.vertx.grpc.common.impl.DefaultGrpcMessageFrame;
 import io.vertx.grpc.common.impl.GrpcFrame;
@@ -54,13 +58,20 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
   private Timer deadline;
   private GrpcClientResponseImpl<Req, Resp> response;
   private Handler<Void> drainHandler;
+  private GrpcClientMetrics<Object> metrics;
+  private Object metric;
+  private long startNanos;
+  private long acquiredNanos;
+  private long headersSentNanos;
+  private long maxMessageSize = GrpcClientOptions.DEFAULT_MAX_MESSAGE_SIZE;
 
   public GrpcClientRequestImpl(ContextInternal context,
                                GrpcClientInvoker invoker,
                                boolean scheduleDeadline,
+                               GrpcCompressorRegistry compressors,
                                GrpcMessageEncoder<Req> messageEncoder,
                                GrpcMessageDecoder<Resp> messageDecoder) {
-    super(context, messageEncoder);
+    super(context, messageEncoder, compressors);
 
     Promise<GrpcClientResponse<Req, Resp>> promise = context().promise();
 
@@ -72,6 +83,24 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     this.messageDecoder = messageDecoder;
   }
 
+  void maxMessageSize(long maxMessageSize) {
+    this.maxMessageSize = maxMessageSize;
+  }
+
+  void metrics(GrpcClientMetrics<Object> metrics, long startNanos, long acquiredNanos) {
+    this.metrics = metrics;
+    this.startNanos = startNanos;
+    this.acquiredNanos = acquiredNanos;
+  }
+
+  private void reportEnd(GrpcStatus status) {
+    GrpcClientMetrics<Object> m = metrics;
+    if (m != null && metric != null) {
+      metrics = null;
+      m.callEnd(metric, status, System.nanoTime() - startNanos);
+    }
+  }
+
   @Override
   public GrpcClientRequest<Req, Resp> setWriteQueueMaxSize(int maxSize) {
     return this;
@@ -170,6 +199,12 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     stream.endHandler(this::handleEnd);
     stream.exceptionHandler(this::internalHandleException);
 
+    GrpcClientMetrics<Object> m = metrics;
+    if (m != null) {
+      metric = m.method(serviceName, methodName);
+      m.streamAcquired(metric, acquiredNanos - startNanos);
+    }
+
     Duration to = timeout > 0L ? Duration.of(timeout, timeoutUnit.toChronoUnit()) : null;
     if (scheduleDeadline && timeout > 0L) {
       Timer timer = context.timer(timeout, timeoutUnit);
@@ -181,11 +216,17 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
 
     GrpcHeadersFrame frame = new DefaultGrpcHeadersFrame(format, encoding, headers, to);
 
+    Future<Void> fut;
     if (end) {
-      return stream.end(frame);
+      fut = stream.end(frame);
     } else {
-      return stream.write(frame);
+      fut = stream.write(frame);
     }
+    if (m != null) {
+      headersSentNanos = System.nanoTime();
+      m.headersSent(metric);
+    }
+    return fut;
   }
 
   @Override
@@ -204,9 +245,22 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
 
   @Override
   protected Future<Void> sendMessage(GrpcMessage message) {
+    if (metrics != null) {
+      metrics.messageSent(metric, sizeOf(message));
+    }
     return stream.write(new DefaultGrpcMessageFrame(message));
   }
 
+  @Override
+  protected Future<Void> sendMessages(List<GrpcMessage> messages) {
+    if (metrics != null) {
+      for (GrpcMessage message : messages) {
+        metrics.messageSent(metric, sizeOf(message));
+      }
+    }
+    return stream.writeMessages(messages);
+  }
+
   void cancelTimeout() {
     Timer timer = deadline;
     if (timer != null && timer.cancel()) {
@@ -220,6 +274,7 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
 
   @Override
   protected boolean sendCancel() {
+    reportEnd(GrpcStatus.CANCELLED);
     stream
       .write(DefaultGrpcCancelFrame.INSTANCE)
       .onSuccess(v -> handleError(GrpcError.CANCELLED));
@@ -296,11 +351,19 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     }
   }
 
+  private void reportFirstByte() {
+    GrpcClientMetrics<Object> m = metrics;
+    if (m != null) {
+      m.firstResponseByte(metric, System.nanoTime() - headersSentNanos);
+    }
+  }
+
   private void handleHeadersFrame(GrpcHeadersFrame frame) {
+    reportFirstByte();
     WireFormat format = frame.format();
 
     response = new GrpcClientResponseImpl<>(context(), GrpcClientRequestImpl.this,
-      stream, format, frame.encoding(), messageDecoder);
+      stream, format, frame.encoding(), compressors, maxMessageSize, messageDecoder);
 
     response.invalidMessageHandler(invalidMsg -> {
       cancel();
@@ -315,14 +378,18 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
   private void handleMessageFrame(GrpcMessageFrame frame) {
     GrpcClientResponseImpl<Req, Resp> r = response;
     if (r != null) {
+      if (metrics != null) {
+        metrics.messageReceived(metric, sizeOf(frame.message()));
+      }
       r.handleMessage(frame.message());
     }
   }
 
   private void handleTrailersFrame(GrpcTrailersFrame frame) {
     if (response == null) {
+      reportFirstByte();
       response = new GrpcClientResponseImpl<>(context(), GrpcClientRequestImpl.this, stream, WireFormat.PROTOBUF,
-        null, messageDecoder);
+        null, compressors, maxMessageSize, messageDecoder);
       response.handleHeaders(frame.trailers());
       response.handleTrailers(frame.status(), frame.statusMessage(), HttpHeaders.headers());
       responsePromise.tryComplete(response);
@@ -337,12 +404,19 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
 
   private void handleEnd(Void v) {
     GrpcClientResponseImpl<Req, Resp> r2 = response;
+    GrpcStatus status = r2 != null ? r2.status() : null;
+    reportEnd(status != null ? status : GrpcStatus.UNKNOWN);
     if (r2 != null) {
       r2.handleEnd();
     }
   }
 
   private void internalHandleException(Throwable err) {
+    if (err instanceof GrpcErrorException) {
+      reportEnd(((GrpcErrorException) err).error().status);
+    } else if (!(err instanceof InvalidMessageException)) {
+      reportEnd(GrpcStatus.UNAVAILABLE);
+    }
     handleException(err);
     if (!responsePromise.tryFail(err)) {
       GrpcClientResponseImpl<Req, Resp> resp = response;
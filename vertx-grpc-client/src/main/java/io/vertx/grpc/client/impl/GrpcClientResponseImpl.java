@@ -20,6 +20,7 @@ import io.vertx.grpc.client.GrpcClientRequest;
 import io.vertx.grpc.client.GrpcClientResponse;
 import io.vertx.grpc.client.InvalidStatusException;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 import io.vertx.grpc.common.impl.GrpcInboundStream;
 import io.vertx.grpc.common.impl.GrpcReadStreamBase;
 
@@ -40,11 +41,15 @@ public class GrpcClientResponseImpl<Req, Resp> extends GrpcReadStreamBase<GrpcCl
                                 GrpcInboundStream inbound,
                                 WireFormat format,
                                 String encoding,
+                                GrpcCompressorRegistry compressors,
+                                long maxMessageSize,
                                 GrpcMessageDecoder<Resp> messageDecoder) {
     super(
       context,
       encoding,
       format,
+      compressors,
+      maxMessageSize,
       messageDecoder);
     this.request = request;
     this.inbound = inbound;
@@ -131,6 +136,9 @@ public class GrpcClientResponseImpl<Req, Resp> extends GrpcReadStreamBase<GrpcCl
         } catch (CodecException e) {
           request.cancel();
           return;
+        } catch (MessageSizeOverflowException e) {
+          handleInvalidMessage(e);
+          return;
         }
         handler.handle(decoded);
       });
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket shared by the calls of a client: each hedged call deposits a fraction of a token and each hedged
+ * attempt withdraws a token, so hedged attempts cannot exceed this fraction of the calls beyond a small burst.
+ */
+final class HedgingBudget {
+
+  // Tokens are counted in thousandths
+  private static final long TOKEN = 1000L;
+  private static final long CAPACITY = 10 * TOKEN;
+
+  private final long deposit;
+  private final AtomicLong tokens = new AtomicLong(CAPACITY);
+
+  HedgingBudget(double ratio) {
+    this.deposit = Math.round(ratio * TOKEN);
+  }
+
+  void deposit() {
+    while (true) {
+      long current = tokens.get();
+      if (current >= CAPACITY || tokens.compareAndSet(current, Math.min(CAPACITY, current + deposit))) {
+        return;
+      }
+    }
+  }
+
+  boolean tryWithdraw() {
+    while (true) {
+      long current = tokens.get();
+      if (current < TOKEN) {
+        return false;
+      }
+      if (tokens.compareAndSet(current, current - TOKEN)) {
+        return true;
+      }
+    }
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Timer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.client.GrpcClientMetrics;
+import io.vertx.grpc.client.GrpcClientRequest;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.client.InvalidStatusException;
+import io.vertx.grpc.common.GrpcErrorException;
+import io.vertx.grpc.common.GrpcHedgingPolicy;
+import io.vertx.grpc.common.GrpcStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A unary call sent up to {@link GrpcHedgingPolicy#getMaxAttempts()} times, the first successful response wins and
+ * the pending attempts are cancelled. All the state is accessed from the call context.
+ */
+final class HedgingCall<Req, Resp> {
+
+  private final ContextInternal context;
+  private final Supplier<Future<GrpcClientRequest<Req, Resp>>> requestFactory;
+  private final Req message;
+  private final GrpcHedgingPolicy policy;
+  private final HedgingBudget budget;
+  private final HedgingDelay delay;
+  private final GrpcClientMetrics<Object> metrics;
+  private final Object metric;
+  private final Promise<Resp> promise;
+  private final List<GrpcClientRequest<Req, Resp>> inflight = new ArrayList<>();
+  private int attempts;
+  private int pending;
+  private Timer timer;
+  private boolean done;
+
+  HedgingCall(ContextInternal context,
+              Supplier<Future<GrpcClientRequest<Req, Resp>>> requestFactory,
+              Req message,
+              GrpcHedgingPolicy policy,
+              HedgingBudget budget,
+              HedgingDelay delay,
+              GrpcClientMetrics<Object> metrics,
+              Object metric) {
+    this.context = context;
+    this.requestFactory = requestFactory;
+    this.message = message;
+    this.policy = policy;
+    this.budget = budget;
+    this.delay = delay;
+    this.metrics = metrics;
+    this.metric = metric;
+    this.promise = context.promise();
+  }
+
+  Future<Resp> future() {
+    return promise.future();
+  }
+
+  void start() {
+    budget.deposit();
+    attempt();
+  }
+
+  private void attempt() {
+    if (attempts++ > 0 && metrics != null) {
+      metrics.hedgeAttempt(metric);
+    }
+    pending++;
+    long start = System.nanoTime();
+    requestFactory.get().onComplete(ar -> {
+      if (ar.failed()) {
+        handleFailure(ar.cause());
+        return;
+      }
+      GrpcClientRequest<Req, Resp> request = ar.result();
+      if (done) {
+        // Release the stream without sending the request
+        pending--;
+        request.cancel();
+        return;
+      }
+      Future<Resp> response = request.send(message).compose(GrpcClientResponse::last);
+      inflight.add(request);
+      response.onComplete(ar2 -> {
+        inflight.remove(request);
+        if (ar2.succeeded()) {
+          handleSuccess(ar2.result(), start);
+        } else {
+          handleFailure(ar2.cause());
+        }
+      });
+    });
+    scheduleHedge();
+  }
+
+  private void scheduleHedge() {
+    if (attempts >= policy.getMaxAttempts()) {
+      return;
+    }
+    long delayNanos = delay != null ? delay.delayNanos() : policy.getDelay().toNanos();
+    long delayMillis = TimeUnit.NANOSECONDS.toMillis(delayNanos);
+    if (delayMillis < 1L) {
+      hedge();
+    } else {
+      Timer t = context.timer(delayMillis, TimeUnit.MILLISECONDS);
+      timer = t;
+      t.onSuccess(v -> {
+        if (timer == t) {
+          timer = null;
+          hedge();
+        }
+      });
+    }
+  }
+
+  private void hedge() {
+    if (!done && budget.tryWithdraw()) {
+      attempt();
+    }
+  }
+
+  private void handleSuccess(Resp response, long start) {
+    pending--;
+    if (done) {
+      return;
+    }
+    if (delay != null) {
+      delay.record(System.nanoTime() - start);
+    }
+    complete();
+    promise.complete(response);
+  }
+
+  private void handleFailure(Throwable failure) {
+    pending--;
+    if (done) {
+      return;
+    }
+    if (policy.getNonFatalStatusCodes().contains(statusOf(failure))) {
+      if (attempts < policy.getMaxAttempts() && budget.tryWithdraw()) {
+        // Do not wait for the delay
+        cancelTimer();
+        attempt();
+        return;
+      }
+      if (pending > 0) {
+        return;
+      }
+    }
+    complete();
+    promise.fail(failure);
+  }
+
+  private void complete() {
+    done = true;
+    cancelTimer();
+    for (GrpcClientRequest<Req, Resp> request : inflight) {
+      request.cancel();
+    }
+    inflight.clear();
+  }
+
+  private void cancelTimer() {
+    Timer t = timer;
+    if (t != null) {
+      timer = null;
+      t.cancel();
+    }
+  }
+
+  private static GrpcStatus statusOf(Throwable failure) {
+    if (failure instanceof InvalidStatusException) {
+      return ((InvalidStatusException) failure).actualStatus();
+    } else if (failure instanceof GrpcErrorException) {
+      return ((GrpcErrorException) failure).status();
+    } else {
+      // Connection failure
+      return GrpcStatus.UNAVAILABLE;
+    }
+  }
+}
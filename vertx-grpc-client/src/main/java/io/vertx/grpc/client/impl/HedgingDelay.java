@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.vertx.grpc.common.GrpcHedgingPolicy;
+import io.vertx.grpc.common.impl.LogHistogram;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The hedging delay of a method derived from a percentile of its observed latency, recomputed over windows of calls
+ * so it follows the latency changes.
+ */
+final class HedgingDelay {
+
+  private static final int WINDOW = 256;
+
+  private final double percentile;
+  private final AtomicInteger samples = new AtomicInteger();
+  private volatile LogHistogram window = new LogHistogram();
+  private volatile long delayNanos;
+
+  HedgingDelay(GrpcHedgingPolicy policy) {
+    this.percentile = policy.getDelayPercentile();
+    this.delayNanos = policy.getDelay().toNanos();
+  }
+
+  long delayNanos() {
+    return delayNanos;
+  }
+
+  void record(long latencyNanos) {
+    LogHistogram histogram = window;
+    histogram.record(latencyNanos);
+    if (samples.incrementAndGet() == WINDOW) {
+      window = new LogHistogram();
+      samples.set(0);
+      delayNanos = histogram.snapshot().valueAtPercentile(percentile);
+    }
+  }
+}
@@ -3,22 +3,32 @@ package io.vertx.grpc.client.impl;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
+import io.vertx.grpc.common.GrpcCoalescingPolicy;
 import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 
 public class Http2GrpcClientInvoker implements GrpcClientInvoker {
 
   private final HttpClientRequest httpRequest;
   private final ContextInternal context;
   private final long maxMessageSize;
+  private final GrpcCompressorRegistry compressors;
+  private final GrpcCoalescingPolicy coalescingPolicy;
 
-  public Http2GrpcClientInvoker(HttpClientRequest httpRequest, long maxMessageSize) {
+  public Http2GrpcClientInvoker(HttpClientRequest httpRequest, long maxMessageSize, GrpcCompressorRegistry compressors, GrpcCoalescingPolicy coalescingPolicy) {
     this.httpRequest = httpRequest;
     this.context = ((PromiseInternal<?>)httpRequest.response()).context();
     this.maxMessageSize = maxMessageSize;
+    this.compressors = compressors;
+    this.coalescingPolicy = coalescingPolicy;
   }
 
   @Override
   public Http2GrpcInboundStream invoke(ServiceName serviceName, String methodName) {
-    return new Http2GrpcInboundStream(context, httpRequest, serviceName, methodName, maxMessageSize);
+    Http2GrpcInboundStream stream = new Http2GrpcInboundStream(context, httpRequest, serviceName, methodName, maxMessageSize, compressors.acceptEncoding());
+    if (coalescingPolicy != null) {
+      stream.coalescing(coalescingPolicy);
+    }
+    return stream;
   }
 }
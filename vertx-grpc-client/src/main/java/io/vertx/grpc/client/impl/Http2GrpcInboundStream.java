@@ -40,8 +40,9 @@ public class Http2GrpcInboundStream extends Http2GrpcOutboundStream {
                                 HttpClientRequest httpRequest,
                                 ServiceName serviceName,
                                 String methodName,
-                                long maxMessageSize) {
-    super(context, httpRequest, serviceName, methodName);
+                                long maxMessageSize,
+                                String acceptEncoding) {
+    super(context, httpRequest, serviceName, methodName, acceptEncoding);
     this.maxMessageSize = maxMessageSize;
   }
 
@@ -1,5 +1,6 @@
 package io.vertx.grpc.client.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
@@ -11,6 +12,7 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.grpc.common.CodecException;
 import io.vertx.grpc.common.GrpcCancelFrame;
+import io.vertx.grpc.common.GrpcCoalescingPolicy;
 import io.vertx.grpc.common.GrpcError;
 import io.vertx.grpc.common.GrpcHeaderNames;
 import io.vertx.grpc.common.GrpcMessage;
@@ -20,8 +22,12 @@ import io.vertx.grpc.common.impl.GrpcFrame;
 import io.vertx.grpc.common.impl.GrpcHeadersFrame;
 import io.vertx.grpc.common.impl.GrpcStream;
 import io.vertx.grpc.common.impl.GrpcMessageFrame;
+import io.vertx.grpc.common.impl.GrpcWriteCoalescer;
+import io.vertx.grpc.common.impl.PooledBuffers;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -33,15 +39,23 @@ abstract class Http2GrpcOutboundStream implements GrpcStream {
   protected final HttpClientRequest httpRequest;
   protected final ServiceName serviceName;
   protected final String methodName;
+  private final String acceptEncoding;
+  private GrpcWriteCoalescer coalescer;
 
   public Http2GrpcOutboundStream(ContextInternal context,
                                  HttpClientRequest httpRequest,
                                  ServiceName serviceName,
-                                 String methodName) {
+                                 String methodName,
+                                 String acceptEncoding) {
     this.context = context;
     this.httpRequest = httpRequest;
     this.serviceName = serviceName;
     this.methodName = methodName;
+    this.acceptEncoding = acceptEncoding;
+  }
+
+  void coalescing(GrpcCoalescingPolicy policy) {
+    coalescer = new GrpcWriteCoalescer(context, policy, httpRequest::write);
   }
 
   @Override
@@ -56,6 +70,9 @@ abstract class Http2GrpcOutboundStream implements GrpcStream {
 
   @Override
   public Future<Void> end() {
+    if (coalescer != null) {
+      coalescer.flush();
+    }
     return httpRequest.end();
   }
 
@@ -113,7 +130,9 @@ abstract class Http2GrpcOutboundStream implements GrpcStream {
     if (frame.encoding() != null) {
       httpRequest.putHeader(GrpcHeaderNames.GRPC_ENCODING, frame.encoding());
     }
-    httpRequest.putHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, "gzip");
+    if (acceptEncoding != null) {
+      httpRequest.putHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, acceptEncoding);
+    }
     httpRequest.putHeader(HttpHeaderNames.TE, "trailers");
     httpRequest.setChunked(true);
     httpRequest.setURI(uri);
@@ -126,9 +145,27 @@ abstract class Http2GrpcOutboundStream implements GrpcStream {
   }
 
   private Future<Void> handleMessageFrame(GrpcMessageFrame frame, boolean end) {
+    GrpcMessage message = frame.message();
+    if (coalescer != null) {
+      if (!end) {
+        try {
+          return coalescer.write(message);
+        } catch (CodecException e) {
+          return context.failedFuture(e);
+        }
+      }
+      coalescer.flush();
+    }
+    if (message instanceof ProtobufGrpcMessage) {
+      // Serialize straight into a pooled buffer
+      try {
+        return ((ProtobufGrpcMessage) message).write(false, end ? httpRequest::end : httpRequest::write);
+      } catch (CodecException e) {
+        return context.failedFuture(e);
+      }
+    }
     Buffer payload;
     try {
-      GrpcMessage message = frame.message();
       payload = DefaultGrpcMessage.encode(message.payload(), message.isCompressed(), false);
     } catch (CodecException e) {
       return context.failedFuture(e);
@@ -140,6 +177,20 @@ abstract class Http2GrpcOutboundStream implements GrpcStream {
     }
   }
 
+  @Override
+  public Future<Void> writeMessages(List<GrpcMessage> messages) {
+    ByteBuf encoded;
+    try {
+      encoded = DefaultGrpcMessage.encode(messages);
+    } catch (CodecException e) {
+      return context.failedFuture(e);
+    }
+    if (coalescer != null) {
+      coalescer.flush();
+    }
+    return PooledBuffers.write(encoded, httpRequest::write);
+  }
+
   private Future<Void> handleCancelFrame(GrpcCancelFrame frame, boolean end) {
     return httpRequest.reset(GrpcError.CANCELLED.http2ResetCode);
   }
@@ -157,17 +208,24 @@ abstract class Http2GrpcOutboundStream implements GrpcStream {
   @Override
   public Http2GrpcOutboundStream setWriteQueueMaxSize(int maxSize) {
     httpRequest.setWriteQueueMaxSize(maxSize);
+    if (coalescer != null) {
+      coalescer.writeQueueMaxSize(maxSize);
+    }
     return this;
   }
 
   @Override
   public boolean writeQueueFull() {
-    return httpRequest.writeQueueFull();
+    // The bytes held by the coalescer are not in the write queue yet
+    return httpRequest.writeQueueFull() || (coalescer != null && coalescer.writeQueueFull());
   }
 
   @Override
   public Http2GrpcOutboundStream drainHandler(@Nullable Handler<Void> handler) {
     httpRequest.drainHandler(handler);
+    if (coalescer != null) {
+      coalescer.drainHandler(handler);
+    }
     return this;
   }
 }
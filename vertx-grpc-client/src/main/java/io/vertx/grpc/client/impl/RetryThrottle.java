@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The retry throttling of a client as defined by the gRPC service config {@code retryThrottling}: each failed attempt
+ * costs a token, each successful call earns a fraction of a token and retries are permitted while more than half of
+ * the tokens are left.
+ */
+final class RetryThrottle {
+
+  // Tokens are counted in thousandths
+  private static final long TOKEN = 1000L;
+
+  private final long maxTokens;
+  private final long threshold;
+  private final long ratio;
+  private final AtomicLong tokens;
+
+  RetryThrottle(int maxTokens, double ratio) {
+    this.maxTokens = maxTokens * TOKEN;
+    this.threshold = this.maxTokens / 2;
+    this.ratio = Math.round(ratio * TOKEN);
+    this.tokens = new AtomicLong(this.maxTokens);
+  }
+
+  void onSuccess() {
+    while (true) {
+      long current = tokens.get();
+      if (current >= maxTokens || tokens.compareAndSet(current, Math.min(maxTokens, current + ratio))) {
+        return;
+      }
+    }
+  }
+
+  void onFailure() {
+    while (true) {
+      long current = tokens.get();
+      if (current <= 0L || tokens.compareAndSet(current, Math.max(0L, current - TOKEN))) {
+        return;
+      }
+    }
+  }
+
+  boolean isRetryPermitted() {
+    return tokens.get() > threshold;
+  }
+}
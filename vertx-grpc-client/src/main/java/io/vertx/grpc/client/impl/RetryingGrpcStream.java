@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.client.GrpcClientMetrics;
+import io.vertx.grpc.common.GrpcError;
+import io.vertx.grpc.common.GrpcErrorException;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcRetryPolicy;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.InvalidMessageException;
+import io.vertx.grpc.common.impl.DefaultGrpcCancelFrame;
+import io.vertx.grpc.common.impl.DefaultGrpcHeadersFrame;
+import io.vertx.grpc.common.impl.GrpcFrame;
+import io.vertx.grpc.common.impl.GrpcFrameType;
+import io.vertx.grpc.common.impl.GrpcHeadersFrame;
+import io.vertx.grpc.common.impl.GrpcMessageFrame;
+import io.vertx.grpc.common.impl.GrpcStream;
+import io.vertx.grpc.common.impl.GrpcTrailersFrame;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>A stream retrying a call on a new stream when it fails with a retryable status before the response headers are
+ * received.</p>
+ *
+ * <p>The written frames are kept in a replay buffer until the response headers are received or until the buffer exceeds
+ * its size, at this point the call is committed to the current stream and is not retried anymore.</p>
+ */
+final class RetryingGrpcStream implements GrpcStream {
+
+  private final ContextInternal context;
+  private final Supplier<Future<GrpcStream>> streamFactory;
+  private final GrpcRetryPolicy policy;
+  private final RetryThrottle throttle;
+  private final int bufferSize;
+  private final GrpcClientMetrics<Object> metrics;
+  private final Object metric;
+
+  private Handler<GrpcFrame> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<Void> drainHandler;
+  private int writeQueueMaxSize = -1;
+  // The demand of the read stream, no message is received before the call is committed so it carries over attempts
+  private long demand = Long.MAX_VALUE;
+
+  // The current attempt, null while waiting for the next attempt
+  private GrpcStream current;
+  private int attempts;
+  private boolean cancelled;
+
+  // Replay buffer, null once committed
+  private List<GrpcFrame> frames = new ArrayList<>();
+  private int bufferedBytes;
+  private boolean overflow;
+  private boolean ended;
+  private boolean endedWithFrame;
+
+  // Deadline of the call derived from the grpc-timeout of the first attempt, 0 when the call has no timeout
+  private long deadlineNanos;
+
+  RetryingGrpcStream(ContextInternal context,
+                     GrpcStream stream,
+                     Supplier<Future<GrpcStream>> streamFactory,
+                     GrpcRetryPolicy policy,
+                     RetryThrottle throttle,
+                     int bufferSize,
+                     GrpcClientMetrics<Object> metrics,
+                     Object metric) {
+    this.context = context;
+    this.streamFactory = streamFactory;
+    this.policy = policy;
+    this.throttle = throttle;
+    this.bufferSize = bufferSize;
+    this.metrics = metrics;
+    this.metric = metric;
+    bind(stream);
+  }
+
+  private void bind(GrpcStream stream) {
+    attempts++;
+    current = stream;
+    stream.handler(frame -> handleFrame(stream, frame));
+    stream.endHandler(v -> handleEnd(stream));
+    stream.exceptionHandler(err -> handleException(stream, err));
+    if (drainHandler != null) {
+      stream.drainHandler(drainHandler);
+    }
+    if (writeQueueMaxSize >= 0) {
+      stream.setWriteQueueMaxSize(writeQueueMaxSize);
+    }
+    if (demand != Long.MAX_VALUE) {
+      stream.pause();
+      if (demand > 0L) {
+        stream.fetch(demand);
+      }
+    }
+  }
+
+  private void replay(GrpcStream stream) {
+    List<GrpcFrame> list = frames;
+    int size = list.size();
+    for (int i = 0; i < size; i++) {
+      GrpcFrame frame = list.get(i);
+      if (frame.type() == GrpcFrameType.HEADERS && deadlineNanos != 0L) {
+        frame = withRemainingTimeout((GrpcHeadersFrame) frame);
+      }
+      if (ended && endedWithFrame && i == size - 1) {
+        stream.end(frame);
+      } else {
+        stream.write(frame);
+      }
+    }
+    if (ended && !endedWithFrame) {
+      stream.end();
+    }
+    if (overflow) {
+      frames = null;
+    }
+  }
+
+  private GrpcHeadersFrame withRemainingTimeout(GrpcHeadersFrame frame) {
+    // At least one millisecond, the server fails the call when the deadline has already expired
+    long remaining = Math.max(deadlineNanos - System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(1));
+    return new DefaultGrpcHeadersFrame(frame.format(), frame.encoding(), frame.headers(), Duration.ofNanos(remaining));
+  }
+
+  private void handleFrame(GrpcStream stream, GrpcFrame frame) {
+    if (stream != current) {
+      return;
+    }
+    switch (frame.type()) {
+      case TRAILERS:
+        GrpcStatus status = ((GrpcTrailersFrame) frame).status();
+        if (status == GrpcStatus.OK) {
+          throttle.onSuccess();
+        } else if (policy.getRetryableStatusCodes().contains(status)) {
+          throttle.onFailure();
+          if (retry()) {
+            return;
+          }
+        }
+        // Fall through
+      case HEADERS:
+      case CANCEL:
+        frames = null;
+        break;
+    }
+    Handler<GrpcFrame> h = handler;
+    if (h != null) {
+      h.handle(frame);
+    }
+  }
+
+  private void handleEnd(GrpcStream stream) {
+    if (stream != current) {
+      return;
+    }
+    Handler<Void> h = endHandler;
+    if (h != null) {
+      h.handle(null);
+    }
+  }
+
+  private void handleException(GrpcStream stream, Throwable failure) {
+    if (stream != current) {
+      return;
+    }
+    handleFailure(failure);
+  }
+
+  private void handleFailure(Throwable failure) {
+    if (frames != null && !(failure instanceof InvalidMessageException)) {
+      GrpcStatus status = failure instanceof GrpcErrorException ? ((GrpcErrorException) failure).status() : GrpcStatus.UNAVAILABLE;
+      if (policy.getRetryableStatusCodes().contains(status)) {
+        throttle.onFailure();
+        if (retry()) {
+          return;
+        }
+      }
+      frames = null;
+    }
+    Handler<Throwable> h = exceptionHandler;
+    if (h != null) {
+      h.handle(failure);
+    }
+  }
+
+  private boolean retry() {
+    if (frames == null || cancelled || overflow || attempts >= policy.getMaxAttempts() || !throttle.isRetryPermitted()) {
+      return false;
+    }
+    long backoff = backoffMillis();
+    if (deadlineNanos != 0L && deadlineNanos - System.nanoTime() <= TimeUnit.MILLISECONDS.toNanos(backoff)) {
+      // The deadline expires before the next attempt
+      return false;
+    }
+    current = null;
+    if (metrics != null) {
+      metrics.retryAttempt(metric);
+    }
+    context.timer(backoff, TimeUnit.MILLISECONDS).onSuccess(v -> {
+      streamFactory.get().onComplete(ar -> {
+        if (ar.succeeded()) {
+          GrpcStream stream = ar.result();
+          if (cancelled) {
+            // Release the stream
+            stream.write(DefaultGrpcCancelFrame.INSTANCE);
+          } else {
+            bind(stream);
+            replay(stream);
+            // Wake up a writer that saw the previous attempt full
+            Handler<Void> h = drainHandler;
+            if (h != null && !stream.writeQueueFull()) {
+              h.handle(null);
+            }
+          }
+        } else if (!cancelled) {
+          attempts++;
+          handleFailure(ar.cause());
+        }
+      });
+    });
+    return true;
+  }
+
+  private long backoffMillis() {
+    // attempts is the number of attempts made so far
+    double backoff = policy.getInitialBackoff().toMillis() * Math.pow(policy.getBackoffMultiplier(), attempts - 1);
+    long max = (long) Math.min(backoff, policy.getMaxBackoff().toMillis());
+    return Math.max(1L, ThreadLocalRandom.current().nextLong(max + 1));
+  }
+
+  private Future<Void> write(GrpcFrame frame, boolean end) {
+    if (frame.type() == GrpcFrameType.CANCEL) {
+      return cancel(frame);
+    }
+    if (frame.type() == GrpcFrameType.HEADERS) {
+      Duration timeout = ((GrpcHeadersFrame) frame).timeout();
+      if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
+        deadlineNanos = System.nanoTime() + timeout.toNanos();
+      }
+    }
+    List<GrpcFrame> list = frames;
+    if (list != null) {
+      list.add(frame);
+      ended = end;
+      endedWithFrame = end;
+      bufferedBytes += sizeOf(frame);
+      overflow = bufferedBytes > bufferSize;
+    }
+    GrpcStream stream = current;
+    if (stream == null) {
+      // Replayed on the next attempt
+      return context.succeededFuture();
+    }
+    if (overflow) {
+      frames = null;
+    }
+    return end ? stream.end(frame) : stream.write(frame);
+  }
+
+  private Future<Void> cancel(GrpcFrame frame) {
+    cancelled = true;
+    frames = null;
+    GrpcStream stream = current;
+    if (stream != null) {
+      return stream.write(frame);
+    }
+    // No attempt in progress
+    context.runOnContext(v -> {
+      Handler<Throwable> h = exceptionHandler;
+      if (h != null) {
+        h.handle(new GrpcErrorException(GrpcError.CANCELLED, GrpcStatus.CANCELLED));
+      }
+    });
+    return context.succeededFuture();
+  }
+
+  private static int sizeOf(GrpcFrame frame) {
+    if (frame.type() != GrpcFrameType.MESSAGE) {
+      return 0;
+    }
+    GrpcMessage message = ((GrpcMessageFrame) frame).message();
+    if (message instanceof ProtobufGrpcMessage) {
+      return ((ProtobufGrpcMessage) message).message().getSerializedSize();
+    }
+    return message.payload().length();
+  }
+
+  @Override
+  public Future<Void> write(GrpcFrame frame) {
+    return write(frame, false);
+  }
+
+  @Override
+  public Future<Void> end(GrpcFrame frame) {
+    return write(frame, true);
+  }
+
+  @Override
+  public Future<Void> end() {
+    if (frames != null) {
+      ended = true;
+      endedWithFrame = false;
+    }
+    GrpcStream stream = current;
+    return stream != null ? stream.end() : context.succeededFuture();
+  }
+
+  @Override
+  public RetryingGrpcStream setWriteQueueMaxSize(int maxSize) {
+    writeQueueMaxSize = maxSize;
+    GrpcStream stream = current;
+    if (stream != null) {
+      stream.setWriteQueueMaxSize(maxSize);
+    }
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    GrpcStream stream = current;
+    return stream != null && stream.writeQueueFull();
+  }
+
+  @Override
+  public RetryingGrpcStream drainHandler(@Nullable Handler<Void> handler) {
+    drainHandler = handler;
+    GrpcStream stream = current;
+    if (stream != null) {
+      stream.drainHandler(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public RetryingGrpcStream handler(Handler<GrpcFrame> handler) {
+    this.handler = handler;
+    return this;
+  }
+
+  @Override
+  public RetryingGrpcStream exceptionHandler(Handler<Throwable> handler) {
+    this.exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public RetryingGrpcStream endHandler(Handler<Void> handler) {
+    this.endHandler = handler;
+    return this;
+  }
+
+  @Override
+  public RetryingGrpcStream pause() {
+    demand = 0L;
+    GrpcStream stream = current;
+    if (stream != null) {
+      stream.pause();
+    }
+    return this;
+  }
+
+  @Override
+  public RetryingGrpcStream resume() {
+    demand = Long.MAX_VALUE;
+    GrpcStream stream = current;
+    if (stream != null) {
+      stream.resume();
+    }
+    return this;
+  }
+
+  @Override
+  public RetryingGrpcStream fetch(long amount) {
+    if (demand != Long.MAX_VALUE) {
+      demand += amount;
+      if (demand < 0L) {
+        demand = Long.MAX_VALUE;
+      }
+    }
+    GrpcStream stream = current;
+    if (stream != null) {
+      stream.fetch(amount);
+    }
+    return this;
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Timer;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.StreamResetException;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.client.GrpcClientMetrics;
+import io.vertx.grpc.client.InvalidStatusException;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.GrpcError;
+import io.vertx.grpc.common.GrpcErrorException;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcMediaType;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
+import io.vertx.grpc.common.impl.PooledBuffers;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A unary call over HTTP/2 bypassing the request/response streams.</p>
+ *
+ * <p>The request headers, message and end of stream are written with a single {@link HttpClientRequest#end(Buffer)},
+ * the response body is aggregated and the single response message is decoded when the response ends.</p>
+ */
+final class UnaryClientCall<Req, Resp> implements Handler<Buffer> {
+
+  private final ContextInternal context;
+  private final HttpClientRequest httpRequest;
+  private final ServiceMethod<Resp, Req> method;
+  private final GrpcCompressorRegistry compressors;
+  private final long maxMessageSize;
+  private final PromiseInternal<Resp> promise;
+  private GrpcClientMetrics<Object> metrics;
+  private Object metric;
+  private long startNanos;
+  private long headersSentNanos;
+  private HttpClientResponse httpResponse;
+  private WireFormat format;
+  private Buffer body;
+  private boolean aggregated;
+  private Timer deadline;
+
+  UnaryClientCall(HttpClientRequest httpRequest,
+                  ServiceMethod<Resp, Req> method,
+                  GrpcCompressorRegistry compressors,
+                  long maxMessageSize) {
+    this.context = ((PromiseInternal<?>) httpRequest.response()).context();
+    this.httpRequest = httpRequest;
+    this.method = method;
+    this.compressors = compressors;
+    this.maxMessageSize = maxMessageSize;
+    this.promise = context.promise();
+  }
+
+  void metrics(GrpcClientMetrics<Object> metrics, long startNanos, long acquiredNanos) {
+    this.metrics = metrics;
+    this.metric = metrics.method(method.serviceName(), method.methodName());
+    this.startNanos = startNanos;
+    metrics.streamAcquired(metric, acquiredNanos - startNanos);
+  }
+
+  Future<Resp> send(Req message, MultiMap headers, long timeout, TimeUnit timeoutUnit, boolean scheduleDeadline) {
+    Buffer encoded;
+    ByteBuf pooled = null;
+    WireFormat wireFormat;
+    try {
+      GrpcMessage msg = method.encoder().encode(message, WireFormat.PROTOBUF);
+      wireFormat = msg.format();
+      if (msg instanceof ProtobufGrpcMessage) {
+        // Serialize straight into a pooled buffer
+        pooled = ((ProtobufGrpcMessage) msg).encode(false);
+        encoded = BufferInternal.buffer(pooled);
+      } else {
+        encoded = DefaultGrpcMessage.encode(msg.payload(), false, false);
+      }
+    } catch (CodecException e) {
+      httpRequest.reset(GrpcError.CANCELLED.http2ResetCode);
+      return context.failedFuture(e);
+    }
+    MultiMap requestHeaders = httpRequest.headers();
+    if (headers != null && !headers.isEmpty()) {
+      requestHeaders.addAll(headers);
+    }
+    if (timeout > 0L) {
+      String headerValue = GrpcClientRequestImpl.toTimeoutHeader(timeout, timeoutUnit);
+      if (headerValue == null) {
+        if (pooled != null) {
+          pooled.release();
+        }
+        httpRequest.reset(GrpcError.CANCELLED.http2ResetCode);
+        return context.failedFuture("Not a valid gRPC timeout value (" + timeout + ',' + timeoutUnit + ')');
+      }
+      requestHeaders.set(GrpcHeaderNames.GRPC_TIMEOUT, headerValue);
+      if (scheduleDeadline) {
+        Timer timer = context.timer(timeout, timeoutUnit);
+        deadline = timer;
+        timer.onSuccess(v -> {
+          httpRequest.reset(GrpcError.CANCELLED.http2ResetCode);
+          fail(GrpcStatus.CANCELLED, new GrpcErrorException(GrpcError.CANCELLED, GrpcStatus.CANCELLED));
+        });
+      }
+    }
+    requestHeaders.set(HttpHeaders.CONTENT_TYPE, wireFormat == WireFormat.JSON ? "application/grpc+json" : "application/grpc");
+    String acceptEncoding = compressors.acceptEncoding();
+    if (acceptEncoding != null) {
+      requestHeaders.set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, acceptEncoding);
+    }
+    requestHeaders.set(HttpHeaderNames.TE, "trailers");
+    httpRequest.setURI(method.serviceName().pathOf(method.methodName()));
+    httpRequest.response().onComplete(this::handleResponse);
+    // Headers, message and end of stream are flushed at once
+    if (pooled != null) {
+      PooledBuffers.write(pooled, httpRequest::end);
+    } else {
+      httpRequest.end(encoded);
+    }
+    if (metrics != null) {
+      headersSentNanos = System.nanoTime();
+      metrics.headersSent(metric);
+      metrics.messageSent(metric, encoded.length() - 5);
+    }
+    return promise.future();
+  }
+
+  private void handleResponse(AsyncResult<HttpClientResponse> ar) {
+    if (ar.failed()) {
+      handleException(ar.cause());
+      return;
+    }
+    HttpClientResponse response = ar.result();
+    if (metrics != null) {
+      metrics.firstResponseByte(metric, System.nanoTime() - headersSentNanos);
+    }
+    int httpStatus = response.statusCode();
+    if (httpStatus != 200) {
+      GrpcStatus status = GrpcStatus.fromHttpStatusCode(httpStatus);
+      fail(status, new InvalidStatusException(GrpcStatus.OK, status));
+      return;
+    }
+    String contentType = response.getHeader(HttpHeaders.CONTENT_TYPE);
+    format = contentType != null ? GrpcMediaType.parseContentType(contentType, GrpcMediaType.GRPC.toString()) : null;
+    if (format == null) {
+      httpRequest.reset(GrpcError.CANCELLED.http2ResetCode);
+      fail(GrpcStatus.UNKNOWN, new CodecException(contentType == null ? "HTTP response missing content-type header" : "Invalid HTTP response content-type header"));
+      return;
+    }
+    String statusHeader = response.getHeader(GrpcHeaderNames.GRPC_STATUS);
+    if (statusHeader != null) {
+      // Trailers only
+      handleStatus(GrpcStatus.valueOf(Integer.parseInt(statusHeader)));
+      return;
+    }
+    httpResponse = response;
+    response.exceptionHandler(this::handleException);
+    response.handler(this);
+    response.endHandler(v -> handleEnd());
+  }
+
+  @Override
+  public void handle(Buffer chunk) {
+    Buffer b = body;
+    if (b == null) {
+      body = chunk;
+      return;
+    }
+    if (b.length() + chunk.length() > maxMessageSize + 5) {
+      long len = b.length() >= 5 ? ((long) b.getInt(1)) & 0xFFFFFFFFL : b.length() + chunk.length();
+      httpRequest.reset(GrpcError.CANCELLED.http2ResetCode);
+      fail(GrpcStatus.RESOURCE_EXHAUSTED, new MessageSizeOverflowException(len));
+      return;
+    }
+    if (!aggregated) {
+      aggregated = true;
+      b = Buffer.buffer(b.length() + chunk.length()).appendBuffer(b);
+      body = b;
+    }
+    b.appendBuffer(chunk);
+  }
+
+  private void handleEnd() {
+    String statusHeader = httpResponse.getTrailer("grpc-status");
+    GrpcStatus status = statusHeader != null ? GrpcStatus.valueOf(Integer.parseInt(statusHeader)) : GrpcStatus.UNKNOWN;
+    if (status != GrpcStatus.OK) {
+      handleStatus(status);
+      return;
+    }
+    Buffer b = body;
+    body = null;
+    if (b == null || b.length() < 5) {
+      fail(GrpcStatus.INTERNAL, new CodecException("No response message"));
+      return;
+    }
+    long len = ((long) b.getInt(1)) & 0xFFFFFFFFL;
+    if (len > maxMessageSize) {
+      fail(GrpcStatus.RESOURCE_EXHAUSTED, new MessageSizeOverflowException(len));
+      return;
+    }
+    if (len != b.length() - 5) {
+      fail(GrpcStatus.INTERNAL, new CodecException(len > b.length() - 5 ? "Incomplete response message" : "Too many response messages"));
+      return;
+    }
+    Buffer payload = b.slice(5, b.length());
+    Resp response;
+    try {
+      if (b.getByte(0) == 1) {
+        String encoding = httpResponse.getHeader(GrpcHeaderNames.GRPC_ENCODING);
+        GrpcCompressor compressor = encoding != null ? compressors.lookup(encoding) : null;
+        if (compressor == null) {
+          throw new CodecException("Unsupported encoding " + encoding);
+        }
+        payload = compressor.decompress(payload, maxMessageSize);
+      }
+      response = method.decoder().decode(GrpcMessage.message("identity", format, payload));
+    } catch (CodecException e) {
+      fail(GrpcStatus.INTERNAL, e);
+      return;
+    } catch (MessageSizeOverflowException e) {
+      fail(GrpcStatus.RESOURCE_EXHAUSTED, e);
+      return;
+    }
+    cancelDeadline();
+    if (metrics != null) {
+      metrics.messageReceived(metric, len);
+      reportEnd(GrpcStatus.OK);
+    }
+    promise.tryComplete(response);
+  }
+
+  private void handleStatus(GrpcStatus status) {
+    if (status == GrpcStatus.OK) {
+      fail(GrpcStatus.INTERNAL, new CodecException("No response message"));
+    } else {
+      fail(status, new InvalidStatusException(GrpcStatus.OK, status));
+    }
+  }
+
+  private void handleException(Throwable failure) {
+    if (failure instanceof StreamResetException) {
+      GrpcErrorException error = GrpcErrorException.create((StreamResetException) failure);
+      fail(error.status(), error);
+    } else {
+      fail(GrpcStatus.UNAVAILABLE, failure);
+    }
+  }
+
+  private void fail(GrpcStatus status, Throwable failure) {
+    if (promise.tryFail(failure)) {
+      cancelDeadline();
+      if (metrics != null) {
+        reportEnd(status);
+      }
+    }
+  }
+
+  private void reportEnd(GrpcStatus status) {
+    GrpcClientMetrics<Object> m = metrics;
+    metrics = null;
+    m.callEnd(metric, status, System.nanoTime() - startNanos);
+  }
+
+  private void cancelDeadline() {
+    Timer timer = deadline;
+    if (timer != null) {
+      deadline = null;
+      timer.cancel();
+    }
+  }
+}
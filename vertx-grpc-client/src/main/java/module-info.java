@@ -11,5 +11,5 @@ module io.vertx.grpc.client{
   requires com.google.protobuf;
   requires com.google.common;
   exports io.vertx.grpc.client;
-  exports io.vertx.grpc.client.impl to io.vertx.tests.client, io.vertx.grpc.eventbus;
+  exports io.vertx.grpc.client.impl to io.vertx.tests.client, io.vertx.grpc.eventbus, io.vertx.grpc.inprocess;
 }
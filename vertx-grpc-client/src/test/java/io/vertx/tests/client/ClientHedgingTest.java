@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.client;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.client.InvalidStatusException;
+import io.vertx.grpc.common.GrpcHedgingPolicy;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+public class ClientHedgingTest extends ClientTestBase {
+
+  private GrpcClient client;
+
+  private void startUnaryServer(BiConsumer<Integer, StreamObserver<Reply>> handler) throws IOException {
+    AtomicInteger count = new AtomicInteger();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        handler.accept(count.incrementAndGet(), responseObserver);
+      }
+    });
+  }
+
+  @Test
+  public void testHedgeSlowAttempt(TestContext should) throws IOException {
+    Async cancelled = should.async();
+    AtomicInteger attempts = new AtomicInteger();
+    startUnaryServer((attempt, responseObserver) -> {
+      attempts.incrementAndGet();
+      if (attempt == 1) {
+        // Never respond
+        ((ServerCallStreamObserver<Reply>) responseObserver).setOnCancelHandler(cancelled::complete);
+      } else {
+        responseObserver.onNext(Reply.newBuilder().setMessage("Hello Julien").build());
+        responseObserver.onCompleted();
+      }
+    });
+    client = GrpcClient.client(vertx, new GrpcClientOptions()
+      .setHedgingPolicy(new GrpcHedgingPolicy().setDelay(Duration.ofMillis(50))));
+    client.call(SocketAddress.inetSocketAddress(port, "localhost"), UNARY, Request.newBuilder().setName("Julien").build())
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        should.assertEquals("Hello Julien", reply.getMessage());
+        should.assertEquals(2, attempts.get());
+      }));
+  }
+
+  @Test
+  public void testNonFatalStatus(TestContext should) throws IOException {
+    startUnaryServer((attempt, responseObserver) -> {
+      if (attempt == 1) {
+        responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+      } else {
+        responseObserver.onNext(Reply.newBuilder().setMessage("Hello Julien").build());
+        responseObserver.onCompleted();
+      }
+    });
+    client = GrpcClient.client(vertx);
+    long now = System.currentTimeMillis();
+    client.call(SocketAddress.inetSocketAddress(port, "localhost"),
+        UNARY.withHedgingPolicy(new GrpcHedgingPolicy().setDelay(Duration.ofSeconds(10))),
+        Request.newBuilder().setName("Julien").build())
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        should.assertEquals("Hello Julien", reply.getMessage());
+        should.assertTrue(System.currentTimeMillis() - now < 10_000);
+      }));
+  }
+
+  @Test
+  public void testFatalStatus(TestContext should) throws IOException {
+    AtomicInteger attempts = new AtomicInteger();
+    startUnaryServer((attempt, responseObserver) -> {
+      attempts.incrementAndGet();
+      responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+    });
+    client = GrpcClient.client(vertx);
+    client.call(SocketAddress.inetSocketAddress(port, "localhost"),
+        UNARY.withHedgingPolicy(new GrpcHedgingPolicy().setMaxAttempts(3).setDelay(Duration.ofSeconds(10))),
+        Request.newBuilder().setName("Julien").build())
+      .onComplete(should.asyncAssertFailure(err -> {
+        should.assertEquals(GrpcStatus.INVALID_ARGUMENT, ((InvalidStatusException) err).actualStatus());
+        should.assertEquals(1, attempts.get());
+      }));
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.client;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientMethodMetrics;
+import io.vertx.grpc.client.GrpcClientMetricsAggregator;
+import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.common.GrpcHedgingPolicy;
+import io.vertx.grpc.common.GrpcRetryPolicy;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ClientMetricsTest extends ClientTestBase {
+
+  private GrpcClient client;
+
+  @Test
+  public void testUnaryMetrics(TestContext should) throws IOException {
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        if (request.getName().isEmpty()) {
+          responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+        } else {
+          responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+          responseObserver.onCompleted();
+        }
+      }
+    });
+
+    GrpcClientMetricsAggregator metrics = GrpcClientMetricsAggregator.create();
+    client = GrpcClient.builder(vertx).withMetrics(metrics).build();
+    SocketAddress server = SocketAddress.inetSocketAddress(port, "localhost");
+    Request request = Request.newBuilder().setName("Julien").build();
+
+    client.request(server, UNARY)
+      .compose(req -> req.send(request).compose(resp -> resp.last()))
+      .compose(reply -> client.request(server, UNARY))
+      .compose(req -> req.send(Request.getDefaultInstance()).compose(resp -> resp.end()))
+      .onComplete(should.asyncAssertFailure(err -> {
+        GrpcClientMethodMetrics method = metrics.snapshot().get(UNARY.fullMethodName());
+        should.assertNotNull(method);
+        should.assertEquals(0L, method.activeCalls());
+        should.assertEquals(2L, method.calls());
+        should.assertEquals(1L, method.statuses().get(GrpcStatus.OK));
+        should.assertEquals(1L, method.statuses().get(GrpcStatus.INVALID_ARGUMENT));
+        should.assertEquals(2L, method.messagesSent());
+        should.assertEquals((long) request.getSerializedSize(), method.bytesSent());
+        should.assertEquals(1L, method.messagesReceived());
+        should.assertTrue(method.bytesReceived() > 0L);
+        should.assertEquals(2L, method.streamAcquisition().count());
+        should.assertEquals(2L, method.timeToFirstByte().count());
+        should.assertTrue(method.timeToFirstByte().max() <= method.latency().max());
+      }));
+  }
+
+  @Test
+  public void testRetryMetrics(TestContext should) throws IOException {
+    AtomicInteger count = new AtomicInteger();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        if (count.incrementAndGet() == 1) {
+          responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+        } else {
+          responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+          responseObserver.onCompleted();
+        }
+      }
+    });
+
+    GrpcClientMetricsAggregator metrics = GrpcClientMetricsAggregator.create();
+    client = GrpcClient.builder(vertx)
+      .with(new GrpcClientOptions().setRetryPolicy(new GrpcRetryPolicy().setInitialBackoff(Duration.ofMillis(10))))
+      .withMetrics(metrics)
+      .build();
+    client.call(SocketAddress.inetSocketAddress(port, "localhost"), UNARY, Request.newBuilder().setName("Julien").build())
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        GrpcClientMethodMetrics method = metrics.snapshot().get(UNARY.fullMethodName());
+        should.assertEquals(1L, method.retryAttempts());
+        should.assertEquals(0L, method.hedgeAttempts());
+      }));
+  }
+
+  @Test
+  public void testHedgeMetrics(TestContext should) throws IOException {
+    AtomicInteger count = new AtomicInteger();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        if (count.incrementAndGet() > 1) {
+          // The first attempt never responds
+          responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+          responseObserver.onCompleted();
+        }
+      }
+    });
+
+    GrpcClientMetricsAggregator metrics = GrpcClientMetricsAggregator.create();
+    client = GrpcClient.builder(vertx)
+      .with(new GrpcClientOptions().setHedgingPolicy(new GrpcHedgingPolicy().setDelay(Duration.ofMillis(50))))
+      .withMetrics(metrics)
+      .build();
+    client.call(SocketAddress.inetSocketAddress(port, "localhost"), UNARY, Request.newBuilder().setName("Julien").build())
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        GrpcClientMethodMetrics method = metrics.snapshot().get(UNARY.fullMethodName());
+        should.assertEquals(1L, method.hedgeAttempts());
+        should.assertEquals(0L, method.retryAttempts());
+      }));
+  }
+}
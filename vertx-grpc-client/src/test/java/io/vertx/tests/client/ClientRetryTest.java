@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.client;
+
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.client.InvalidStatusException;
+import io.vertx.grpc.common.GrpcRetryPolicy;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.tests.common.grpc.Empty;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ClientRetryTest extends ClientTestBase {
+
+  private GrpcClient client;
+
+  @Test
+  public void testRetryUnavailable(TestContext should) throws IOException {
+    AtomicInteger attempts = new AtomicInteger();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        if (attempts.incrementAndGet() == 1) {
+          responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+        } else {
+          responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+          responseObserver.onCompleted();
+        }
+      }
+    });
+    client = GrpcClient.client(vertx, new GrpcClientOptions()
+      .setRetryPolicy(new GrpcRetryPolicy().setInitialBackoff(Duration.ofMillis(10))));
+    client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY)
+      .compose(request -> request.send(Request.newBuilder().setName("Julien").build()).compose(GrpcClientResponse::last))
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        should.assertEquals("Hello Julien", reply.getMessage());
+        should.assertEquals(2, attempts.get());
+      }));
+  }
+
+  @Test
+  public void testRetryRemainingTimeout(TestContext should) throws IOException {
+    List<Long> remaining = new CopyOnWriteArrayList<>();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        remaining.add(Context.current().getDeadline().timeRemaining(TimeUnit.MILLISECONDS));
+        if (remaining.size() == 1) {
+          try {
+            Thread.sleep(500);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+        } else {
+          responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+          responseObserver.onCompleted();
+        }
+      }
+    });
+    client = GrpcClient.client(vertx, new GrpcClientOptions()
+      .setRetryPolicy(new GrpcRetryPolicy().setInitialBackoff(Duration.ofMillis(10))));
+    client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY)
+      .compose(request -> {
+        request.timeout(5, TimeUnit.SECONDS);
+        return request.send(Request.newBuilder().setName("Julien").build()).compose(GrpcClientResponse::last);
+      })
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        should.assertEquals(2, remaining.size());
+        // The second attempt is sent with the time left after the first attempt
+        should.assertTrue(remaining.get(1) <= remaining.get(0) - 500);
+      }));
+  }
+
+  @Test
+  public void testReplayStream(TestContext should) throws IOException {
+    AtomicInteger attempts = new AtomicInteger();
+    List<String> received = new CopyOnWriteArrayList<>();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public StreamObserver<Request> sink(StreamObserver<Empty> responseObserver) {
+        if (attempts.incrementAndGet() == 1) {
+          responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+        }
+        return new StreamObserver<>() {
+          final List<String> items = new ArrayList<>();
+          @Override
+          public void onNext(Request item) {
+            items.add(item.getName());
+          }
+          @Override
+          public void onError(Throwable t) {
+          }
+          @Override
+          public void onCompleted() {
+            received.addAll(items);
+            responseObserver.onNext(Empty.getDefaultInstance());
+            responseObserver.onCompleted();
+          }
+        };
+      }
+    });
+    client = GrpcClient.client(vertx);
+    client.request(SocketAddress.inetSocketAddress(port, "localhost"), SINK.withRetryPolicy(new GrpcRetryPolicy().setInitialBackoff(Duration.ofMillis(10))))
+      .compose(request -> {
+        for (int i = 0; i < 3; i++) {
+          request.write(Request.newBuilder().setName("the-value-" + i).build());
+        }
+        request.end();
+        return request.response().compose(GrpcClientResponse::last);
+      })
+      .onComplete(should.asyncAssertSuccess(empty -> {
+        should.assertEquals(2, attempts.get());
+        should.assertEquals(List.of("the-value-0", "the-value-1", "the-value-2"), received);
+      }));
+  }
+
+  @Test
+  public void testNonRetryableStatus(TestContext should) throws IOException {
+    AtomicInteger attempts = new AtomicInteger();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        attempts.incrementAndGet();
+        responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+      }
+    });
+    client = GrpcClient.client(vertx);
+    client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY.withRetryPolicy(new GrpcRetryPolicy()))
+      .compose(request -> request.send(Request.newBuilder().setName("Julien").build()).compose(GrpcClientResponse::last))
+      .onComplete(should.asyncAssertFailure(err -> {
+        should.assertEquals(GrpcStatus.INVALID_ARGUMENT, ((InvalidStatusException) err).actualStatus());
+        should.assertEquals(1, attempts.get());
+      }));
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.client;
+
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.client.CallOptions;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.client.InvalidStatusException;
+import io.vertx.grpc.common.GrpcErrorException;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ClientUnaryCallTest extends ClientTestBase {
+
+  private GrpcClient client;
+
+  @Test
+  public void testCall(TestContext should) throws IOException {
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+        responseObserver.onCompleted();
+      }
+    });
+    client = GrpcClient.client(vertx);
+    client.call(SocketAddress.inetSocketAddress(port, "localhost"), UNARY, Request.newBuilder().setName("Julien").build())
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        should.assertEquals("Hello Julien", reply.getMessage());
+      }));
+  }
+
+  @Test
+  public void testCallStatus(TestContext should) throws IOException {
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+      }
+    });
+    client = GrpcClient.client(vertx);
+    client.call(SocketAddress.inetSocketAddress(port, "localhost"), UNARY, Request.newBuilder().setName("Julien").build())
+      .onComplete(should.asyncAssertFailure(err -> {
+        should.assertEquals(GrpcStatus.INVALID_ARGUMENT, ((InvalidStatusException) err).actualStatus());
+      }));
+  }
+
+  @Test
+  public void testCallOptions(TestContext should) throws IOException {
+    AtomicReference<String> header = new AtomicReference<>();
+    AtomicLong timeRemaining = new AtomicLong();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        timeRemaining.set(Context.current().getDeadline().timeRemaining(TimeUnit.MILLISECONDS));
+        responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+        responseObserver.onCompleted();
+      }
+    }, ServerBuilder.forPort(port).intercept(new ServerInterceptor() {
+      @Override
+      public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        header.set(headers.get(Metadata.Key.of("custom_request_header", Metadata.ASCII_STRING_MARSHALLER)));
+        return next.startCall(call, headers);
+      }
+    }));
+    client = GrpcClient.client(vertx);
+    CallOptions options = new CallOptions()
+      .setServer(SocketAddress.inetSocketAddress(port, "localhost"))
+      .setTimeout(10)
+      .setTimeoutUnit(TimeUnit.SECONDS)
+      .addHeader("custom_request_header", "custom_request_header_value");
+    client.call(UNARY, Request.newBuilder().setName("Julien").build(), options)
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        should.assertEquals("Hello Julien", reply.getMessage());
+        should.assertEquals("custom_request_header_value", header.get());
+        should.assertTrue(timeRemaining.get() > 7500);
+      }));
+  }
+
+  @Test
+  public void testCallDeadline(TestContext should) throws IOException {
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        // Never respond
+      }
+    });
+    client = GrpcClient.client(vertx, new GrpcClientOptions().setScheduleDeadlineAutomatically(true));
+    CallOptions options = new CallOptions()
+      .setServer(SocketAddress.inetSocketAddress(port, "localhost"))
+      .setTimeout(500)
+      .setTimeoutUnit(TimeUnit.MILLISECONDS);
+    client.call(UNARY, Request.newBuilder().setName("Julien").build(), options)
+      .onComplete(should.asyncAssertFailure(err -> {
+        should.assertEquals(GrpcStatus.CANCELLED, ((GrpcErrorException) err).status());
+      }));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * <p>Coalesces the messages written on an HTTP/2 stream into fewer writes.</p>
+ *
+ * <p>Consecutive messages are packed into a batch that is written as a single DATA frame when it reaches
+ * {@link #getMaxBytes()} bytes or {@link #getMaxMessages()} messages, when the {@link #getLinger() linger} elapses or
+ * when the stream ends. With a zero linger, the batch is written once the current event loop task completes, so a
+ * message is never delayed by more than the linger.</p>
+ */
+@Unstable
+public class GrpcCoalescingPolicy {
+
+  /**
+   * The default maximum size in bytes of a batch = {@code 16384}
+   */
+  public static final int DEFAULT_MAX_BYTES = 16384;
+
+  /**
+   * The default maximum number of messages of a batch = {@code 64}
+   */
+  public static final int DEFAULT_MAX_MESSAGES = 64;
+
+  /**
+   * The default linger = {@code 0}
+   */
+  public static final Duration DEFAULT_LINGER = Duration.ZERO;
+
+  private int maxBytes;
+  private int maxMessages;
+  private Duration linger;
+
+  /**
+   * Default policy.
+   */
+  public GrpcCoalescingPolicy() {
+    maxBytes = DEFAULT_MAX_BYTES;
+    maxMessages = DEFAULT_MAX_MESSAGES;
+    linger = DEFAULT_LINGER;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public GrpcCoalescingPolicy(GrpcCoalescingPolicy other) {
+    maxBytes = other.maxBytes;
+    maxMessages = other.maxMessages;
+    linger = other.linger;
+  }
+
+  /**
+   * @return the maximum size in bytes of a batch
+   */
+  public int getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Set the maximum size in bytes of a batch, a message larger than this size is written on its own.
+   *
+   * @param maxBytes the maximum size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcCoalescingPolicy setMaxBytes(int maxBytes) {
+    if (maxBytes < 1) {
+      throw new IllegalArgumentException("Max bytes must be > 0");
+    }
+    this.maxBytes = maxBytes;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of messages of a batch
+   */
+  public int getMaxMessages() {
+    return maxMessages;
+  }
+
+  /**
+   * Set the maximum number of messages of a batch.
+   *
+   * @param maxMessages the maximum number of messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcCoalescingPolicy setMaxMessages(int maxMessages) {
+    if (maxMessages < 1) {
+      throw new IllegalArgumentException("Max messages must be > 0");
+    }
+    this.maxMessages = maxMessages;
+    return this;
+  }
+
+  /**
+   * @return the maximum time a message waits in a batch
+   */
+  public Duration getLinger() {
+    return linger;
+  }
+
+  /**
+   * Set the maximum time a message waits in a batch before it is written, e.g. {@code Duration.of(200, ChronoUnit.MICROS)}.
+   * A zero linger writes the batch once the current event loop task completes.
+   *
+   * @param linger the linger
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcCoalescingPolicy setLinger(Duration linger) {
+    Objects.requireNonNull(linger);
+    if (linger.isNegative()) {
+      throw new IllegalArgumentException("Linger must be >= 0");
+    }
+    this.linger = linger;
+    return this;
+  }
+}
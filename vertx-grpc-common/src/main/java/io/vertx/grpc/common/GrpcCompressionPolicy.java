@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * <p>Decides which messages of a compressed stream are actually compressed.</p>
+ *
+ * <p>When a stream has an encoding, e.g. {@code gzip}, messages smaller than {@link #getMinSize()} are sent
+ * uncompressed using the per-message compressed flag of the gRPC framing. The compression ratio is sampled for each method
+ * over {@link #getSampleSize()} messages, when the ratio is above {@link #getMaxRatio()} compression is turned off for
+ * this method and probed again after {@link #getProbeInterval()} messages.</p>
+ */
+@Unstable
+public class GrpcCompressionPolicy {
+
+  /**
+   * The default minimum size in bytes of a compressed message = {@code 256}
+   */
+  public static final int DEFAULT_MIN_SIZE = 256;
+
+  /**
+   * The default maximum ratio of compressed size to uncompressed size = {@code 0.9}
+   */
+  public static final double DEFAULT_MAX_RATIO = 0.9;
+
+  /**
+   * The default number of compressed messages sampled to compute the ratio = {@code 32}
+   */
+  public static final int DEFAULT_SAMPLE_SIZE = 32;
+
+  /**
+   * The default number of messages sent uncompressed before compression is probed again = {@code 1024}
+   */
+  public static final int DEFAULT_PROBE_INTERVAL = 1024;
+
+  private int minSize;
+  private double maxRatio;
+  private int sampleSize;
+  private int probeInterval;
+
+  /**
+   * Default policy.
+   */
+  public GrpcCompressionPolicy() {
+    minSize = DEFAULT_MIN_SIZE;
+    maxRatio = DEFAULT_MAX_RATIO;
+    sampleSize = DEFAULT_SAMPLE_SIZE;
+    probeInterval = DEFAULT_PROBE_INTERVAL;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public GrpcCompressionPolicy(GrpcCompressionPolicy other) {
+    minSize = other.minSize;
+    maxRatio = other.maxRatio;
+    sampleSize = other.sampleSize;
+    probeInterval = other.probeInterval;
+  }
+
+  /**
+   * @return the minimum size in bytes of a compressed message
+   */
+  public int getMinSize() {
+    return minSize;
+  }
+
+  /**
+   * Set the minimum size in bytes of a message to be compressed, smaller messages are sent uncompressed.
+   *
+   * @param minSize the minimum size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcCompressionPolicy setMinSize(int minSize) {
+    if (minSize < 0) {
+      throw new IllegalArgumentException("Min size must be >= 0");
+    }
+    this.minSize = minSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum ratio of compressed size to uncompressed size
+   */
+  public double getMaxRatio() {
+    return maxRatio;
+  }
+
+  /**
+   * Set the maximum ratio of compressed size to uncompressed size, above this ratio compression is turned off for the method.
+   *
+   * @param maxRatio the maximum ratio
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcCompressionPolicy setMaxRatio(double maxRatio) {
+    if (maxRatio <= 0D) {
+      throw new IllegalArgumentException("Max ratio must be > 0");
+    }
+    this.maxRatio = maxRatio;
+    return this;
+  }
+
+  /**
+   * @return the number of compressed messages sampled to compute the ratio
+   */
+  public int getSampleSize() {
+    return sampleSize;
+  }
+
+  /**
+   * Set the number of compressed messages sampled to compute the compression ratio.
+   *
+   * @param sampleSize the sample size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcCompressionPolicy setSampleSize(int sampleSize) {
+    if (sampleSize < 1) {
+      throw new IllegalArgumentException("Sample size must be > 0");
+    }
+    this.sampleSize = sampleSize;
+    return this;
+  }
+
+  /**
+   * @return the number of messages sent uncompressed before compression is probed again
+   */
+  public int getProbeInterval() {
+    return probeInterval;
+  }
+
+  /**
+   * Set the number of messages sent uncompressed after compression has been turned off, before it is probed again.
+   *
+   * @param probeInterval the probe interval
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcCompressionPolicy setProbeInterval(int probeInterval) {
+    if (probeInterval < 0) {
+      throw new IllegalArgumentException("Probe interval must be >= 0");
+    }
+    this.probeInterval = probeInterval;
+    return this;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * Counters maintained by a {@link GrpcCompressionPolicy} for a method.
+ */
+@Unstable
+public interface GrpcCompressionStats {
+
+  /**
+   * @return the number of messages that were compressed
+   */
+  long compressedMessages();
+
+  /**
+   * @return the number of messages that were sent uncompressed by the policy
+   */
+  long skippedMessages();
+
+  /**
+   * @return the total size in bytes of the messages before compression
+   */
+  long uncompressedBytes();
+
+  /**
+   * @return the total size in bytes of the messages after compression
+   */
+  long compressedBytes();
+
+  /**
+   * @return the number of bytes saved by compression, this can be negative
+   */
+  default long bytesSaved() {
+    return uncompressedBytes() - compressedBytes();
+  }
+
+  /**
+   * @return the CPU time in nanoseconds spent compressing messages
+   */
+  long compressionNanos();
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.impl.DeflateCodec;
+import io.vertx.grpc.common.impl.GzipCodec;
+import io.vertx.grpc.common.impl.SnappyCodec;
+import io.vertx.grpc.common.impl.ZstdCodec;
+
+/**
+ * A message compressor for a given {@code grpc-encoding}.
+ *
+ * <p>Compressors are registered on the client and server options, the registered compressors drive the encoding
+ * negotiation and the {@code grpc-accept-encoding} header.</p>
+ */
+@Unstable
+public interface GrpcCompressor {
+
+  /**
+   * @return the {@code gzip} compressor
+   */
+  static GrpcCompressor gzip() {
+    return GzipCodec.COMPRESSOR;
+  }
+
+  /**
+   * @return the {@code deflate} (zlib) compressor
+   */
+  static GrpcCompressor deflate() {
+    return DeflateCodec.COMPRESSOR;
+  }
+
+  /**
+   * @return the {@code snappy} compressor
+   */
+  static GrpcCompressor snappy() {
+    return SnappyCodec.COMPRESSOR;
+  }
+
+  /**
+   * The {@code zstd} compressor with the default compression level, requires {@code com.github.luben:zstd-jni}.
+   *
+   * @return the {@code zstd} compressor
+   */
+  static GrpcCompressor zstd() {
+    return zstd(ZstdCodec.DEFAULT_LEVEL);
+  }
+
+  /**
+   * The {@code zstd} compressor, requires {@code com.github.luben:zstd-jni}.
+   *
+   * @param level the compression level
+   * @return the {@code zstd} compressor
+   */
+  static GrpcCompressor zstd(int level) {
+    return new ZstdCodec(level);
+  }
+
+  /**
+   * @return the name of the encoding, as carried by the {@code grpc-encoding} header
+   */
+  String encoding();
+
+  /**
+   * Compress a message payload.
+   *
+   * @param payload the payload
+   * @return the compressed payload
+   * @throws CodecException when compression fails
+   */
+  Buffer compress(Buffer payload) throws CodecException;
+
+  /**
+   * Decompress a message payload.
+   *
+   * @param payload the compressed payload
+   * @return the decompressed payload
+   * @throws CodecException when the payload cannot be decompressed
+   */
+  Buffer decompress(Buffer payload) throws CodecException;
+
+  /**
+   * Decompress a message payload, failing when the decompressed payload is longer than {@code maxLength}.
+   *
+   * <p>The default implementation checks the length after decompressing the whole payload, implementations should
+   * override it to stop decompressing as soon as the limit is crossed.</p>
+   *
+   * @param payload the compressed payload
+   * @param maxLength the maximum length of the decompressed payload
+   * @return the decompressed payload
+   * @throws CodecException when the payload cannot be decompressed
+   * @throws MessageSizeOverflowException when the decompressed payload is longer than {@code maxLength}
+   */
+  default Buffer decompress(Buffer payload, long maxLength) throws CodecException, MessageSizeOverflowException {
+    Buffer decompressed = decompress(payload);
+    if (decompressed.length() > maxLength) {
+      throw new MessageSizeOverflowException(decompressed.length());
+    }
+    return decompressed;
+  }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * <p>Limits the number of concurrent calls of a server method, calls above the limit fail immediately with
+ * {@link GrpcStatus#RESOURCE_EXHAUSTED}.</p>
+ *
+ * <p>The limit starts at {@link #getInitialLimit()} and adapts between {@link #getMinLimit()} and {@link #getMaxLimit()}
+ * with a gradient of the observed latency: the latency of each successful call is compared to a long term average, while it
+ * stays within {@link #getTolerance()} times this average the limit grows, above it the limit shrinks proportionally.</p>
+ */
+@Unstable
+public class GrpcConcurrencyLimitPolicy {
+
+  /**
+   * The default initial limit = {@code 20}
+   */
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+  /**
+   * The default minimum limit = {@code 1}
+   */
+  public static final int DEFAULT_MIN_LIMIT = 1;
+
+  /**
+   * The default maximum limit = {@code 1000}
+   */
+  public static final int DEFAULT_MAX_LIMIT = 1000;
+
+  /**
+   * The default latency tolerance = {@code 1.5}
+   */
+  public static final double DEFAULT_TOLERANCE = 1.5;
+
+  /**
+   * The default smoothing factor applied to limit updates = {@code 0.2}
+   */
+  public static final double DEFAULT_SMOOTHING = 0.2;
+
+  /**
+   * The default number of calls averaged by the long term latency = {@code 600}
+   */
+  public static final int DEFAULT_LONG_WINDOW = 600;
+
+  private int initialLimit;
+  private int minLimit;
+  private int maxLimit;
+  private double tolerance;
+  private double smoothing;
+  private int longWindow;
+
+  /**
+   * Default policy.
+   */
+  public GrpcConcurrencyLimitPolicy() {
+    initialLimit = DEFAULT_INITIAL_LIMIT;
+    minLimit = DEFAULT_MIN_LIMIT;
+    maxLimit = DEFAULT_MAX_LIMIT;
+    tolerance = DEFAULT_TOLERANCE;
+    smoothing = DEFAULT_SMOOTHING;
+    longWindow = DEFAULT_LONG_WINDOW;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public GrpcConcurrencyLimitPolicy(GrpcConcurrencyLimitPolicy other) {
+    initialLimit = other.initialLimit;
+    minLimit = other.minLimit;
+    maxLimit = other.maxLimit;
+    tolerance = other.tolerance;
+    smoothing = other.smoothing;
+    longWindow = other.longWindow;
+  }
+
+  /**
+   * @return the initial limit
+   */
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  /**
+   * Set the limit in place before any latency has been observed.
+   *
+   * @param initialLimit the initial limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcConcurrencyLimitPolicy setInitialLimit(int initialLimit) {
+    if (initialLimit < 1) {
+      throw new IllegalArgumentException("Initial limit must be > 0");
+    }
+    this.initialLimit = initialLimit;
+    return this;
+  }
+
+  /**
+   * @return the minimum limit
+   */
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  /**
+   * Set the limit below which the adaptive limit never goes.
+   *
+   * @param minLimit the minimum limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcConcurrencyLimitPolicy setMinLimit(int minLimit) {
+    if (minLimit < 1) {
+      throw new IllegalArgumentException("Min limit must be > 0");
+    }
+    this.minLimit = minLimit;
+    return this;
+  }
+
+  /**
+   * @return the maximum limit
+   */
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  /**
+   * Set the limit above which the adaptive limit never goes.
+   *
+   * @param maxLimit the maximum limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcConcurrencyLimitPolicy setMaxLimit(int maxLimit) {
+    if (maxLimit < 1) {
+      throw new IllegalArgumentException("Max limit must be > 0");
+    }
+    this.maxLimit = maxLimit;
+    return this;
+  }
+
+  /**
+   * @return the latency tolerance
+   */
+  public double getTolerance() {
+    return tolerance;
+  }
+
+  /**
+   * Set the ratio of a call latency to the long term average latency tolerated before the limit shrinks.
+   *
+   * @param tolerance the tolerance
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcConcurrencyLimitPolicy setTolerance(double tolerance) {
+    if (tolerance < 1D) {
+      throw new IllegalArgumentException("Tolerance must be >= 1");
+    }
+    this.tolerance = tolerance;
+    return this;
+  }
+
+  /**
+   * @return the smoothing factor
+   */
+  public double getSmoothing() {
+    return smoothing;
+  }
+
+  /**
+   * Set the weight of a new estimate when the limit is updated, {@code 1} applies each estimate as is.
+   *
+   * @param smoothing the smoothing factor
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcConcurrencyLimitPolicy setSmoothing(double smoothing) {
+    if (smoothing <= 0D || smoothing > 1D) {
+      throw new IllegalArgumentException("Smoothing must be in ]0,1]");
+    }
+    this.smoothing = smoothing;
+    return this;
+  }
+
+  /**
+   * @return the number of calls averaged by the long term latency
+   */
+  public int getLongWindow() {
+    return longWindow;
+  }
+
+  /**
+   * Set the number of calls averaged by the long term latency the call latencies are compared to.
+   *
+   * @param longWindow the window
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcConcurrencyLimitPolicy setLongWindow(int longWindow) {
+    if (longWindow < 1) {
+      throw new IllegalArgumentException("Long window must be > 0");
+    }
+    this.longWindow = longWindow;
+    return this;
+  }
+}
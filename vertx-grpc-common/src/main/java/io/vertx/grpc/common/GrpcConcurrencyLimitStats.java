@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * State maintained by a {@link GrpcConcurrencyLimitPolicy} for a method.
+ */
+@Unstable
+public interface GrpcConcurrencyLimitStats {
+
+  /**
+   * @return the current concurrency limit
+   */
+  int limit();
+
+  /**
+   * @return the number of calls in flight
+   */
+  int inFlight();
+
+  /**
+   * @return the number of calls rejected because the limit was reached
+   */
+  long rejectedCalls();
+
+}
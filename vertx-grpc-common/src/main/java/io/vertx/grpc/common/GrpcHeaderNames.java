@@ -51,4 +51,10 @@ public final class GrpcHeaderNames {
    * The value is base64 encoded.
    */
   public static final AsciiString GRPC_STATUS_DETAILS_BIN = AsciiString.cached("grpc-status-details-bin");
+
+  /**
+   * Trailer telling a client how long to wait in milliseconds before retrying a failed call.
+   * A negative or malformed value means the call should not be retried.
+   */
+  public static final AsciiString GRPC_RETRY_PUSHBACK_MS = AsciiString.cached("grpc-retry-pushback-ms");
 }
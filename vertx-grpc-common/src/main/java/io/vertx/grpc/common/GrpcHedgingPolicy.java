@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>Hedges the unary calls of a client: when no response is received within {@link #getDelay()} the call is sent again,
+ * up to {@link #getMaxAttempts()} attempts. The first successful response wins and the other attempts are cancelled.</p>
+ *
+ * <p>When an attempt fails with a {@link #getNonFatalStatusCodes() non fatal} status, the next attempt is sent immediately,
+ * otherwise the call fails with this status. Only idempotent methods should be hedged.</p>
+ */
+@Unstable
+public class GrpcHedgingPolicy {
+
+  /**
+   * The default maximum number of attempts of a call = {@code 2}
+   */
+  public static final int DEFAULT_MAX_ATTEMPTS = 2;
+
+  /**
+   * The default delay before an attempt is sent = {@code 100ms}
+   */
+  public static final Duration DEFAULT_DELAY = Duration.ofMillis(100);
+
+  /**
+   * The default percentile of the observed latency used as delay = {@code 0}, i.e. the delay is fixed
+   */
+  public static final double DEFAULT_DELAY_PERCENTILE = 0D;
+
+  /**
+   * The default non fatal status codes = {@code [UNAVAILABLE]}
+   */
+  public static final Set<GrpcStatus> DEFAULT_NON_FATAL_STATUS_CODES = Set.of(GrpcStatus.UNAVAILABLE);
+
+  private int maxAttempts;
+  private Duration delay;
+  private double delayPercentile;
+  private Set<GrpcStatus> nonFatalStatusCodes;
+
+  /**
+   * Default policy.
+   */
+  public GrpcHedgingPolicy() {
+    maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    delay = DEFAULT_DELAY;
+    delayPercentile = DEFAULT_DELAY_PERCENTILE;
+    nonFatalStatusCodes = EnumSet.copyOf(DEFAULT_NON_FATAL_STATUS_CODES);
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public GrpcHedgingPolicy(GrpcHedgingPolicy other) {
+    maxAttempts = other.maxAttempts;
+    delay = other.delay;
+    delayPercentile = other.delayPercentile;
+    nonFatalStatusCodes = other.nonFatalStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(other.nonFatalStatusCodes);
+  }
+
+  /**
+   * @return the maximum number of attempts of a call, including the first one
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Set the maximum number of attempts of a call including the first one, {@code 1} disables hedging.
+   *
+   * @param maxAttempts the maximum number of attempts
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcHedgingPolicy setMaxAttempts(int maxAttempts) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("Max attempts must be > 0");
+    }
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * @return the delay before an attempt is sent
+   */
+  public Duration getDelay() {
+    return delay;
+  }
+
+  /**
+   * Set the delay before an attempt is sent when no response has been received, {@code 0} sends all attempts at once.
+   * When a {@link #setDelayPercentile(double) delay percentile} is set, this delay is used until enough calls have been observed.
+   *
+   * @param delay the delay
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcHedgingPolicy setDelay(Duration delay) {
+    if (delay.isNegative()) {
+      throw new IllegalArgumentException("Delay must be >= 0");
+    }
+    this.delay = delay;
+    return this;
+  }
+
+  /**
+   * @return the percentile of the observed latency used as delay, {@code 0} when the delay is fixed
+   */
+  public double getDelayPercentile() {
+    return delayPercentile;
+  }
+
+  /**
+   * Derive the delay from a percentile of the latency observed for the method, e.g. {@code 95}, instead of using a fixed delay.
+   *
+   * @param delayPercentile the percentile between {@code 0} and {@code 100}, {@code 0} uses the fixed {@link #getDelay() delay}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcHedgingPolicy setDelayPercentile(double delayPercentile) {
+    if (delayPercentile < 0D || delayPercentile >= 100D) {
+      throw new IllegalArgumentException("Delay percentile must be >= 0 and < 100");
+    }
+    this.delayPercentile = delayPercentile;
+    return this;
+  }
+
+  /**
+   * @return the status codes of a failed attempt that do not fail the call
+   */
+  public Set<GrpcStatus> getNonFatalStatusCodes() {
+    return nonFatalStatusCodes;
+  }
+
+  /**
+   * Set the status codes of a failed attempt that do not fail the call, when an attempt fails with such status the next
+   * attempt is sent immediately.
+   *
+   * @param nonFatalStatusCodes the status codes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcHedgingPolicy setNonFatalStatusCodes(Set<GrpcStatus> nonFatalStatusCodes) {
+    Objects.requireNonNull(nonFatalStatusCodes);
+    this.nonFatalStatusCodes = nonFatalStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(nonFatalStatusCodes);
+    return this;
+  }
+}
@@ -10,9 +10,11 @@
  */
 package io.vertx.grpc.common;
 
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
+import com.google.protobuf.MessageLite;
 import com.google.protobuf.MessageOrBuilder;
 import com.google.protobuf.Parser;
 import com.google.protobuf.util.JsonFormat;
@@ -22,6 +24,8 @@ import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.JsonArray;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
+import io.vertx.grpc.common.impl.Utils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.function.Supplier;
@@ -34,15 +38,43 @@ public interface GrpcMessageDecoder<T> {
    * @return the message decoder
    */
   static <T> GrpcMessageDecoder<T> decoder(MessageOrBuilder messageOrBuilder) {
+    return decoder(messageOrBuilder, false);
+  }
+
+  /**
+   * Create a decoder for a given protobuf {@link Parser}, protobuf messages are parsed directly from the payload buffer.
+   *
+   * <p>When {@code aliasing} is {@code true}, {@code bytes} fields of decoded messages may share the payload memory
+   * instead of being copied, this is only safe when the payload buffer is never modified after decoding.</p>
+   *
+   * <p>A message that has not been serialized, e.g. sent by an in-process transport, is returned as is when it is
+   * an instance of {@code <T>}.</p>
+   *
+   * @param messageOrBuilder the message or builder instance that returns decoded messages of type {@code <T>}
+   * @param aliasing whether {@code bytes} fields can alias the payload buffer
+   * @return the message decoder
+   */
+  static <T> GrpcMessageDecoder<T> decoder(MessageOrBuilder messageOrBuilder, boolean aliasing) {
     Message dit = messageOrBuilder.getDefaultInstanceForType();
     Parser<T> parser = (Parser<T>) dit.getParserForType();
+    Class<?> type = dit.getClass();
     return new GrpcMessageDecoder<>() {
       @Override
       public T decode(GrpcMessage msg) throws CodecException {
         switch (msg.format()) {
           case PROTOBUF:
+            if (msg instanceof ProtobufGrpcMessage) {
+              MessageLite message = ((ProtobufGrpcMessage) msg).message();
+              if (type.isInstance(message)) {
+                return (T) message;
+              }
+            }
             try {
-              return parser.parseFrom(msg.payload().getBytes());
+              CodedInputStream input = Utils.codedInputStream(msg.payload());
+              input.enableAliasing(aliasing);
+              T decoded = parser.parseFrom(input);
+              input.checkLastTagWas(0);
+              return decoded;
             } catch (InvalidProtocolBufferException e) {
               throw new CodecException(e);
             }
@@ -8,6 +8,7 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
 
 public interface GrpcMessageEncoder<T> {
 
@@ -22,8 +23,7 @@ public interface GrpcMessageEncoder<T> {
       public GrpcMessage encode(T msg, WireFormat format) throws CodecException {
         switch (format) {
           case PROTOBUF:
-            byte[] bytes = msg.toByteArray();
-            return GrpcMessage.message("identity", Buffer.buffer(bytes));
+            return new ProtobufGrpcMessage(msg);
           case JSON:
             if (msg instanceof MessageOrBuilder) {
               MessageOrBuilder mob = (MessageOrBuilder) msg;
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>Retries the calls of a client transparently, modelled on the gRPC service config {@code retryPolicy}.</p>
+ *
+ * <p>A call is retried when it fails with a {@link #getRetryableStatusCodes() retryable} status before the response headers
+ * are received, the sent messages are replayed on the new attempt. The delay before an attempt is a random value between
+ * {@code 0} and {@code min(initialBackoff * backoffMultiplier^(n-1), maxBackoff)}.</p>
+ */
+@Unstable
+public class GrpcRetryPolicy {
+
+  /**
+   * The default maximum number of attempts of a call = {@code 3}
+   */
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  /**
+   * The default initial backoff = {@code 100ms}
+   */
+  public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+
+  /**
+   * The default maximum backoff = {@code 5s}
+   */
+  public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(5);
+
+  /**
+   * The default backoff multiplier = {@code 2}
+   */
+  public static final double DEFAULT_BACKOFF_MULTIPLIER = 2D;
+
+  /**
+   * The default retryable status codes = {@code [UNAVAILABLE]}
+   */
+  public static final Set<GrpcStatus> DEFAULT_RETRYABLE_STATUS_CODES = Set.of(GrpcStatus.UNAVAILABLE);
+
+  private int maxAttempts;
+  private Duration initialBackoff;
+  private Duration maxBackoff;
+  private double backoffMultiplier;
+  private Set<GrpcStatus> retryableStatusCodes;
+
+  /**
+   * Default policy.
+   */
+  public GrpcRetryPolicy() {
+    maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    initialBackoff = DEFAULT_INITIAL_BACKOFF;
+    maxBackoff = DEFAULT_MAX_BACKOFF;
+    backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+    retryableStatusCodes = EnumSet.copyOf(DEFAULT_RETRYABLE_STATUS_CODES);
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public GrpcRetryPolicy(GrpcRetryPolicy other) {
+    maxAttempts = other.maxAttempts;
+    initialBackoff = other.initialBackoff;
+    maxBackoff = other.maxBackoff;
+    backoffMultiplier = other.backoffMultiplier;
+    retryableStatusCodes = other.retryableStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(other.retryableStatusCodes);
+  }
+
+  /**
+   * @return the maximum number of attempts of a call, including the first one
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Set the maximum number of attempts of a call including the first one, {@code 1} disables retries.
+   *
+   * @param maxAttempts the maximum number of attempts
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcRetryPolicy setMaxAttempts(int maxAttempts) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("Max attempts must be > 0");
+    }
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * @return the backoff before the first retry
+   */
+  public Duration getInitialBackoff() {
+    return initialBackoff;
+  }
+
+  /**
+   * Set the backoff before the first retry.
+   *
+   * @param initialBackoff the initial backoff
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcRetryPolicy setInitialBackoff(Duration initialBackoff) {
+    if (initialBackoff.isNegative() || initialBackoff.isZero()) {
+      throw new IllegalArgumentException("Initial backoff must be > 0");
+    }
+    this.initialBackoff = initialBackoff;
+    return this;
+  }
+
+  /**
+   * @return the maximum backoff between two attempts
+   */
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  /**
+   * Set the maximum backoff between two attempts.
+   *
+   * @param maxBackoff the maximum backoff
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcRetryPolicy setMaxBackoff(Duration maxBackoff) {
+    if (maxBackoff.isNegative() || maxBackoff.isZero()) {
+      throw new IllegalArgumentException("Max backoff must be > 0");
+    }
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+
+  /**
+   * @return the multiplier applied to the backoff after each attempt
+   */
+  public double getBackoffMultiplier() {
+    return backoffMultiplier;
+  }
+
+  /**
+   * Set the multiplier applied to the backoff after each attempt.
+   *
+   * @param backoffMultiplier the backoff multiplier
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcRetryPolicy setBackoffMultiplier(double backoffMultiplier) {
+    if (backoffMultiplier <= 0D) {
+      throw new IllegalArgumentException("Backoff multiplier must be > 0");
+    }
+    this.backoffMultiplier = backoffMultiplier;
+    return this;
+  }
+
+  /**
+   * @return the status codes of a failed attempt that are retried
+   */
+  public Set<GrpcStatus> getRetryableStatusCodes() {
+    return retryableStatusCodes;
+  }
+
+  /**
+   * Set the status codes of a failed attempt that are retried.
+   *
+   * @param retryableStatusCodes the status codes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcRetryPolicy setRetryableStatusCodes(Set<GrpcStatus> retryableStatusCodes) {
+    Objects.requireNonNull(retryableStatusCodes);
+    this.retryableStatusCodes = retryableStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(retryableStatusCodes);
+    return this;
+  }
+}
@@ -1,6 +1,7 @@
 package io.vertx.grpc.common;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
@@ -50,6 +51,25 @@ public interface GrpcWriteStream<T> extends WriteStream<T> {
   @Override
   GrpcWriteStream<T> drainHandler(@Nullable Handler<Void> handler);
 
+  /**
+   * Write a batch of messages. The messages are encoded one after the other in a single buffer written at once, unless
+   * they need to be compressed.
+   *
+   * @param messages the messages
+   * @return a future completed when all the messages are written
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  Future<Void> writeAll(Iterable<T> messages);
+
+  /**
+   * Like {@link #writeAll(Iterable)} but ends the stream after the messages.
+   *
+   * @param messages the messages
+   * @return a future completed with the result
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  Future<Void> endAll(Iterable<T> messages);
+
   /**
    * Write an encoded gRPC message.
    *
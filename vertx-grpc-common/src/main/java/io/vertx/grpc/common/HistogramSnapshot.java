@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.impl.LogHistogram;
+
+/**
+ * An immutable snapshot of a log-bucketed histogram, percentiles are approximated with a relative error of at most {@code 12.5%}.
+ */
+@Unstable
+public final class HistogramSnapshot {
+
+  private final long[] counts;
+  private final long count;
+  private final long sum;
+  private final long max;
+
+  public HistogramSnapshot(long[] counts, long count, long sum, long max) {
+    this.counts = counts;
+    this.count = count;
+    this.sum = sum;
+    this.max = max;
+  }
+
+  /**
+   * @return the number of recorded values
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * @return the sum of the recorded values
+   */
+  public long sum() {
+    return sum;
+  }
+
+  /**
+   * @return the highest recorded value
+   */
+  public long max() {
+    return max;
+  }
+
+  /**
+   * @return the mean of the recorded values or {@code 0} when empty
+   */
+  public double mean() {
+    return count == 0L ? 0D : (double) sum / count;
+  }
+
+  /**
+   * @param percentile the percentile between {@code 0} and {@code 100}, e.g. {@code 99.9}
+   * @return the approximated value at this {@code percentile} or {@code 0} when empty
+   */
+  public long valueAtPercentile(double percentile) {
+    if (percentile < 0D || percentile > 100D) {
+      throw new IllegalArgumentException("Invalid percentile " + percentile);
+    }
+    long total = 0L;
+    for (long c : counts) {
+      total += c;
+    }
+    if (total == 0L) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(percentile / 100D * total));
+    long acc = 0L;
+    for (int i = 0; i < counts.length; i++) {
+      acc += counts[i];
+      if (acc >= rank) {
+        return Math.min(LogHistogram.bucketUpperBound(i), max);
+      }
+    }
+    return max;
+  }
+}
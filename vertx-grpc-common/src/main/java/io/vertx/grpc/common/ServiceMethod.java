@@ -11,6 +11,7 @@
 package io.vertx.grpc.common;
 
 import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.grpc.common.impl.ConfiguredServiceMethod;
 
 /**
  * Bundle all the bits required to call or bind a grpc service method.
@@ -84,4 +85,72 @@ public interface ServiceMethod<I, O> {
    */
   GrpcMessageEncoder<O> encoder();
 
+  /**
+   * @return the compression policy of this method or {@code null} to use the server default
+   */
+  default GrpcCompressionPolicy compressionPolicy() {
+    return null;
+  }
+
+  /**
+   * Create a copy of this method using the specified compression {@code policy}.
+   *
+   * @param policy the compression policy
+   * @return the method
+   */
+  default ServiceMethod<I, O> withCompressionPolicy(GrpcCompressionPolicy policy) {
+    return new ConfiguredServiceMethod<>(this, new GrpcCompressionPolicy(policy), hedgingPolicy(), retryPolicy(), concurrencyLimitPolicy());
+  }
+
+  /**
+   * @return the hedging policy of this method or {@code null} to use the client default
+   */
+  default GrpcHedgingPolicy hedgingPolicy() {
+    return null;
+  }
+
+  /**
+   * Create a copy of this method using the specified hedging {@code policy}, only idempotent unary methods should be hedged.
+   *
+   * @param policy the hedging policy
+   * @return the method
+   */
+  default ServiceMethod<I, O> withHedgingPolicy(GrpcHedgingPolicy policy) {
+    return new ConfiguredServiceMethod<>(this, compressionPolicy(), new GrpcHedgingPolicy(policy), retryPolicy(), concurrencyLimitPolicy());
+  }
+
+  /**
+   * @return the retry policy of this method or {@code null} to use the client default
+   */
+  default GrpcRetryPolicy retryPolicy() {
+    return null;
+  }
+
+  /**
+   * Create a copy of this method using the specified retry {@code policy}.
+   *
+   * @param policy the retry policy
+   * @return the method
+   */
+  default ServiceMethod<I, O> withRetryPolicy(GrpcRetryPolicy policy) {
+    return new ConfiguredServiceMethod<>(this, compressionPolicy(), hedgingPolicy(), new GrpcRetryPolicy(policy), concurrencyLimitPolicy());
+  }
+
+  /**
+   * @return the concurrency limit policy of this method or {@code null} to use the server default
+   */
+  default GrpcConcurrencyLimitPolicy concurrencyLimitPolicy() {
+    return null;
+  }
+
+  /**
+   * Create a copy of this method using the specified concurrency limit {@code policy}.
+   *
+   * @param policy the concurrency limit policy
+   * @return the method
+   */
+  default ServiceMethod<I, O> withConcurrencyLimitPolicy(GrpcConcurrencyLimitPolicy policy) {
+    return new ConfiguredServiceMethod<>(this, compressionPolicy(), hedgingPolicy(), retryPolicy(), new GrpcConcurrencyLimitPolicy(policy));
+  }
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcCompressionPolicy;
+import io.vertx.grpc.common.GrpcCompressionStats;
+import io.vertx.grpc.common.GrpcCompressor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The state of a {@link GrpcCompressionPolicy} for a method, shared by all the streams of this method.
+ */
+public final class AdaptiveCompression implements GrpcCompressionStats {
+
+  private final int minSize;
+  private final double maxRatio;
+  private final int sampleSize;
+  private final int probeInterval;
+
+  private final LongAdder compressedMessages = new LongAdder();
+  private final LongAdder skippedMessages = new LongAdder();
+  private final LongAdder uncompressedBytes = new LongAdder();
+  private final LongAdder compressedBytes = new LongAdder();
+  private final LongAdder compressionNanos = new LongAdder();
+
+  // Sampling window, guarded by this
+  private long windowIn;
+  private long windowOut;
+  private int windowCount;
+
+  // Messages left to skip before probing again, 0 when compression is on
+  private final AtomicInteger skip = new AtomicInteger();
+
+  public AdaptiveCompression(GrpcCompressionPolicy policy) {
+    this.minSize = policy.getMinSize();
+    this.maxRatio = policy.getMaxRatio();
+    this.sampleSize = policy.getSampleSize();
+    this.probeInterval = policy.getProbeInterval();
+  }
+
+  /**
+   * @param size the uncompressed message size
+   * @return whether a message of this {@code size} should be compressed
+   */
+  public boolean shouldCompress(int size) {
+    if (size < minSize || (skip.get() > 0 && skip.getAndDecrement() > 0)) {
+      skippedMessages.increment();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Compress {@code payload} with {@code compressor} and sample the result.
+   */
+  public Buffer compress(GrpcCompressor compressor, Buffer payload) {
+    long start = System.nanoTime();
+    Buffer compressed = compressor.compress(payload);
+    long elapsed = System.nanoTime() - start;
+    int in = payload.length();
+    int out = compressed.length();
+    compressedMessages.increment();
+    uncompressedBytes.add(in);
+    compressedBytes.add(out);
+    compressionNanos.add(elapsed);
+    sample(in, out);
+    return compressed;
+  }
+
+  private synchronized void sample(int in, int out) {
+    windowIn += in;
+    windowOut += out;
+    if (++windowCount >= sampleSize) {
+      if (windowIn > 0 && (double) windowOut / windowIn > maxRatio) {
+        skip.set(probeInterval);
+      }
+      windowIn = 0;
+      windowOut = 0;
+      windowCount = 0;
+    }
+  }
+
+  @Override
+  public long compressedMessages() {
+    return compressedMessages.sum();
+  }
+
+  @Override
+  public long skippedMessages() {
+    return skippedMessages.sum();
+  }
+
+  @Override
+  public long uncompressedBytes() {
+    return uncompressedBytes.sum();
+  }
+
+  @Override
+  public long compressedBytes() {
+    return compressedBytes.sum();
+  }
+
+  @Override
+  public long compressionNanos() {
+    return compressionNanos.sum();
+  }
+}
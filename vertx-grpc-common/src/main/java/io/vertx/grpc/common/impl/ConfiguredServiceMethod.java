@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.grpc.common.GrpcCompressionPolicy;
+import io.vertx.grpc.common.GrpcConcurrencyLimitPolicy;
+import io.vertx.grpc.common.GrpcHedgingPolicy;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.GrpcRetryPolicy;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.ServiceName;
+
+/**
+ * A {@link ServiceMethod} carrying policies on top of another method.
+ */
+public final class ConfiguredServiceMethod<I, O> implements ServiceMethod<I, O> {
+
+  private final ServiceMethod<I, O> method;
+  private final GrpcCompressionPolicy compressionPolicy;
+  private final GrpcHedgingPolicy hedgingPolicy;
+  private final GrpcRetryPolicy retryPolicy;
+  private final GrpcConcurrencyLimitPolicy concurrencyLimitPolicy;
+
+  public ConfiguredServiceMethod(ServiceMethod<I, O> method,
+                                 GrpcCompressionPolicy compressionPolicy,
+                                 GrpcHedgingPolicy hedgingPolicy,
+                                 GrpcRetryPolicy retryPolicy,
+                                 GrpcConcurrencyLimitPolicy concurrencyLimitPolicy) {
+    // Avoid stacking wrappers
+    this.method = method instanceof ConfiguredServiceMethod ? ((ConfiguredServiceMethod<I, O>) method).method : method;
+    this.compressionPolicy = compressionPolicy;
+    this.hedgingPolicy = hedgingPolicy;
+    this.retryPolicy = retryPolicy;
+    this.concurrencyLimitPolicy = concurrencyLimitPolicy;
+  }
+
+  @Override
+  public ServiceName serviceName() {
+    return method.serviceName();
+  }
+
+  @Override
+  public String methodName() {
+    return method.methodName();
+  }
+
+  @Override
+  public GrpcMessageDecoder<I> decoder() {
+    return method.decoder();
+  }
+
+  @Override
+  public GrpcMessageEncoder<O> encoder() {
+    return method.encoder();
+  }
+
+  @Override
+  public GrpcCompressionPolicy compressionPolicy() {
+    return compressionPolicy;
+  }
+
+  @Override
+  public GrpcHedgingPolicy hedgingPolicy() {
+    return hedgingPolicy;
+  }
+
+  @Override
+  public GrpcRetryPolicy retryPolicy() {
+    return retryPolicy;
+  }
+
+  @Override
+  public GrpcConcurrencyLimitPolicy concurrencyLimitPolicy() {
+    return concurrencyLimitPolicy;
+  }
+}
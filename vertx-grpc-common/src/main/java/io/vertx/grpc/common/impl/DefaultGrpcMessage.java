@@ -10,11 +10,14 @@
  */
 package io.vertx.grpc.common.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.common.GrpcMessage;
 
+import java.util.List;
 import java.util.Objects;
 
 public class DefaultGrpcMessage implements GrpcMessage {
@@ -76,4 +79,38 @@ public class DefaultGrpcMessage implements GrpcMessage {
     encoded.appendBuffer(payload);
     return encoded;
   }
+
+  /**
+   * Encode a list of messages one after the other in a pooled direct buffer, the caller is responsible for releasing it.
+   *
+   * @param messages the messages
+   * @return the encoded messages
+   */
+  public static ByteBuf encode(List<GrpcMessage> messages) {
+    int size = 0;
+    for (GrpcMessage message : messages) {
+      if (message instanceof ProtobufGrpcMessage) {
+        size += 5 + ((ProtobufGrpcMessage) message).message().getSerializedSize();
+      } else {
+        size += 5 + message.payload().length();
+      }
+    }
+    ByteBuf encoded = PooledByteBufAllocator.DEFAULT.directBuffer(size);
+    try {
+      for (GrpcMessage message : messages) {
+        if (message instanceof ProtobufGrpcMessage) {
+          ((ProtobufGrpcMessage) message).encodeTo(encoded, false);
+        } else {
+          Buffer payload = message.payload();
+          encoded.writeByte(message.isCompressed() ? 0x01 : 0x00);
+          encoded.writeInt(payload.length());
+          encoded.writeBytes(((BufferInternal) payload).getByteBuf());
+        }
+      }
+    } catch (RuntimeException e) {
+      encoded.release();
+      throw e;
+    }
+    return encoded;
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.util.concurrent.FastThreadLocal;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate (zlib) compression with {@link Deflater}/{@link Inflater} instances reused by each thread, see {@link GzipCodec}.
+ */
+public final class DeflateCodec {
+
+  private static final int SCRATCH_SIZE = 8192;
+
+  public static final GrpcCompressor COMPRESSOR = new GrpcCompressor() {
+    @Override
+    public String encoding() {
+      return "deflate";
+    }
+    @Override
+    public Buffer compress(Buffer payload) {
+      return CODECS.get().deflate(payload);
+    }
+    @Override
+    public Buffer decompress(Buffer payload) {
+      return CODECS.get().inflate(payload, Long.MAX_VALUE);
+    }
+    @Override
+    public Buffer decompress(Buffer payload, long maxLength) {
+      return CODECS.get().inflate(payload, maxLength);
+    }
+  };
+
+  private static final FastThreadLocal<DeflateCodec> CODECS = new FastThreadLocal<>() {
+    @Override
+    protected DeflateCodec initialValue() {
+      return new DeflateCodec();
+    }
+    @Override
+    protected void onRemoval(DeflateCodec codec) {
+      codec.deflater.end();
+      codec.inflater.end();
+    }
+  };
+
+  private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+  private final Inflater inflater = new Inflater();
+  private final byte[] scratch = new byte[SCRATCH_SIZE];
+
+  private DeflateCodec() {
+  }
+
+  private Buffer deflate(Buffer data) {
+    int len = data.length();
+    deflater.reset();
+    deflater.setInput(((BufferInternal) data).unwrap().nioBuffer(0, len));
+    deflater.finish();
+    BufferInternal compressed = BufferInternal.buffer((len >> 1) + 8);
+    while (!deflater.finished()) {
+      int n = deflater.deflate(scratch);
+      compressed.appendBytes(scratch, 0, n);
+    }
+    return compressed;
+  }
+
+  private Buffer inflate(Buffer data, long maxLength) {
+    ByteBuffer input = ((BufferInternal) data).unwrap().nioBuffer(0, data.length());
+    inflater.reset();
+    inflater.setInput(input);
+    BufferInternal decompressed = BufferInternal.buffer(data.length() << 1);
+    try {
+      while (!inflater.finished()) {
+        int n = inflater.inflate(scratch);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new CodecException("Invalid deflate input");
+        }
+        if (decompressed.length() + n > maxLength) {
+          throw new MessageSizeOverflowException(decompressed.length() + n);
+        }
+        decompressed.appendBytes(scratch, 0, n);
+      }
+    } catch (DataFormatException e) {
+      throw new CodecException(e);
+    }
+    return decompressed;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.grpc.common.GrpcCompressor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable lookup of the compressors configured on a client or a server.
+ */
+public final class GrpcCompressorRegistry {
+
+  /**
+   * The default registry, containing {@code gzip}.
+   */
+  public static final GrpcCompressorRegistry DEFAULT = create(List.of(GrpcCompressor.gzip()));
+
+  public static GrpcCompressorRegistry create(Collection<GrpcCompressor> compressors) {
+    Map<String, GrpcCompressor> map = new LinkedHashMap<>();
+    for (GrpcCompressor compressor : compressors) {
+      if (compressor.encoding().equals("identity")) {
+        throw new IllegalArgumentException("The identity encoding cannot be registered");
+      }
+      map.put(compressor.encoding(), compressor);
+    }
+    return new GrpcCompressorRegistry(map);
+  }
+
+  private final Map<String, GrpcCompressor> compressors;
+  private final String acceptEncoding;
+
+  private GrpcCompressorRegistry(Map<String, GrpcCompressor> compressors) {
+    this.compressors = compressors;
+    this.acceptEncoding = compressors.isEmpty() ? null : String.join(",", compressors.keySet());
+  }
+
+  /**
+   * @param encoding the encoding
+   * @return the compressor for this {@code encoding} or {@code null}
+   */
+  public GrpcCompressor lookup(String encoding) {
+    return compressors.get(encoding);
+  }
+
+  /**
+   * @return the supported encodings
+   */
+  public Set<String> encodings() {
+    return Collections.unmodifiableSet(compressors.keySet());
+  }
+
+  /**
+   * @return the {@code grpc-accept-encoding} header value or {@code null} when no compressor is registered
+   */
+  public String acceptEncoding() {
+    return acceptEncoding;
+  }
+}
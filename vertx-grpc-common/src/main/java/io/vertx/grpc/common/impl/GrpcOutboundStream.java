@@ -4,6 +4,10 @@ import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.WriteStream;
+import io.vertx.grpc.common.GrpcMessage;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public interface GrpcOutboundStream extends WriteStream<GrpcFrame> {
 
@@ -13,6 +17,20 @@ public interface GrpcOutboundStream extends WriteStream<GrpcFrame> {
   @Override
   Future<Void> end(GrpcFrame frame);
 
+  /**
+   * Write a list of messages, implementations can write them at once.
+   *
+   * @param messages the messages
+   * @return a future completed when all the messages are written
+   */
+  default Future<Void> writeMessages(List<GrpcMessage> messages) {
+    List<Future<Void>> futures = new ArrayList<>(messages.size());
+    for (GrpcMessage message : messages) {
+      futures.add(write(new DefaultGrpcMessageFrame(message)));
+    }
+    return Future.all(futures).mapEmpty();
+  }
+
   @Override
   Future<Void> end();
 
@@ -50,6 +50,8 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
   private Handler<InvalidMessageException> invalidMessageHandler;
   private GrpcMessage last;
   private final GrpcMessageDecoder<T> messageDecoder;
+  private final GrpcCompressorRegistry compressors;
+  private final long maxMessageSize;
   private final Promise<Void> end;
   private Handler<GrpcError> errorHandler;
 
@@ -57,25 +59,38 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
                                String encoding,
                                WireFormat format,
                                GrpcMessageDecoder<T> messageDecoder) {
+    this(context, encoding, format, GrpcCompressorRegistry.DEFAULT, Integer.MAX_VALUE, messageDecoder);
+  }
+
+  protected GrpcReadStreamBase(Context context,
+                               String encoding,
+                               WireFormat format,
+                               GrpcCompressorRegistry compressors,
+                               long maxMessageSize,
+                               GrpcMessageDecoder<T> messageDecoder) {
     ContextInternal ctx = (ContextInternal) context;
     this.context = ctx;
     this.encoding = encoding;
     this.format = format;
+    this.compressors = compressors;
+    this.maxMessageSize = maxMessageSize;
     this.messageDecoder = messageDecoder;
     this.end = ctx.promise();
   }
 
-  protected final T decodeMessage(GrpcMessage msg) throws CodecException {
-    switch (msg.encoding()) {
-      case "identity":
-        // Nothing to do
-        break;
-      case "gzip": {
-        msg = GrpcMessage.message("identity", msg.format(), Utils.GZIP_DECODER.apply(msg.payload()));
-        break;
+  /**
+   * Decode a message, a compressed message is decompressed up to the maximum message size.
+   *
+   * @throws CodecException when the message cannot be decoded or its encoding is not supported
+   * @throws MessageSizeOverflowException when the decompressed message is larger than the maximum message size
+   */
+  protected final T decodeMessage(GrpcMessage msg) throws CodecException, MessageSizeOverflowException {
+    if (!msg.encoding().equals("identity")) {
+      GrpcCompressor compressor = compressors.lookup(msg.encoding());
+      if (compressor == null) {
+        throw new CodecException("Unsupported encoding " + msg.encoding());
       }
-      default:
-        throw new UnsupportedOperationException();
+      msg = GrpcMessage.message("identity", msg.format(), compressor.decompress(msg.payload(), maxMessageSize));
     }
     return messageDecoder.decode(msg);
   }
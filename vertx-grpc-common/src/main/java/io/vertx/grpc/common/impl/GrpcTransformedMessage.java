@@ -11,6 +11,7 @@ public class GrpcTransformedMessage implements GrpcMessage {
   private final GrpcMessage wrapped;
   private final String encoding;
   private final Function<Buffer, Buffer> transformation;
+  private Buffer payload;
 
   public GrpcTransformedMessage(GrpcMessage wrapped, String encoding, Function<Buffer, Buffer> transformation) {
     this.wrapped = wrapped;
@@ -30,6 +31,9 @@ public class GrpcTransformedMessage implements GrpcMessage {
 
   @Override
   public Buffer payload() {
-    return transformation.apply(wrapped.payload());
+    if (payload == null) {
+      payload = transformation.apply(wrapped.payload());
+    }
+    return payload;
   }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Timer;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCoalescingPolicy;
+import io.vertx.grpc.common.GrpcMessage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * <p>Packs the length-prefixed messages of a stream into batches according to a {@link GrpcCoalescingPolicy}.</p>
+ *
+ * <p>The messages are serialized straight into a pooled batch buffer, released when the batch write completes. The
+ * messages of a batch share the future of the batch write. The bytes of the current batch count against the write
+ * queue max size of the stream, see {@link #writeQueueFull()}.</p>
+ *
+ * <p>This class is not thread safe and must be used from the stream context.</p>
+ */
+public final class GrpcWriteCoalescer {
+
+  private final ContextInternal context;
+  private final Function<Buffer, Future<Void>> writer;
+  private final int maxBytes;
+  private final int maxMessages;
+  private final long lingerNanos;
+
+  private ByteBuf batch;
+  private int count;
+  private PromiseInternal<Void> promise;
+  private Timer timer;
+  private int writeQueueMaxSize = Integer.MAX_VALUE;
+  private boolean full;
+  private Handler<Void> drainHandler;
+
+  public GrpcWriteCoalescer(ContextInternal context, GrpcCoalescingPolicy policy, Function<Buffer, Future<Void>> writer) {
+    this.context = context;
+    this.writer = writer;
+    this.maxBytes = policy.getMaxBytes();
+    this.maxMessages = policy.getMaxMessages();
+    this.lingerNanos = policy.getLinger().toNanos();
+  }
+
+  /**
+   * Set the write queue max size of the stream, the buffered bytes beyond this size make the stream full.
+   */
+  public void writeQueueMaxSize(int maxSize) {
+    writeQueueMaxSize = maxSize;
+  }
+
+  /**
+   * @return the number of bytes of the current batch, not yet handed to the stream
+   */
+  public int bufferedBytes() {
+    ByteBuf b = batch;
+    return b != null ? b.readableBytes() : 0;
+  }
+
+  /**
+   * @return whether the buffered bytes exceed the write queue max size, the drain handler is called after the batch is
+   *         handed to the stream
+   */
+  public boolean writeQueueFull() {
+    if (bufferedBytes() >= writeQueueMaxSize) {
+      full = true;
+    }
+    return full;
+  }
+
+  /**
+   * Set the handler called when the coalescer is not full anymore.
+   */
+  public void drainHandler(Handler<Void> handler) {
+    drainHandler = handler;
+  }
+
+  /**
+   * Add a message to the current batch.
+   *
+   * @param message the message to write
+   * @return the future completed when the batch containing the message is written
+   * @throws io.vertx.grpc.common.CodecException when the message cannot be encoded
+   */
+  public Future<Void> write(GrpcMessage message) {
+    ProtobufGrpcMessage protobuf = null;
+    BufferInternal encoded = null;
+    int len;
+    if (message instanceof ProtobufGrpcMessage) {
+      protobuf = (ProtobufGrpcMessage) message;
+      len = 5 + protobuf.message().getSerializedSize();
+    } else {
+      encoded = DefaultGrpcMessage.encode(message.payload(), message.isCompressed(), false);
+      len = encoded.length();
+    }
+    if (batch != null && batch.readableBytes() + len > maxBytes) {
+      flush();
+    }
+    if (len >= maxBytes) {
+      // Written on its own, without copy
+      return protobuf != null ? protobuf.write(false, writer) : writer.apply(encoded);
+    }
+    ByteBuf b = batch;
+    if (b == null) {
+      b = PooledByteBufAllocator.DEFAULT.directBuffer((int) Math.min(maxBytes, (long) len * maxMessages));
+      batch = b;
+      promise = context.promise();
+      schedule(b);
+    }
+    if (protobuf != null) {
+      try {
+        protobuf.encodeTo(b, false);
+      } catch (CodecException e) {
+        if (count == 0) {
+          // Do not write an empty batch
+          discard();
+        }
+        throw e;
+      }
+    } else {
+      ByteBuf src = encoded.getByteBuf();
+      b.writeBytes(src, src.readerIndex(), src.readableBytes());
+    }
+    Future<Void> fut = promise.future();
+    if (++count >= maxMessages) {
+      flush();
+    }
+    return fut;
+  }
+
+  /**
+   * Write the current batch, this must be called before the stream ends.
+   */
+  public void flush() {
+    ByteBuf b = batch;
+    if (b == null) {
+      return;
+    }
+    PromiseInternal<Void> p = promise;
+    reset();
+    PooledBuffers.write(b, writer).onComplete(p);
+    if (full) {
+      full = false;
+      Handler<Void> handler = drainHandler;
+      if (handler != null) {
+        // Not from within a write
+        context.runOnContext(handler);
+      }
+    }
+  }
+
+  private void discard() {
+    ByteBuf b = batch;
+    reset();
+    b.release();
+  }
+
+  private void reset() {
+    batch = null;
+    promise = null;
+    count = 0;
+    Timer t = timer;
+    if (t != null) {
+      timer = null;
+      t.cancel();
+    }
+  }
+
+  private void schedule(ByteBuf b) {
+    if (lingerNanos > 0L) {
+      Timer t = context.timer(lingerNanos, TimeUnit.NANOSECONDS);
+      timer = t;
+      t.onSuccess(v -> {
+        if (batch == b) {
+          timer = null;
+          flush();
+        }
+      });
+    } else {
+      context.runOnContext(v -> {
+        if (batch == b) {
+          flush();
+        }
+      });
+    }
+  }
+}
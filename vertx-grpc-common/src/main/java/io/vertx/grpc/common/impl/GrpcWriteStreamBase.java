@@ -3,15 +3,23 @@ package io.vertx.grpc.common.impl;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.grpc.common.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T> implements GrpcWriteStream<T> {
 
   protected final ContextInternal context;
   private final GrpcMessageEncoder<T> messageEncoder;
+  protected final GrpcCompressorRegistry compressors;
+  private AdaptiveCompression adaptiveCompression;
+  private boolean marshalWrites;
 
   protected String encoding;
   protected WireFormat format;
@@ -24,8 +32,13 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
   private Handler<Throwable> exceptionHandler;
 
   public GrpcWriteStreamBase(ContextInternal context, GrpcMessageEncoder<T> messageEncoder) {
+    this(context, messageEncoder, GrpcCompressorRegistry.DEFAULT);
+  }
+
+  public GrpcWriteStreamBase(ContextInternal context, GrpcMessageEncoder<T> messageEncoder, GrpcCompressorRegistry compressors) {
     this.context = context;
     this.messageEncoder = messageEncoder;
+    this.compressors = compressors;
     this.format = null;
   }
 
@@ -61,6 +74,10 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
 
   @Override
   public void cancel() {
+    if (isOffContext()) {
+      context.runOnContext(v -> cancel());
+      return;
+    }
     if (!cancelled) {
       cancelled = sendCancel();
     }
@@ -84,6 +101,40 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
     return (S) this;
   }
 
+  /**
+   * Set the adaptive compression state of the method, messages skipped by the policy are sent uncompressed.
+   */
+  public final void adaptiveCompression(AdaptiveCompression adaptiveCompression) {
+    this.adaptiveCompression = adaptiveCompression;
+  }
+
+  /**
+   * Marshal the writes made outside of the stream context onto the context, for a stream used from a worker or a
+   * virtual thread.
+   */
+  public final void marshalWrites() {
+    marshalWrites = true;
+  }
+
+  private boolean isOffContext() {
+    return marshalWrites && !context.isRunningOnContext();
+  }
+
+  private Future<Void> marshal(Supplier<Future<Void>> write) {
+    Promise<Void> promise = context.promise();
+    context.runOnContext(v -> {
+      Future<Void> fut;
+      try {
+        fut = write.get();
+      } catch (Exception e) {
+        promise.fail(e);
+        return;
+      }
+      fut.onComplete(promise);
+    });
+    return promise.future();
+  }
+
   public final ContextInternal context() {
     return context;
   }
@@ -141,6 +192,24 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
     return messageEncoder.encode(message, f);
   }
 
+  @Override
+  public final Future<Void> writeAll(Iterable<T> messages) {
+    return writeMessages(encodeMessages(messages), false);
+  }
+
+  @Override
+  public final Future<Void> endAll(Iterable<T> messages) {
+    return writeMessages(encodeMessages(messages), true);
+  }
+
+  private List<GrpcMessage> encodeMessages(Iterable<T> messages) {
+    List<GrpcMessage> list = messages instanceof Collection ? new ArrayList<>(((Collection<T>) messages).size()) : new ArrayList<>();
+    for (T message : messages) {
+      list.add(encodeMessage(message));
+    }
+    return list;
+  }
+
   @Override
   public final Future<Void> writeMessage(GrpcMessage data) {
     return writeMessage(data, false);
@@ -158,6 +227,17 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
   protected abstract Future<Void> sendTrailers(MultiMap trailers);
   protected abstract Future<Void> sendHeaders(WireFormat wireFormat, String encoding, MultiMap headers);
   protected abstract Future<Void> sendMessage(GrpcMessage message);
+
+  /**
+   * Send messages that do not need to be transcoded, by default each message is sent with {@link #sendMessage(GrpcMessage)}.
+   */
+  protected Future<Void> sendMessages(List<GrpcMessage> messages) {
+    List<Future<Void>> futures = new ArrayList<>(messages.size());
+    for (GrpcMessage message : messages) {
+      futures.add(sendMessage(message));
+    }
+    return Future.all(futures).mapEmpty();
+  }
   protected abstract boolean sendCancel();
 
   private Future<Void> sendHeaders(boolean writeHeaders) {
@@ -183,6 +263,9 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
   }
 
   protected Future<Void> writeMessage(GrpcMessage message, boolean end) {
+    if (isOffContext()) {
+      return marshal(() -> writeMessage(message, end));
+    }
     if (error != null) {
       throw new IllegalStateException("The stream is failed: " + error);
     }
@@ -197,37 +280,29 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
       }
     }
     GrpcMessage payload;
-    if (message != null) {
-      if (encoding != null) {
-        switch (encoding) {
-          case "gzip":
-            if (message.encoding().equals("identity")) {
-              payload = new GrpcTransformedMessage(message, "gzip", Utils.GZIP_ENCODER);
-            } else {
-              if (!message.encoding().equals("gzip")) {
-                return Future.failedFuture("Encoding " + message.encoding() + " is not supported");
-              }
-              payload = message;
-            }
-            break;
-          case "identity":
-            if (!message.encoding().equals("identity")) {
-              if (!message.encoding().equals("gzip")) {
-                return Future.failedFuture("Encoding " + message.encoding() + " is not supported");
-              }
-              payload = new GrpcTransformedMessage(message, "identity", Utils.GZIP_DECODER);
-            } else {
-              payload = message;
-            }
-            break;
-          default:
-            return Future.failedFuture("Encoding " + encoding + " is not supported");
+    if (message != null && encoding != null && !encoding.equals(message.encoding())) {
+      payload = message;
+      if (!payload.encoding().equals("identity")) {
+        GrpcCompressor decompressor = compressors.lookup(payload.encoding());
+        if (decompressor == null) {
+          return Future.failedFuture("Encoding " + payload.encoding() + " is not supported");
+        }
+        payload = new GrpcTransformedMessage(payload, "identity", decompressor::decompress);
+      }
+      if (!encoding.equals("identity")) {
+        GrpcCompressor compressor = compressors.lookup(encoding);
+        if (compressor == null) {
+          return Future.failedFuture("Encoding " + encoding + " is not supported");
+        }
+        AdaptiveCompression adaptive = adaptiveCompression;
+        if (adaptive == null) {
+          payload = new GrpcTransformedMessage(payload, encoding, compressor::compress);
+        } else if (adaptive.shouldCompress(sizeOf(payload))) {
+          payload = new GrpcTransformedMessage(payload, encoding, buff -> adaptive.compress(compressor, buff));
         }
-      } else {
-        payload = message;
       }
     } else {
-      payload = null;
+      payload = message;
     }
 
     boolean writeHeaders;
@@ -255,4 +330,61 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
       }
     }
   }
+
+  private Future<Void> writeMessages(List<GrpcMessage> messages, boolean end) {
+    if (isOffContext()) {
+      return marshal(() -> writeMessages(messages, end));
+    }
+    if (error != null) {
+      throw new IllegalStateException("The stream is failed: " + error);
+    }
+    if (trailersSent) {
+      throw new IllegalStateException("The stream has been closed");
+    }
+    int size = messages.size();
+    if (size == 0) {
+      return end ? end() : context.succeededFuture();
+    }
+    for (GrpcMessage message : messages) {
+      if ((encoding != null && !encoding.equals(message.encoding())) || (format != null && !format.equals(message.format()))) {
+        // Messages are checked and transcoded one by one
+        List<Future<Void>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          futures.add(writeMessage(messages.get(i), end && i == size - 1));
+        }
+        return Future.all(futures).mapEmpty();
+      }
+    }
+    if (format == null) {
+      format = messages.get(0).format();
+      for (GrpcMessage message : messages) {
+        if (!format.equals(message.format())) {
+          return context.failedFuture("Message format does not match the response format");
+        }
+      }
+    }
+    if (!headersSent) {
+      headersSent = true;
+      sendHeaders(format, encoding, headers);
+    }
+    Future<Void> fut = sendMessages(messages);
+    if (end) {
+      trailersSent = true;
+      // Trailers are written right after the batch, the batch failure is reported first
+      Future<Void> endFut = sendEnd();
+      return fut.compose(v -> endFut);
+    }
+    return fut;
+  }
+
+  /**
+   * @return the payload size of {@code message}, without serializing it when possible
+   */
+  public static int sizeOf(GrpcMessage message) {
+    if (message instanceof ProtobufGrpcMessage) {
+      // Avoid serializing the message
+      return ((ProtobufGrpcMessage) message).message().getSerializedSize();
+    }
+    return message.payload().length();
+  }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.util.concurrent.FastThreadLocal;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * GZIP compression with {@link Deflater}/{@link Inflater} instances reused by each thread, i.e. each event-loop
+ * owns its own compressor and decompressor instead of creating a new one per message.
+ */
+public final class GzipCodec {
+
+  private static final int FHCRC = 0x02;
+  private static final int FEXTRA = 0x04;
+  private static final int FNAME = 0x08;
+  private static final int FCOMMENT = 0x10;
+
+  private static final byte[] HEADER = {
+    0x1f, (byte) 0x8b, // Magic number
+    Deflater.DEFLATED, // Compression method
+    0, // Flags
+    0, 0, 0, 0, // Modification time
+    0, // Extra flags
+    (byte) 0xff // Unknown OS
+  };
+
+  private static final int SCRATCH_SIZE = 8192;
+
+  public static final GrpcCompressor COMPRESSOR = new GrpcCompressor() {
+    @Override
+    public String encoding() {
+      return "gzip";
+    }
+    @Override
+    public Buffer compress(Buffer payload) {
+      return GzipCodec.compress(payload);
+    }
+    @Override
+    public Buffer decompress(Buffer payload) {
+      return GzipCodec.decompress(payload);
+    }
+    @Override
+    public Buffer decompress(Buffer payload, long maxLength) {
+      return CODECS.get().inflate(payload, maxLength);
+    }
+  };
+
+  private static final FastThreadLocal<GzipCodec> CODECS = new FastThreadLocal<>() {
+    @Override
+    protected GzipCodec initialValue() {
+      return new GzipCodec();
+    }
+    @Override
+    protected void onRemoval(GzipCodec codec) {
+      codec.deflater.end();
+      codec.inflater.end();
+    }
+  };
+
+  /**
+   * Compress {@code data} using the codec of the current thread.
+   *
+   * @param data the data to compress
+   * @return the compressed data
+   */
+  public static Buffer compress(Buffer data) {
+    return CODECS.get().deflate(data);
+  }
+
+  /**
+   * Decompress {@code data} using the codec of the current thread.
+   *
+   * @param data the data to decompress
+   * @return the decompressed data
+   * @throws CodecException when the input is not valid GZIP
+   */
+  public static Buffer decompress(Buffer data) throws CodecException {
+    return CODECS.get().inflate(data, Long.MAX_VALUE);
+  }
+
+  private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+  private final Inflater inflater = new Inflater(true);
+  private final CRC32 crc = new CRC32();
+  private final byte[] scratch = new byte[SCRATCH_SIZE];
+
+  private GzipCodec() {
+  }
+
+  private Buffer deflate(Buffer data) {
+    int len = data.length();
+    ByteBuffer input = ((BufferInternal) data).unwrap().nioBuffer(0, len);
+    crc.reset();
+    crc.update(input.duplicate());
+    deflater.reset();
+    deflater.setInput(input);
+    deflater.finish();
+    BufferInternal compressed = BufferInternal.buffer(HEADER.length + (len >> 1) + 8);
+    compressed.appendBytes(HEADER);
+    while (!deflater.finished()) {
+      int n = deflater.deflate(scratch);
+      compressed.appendBytes(scratch, 0, n);
+    }
+    compressed.appendIntLE((int) crc.getValue());
+    compressed.appendIntLE(len);
+    return compressed;
+  }
+
+  private Buffer inflate(Buffer data, long maxLength) {
+    ByteBuffer input = ((BufferInternal) data).unwrap().nioBuffer(0, data.length()).order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      skipHeader(input);
+      crc.reset();
+      inflater.reset();
+      inflater.setInput(input);
+      BufferInternal decompressed = BufferInternal.buffer(data.length() << 1);
+      while (!inflater.finished()) {
+        int n = inflater.inflate(scratch);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new CodecException("Invalid GZIP input");
+        }
+        if (decompressed.length() + n > maxLength) {
+          throw new MessageSizeOverflowException(decompressed.length() + n);
+        }
+        crc.update(scratch, 0, n);
+        decompressed.appendBytes(scratch, 0, n);
+      }
+      if (input.remaining() < 8
+        || input.getInt() != (int) crc.getValue()
+        || input.getInt() != decompressed.length()) {
+        throw new CodecException("Invalid GZIP input");
+      }
+      return decompressed;
+    } catch (DataFormatException e) {
+      throw new CodecException(e);
+    } catch (RuntimeException e) {
+      if (e instanceof CodecException || e instanceof MessageSizeOverflowException) {
+        throw e;
+      }
+      throw new CodecException("Invalid GZIP input", e);
+    }
+  }
+
+  private static void skipHeader(ByteBuffer input) {
+    if (input.remaining() < HEADER.length
+      || input.get() != HEADER[0]
+      || input.get() != HEADER[1]
+      || input.get() != Deflater.DEFLATED) {
+      throw new CodecException("Invalid GZIP input");
+    }
+    int flags = input.get() & 0xFF;
+    // Modification time, extra flags and OS
+    input.position(input.position() + 6);
+    if ((flags & FEXTRA) != 0) {
+      int xlen = input.getShort() & 0xFFFF;
+      input.position(input.position() + xlen);
+    }
+    if ((flags & FNAME) != 0) {
+      while (input.get() != 0) {
+      }
+    }
+    if ((flags & FCOMMENT) != 0) {
+      while (input.get() != 0) {
+      }
+    }
+    if ((flags & FHCRC) != 0) {
+      input.position(input.position() + 2);
+    }
+  }
+}
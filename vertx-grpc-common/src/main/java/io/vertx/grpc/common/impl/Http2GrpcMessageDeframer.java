@@ -10,13 +10,27 @@
  */
 package io.vertx.grpc.common.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.MessageSizeOverflowException;
 import io.vertx.grpc.common.WireFormat;
 
+import java.util.List;
+
 /**
- * State machine that handles slicing the input to a message
+ * State machine that handles slicing the input to a message.
+ *
+ * <p>Incoming chunks are kept as components of a {@link CompositeByteBuf}, messages are sliced out of the components
+ * without copying and fully consumed components are discarded.</p>
+ *
+ * <p>The deframer never releases a chunk: the message payloads are slices of the chunks and outlive the deframer
+ * state, so a chunk must remain valid after {@link #update(Buffer)} returns, which holds for Vert.x buffers. Each chunk
+ * is added as an unreleasable component, releasing the composite buffer or discarding its read components does not
+ * free the memory the payloads point to.</p>
  */
 public class Http2GrpcMessageDeframer implements GrpcMessageDeframer {
 
@@ -24,7 +38,7 @@ public class Http2GrpcMessageDeframer implements GrpcMessageDeframer {
   private final WireFormat format;
   private long maxMessageSize;
 
-  private Buffer buffer;
+  private CompositeByteBuf buffer;
   private long bytesToSkip;
 
   public Http2GrpcMessageDeframer(String encoding, WireFormat format) {
@@ -47,23 +61,14 @@ public class Http2GrpcMessageDeframer implements GrpcMessageDeframer {
       chunk = chunk.slice((int) bytesToSkip, len);
       bytesToSkip = 0L;
     }
+    if (chunk.length() == 0) {
+      return;
+    }
     if (buffer == null) {
-      buffer = chunk;
-    } else {
-      try {
-        buffer.appendBuffer(chunk);
-      } catch (IndexOutOfBoundsException e) {
-        // Work around because we cannot happend to slices
-        //          java.lang.IndexOutOfBoundsException: writerIndex(270) + minWritableBytes(120) exceeds maxCapacity(270): UnpooledSlicedByteBuf(ridx: 0, widx: 270, cap: 270/270, unwrapped: VertxUnsafeHeapByteBuf(ridx: 0, widx: 0, cap: 270))
-        //          at io.netty.buffer@4.2.0.RC3/io.netty.buffer.AbstractByteBuf.ensureWritable0(AbstractByteBuf.java:294)
-        //          at io.netty.buffer@4.2.0.RC3/io.netty.buffer.AbstractByteBuf.ensureWritable(AbstractByteBuf.java:280)
-        //          at io.netty.buffer@4.2.0.RC3/io.netty.buffer.AbstractByteBuf.writeBytes(AbstractByteBuf.java:1103)
-        //          at io.vertx.core@5.0.0-SNAPSHOT/io.vertx.core.buffer.impl.BufferImpl.appendBuffer(BufferImpl.java:256)
-        //          at io.vertx.core@5.0.0-SNAPSHOT/io.vertx.core.buffer.impl.BufferImpl.appendBuffer(BufferImpl.java:41)
-        buffer = buffer.copy();
-        buffer.appendBuffer(chunk);
-      }
+      // Never consolidate, components are only released once fully read
+      buffer = Unpooled.compositeBuffer(Integer.MAX_VALUE);
     }
+    buffer.addComponent(true, Unpooled.unreleasableBuffer(((BufferInternal) chunk).getByteBuf()));
   }
 
   @Override
@@ -74,38 +79,58 @@ public class Http2GrpcMessageDeframer implements GrpcMessageDeframer {
     if (buffer == null) {
       return null;
     }
-    int idx = 0;
-    if (idx + 5 > buffer.length()) {
+    int readable = buffer.readableBytes();
+    if (readable < 5) {
       return null;
     }
+    int idx = buffer.readerIndex();
     long len = ((long) buffer.getInt(idx + 1)) & 0xFFFFFFFFL;
     if (len > maxMessageSize) {
       MessageSizeOverflowException msoe = new MessageSizeOverflowException(len);
-      if (buffer.length() < (len + 5)) {
-        bytesToSkip = (len + 5) - buffer.length();
-        buffer = null;
+      if (readable < (len + 5)) {
+        bytesToSkip = (len + 5) - readable;
+        buffer.skipBytes(readable);
       } else {
-        buffer = buffer.slice((int) (len + 5), buffer.length());
+        buffer.skipBytes((int) (len + 5));
       }
+      discardReadComponents();
       return msoe;
     }
-    if (len > buffer.length() - (idx + 5)) {
+    if (len > readable - 5) {
       return null;
     }
     boolean compressed = buffer.getByte(idx) == 1;
     if (compressed && encoding == null) {
       throw new UnsupportedOperationException("Handle me");
     }
-    Buffer payload = buffer.slice(idx + 5, (int) (idx + 5 + len));
+    Buffer payload = slice(idx + 5, (int) len);
     GrpcMessage message = GrpcMessage.message(compressed ? encoding : "identity", format, payload);
-    idx += 5 + (int) len;
-    if (idx < buffer.length()) {
-      if (idx > 0) {
-        buffer = buffer.getBuffer(idx, buffer.length());
-      }
+    buffer.skipBytes(5 + (int) len);
+    discardReadComponents();
+    return message;
+  }
+
+  /**
+   * Slice the composite buffer, the returned buffer references the components and not the composite buffer itself
+   * so it remains valid after the components are discarded from the composite buffer.
+   */
+  private Buffer slice(int offset, int length) {
+    if (length == 0) {
+      return Buffer.buffer();
+    }
+    List<ByteBuf> slices = buffer.decompose(offset, length);
+    if (slices.size() == 1) {
+      return BufferInternal.buffer(slices.get(0));
+    }
+    return BufferInternal.buffer(Unpooled.wrappedBuffer(slices.toArray(new ByteBuf[0])));
+  }
+
+  private void discardReadComponents() {
+    if (buffer.isReadable()) {
+      buffer.discardReadComponents();
     } else {
+      buffer.release();
       buffer = null;
     }
-    return message;
   }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.grpc.common.HistogramSnapshot;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A lock-free histogram of positive values with log-linear buckets, similar to HdrHistogram.</p>
+ *
+ * <p>Values are bucketed by power of two, each power of two is divided in {@code 8} linear sub-buckets which bounds the
+ * relative error of the percentiles to {@code 12.5%}. Recording a value does not allocate.</p>
+ */
+public final class LogHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  static final int BUCKETS = bucketIndex(Long.MAX_VALUE) + 1;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+  /**
+   * Record a {@code value}, negative values are recorded as {@code 0}.
+   */
+  public void record(long value) {
+    if (value < 0L) {
+      value = 0L;
+    }
+    buckets.incrementAndGet(bucketIndex(value));
+    count.increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * @return a snapshot of this histogram
+   */
+  public HistogramSnapshot snapshot() {
+    long[] counts = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+    }
+    return new HistogramSnapshot(counts, count.sum(), sum.sum(), max.get());
+  }
+
+  /**
+   * @return the index of the bucket of {@code value}
+   */
+  public static int bucketIndex(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  /**
+   * @return the highest value of the bucket at {@code index}
+   */
+  public static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long lower = ((long) SUB_BUCKETS + (index % SUB_BUCKETS)) << shift;
+    return lower + (1L << shift) - 1;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+import java.util.function.Function;
+
+/**
+ * Writes of pooled buffers.
+ */
+public final class PooledBuffers {
+
+  private PooledBuffers() {
+  }
+
+  /**
+   * Hand a pooled buffer to a write operation. The caller transfers the ownership of {@code pooled} to this method:
+   * the {@code writer} gets a view that cannot be released and {@code pooled} is released exactly once, when the write
+   * completes or when the {@code writer} throws.
+   *
+   * @param pooled the pooled buffer
+   * @param writer the write operation
+   * @return the future returned by the {@code writer}
+   */
+  public static Future<Void> write(ByteBuf pooled, Function<Buffer, Future<Void>> writer) {
+    Future<Void> fut;
+    try {
+      fut = writer.apply(BufferInternal.buffer(Unpooled.unreleasableBuffer(pooled)));
+    } catch (RuntimeException e) {
+      pooled.release();
+      throw e;
+    }
+    fut.onComplete(ar -> pooled.release());
+    return fut;
+  }
+}
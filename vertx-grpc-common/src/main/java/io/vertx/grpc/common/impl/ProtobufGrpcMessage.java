@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.WireFormat;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * An uncompressed protobuf message that is serialized lazily.
+ *
+ * <p>The outbound streams serialize the message along with its 5-byte prefix directly in a pooled direct buffer,
+ * see {@link #write(boolean, Function)}. The {@link #payload()} is only materialized for the code paths that need
+ * it, e.g. compression or gRPC-Web.</p>
+ */
+public class ProtobufGrpcMessage implements GrpcMessage {
+
+  private final MessageLite message;
+  private Buffer payload;
+
+  public ProtobufGrpcMessage(MessageLite message) {
+    this.message = message;
+  }
+
+  /**
+   * @return the protobuf message
+   */
+  public MessageLite message() {
+    return message;
+  }
+
+  @Override
+  public String encoding() {
+    return "identity";
+  }
+
+  @Override
+  public WireFormat format() {
+    return WireFormat.PROTOBUF;
+  }
+
+  @Override
+  public Buffer payload() {
+    if (payload == null) {
+      payload = Buffer.buffer(message.toByteArray());
+    }
+    return payload;
+  }
+
+  /**
+   * Serialize the length-prefixed message in a pooled direct buffer, the caller is responsible for releasing it.
+   *
+   * @param trailer whether this message is a gRPC-Web trailer
+   * @return the encoded message
+   */
+  public ByteBuf encode(boolean trailer) {
+    ByteBuf encoded = PooledByteBufAllocator.DEFAULT.directBuffer(5 + message.getSerializedSize());
+    try {
+      encodeTo(encoded, trailer);
+    } catch (CodecException e) {
+      encoded.release();
+      throw e;
+    }
+    return encoded;
+  }
+
+  /**
+   * Serialize the length-prefixed message at the writer index of {@code buffer}.
+   *
+   * @param buffer the buffer to write to
+   * @param trailer whether this message is a gRPC-Web trailer
+   */
+  public void encodeTo(ByteBuf buffer, boolean trailer) {
+    int len = message.getSerializedSize();
+    int start = buffer.writerIndex();
+    try {
+      buffer.ensureWritable(5 + len);
+      buffer.writeByte(trailer ? 0x80 : 0x00);
+      buffer.writeInt(len);
+      CodedOutputStream out = CodedOutputStream.newInstance(buffer.nioBuffer(start + 5, len));
+      message.writeTo(out);
+      out.checkNoSpaceLeft();
+      buffer.writerIndex(start + 5 + len);
+    } catch (IOException | RuntimeException e) {
+      buffer.writerIndex(start);
+      throw new CodecException(e);
+    }
+  }
+
+  /**
+   * Encode the message and hand it to the {@code writer}, the pooled buffer is released when the write completes.
+   *
+   * @param trailer whether this message is a gRPC-Web trailer
+   * @param writer the write operation
+   * @return the future returned by the {@code writer}
+   */
+  public Future<Void> write(boolean trailer, Function<Buffer, Future<Void>> writer) {
+    return PooledBuffers.write(encode(trailer), writer);
+  }
+}
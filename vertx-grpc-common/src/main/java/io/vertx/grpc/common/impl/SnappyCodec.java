@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.compression.Snappy;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+
+/**
+ * Snappy compression using the raw block format of Netty {@link Snappy}.
+ */
+public final class SnappyCodec {
+
+  public static final GrpcCompressor COMPRESSOR = new GrpcCompressor() {
+    @Override
+    public String encoding() {
+      return "snappy";
+    }
+    @Override
+    public Buffer compress(Buffer payload) {
+      return SnappyCodec.compress(payload);
+    }
+    @Override
+    public Buffer decompress(Buffer payload) {
+      return SnappyCodec.decompress(payload, Long.MAX_VALUE);
+    }
+    @Override
+    public Buffer decompress(Buffer payload, long maxLength) {
+      return SnappyCodec.decompress(payload, maxLength);
+    }
+  };
+
+  private SnappyCodec() {
+  }
+
+  private static Buffer compress(Buffer data) {
+    int len = data.length();
+    BufferInternal compressed = BufferInternal.buffer(len + (len / 6) + 32);
+    new Snappy().encode(((BufferInternal) data).getByteBuf(), compressed.unwrap(), len);
+    return compressed;
+  }
+
+  private static Buffer decompress(Buffer data, long maxLength) {
+    int length = uncompressedLength(data);
+    if (length > maxLength) {
+      // Rejected on the declared length before allocating anything
+      throw new MessageSizeOverflowException(length);
+    }
+    ByteBuf input = ((BufferInternal) data).getByteBuf();
+    BufferInternal decompressed = BufferInternal.buffer(data.length() << 1);
+    try {
+      new Snappy().decode(input, decompressed.unwrap());
+    } catch (DecompressionException | IndexOutOfBoundsException e) {
+      throw new CodecException(e);
+    }
+    if (input.isReadable() || decompressed.length() != length) {
+      throw new CodecException("Invalid snappy input");
+    }
+    return decompressed;
+  }
+
+  /**
+   * @return the uncompressed length carried by the varint preamble
+   */
+  private static int uncompressedLength(Buffer data) {
+    int length = 0;
+    for (int i = 0; i < 5 && i < data.length(); i++) {
+      int b = data.getByte(i);
+      length |= (b & 0x7F) << (7 * i);
+      if ((b & 0x80) == 0) {
+        return length;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+
+import java.io.IOException;
+
+/**
+ * Zstandard compression, this requires the optional {@code com.github.luben:zstd-jni} dependency.
+ */
+public final class ZstdCodec implements GrpcCompressor {
+
+  public static final int DEFAULT_LEVEL = 1;
+
+  private static final int SCRATCH_SIZE = 8192;
+
+  private final int level;
+
+  public ZstdCodec(int level) {
+    this.level = level;
+  }
+
+  @Override
+  public String encoding() {
+    return "zstd";
+  }
+
+  @Override
+  public Buffer compress(Buffer payload) throws CodecException {
+    try {
+      return Buffer.buffer(Zstd.compress(payload.getBytes(), level));
+    } catch (ZstdException e) {
+      throw new CodecException(e);
+    }
+  }
+
+  @Override
+  public Buffer decompress(Buffer payload) throws CodecException {
+    return decompress(payload, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public Buffer decompress(Buffer payload, long maxLength) throws CodecException {
+    ByteBuf input = ((BufferInternal) payload).getByteBuf();
+    // The content size of the frame header is optional and cannot be trusted, decompress in bounded steps instead
+    BufferInternal decompressed = BufferInternal.buffer((int) Math.min((long) payload.length() << 1, maxLength));
+    byte[] scratch = new byte[SCRATCH_SIZE];
+    try (ZstdInputStreamNoFinalizer in = new ZstdInputStreamNoFinalizer(new ByteBufInputStream(input))) {
+      int n;
+      while ((n = in.read(scratch)) != -1) {
+        if (decompressed.length() + n > maxLength) {
+          throw new MessageSizeOverflowException(decompressed.length() + n);
+        }
+        decompressed.appendBytes(scratch, 0, n);
+      }
+    } catch (IOException e) {
+      throw new CodecException(e);
+    }
+    return decompressed;
+  }
+}
@@ -1,6 +1,7 @@
 module io.vertx.grpc.common {
 
   requires static io.vertx.codegen.api;
+  requires static com.github.luben.zstd_jni;
 
   requires io.vertx.core;
   requires io.netty.common;
@@ -0,0 +1,45 @@
+package io.vertx.benchmarks.common;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.tests.common.grpc.Reply;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GrpcMessageDecoderBenchmark {
+
+  @Param({"64", "4096", "1048576"})
+  public int messageSize;
+
+  private GrpcMessage message;
+  private GrpcMessageDecoder<Reply> decoder;
+
+  @Setup
+  public void setup() {
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < messageSize) {
+      sb.append('a');
+    }
+    Reply reply = Reply.newBuilder().setMessage(sb.toString()).build();
+    message = GrpcMessage.message("identity", Buffer.buffer(reply.toByteArray()));
+    decoder = GrpcMessageDecoder.decoder(Reply.newBuilder());
+  }
+
+  @Benchmark
+  public Reply getBytes() throws Exception {
+    return Reply.parseFrom(message.payload().getBytes());
+  }
+
+  @Benchmark
+  public Reply decoder() {
+    return decoder.decode(message);
+  }
+}
@@ -0,0 +1,68 @@
+package io.vertx.benchmarks.common;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.impl.Http2GrpcMessageDeframer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Http2GrpcMessageDeframerBenchmark {
+
+  /**
+   * Max HTTP/2 DATA frame size with the default settings.
+   */
+  private static final int MAX_CHUNK_SIZE = 16 * 1024;
+
+  @Param({"1024", "16384", "262144", "4194304"})
+  public int messageSize;
+
+  @Param({"4"})
+  public int messages;
+
+  private List<Buffer> chunks;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(0);
+    byte[] bytes = new byte[messageSize];
+    random.nextBytes(bytes);
+    Buffer stream = Buffer.buffer();
+    for (int i = 0; i < messages; i++) {
+      stream.appendBuffer(DefaultGrpcMessage.encode(GrpcMessage.message("identity", Buffer.buffer(bytes))));
+    }
+    chunks = new ArrayList<>();
+    int pos = 0;
+    while (pos < stream.length()) {
+      int size = Math.min(1 + random.nextInt(MAX_CHUNK_SIZE), stream.length() - pos);
+      chunks.add(stream.getBuffer(pos, pos + size));
+      pos += size;
+    }
+  }
+
+  @Benchmark
+  public void deframe(Blackhole blackhole) {
+    Http2GrpcMessageDeframer deframer = new Http2GrpcMessageDeframer("identity", WireFormat.PROTOBUF);
+    deframer.maxMessageSize(Integer.MAX_VALUE);
+    for (Buffer chunk : chunks) {
+      deframer.update(chunk);
+      Object ret;
+      while ((ret = deframer.next()) != null) {
+        blackhole.consume(ret);
+      }
+    }
+    deframer.end();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressionPolicy;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+import io.vertx.grpc.common.impl.AdaptiveCompression;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GrpcCompressorTest {
+
+  private static final List<GrpcCompressor> COMPRESSORS = Arrays.asList(
+    GrpcCompressor.gzip(),
+    GrpcCompressor.deflate(),
+    GrpcCompressor.snappy(),
+    GrpcCompressor.zstd());
+
+  private static Buffer data(int len) {
+    Buffer buffer = Buffer.buffer();
+    while (buffer.length() < len) {
+      buffer.appendString("Hello World ");
+    }
+    return buffer.getBuffer(0, len);
+  }
+
+  @Test
+  public void testRoundTrip() {
+    for (GrpcCompressor compressor : COMPRESSORS) {
+      for (int len : new int[] { 0, 11, 65536 }) {
+        Buffer data = data(len);
+        Buffer compressed = compressor.compress(data);
+        if (len > 1024) {
+          assertTrue(compressor.encoding(), compressed.length() < len);
+        }
+        assertEquals(compressor.encoding(), data, compressor.decompress(compressed));
+      }
+    }
+  }
+
+  @Test
+  public void testDecompressInvalid() {
+    for (GrpcCompressor compressor : COMPRESSORS) {
+      try {
+        compressor.decompress(Buffer.buffer("not compressed"));
+        fail(compressor.encoding());
+      } catch (CodecException expected) {
+      }
+    }
+  }
+
+  @Test
+  public void testDecompressOverflow() {
+    Buffer data = data(65536);
+    for (GrpcCompressor compressor : COMPRESSORS) {
+      Buffer compressed = compressor.compress(data);
+      assertEquals(compressor.encoding(), data, compressor.decompress(compressed, data.length()));
+      try {
+        compressor.decompress(compressed, 1024);
+        fail(compressor.encoding());
+      } catch (MessageSizeOverflowException expected) {
+        assertTrue(compressor.encoding(), expected.messageSize() > 1024);
+      }
+    }
+  }
+
+  @Test
+  public void testRegistry() {
+    GrpcCompressorRegistry registry = GrpcCompressorRegistry.create(COMPRESSORS);
+    assertEquals("gzip,deflate,snappy,zstd", registry.acceptEncoding());
+    assertSame(COMPRESSORS.get(1), registry.lookup("deflate"));
+    assertNull(registry.lookup("identity"));
+    assertNull(GrpcCompressorRegistry.create(List.of()).acceptEncoding());
+    assertEquals("gzip", GrpcCompressorRegistry.DEFAULT.acceptEncoding());
+  }
+
+  @Test
+  public void testAdaptiveCompression() {
+    AdaptiveCompression adaptive = new AdaptiveCompression(new GrpcCompressionPolicy()
+      .setMinSize(16)
+      .setMaxRatio(0.9)
+      .setSampleSize(2)
+      .setProbeInterval(3));
+    GrpcCompressor gzip = GrpcCompressor.gzip();
+    assertFalse(adaptive.shouldCompress(15));
+    byte[] random = new byte[1024];
+    new Random(0).nextBytes(random);
+    Buffer incompressible = Buffer.buffer(random);
+    for (int i = 0; i < 2; i++) {
+      assertTrue(adaptive.shouldCompress(incompressible.length()));
+      adaptive.compress(gzip, incompressible);
+    }
+    // Poor ratio, compression is turned off until it is probed again
+    for (int i = 0; i < 3; i++) {
+      assertFalse(adaptive.shouldCompress(incompressible.length()));
+    }
+    assertTrue(adaptive.shouldCompress(incompressible.length()));
+    assertEquals(2, adaptive.compressedMessages());
+    assertEquals(4, adaptive.skippedMessages());
+    assertEquals(2048, adaptive.uncompressedBytes());
+    assertTrue(adaptive.bytesSaved() < 0);
+    assertTrue(adaptive.compressionNanos() > 0);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
+import io.vertx.tests.common.grpc.Reply;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class GrpcMessageDecoderTest {
+
+  private static final Reply REPLY = Reply.newBuilder().setMessage("Hello World").build();
+
+  private final GrpcMessageDecoder<Reply> decoder = GrpcMessageDecoder.decoder(Reply.newBuilder());
+
+  @Test
+  public void testDecodeUnserializedMessage() {
+    assertSame(REPLY, decoder.decode(new ProtobufGrpcMessage(REPLY)));
+  }
+
+  @Test
+  public void testDecodeHeapBuffer() {
+    assertEquals(REPLY, decoder.decode(GrpcMessage.message("identity", Buffer.buffer(REPLY.toByteArray()))));
+  }
+
+  @Test
+  public void testDecodeSlice() {
+    Buffer buffer = Buffer.buffer().appendString("abc").appendBytes(REPLY.toByteArray()).appendString("def");
+    Buffer payload = buffer.slice(3, buffer.length() - 3);
+    assertEquals(REPLY, decoder.decode(GrpcMessage.message("identity", payload)));
+  }
+
+  @Test
+  public void testDecodeDirectBuffer() {
+    byte[] bytes = REPLY.toByteArray();
+    ByteBuf direct = Unpooled.directBuffer(bytes.length).writeBytes(bytes);
+    assertEquals(REPLY, decoder.decode(GrpcMessage.message("identity", BufferInternal.buffer(direct))));
+  }
+
+  @Test
+  public void testDecodeCompositeBuffer() {
+    byte[] bytes = REPLY.toByteArray();
+    ByteBuf composite = Unpooled.wrappedBuffer(
+      Unpooled.wrappedBuffer(bytes, 0, 4),
+      Unpooled.directBuffer().writeBytes(bytes, 4, bytes.length - 4));
+    assertEquals(REPLY, decoder.decode(GrpcMessage.message("identity", BufferInternal.buffer(composite))));
+  }
+
+  @Test
+  public void testDecodeInvalid() {
+    try {
+      decoder.decode(GrpcMessage.message("identity", Buffer.buffer(new byte[] { (byte) 0xFF, (byte) 0xFF })));
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.impl.GzipCodec;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class GzipCodecTest {
+
+  private static byte[] randomBytes(int len) {
+    byte[] bytes = new byte[len];
+    Random random = new Random(0);
+    for (int i = 0; i < len; i++) {
+      // Compressible data
+      bytes[i] = (byte) ('a' + random.nextInt(4));
+    }
+    return bytes;
+  }
+
+  @Test
+  public void testRoundTrip() {
+    for (int len : new int[] { 0, 1, 1024, 65536 }) {
+      Buffer data = Buffer.buffer(randomBytes(len));
+      Buffer compressed = GzipCodec.compress(data);
+      assertEquals(data, GzipCodec.decompress(compressed));
+      // The codec is reused
+      assertEquals(compressed, GzipCodec.compress(data));
+    }
+  }
+
+  @Test
+  public void testCompressInterop() throws IOException {
+    byte[] bytes = randomBytes(65536);
+    Buffer compressed = GzipCodec.compress(Buffer.buffer(bytes));
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.getBytes()))) {
+      assertArrayEquals(bytes, in.readAllBytes());
+    }
+  }
+
+  @Test
+  public void testDecompressInterop() throws IOException {
+    byte[] bytes = randomBytes(65536);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(baos)) {
+      out.write(bytes);
+    }
+    assertEquals(Buffer.buffer(bytes), GzipCodec.decompress(Buffer.buffer(baos.toByteArray())));
+  }
+
+  @Test
+  public void testDecompressInvalid() {
+    Buffer compressed = GzipCodec.compress(Buffer.buffer(randomBytes(1024)));
+    Buffer[] invalids = {
+      Buffer.buffer("not gzip"),
+      compressed.getBuffer(0, compressed.length() - 4),
+      compressed.getBuffer(0, compressed.length() / 2)
+    };
+    for (Buffer invalid : invalids) {
+      try {
+        GzipCodec.decompress(invalid);
+        fail();
+      } catch (CodecException expected) {
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.Http2GrpcMessageDeframer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class Http2GrpcMessageDeframerTest {
+
+  private static Http2GrpcMessageDeframer deframer(long maxMessageSize) {
+    Http2GrpcMessageDeframer deframer = new Http2GrpcMessageDeframer(null, WireFormat.PROTOBUF);
+    deframer.maxMessageSize(maxMessageSize);
+    return deframer;
+  }
+
+  private static Buffer frame(Buffer payload) {
+    return Buffer.buffer().appendByte((byte) 0).appendInt(payload.length()).appendBuffer(payload);
+  }
+
+  private static Buffer payload(int length) {
+    Buffer payload = Buffer.buffer(length);
+    for (int i = 0; i < length; i++) {
+      payload.appendByte((byte) i);
+    }
+    return payload;
+  }
+
+  private static void update(Http2GrpcMessageDeframer deframer, Buffer data, int chunkSize) {
+    for (int pos = 0; pos < data.length(); pos += chunkSize) {
+      deframer.update(data.slice(pos, Math.min(pos + chunkSize, data.length())));
+    }
+  }
+
+  @Test
+  public void testPrefixSplitAcrossChunks() {
+    Http2GrpcMessageDeframer deframer = deframer(1024);
+    Buffer payload = payload(16);
+    Buffer frame = frame(payload);
+    deframer.update(frame.slice(0, 2));
+    assertNull(deframer.next());
+    deframer.update(frame.slice(2, 4));
+    assertNull(deframer.next());
+    deframer.update(frame.slice(4, frame.length()));
+    GrpcMessage message = (GrpcMessage) deframer.next();
+    assertEquals("identity", message.encoding());
+    assertEquals(payload, message.payload());
+    assertNull(deframer.next());
+  }
+
+  @Test
+  public void testMessageSpanningManyChunks() {
+    Http2GrpcMessageDeframer deframer = deframer(4096);
+    Buffer first = payload(1000);
+    Buffer second = payload(3);
+    Buffer data = frame(first).appendBuffer(frame(second));
+    int chunkSize = 7;
+    int pos = 0;
+    for (; pos + chunkSize < 1005; pos += chunkSize) {
+      deframer.update(data.slice(pos, pos + chunkSize));
+      assertNull(deframer.next());
+    }
+    deframer.update(data.slice(pos, data.length()));
+    GrpcMessage message1 = (GrpcMessage) deframer.next();
+    GrpcMessage message2 = (GrpcMessage) deframer.next();
+    assertNull(deframer.next());
+    // The payloads remain valid after the chunks are discarded
+    assertEquals(first, message1.payload());
+    assertEquals(second, message2.payload());
+  }
+
+  @Test
+  public void testZeroLengthMessages() {
+    Http2GrpcMessageDeframer deframer = deframer(1024);
+    Buffer payload = payload(4);
+    deframer.update(frame(Buffer.buffer()).appendBuffer(frame(Buffer.buffer())).appendBuffer(frame(payload)));
+    assertEquals(0, ((GrpcMessage) deframer.next()).payload().length());
+    assertEquals(0, ((GrpcMessage) deframer.next()).payload().length());
+    assertEquals(payload, ((GrpcMessage) deframer.next()).payload());
+    assertNull(deframer.next());
+  }
+
+  @Test
+  public void testSkipOversizedMessageAcrossChunks() {
+    Http2GrpcMessageDeframer deframer = deframer(64);
+    Buffer payload = payload(8);
+    Buffer data = frame(payload(1000)).appendBuffer(frame(payload));
+    deframer.update(data.slice(0, 16));
+    Object overflow = deframer.next();
+    assertTrue(overflow instanceof MessageSizeOverflowException);
+    assertNull(deframer.next());
+    // The remaining bytes of the oversized message are skipped, the next message starts within a chunk
+    update(deframer, data.slice(16, data.length()), 16);
+    assertEquals(payload, ((GrpcMessage) deframer.next()).payload());
+    assertNull(deframer.next());
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.common;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
+import io.vertx.tests.common.grpc.Reply;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ProtobufGrpcMessageTest {
+
+  private static final Reply REPLY = Reply.newBuilder().setMessage("Hello World").build();
+
+  @Test
+  public void testEncoder() {
+    GrpcMessage message = GrpcMessageEncoder.<Reply>encoder().encode(REPLY, WireFormat.PROTOBUF);
+    assertTrue(message instanceof ProtobufGrpcMessage);
+    assertEquals("identity", message.encoding());
+    assertEquals(WireFormat.PROTOBUF, message.format());
+    assertEquals(Buffer.buffer(REPLY.toByteArray()), message.payload());
+  }
+
+  @Test
+  public void testEncode() {
+    ProtobufGrpcMessage message = new ProtobufGrpcMessage(REPLY);
+    Buffer expected = DefaultGrpcMessage.encode(GrpcMessage.message("identity", Buffer.buffer(REPLY.toByteArray())));
+    ByteBuf encoded = message.encode(false);
+    try {
+      assertTrue(encoded.isDirect());
+      assertEquals(expected, BufferInternal.buffer(encoded.copy()));
+    } finally {
+      encoded.release();
+    }
+  }
+
+  @Test
+  public void testReleaseAfterWrite() {
+    ProtobufGrpcMessage message = new ProtobufGrpcMessage(REPLY);
+    Promise<Void> promise = Promise.promise();
+    AtomicReference<ByteBuf> written = new AtomicReference<>();
+    Future<Void> fut = message.write(false, buffer -> {
+      written.set(((BufferInternal) buffer).unwrap());
+      return promise.future();
+    });
+    assertEquals(1, written.get().refCnt());
+    promise.complete();
+    assertTrue(fut.succeeded());
+    assertEquals(0, written.get().refCnt());
+  }
+}
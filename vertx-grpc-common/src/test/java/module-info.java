@@ -1,5 +1,6 @@
 open module io.vertx.tests.common {
   requires io.vertx.core;
+  requires io.netty.buffer;
   requires io.vertx.grpc.common;
   requires io.vertx.testing.unit;
   requires junit;
@@ -8,6 +9,8 @@ open module io.vertx.tests.common {
   requires io.grpc;
   requires io.grpc.protobuf;
   requires io.grpc.stub;
+  requires com.github.luben.zstd_jni;
+  requires jmh.core;
   exports io.vertx.tests.common;
   exports io.vertx.tests.common.grpc;
 }
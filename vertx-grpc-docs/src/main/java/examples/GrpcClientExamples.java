@@ -15,6 +15,8 @@ import io.vertx.docgen.Source;
 import io.vertx.grpc.client.*;
 import io.vertx.grpc.common.*;
 
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.concurrent.TimeUnit;
 
 @Source
@@ -69,6 +71,19 @@ public class GrpcClientExamples {
       });
   }
 
+  public void unaryCall(GrpcClient client, SocketAddress server) {
+    CallOptions options = new CallOptions()
+      .setServer(server)
+      .setTimeout(5)
+      .setTimeoutUnit(TimeUnit.SECONDS)
+      .addHeader("x-request-id", "1234");
+    client
+      .call(GreeterGrpcClient.SayHello, HelloRequest.newBuilder().setName("Bob").build(), options)
+      .onSuccess(reply -> {
+        System.out.println("Received " + reply.getMessage());
+      });
+  }
+
   public void streamingRequest(GrpcClient client, SocketAddress server) {
     client
       .request(server, StreamingGrpcClient.Sink)
@@ -249,6 +264,34 @@ public class GrpcClientExamples {
 
   }
 
+  public void hedging(Vertx vertx, SocketAddress server) {
+
+    GrpcClient client = GrpcClient.client(vertx, new GrpcClientOptions()
+      .setHedgingPolicy(new GrpcHedgingPolicy()
+        // Send up to 3 attempts
+        .setMaxAttempts(3)
+        // Use the 95th percentile of the observed latency as delay
+        .setDelayPercentile(95))
+      // Hedged attempts add at most 5% of calls
+      .setHedgingBudget(0.05));
+
+    Future<HelloReply> reply = client.call(server, GreeterGrpcClient.SayHello, HelloRequest.newBuilder().setName("Bob").build());
+  }
+
+  public void retries(Vertx vertx, SocketAddress server) {
+
+    GrpcClient client = GrpcClient.client(vertx, new GrpcClientOptions()
+      .setRetryPolicy(new GrpcRetryPolicy()
+        // Send up to 4 attempts
+        .setMaxAttempts(4)
+        .setInitialBackoff(Duration.ofMillis(50))
+        .setRetryableStatusCodes(EnumSet.of(GrpcStatus.UNAVAILABLE, GrpcStatus.RESOURCE_EXHAUSTED)))
+      // Replay at most 64KB of request messages
+      .setRetryBufferSize(64 * 1024));
+
+    Future<HelloReply> reply = client.call(server, GreeterGrpcClient.SayHello, HelloRequest.newBuilder().setName("Bob").build());
+  }
+
   public void protobufLevelAPI(GrpcClient client, Buffer protoHello, SocketAddress server) {
 
     Future<GrpcClientRequest<Buffer, Buffer>> requestFut = client.request(server);
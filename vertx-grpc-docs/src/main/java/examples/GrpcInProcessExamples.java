@@ -0,0 +1,43 @@
+package examples;
+
+import examples.grpc.*;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.docgen.Source;
+import io.vertx.grpc.inprocess.InProcessGrpcClient;
+import io.vertx.grpc.inprocess.InProcessGrpcClientOptions;
+import io.vertx.grpc.inprocess.InProcessGrpcServer;
+import io.vertx.grpc.server.GrpcServer;
+
+@Source
+public class GrpcInProcessExamples {
+
+  public void bindServer(Vertx vertx) {
+    GrpcServer server = GrpcServer.server(vertx);
+
+    server.addService(GreeterGrpcService.of(new GreeterService() {
+      @Override
+      public Future<HelloReply> sayHello(HelloRequest request) {
+        return Future.succeededFuture(HelloReply.newBuilder()
+          .setMessage("Hello " + request.getName())
+          .build());
+      }
+    }));
+
+    InProcessGrpcServer.bind(vertx, "greeter", server);
+  }
+
+  public void clientWithService(Vertx vertx) {
+    InProcessGrpcClient client = InProcessGrpcClient.client(vertx, "greeter");
+
+    GreeterClient greeter = GreeterGrpcClient.create(client);
+
+    greeter.sayHello(HelloRequest.newBuilder().setName("World").build())
+      .onSuccess(reply -> System.out.println("Received: " + reply.getMessage()));
+  }
+
+  public void copyMessages(Vertx vertx) {
+    InProcessGrpcClient client = InProcessGrpcClient.client(vertx, "greeter", new InProcessGrpcClientOptions()
+      .setCopyMessages(true));
+  }
+}
@@ -3,6 +3,8 @@ package examples;
 import examples.grpc.*;
 import io.vertx.core.Completable;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServer;
@@ -14,9 +16,14 @@ import io.vertx.core.streams.WriteStream;
 import io.vertx.docgen.Source;
 import io.vertx.grpc.common.*;
 import io.vertx.grpc.health.HealthService;
+import io.vertx.grpc.health.HealthServiceOptions;
 import io.vertx.grpc.reflection.ReflectionService;
 import io.vertx.grpc.server.*;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
 @Source
 public class GrpcServerExamples {
 
@@ -59,6 +66,16 @@ public class GrpcServerExamples {
     });
   }
 
+  public void unaryCallHandler(GrpcServer server) {
+
+    server.unaryCallHandler(GreeterGrpcService.SayHello, hello -> {
+
+      HelloReply reply = HelloReply.newBuilder().setMessage("Hello " + hello.getName()).build();
+
+      return Future.succeededFuture(reply);
+    });
+  }
+
   public void streamingRequest(GrpcServer server) {
 
     server.callHandler(StreamingGrpcService.Sink, request -> {
@@ -89,6 +106,16 @@ public class GrpcServerExamples {
     });
   }
 
+  public void streamingResponseBatch(GrpcServer server, List<Item> items) {
+
+    server.callHandler(StreamingGrpcService.Source, request -> {
+      GrpcServerResponse<Empty, Item> response = request.response();
+      request.handler(empty -> {
+        response.endAll(items);
+      });
+    });
+  }
+
   public void bidi(GrpcServer server) {
 
     server.callHandler(StreamingGrpcService.Pipe, request -> {
@@ -153,6 +180,83 @@ public class GrpcServerExamples {
     );
   }
 
+  public void concurrencyLimitPolicy(Vertx vertx, ServiceMethod<HelloRequest, HelloReply> serviceMethod) {
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+      .setConcurrencyLimitPolicy(new GrpcConcurrencyLimitPolicy()
+        .setInitialLimit(50)
+        .setMaxLimit(500)));
+
+    // Use a different policy for this method
+    serviceMethod = serviceMethod.withConcurrencyLimitPolicy(new GrpcConcurrencyLimitPolicy().setMaxLimit(10));
+    server.callHandler(serviceMethod, request -> {
+      // ...
+    });
+
+    GrpcConcurrencyLimitStats stats = server.concurrencyLimitStats(serviceMethod);
+    System.out.println("Limit " + stats.limit() + ", rejected " + stats.rejectedCalls());
+  }
+
+  public void admissionPolicy(Vertx vertx) {
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+      .setConcurrencyLimitPolicy(new GrpcConcurrencyLimitPolicy())
+      .setAdmissionPolicy(new GrpcAdmissionPolicy()
+        .setMaxQueueSize(256)
+        // Calls need at least 20ms to be processed
+        .setMinBudget(Duration.ofMillis(20))));
+  }
+
+  public void overloadPolicy(Vertx vertx) {
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+      .setOverloadPolicy(new GrpcOverloadPolicy()
+        .setMaxLag(Duration.ofMillis(50))
+        .setRetryPushback(Duration.ofMillis(500))));
+
+    // Report NOT_SERVING while the server is overloaded
+    server.addService(HealthService.create(vertx, new HealthServiceOptions().setReportOverload(true)));
+  }
+
+  public void threadingModel(GrpcServer server) {
+    Service service = Service.service(StreamingGrpcService.SERVICE_NAME, StreamingGrpcService.SERVICE_DESCRIPTOR)
+      .bind(StreamingGrpcService.Pipe, request -> {
+        BlockingServerCall<Item, Item> call = BlockingServerCall.create(request);
+        Item item;
+        while ((item = call.read()) != null) {
+          // Blocks while the response cannot be written
+          call.write(item);
+        }
+        call.end();
+      })
+      .threadingModel(ThreadingModel.WORKER)
+      .build();
+
+    server.addService(service);
+  }
+
+  public void blockingService(GrpcServer server) {
+    server.addService(GreeterBlockingGrpcService.of(new GreeterBlockingGrpcService() {
+      @Override
+      public HelloReply sayHello(HelloRequest request) {
+        return HelloReply.newBuilder()
+          .setMessage("Hello " + request.getName())
+          .build();
+      }
+    }));
+  }
+
+  public void bulkheadPolicy(GrpcServer server, Handler<GrpcServerRequest<HelloRequest, HelloReply>> handler) {
+    Service service = Service.service(GreeterGrpcService.SERVICE_NAME, GreeterGrpcService.SERVICE_DESCRIPTOR)
+      .bind(GreeterGrpcService.SayHello, handler)
+      .bulkheadPolicy(new GrpcBulkheadPolicy("greeter-pool")
+        .setMaxInFlight(8)
+        .setMaxQueueSize(32))
+      .build();
+
+    server.addService(service);
+
+    GrpcBulkheadStats stats = server.bulkheadStats("greeter-pool");
+    System.out.println("Queued calls: " + stats.queued() + ", rejected calls: " + stats.rejectedCalls());
+  }
+
   public void anemicJson(GrpcServer server) {
     ServiceMethod<JsonObject, JsonObject> sayHello = ServiceMethod.server(
       ServiceName.create("helloworld", "Greeter"),
@@ -179,6 +283,26 @@ public class GrpcServerExamples {
     response.write(Item.newBuilder().setValue("item-3").build());
   }
 
+  public void compressionPolicy(Vertx vertx, ServiceMethod<Empty, Item> serviceMethod) {
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+      .setCompressionPolicy(new GrpcCompressionPolicy()
+        .setMinSize(1024)));
+
+    // Use a different policy for this method
+    server.callHandler(serviceMethod.withCompressionPolicy(new GrpcCompressionPolicy().setMaxRatio(0.5)), request -> {
+      // ...
+    });
+  }
+
+  public void coalescingPolicy(Vertx vertx) {
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+      .setCoalescingPolicy(new GrpcCoalescingPolicy()
+        .setMaxBytes(8192)
+        .setMaxMessages(32)
+        // Delay a message by at most 200 microseconds
+        .setLinger(Duration.of(200, ChronoUnit.MICROS))));
+  }
+
   public void protobufLevelAPI(GrpcServer server) {
 
     ServiceName greeterServiceName = ServiceName.create("helloworld", "Greeter");
@@ -0,0 +1,107 @@
+package examples.grpc;
+
+import io.vertx.core.ThreadingModel;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.server.BlockingServerCall;
+import io.vertx.grpc.server.BlockingServiceMethodInvoker;
+import io.vertx.grpc.server.ServiceMethodInvoker;
+import io.vertx.grpc.server.UnaryServiceMethodInvoker;
+import io.vertx.grpc.server.Service;
+import io.vertx.grpc.server.StatusException;
+
+import com.google.protobuf.Descriptors;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Provides support for blocking RPC methods implementations of the Greeter gRPC service, the methods are
+ * invoked on a virtual thread or a worker thread.</p>
+ *
+ * <p>The following methods of this interface should be overridden to provide an implementation of the service:</p>
+ * <ul>
+ *   <li>SayHello</li>
+ * </ul>
+ */
+public interface GreeterBlockingGrpcService {
+
+  /**
+   * @return a service binding all methods of the given {@code service}, invoked on virtual threads
+   */
+  static Service of(GreeterBlockingGrpcService service) {
+    return of(service, ThreadingModel.VIRTUAL_THREAD);
+  }
+
+  /**
+   * @return a service binding all methods of the given {@code service}, invoked with the given {@code threadingModel}
+   */
+  static Service of(GreeterBlockingGrpcService service, ThreadingModel threadingModel) {
+    if (threadingModel == ThreadingModel.EVENT_LOOP) {
+      throw new IllegalArgumentException("A blocking service cannot be invoked on the event loop");
+    }
+    return new Invoker(Objects.requireNonNull(service), Objects.requireNonNull(threadingModel));
+  }
+
+  /**
+   * Override this method to implement the SayHello RPC.
+   */
+  default examples.grpc.HelloReply sayHello(examples.grpc.HelloRequest request) throws Exception {
+    throw new UnsupportedOperationException("Not implemented");
+  }
+
+  /**
+   * The service binding the methods of this interface.
+   */
+  final class Invoker implements Service {
+
+    private final GreeterBlockingGrpcService instance;
+    private final ThreadingModel threadingModel;
+    private final List<ServiceMethod<?, ?>> serviceMethods = GreeterGrpcService.all();
+
+    private Invoker(GreeterBlockingGrpcService instance, ThreadingModel threadingModel) {
+      this.instance = instance;
+      this.threadingModel = threadingModel;
+    }
+
+    @Override
+    public ServiceName name() {
+      return GreeterGrpcService.SERVICE_NAME;
+    }
+
+    @Override
+    public Descriptors.ServiceDescriptor descriptor() {
+      return GreeterGrpcService.SERVICE_DESCRIPTOR;
+    }
+
+    @Override
+    public List<ServiceMethod<?, ?>> methods() {
+      return serviceMethods;
+    }
+
+    @Override
+    public ThreadingModel threadingModel(ServiceMethod<?, ?> method) {
+      return threadingModel;
+    }
+
+    @Override
+    public <Req, Resp> ServiceMethodInvoker<Req, Resp> invoker(ServiceMethod<Req, Resp> method) {
+      if (GreeterGrpcService.SayHello == method) {
+        UnaryServiceMethodInvoker<examples.grpc.HelloRequest, examples.grpc.HelloReply> handler = (request, completion) -> {
+          examples.grpc.HelloReply reply;
+          try {
+            reply = instance.sayHello(request);
+          } catch (Exception e) {
+            completion.complete(null, e);
+            return;
+          }
+          completion.complete(reply, null);
+        };
+        ServiceMethodInvoker<?, ?> handler2 = handler;
+        return (ServiceMethodInvoker<Req, Resp>) handler2;
+      }
+      return Service.super.invoker(method);
+    }
+  }
+}
@@ -41,6 +41,13 @@ public interface GreeterGrpcClient extends GreeterClient {
       public <Req, Resp> Future<io.vertx.grpc.client.GrpcClientRequest<Req, Resp>> invoker(ServiceMethod<Resp, Req> method) {
         return client.request(host, method);
       }
+      @Override
+      public <Req, Resp> Future<Resp> call(ServiceMethod<Resp, Req> method, Req message, io.vertx.grpc.common.WireFormat format) {
+        if (format == io.vertx.grpc.common.WireFormat.PROTOBUF) {
+          return client.call(host, method, message);
+        }
+        return ServiceInvoker.super.call(method, message, format);
+      }
     });
   }
 
@@ -58,6 +65,13 @@ public interface GreeterGrpcClient extends GreeterClient {
       public <Req, Resp> Future<io.vertx.grpc.client.GrpcClientRequest<Req, Resp>> invoker(ServiceMethod<Resp, Req> method) {
         return client.request(host, method);
       }
+      @Override
+      public <Req, Resp> Future<Resp> call(ServiceMethod<Resp, Req> method, Req message, io.vertx.grpc.common.WireFormat format) {
+        if (format == io.vertx.grpc.common.WireFormat.PROTOBUF) {
+          return client.call(host, method, message);
+        }
+        return ServiceInvoker.super.call(method, message, format);
+      }
     }, wireFormat);
   }
 
@@ -101,9 +115,6 @@ class GreeterGrpcClientImpl implements GreeterGrpcClient {
   }
 
   public Future<examples.grpc.HelloReply> sayHello(examples.grpc.HelloRequest request) {
-    return client.invoker(SayHello).compose(req -> {
-      req.format(wireFormat);
-      return req.end(request).compose(v -> req.response().compose(resp -> resp.last()));
-    });
+    return client.call(SayHello, request, wireFormat);
   }
 }
@@ -15,6 +15,7 @@ import io.vertx.grpc.server.GrpcServerRequest;
 import io.vertx.grpc.server.GrpcServer;
 import io.vertx.grpc.server.ServiceContainer;
 import io.vertx.grpc.server.ServiceMethodInvoker;
+import io.vertx.grpc.server.UnaryServiceMethodInvoker;
 import io.vertx.grpc.server.Service;
 import io.vertx.grpc.server.StatusException;
 
@@ -188,24 +189,12 @@ public class GreeterGrpcService extends GreeterService implements Service {
 
     private <Req, Resp> ServiceMethodInvoker<Req, Resp> resolveHandler(ServiceMethod<Req, Resp> serviceMethod) {
       if (SayHello == serviceMethod) {
-        ServiceMethodInvoker<examples.grpc.HelloRequest, examples.grpc.HelloReply> handler = this::handle_sayHello;
+        UnaryServiceMethodInvoker<examples.grpc.HelloRequest, examples.grpc.HelloReply> handler = instance::sayHello;
         ServiceMethodInvoker<?, ?> handler2 = handler;
         return (ServiceMethodInvoker<Req, Resp>) handler2;
       }
       return null;
     }
 
-
-  private void handle_sayHello(io.vertx.grpc.server.GrpcServerRequest<examples.grpc.HelloRequest, examples.grpc.HelloReply> request) {
-    request.handler(msg -> {
-      instance.sayHello(msg, (res, err) -> {
-        if (err == null) {
-          request.response().end(res);
-        } else {
-          request.response().fail(err);
-        }
-      });
-    });
-  }
   }
 }
@@ -0,0 +1,130 @@
+package examples.grpc;
+
+import io.vertx.core.ThreadingModel;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.server.BlockingServerCall;
+import io.vertx.grpc.server.BlockingServiceMethodInvoker;
+import io.vertx.grpc.server.ServiceMethodInvoker;
+import io.vertx.grpc.server.UnaryServiceMethodInvoker;
+import io.vertx.grpc.server.Service;
+import io.vertx.grpc.server.StatusException;
+
+import com.google.protobuf.Descriptors;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Provides support for blocking RPC methods implementations of the Streaming gRPC service, the methods are
+ * invoked on a virtual thread or a worker thread.</p>
+ *
+ * <p>The following methods of this interface should be overridden to provide an implementation of the service:</p>
+ * <ul>
+ *   <li>Source</li>
+ *   <li>Sink</li>
+ *   <li>Pipe</li>
+ * </ul>
+ */
+public interface StreamingBlockingGrpcService {
+
+  /**
+   * @return a service binding all methods of the given {@code service}, invoked on virtual threads
+   */
+  static Service of(StreamingBlockingGrpcService service) {
+    return of(service, ThreadingModel.VIRTUAL_THREAD);
+  }
+
+  /**
+   * @return a service binding all methods of the given {@code service}, invoked with the given {@code threadingModel}
+   */
+  static Service of(StreamingBlockingGrpcService service, ThreadingModel threadingModel) {
+    if (threadingModel == ThreadingModel.EVENT_LOOP) {
+      throw new IllegalArgumentException("A blocking service cannot be invoked on the event loop");
+    }
+    return new Invoker(Objects.requireNonNull(service), Objects.requireNonNull(threadingModel));
+  }
+
+  /**
+   * Override this method to implement the Source RPC, the response messages are written to the {@code call}.
+   */
+  default void source(examples.grpc.Empty request, BlockingServerCall<examples.grpc.Empty, examples.grpc.Item> call) throws Exception {
+    throw new UnsupportedOperationException("Not implemented");
+  }
+
+  /**
+   * Override this method to implement the Sink RPC, the request messages are read from the {@code call}.
+   */
+  default examples.grpc.Empty sink(BlockingServerCall<examples.grpc.Item, examples.grpc.Empty> call) throws Exception {
+    throw new UnsupportedOperationException("Not implemented");
+  }
+
+  /**
+   * Override this method to implement the Pipe RPC, the messages are read from and written to the {@code call}.
+   */
+  default void pipe(BlockingServerCall<examples.grpc.Item, examples.grpc.Item> call) throws Exception {
+    throw new UnsupportedOperationException("Not implemented");
+  }
+
+  /**
+   * The service binding the methods of this interface.
+   */
+  final class Invoker implements Service {
+
+    private final StreamingBlockingGrpcService instance;
+    private final ThreadingModel threadingModel;
+    private final List<ServiceMethod<?, ?>> serviceMethods = StreamingGrpcService.all();
+
+    private Invoker(StreamingBlockingGrpcService instance, ThreadingModel threadingModel) {
+      this.instance = instance;
+      this.threadingModel = threadingModel;
+    }
+
+    @Override
+    public ServiceName name() {
+      return StreamingGrpcService.SERVICE_NAME;
+    }
+
+    @Override
+    public Descriptors.ServiceDescriptor descriptor() {
+      return StreamingGrpcService.SERVICE_DESCRIPTOR;
+    }
+
+    @Override
+    public List<ServiceMethod<?, ?>> methods() {
+      return serviceMethods;
+    }
+
+    @Override
+    public ThreadingModel threadingModel(ServiceMethod<?, ?> method) {
+      return threadingModel;
+    }
+
+    @Override
+    public <Req, Resp> ServiceMethodInvoker<Req, Resp> invoker(ServiceMethod<Req, Resp> method) {
+      if (StreamingGrpcService.Source == method) {
+        BlockingServiceMethodInvoker<examples.grpc.Empty, examples.grpc.Item> handler = call -> {
+          examples.grpc.Empty request = call.read();
+          if (request == null) {
+            throw new StatusException(GrpcStatus.INTERNAL, "Half-closed without a request");
+          }
+          instance.source(request, call);
+        };
+        ServiceMethodInvoker<?, ?> handler2 = handler;
+        return (ServiceMethodInvoker<Req, Resp>) handler2;
+      }
+      if (StreamingGrpcService.Sink == method) {
+        BlockingServiceMethodInvoker<examples.grpc.Item, examples.grpc.Empty> handler = call -> call.end(instance.sink(call));
+        ServiceMethodInvoker<?, ?> handler2 = handler;
+        return (ServiceMethodInvoker<Req, Resp>) handler2;
+      }
+      if (StreamingGrpcService.Pipe == method) {
+        BlockingServiceMethodInvoker<examples.grpc.Item, examples.grpc.Item> handler = instance::pipe;
+        ServiceMethodInvoker<?, ?> handler2 = handler;
+        return (ServiceMethodInvoker<Req, Resp>) handler2;
+      }
+      return Service.super.invoker(method);
+    }
+  }
+}
@@ -59,6 +59,13 @@ public interface StreamingGrpcClient extends StreamingClient {
       public <Req, Resp> Future<io.vertx.grpc.client.GrpcClientRequest<Req, Resp>> invoker(ServiceMethod<Resp, Req> method) {
         return client.request(host, method);
       }
+      @Override
+      public <Req, Resp> Future<Resp> call(ServiceMethod<Resp, Req> method, Req message, io.vertx.grpc.common.WireFormat format) {
+        if (format == io.vertx.grpc.common.WireFormat.PROTOBUF) {
+          return client.call(host, method, message);
+        }
+        return ServiceInvoker.super.call(method, message, format);
+      }
     });
   }
 
@@ -76,6 +83,13 @@ public interface StreamingGrpcClient extends StreamingClient {
       public <Req, Resp> Future<io.vertx.grpc.client.GrpcClientRequest<Req, Resp>> invoker(ServiceMethod<Resp, Req> method) {
         return client.request(host, method);
       }
+      @Override
+      public <Req, Resp> Future<Resp> call(ServiceMethod<Resp, Req> method, Req message, io.vertx.grpc.common.WireFormat format) {
+        if (format == io.vertx.grpc.common.WireFormat.PROTOBUF) {
+          return client.call(host, method, message);
+        }
+        return ServiceInvoker.super.call(method, message, format);
+      }
     }, wireFormat);
   }
 
@@ -15,6 +15,7 @@ import io.vertx.grpc.server.GrpcServerRequest;
 import io.vertx.grpc.server.GrpcServer;
 import io.vertx.grpc.server.ServiceContainer;
 import io.vertx.grpc.server.ServiceMethodInvoker;
+import io.vertx.grpc.server.UnaryServiceMethodInvoker;
 import io.vertx.grpc.server.Service;
 import io.vertx.grpc.server.StatusException;
 
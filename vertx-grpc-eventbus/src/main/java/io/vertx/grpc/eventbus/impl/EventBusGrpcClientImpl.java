@@ -7,16 +7,19 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.grpc.client.GrpcClientRequest;
 import io.vertx.grpc.client.impl.GrpcClientRequestImpl;
 import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 import io.vertx.grpc.eventbus.EventBusGrpcClient;
 
 public class EventBusGrpcClientImpl implements EventBusGrpcClient {
 
   private final Vertx vertx;
   private final EventBus eventBus;
+  private final EventBusGrpcEndpoint endpoint;
 
   public EventBusGrpcClientImpl(Vertx vertx, EventBus eventBus) {
     this.vertx = vertx;
     this.eventBus = eventBus;
+    this.endpoint = new EventBusGrpcEndpoint(eventBus);
   }
 
   @Override
@@ -27,11 +30,12 @@ public class EventBusGrpcClientImpl implements EventBusGrpcClient {
   @Override
   public <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(ServiceMethod<Resp, Req> method) {
     ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
-    EventBusGrpcClientInvoker invoker = new EventBusGrpcClientInvoker(context, eventBus);
+    EventBusGrpcClientInvoker invoker = new EventBusGrpcClientInvoker(context, eventBus, endpoint);
     GrpcClientRequestImpl<Req, Resp> request = new GrpcClientRequestImpl<>(
       context,
       invoker,
       false,
+      GrpcCompressorRegistry.DEFAULT,
       method.encoder(),
       method.decoder()
     );
@@ -10,14 +10,16 @@ public class EventBusGrpcClientInvoker implements GrpcClientInvoker {
 
   private final ContextInternal context;
   private final EventBus eventBus;
+  private final EventBusGrpcEndpoint endpoint;
 
-  public EventBusGrpcClientInvoker(ContextInternal context, EventBus eventBus) {
+  EventBusGrpcClientInvoker(ContextInternal context, EventBus eventBus, EventBusGrpcEndpoint endpoint) {
     this.context = context;
     this.eventBus = eventBus;
+    this.endpoint = endpoint;
   }
 
   @Override
   public GrpcStream invoke(ServiceName serviceName, String methodName) {
-    return new EventBusGrpcClientStream(context, eventBus, serviceName, methodName);
+    return new EventBusGrpcClientStream(context, eventBus, endpoint, serviceName, methodName);
   }
 }
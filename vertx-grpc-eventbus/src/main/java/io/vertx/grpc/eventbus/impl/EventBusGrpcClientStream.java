@@ -2,6 +2,7 @@ package io.vertx.grpc.eventbus.impl;
 
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Timer;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.internal.ContextInternal;
@@ -14,13 +15,21 @@ import io.vertx.grpc.common.impl.*;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static io.vertx.grpc.eventbus.impl.EventBusHeaders.HEADER_PREFIX;
 import static io.vertx.grpc.eventbus.impl.EventBusHeaders.TRAILER_PREFIX;
 
+/**
+ * <p>The request opening a call carries the first client message, when the client ends within the same event loop tick
+ * (unary and server streaming calls) it also carries the end of the client stream, otherwise the next messages are sent
+ * as stream frames.</p>
+ *
+ * <p>The server replies with the response when it has a single message, otherwise it accepts the streamed response
+ * and sends it as stream frames.</p>
+ */
 public class EventBusGrpcClientStream extends EventBusGrpcStreamBase {
 
-  private final EventBus eventBus;
   private final ServiceName serviceName;
   private final String methodName;
 
@@ -29,10 +38,14 @@ public class EventBusGrpcClientStream extends EventBusGrpcStreamBase {
   private String encoding;
   private MultiMap requestHeaders;
   private Duration timeout;
+  private boolean opened;
+  private boolean local;
+  private boolean cancelled;
+  private boolean headersReceived;
+  private Timer deadline;
 
-  public EventBusGrpcClientStream(ContextInternal context, EventBus eventBus, ServiceName serviceName, String methodName) {
-    super(context);
-    this.eventBus = eventBus;
+  EventBusGrpcClientStream(ContextInternal context, EventBus eventBus, EventBusGrpcEndpoint endpoint, ServiceName serviceName, String methodName) {
+    super(context, eventBus, endpoint);
     this.serviceName = serviceName;
     this.methodName = methodName;
   }
@@ -46,73 +59,200 @@ public class EventBusGrpcClientStream extends EventBusGrpcStreamBase {
         encoding = headersFrame.encoding();
         requestHeaders = headersFrame.headers();
         timeout = headersFrame.timeout();
+        // Stream the request unless it ends within this tick
+        context.runOnContext(v -> {
+          if (!opened) {
+            open(false);
+          }
+        });
         return context.succeededFuture();
       case MESSAGE:
-        if (message != null) {
-          // TODO: support streaming this depends on the event bus transport supporting streaming first
-          // See https://github.com/eclipse-vertx/vert.x/pull/4712
-          return context.failedFuture(new UnsupportedOperationException("Streaming is not supported over event bus transport"));
+        GrpcMessage msg = ((GrpcMessageFrame) frame).message();
+        if (!opened && message == null) {
+          message = msg;
+        } else {
+          if (!opened) {
+            open(false);
+          }
+          if (!cancelled) {
+            sendMessage(msg, local);
+          }
+        }
+        return context.succeededFuture();
+      case CANCEL:
+        if (!cancelled) {
+          cancelled = true;
+          if (isConnected()) {
+            send(EventBusHeaders.FRAME_CANCEL, null, new DeliveryOptions());
+            close();
+          } else if (!opened) {
+            opened = true;
+          }
         }
-
-        GrpcMessageFrame messageFrame = (GrpcMessageFrame) frame;
-        message = messageFrame.message();
         return context.succeededFuture();
       default:
-        throw new UnsupportedOperationException();
+        return context.succeededFuture();
     }
   }
 
   @Override
   public Future<Void> end(GrpcFrame frame) {
-    return context.failedFuture(new UnsupportedOperationException());
+    write(frame);
+    return end();
   }
 
   @Override
   public Future<Void> end() {
-    if (message == null) {
-      return context.failedFuture(new IllegalStateException("No message received"));
+    if (!opened) {
+      open(true);
+    } else if (!cancelled) {
+      send(EventBusHeaders.FRAME_END, null, new DeliveryOptions());
     }
+    return context.succeededFuture();
+  }
 
-    Buffer payload = message.payload();
-    DeliveryOptions deliveryOptions = new DeliveryOptions().addHeader(EventBusHeaders.ACTION, methodName);
-
-    if (timeout != null) {
-      deliveryOptions.setSendTimeout(timeout.toMillis());
+  @Override
+  protected void close() {
+    super.close();
+    Timer timer = deadline;
+    if (timer != null) {
+      deadline = null;
+      timer.cancel();
     }
+  }
 
-    if (requestHeaders != null) {
-      EventBusHeaders.encodeMultiMap(HEADER_PREFIX, requestHeaders, deliveryOptions.getHeaders());
+  private void open(boolean end) {
+    opened = true;
+    String address = serviceName.fullyQualifiedName();
+    local = EventBusGrpcLocalCodec.isLocal(context.owner(), address);
+    if (message != null && !end) {
+      messageSent();
     }
+    register().onComplete(ar -> {
+      if (ar.succeeded()) {
+        request(address, end);
+      } else {
+        fail(GrpcStatus.UNAVAILABLE, ar.cause().getMessage());
+      }
+    });
+  }
 
+  private void request(String address, boolean end) {
     String encoding = Optional.ofNullable(this.encoding).orElse("identity");
     WireFormat wireFormat = Optional.ofNullable(this.wireFormat).orElse(WireFormat.PROTOBUF);
+    this.encoding = encoding;
+    this.wireFormat = wireFormat;
 
-    deliveryOptions.addHeader(EventBusHeaders.WIRE_FORMAT, wireFormat.name());
+    Object body;
+    DeliveryOptions deliveryOptions;
+    if (local) {
+      body = new EventBusGrpcLocalMessage(methodName, wireFormat, requestHeaders, null, message);
+      deliveryOptions = EventBusGrpcLocalCodec.deliveryOptions();
+    } else {
+      deliveryOptions = new DeliveryOptions().addHeader(EventBusHeaders.ACTION, methodName);
+      if (requestHeaders != null) {
+        EventBusHeaders.encodeMultiMap(HEADER_PREFIX, requestHeaders, deliveryOptions.getHeaders());
+      }
+      deliveryOptions.addHeader(EventBusHeaders.WIRE_FORMAT, wireFormat.name());
+      if (message != null) {
+        Buffer payload = message.payload();
+        body = wireFormat == WireFormat.JSON ? (payload.length() == 0 ? new JsonObject() : new JsonObject(payload)) : payload;
+      } else {
+        body = null;
+      }
+    }
+    message = null;
+    deliveryOptions.addHeader(EventBusHeaders.STREAM, endpoint.address());
+    deliveryOptions.addHeader(EventBusHeaders.CALL, id());
+    if (end) {
+      deliveryOptions.addHeader(EventBusHeaders.END, "true");
+    }
 
-    Object body = wireFormat == WireFormat.JSON ? (payload.length() == 0 ? new JsonObject() : new JsonObject(payload)) : payload;
-    Future<Message<Object>> response = eventBus.request(serviceName.fullyQualifiedName(), body, deliveryOptions);
+    if (timeout != null) {
+      deliveryOptions.setSendTimeout(timeout.toMillis());
+    }
+
+    Future<Message<Object>> response = eventBus.request(address, body, deliveryOptions);
 
     response.onComplete(ar -> {
-      if (ar.succeeded()) {
-        Message<Object> reply = ar.result();
-        MultiMap headers = MultiMap.caseInsensitiveMultiMap();
-        MultiMap trailers = MultiMap.caseInsensitiveMultiMap();
-        EventBusHeaders.decodeMultimap(HEADER_PREFIX, reply.headers(), headers);
-        EventBusHeaders.decodeMultimap(TRAILER_PREFIX, reply.headers(), trailers);
-        Buffer replyPayload = EventBusGrpcBody.asBuffer(reply.body());
+      if (cancelled) {
+        if (ar.succeeded() && ar.result().headers().contains(EventBusHeaders.STREAM)) {
+          connect(ar.result().headers().get(EventBusHeaders.STREAM), ar.result().headers().get(EventBusHeaders.CALL));
+          send(EventBusHeaders.FRAME_CANCEL, null, new DeliveryOptions());
+        }
+        close();
+        return;
+      }
+      if (ar.failed()) {
+        fail(mapFailure(ar.cause()), ar.cause().getMessage());
+        return;
+      }
+      Message<Object> reply = ar.result();
+      String streamAddress = reply.headers().get(EventBusHeaders.STREAM);
+      if (streamAddress != null) {
+        connect(streamAddress, reply.headers().get(EventBusHeaders.CALL));
+        if (timeout != null && !isClosed()) {
+          Timer timer = context.timer(timeout.toMillis(), TimeUnit.MILLISECONDS);
+          deadline = timer;
+          timer.onSuccess(v -> {
+            if (deadline == timer) {
+              deadline = null;
+              send(EventBusHeaders.FRAME_CANCEL, null, new DeliveryOptions());
+              fail(GrpcStatus.DEADLINE_EXCEEDED, "Timeout");
+            }
+          });
+        }
+      } else if (reply.body() instanceof EventBusGrpcLocalMessage) {
+        EventBusGrpcLocalMessage localReply = (EventBusGrpcLocalMessage) reply.body();
+        emit(new DefaultGrpcHeadersFrame(wireFormat, encoding, localReply.headers));
+        emit(new DefaultGrpcMessageFrame(localReply.message));
+        emit(new DefaultGrpcTrailersFrame(GrpcStatus.OK, null, localReply.trailers));
+        emitEnd();
+        close();
+      } else {
+        MultiMap headers = decodeHeaders(HEADER_PREFIX, reply.headers());
+        MultiMap trailers = decodeHeaders(TRAILER_PREFIX, reply.headers());
         emit(new DefaultGrpcHeadersFrame(wireFormat, encoding, headers));
-        emit(new DefaultGrpcMessageFrame(GrpcMessage.message(encoding, wireFormat, replyPayload)));
+        emit(new DefaultGrpcMessageFrame(decodeMessage(reply.body(), encoding, wireFormat)));
         emit(new DefaultGrpcTrailersFrame(GrpcStatus.OK, null, trailers));
-      } else {
-        GrpcStatus status = mapFailure(ar.cause());
-        emit(new DefaultGrpcHeadersFrame(wireFormat, encoding, MultiMap.caseInsensitiveMultiMap()));
-        emit(new DefaultGrpcTrailersFrame(status, ar.cause().getMessage(), MultiMap.caseInsensitiveMultiMap()));
+        emitEnd();
+        close();
       }
-
-      emitEnd();
     });
+  }
 
-    return context.succeededFuture();
+  @Override
+  protected void handleFrame(String type, Message<Object> frame) {
+    switch (type) {
+      case EventBusHeaders.FRAME_HEADERS:
+        headersReceived = true;
+        emit(new DefaultGrpcHeadersFrame(wireFormat, encoding, decodeHeaders(HEADER_PREFIX, frame.headers())));
+        break;
+      case EventBusHeaders.FRAME_MESSAGE:
+        emit(new DefaultGrpcMessageFrame(decodeMessage(frame.body(), encoding, wireFormat)));
+        break;
+      case EventBusHeaders.FRAME_TRAILERS:
+        peerEnded();
+        GrpcStatus status = GrpcStatus.valueOf(Integer.parseInt(frame.headers().get(EventBusHeaders.STATUS)));
+        if (!headersReceived) {
+          headersReceived = true;
+          emit(new DefaultGrpcHeadersFrame(wireFormat, encoding, MultiMap.caseInsensitiveMultiMap()));
+        }
+        emit(new DefaultGrpcTrailersFrame(status, frame.headers().get(EventBusHeaders.STATUS_MESSAGE), decodeHeaders(TRAILER_PREFIX, frame.headers())));
+        emitEnd();
+        close();
+        break;
+    }
+  }
+
+  private void fail(GrpcStatus status, String statusMessage) {
+    if (!headersReceived) {
+      headersReceived = true;
+      emit(new DefaultGrpcHeadersFrame(wireFormat, encoding, MultiMap.caseInsensitiveMultiMap()));
+    }
+    emit(new DefaultGrpcTrailersFrame(status, statusMessage, MultiMap.caseInsensitiveMultiMap()));
+    emitEnd();
+    close();
   }
 
   private static GrpcStatus mapFailure(Throwable cause) {
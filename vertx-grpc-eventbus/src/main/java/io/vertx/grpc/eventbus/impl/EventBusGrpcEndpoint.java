@@ -0,0 +1,78 @@
+package io.vertx.grpc.eventbus.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>An event bus address receiving the stream frames of the calls of a client or a server.</p>
+ *
+ * <p>A single consumer is registered for all the calls, it is registered on first use so the cluster wide
+ * registration happens once. The frames are dispatched to the call using the {@link EventBusHeaders#CALL} header.</p>
+ */
+final class EventBusGrpcEndpoint implements Handler<Message<Object>> {
+
+  private final EventBus eventBus;
+  private final String address;
+  private final Map<String, EventBusGrpcStreamBase> streams = new ConcurrentHashMap<>();
+  private final AtomicLong ids = new AtomicLong();
+  private MessageConsumer<Object> consumer;
+
+  EventBusGrpcEndpoint(EventBus eventBus) {
+    this.eventBus = eventBus;
+    this.address = "__vertx.grpc." + UUID.randomUUID();
+  }
+
+  String address() {
+    return address;
+  }
+
+  String nextId() {
+    return Long.toString(ids.incrementAndGet());
+  }
+
+  /**
+   * Register {@code stream} under {@code id}.
+   *
+   * @return a future completed when the endpoint can receive frames
+   */
+  Future<Void> register(String id, EventBusGrpcStreamBase stream) {
+    streams.put(id, stream);
+    synchronized (this) {
+      if (consumer == null) {
+        consumer = eventBus.consumer(address, this);
+      }
+      return consumer.completion();
+    }
+  }
+
+  void unregister(String id) {
+    streams.remove(id);
+  }
+
+  @Override
+  public void handle(Message<Object> message) {
+    String id = message.headers().get(EventBusHeaders.CALL);
+    EventBusGrpcStreamBase stream = id != null ? streams.get(id) : null;
+    if (stream != null) {
+      stream.receive(message);
+    }
+  }
+
+  Future<Void> close() {
+    streams.clear();
+    MessageConsumer<Object> c;
+    synchronized (this) {
+      c = consumer;
+      consumer = null;
+    }
+    return c != null ? c.unregister() : Future.succeededFuture();
+  }
+}
@@ -0,0 +1,97 @@
+package io.vertx.grpc.eventbus.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.shareddata.LocalMap;
+
+/**
+ * <p>Delivers an {@link EventBusGrpcLocalMessage} by reference.</p>
+ *
+ * <p>The servers record the addresses they consume in a local map, a client uses this codec only when the event bus is
+ * not clustered and an event bus gRPC server consumes the address, other calls keep the buffer body and the prefixed
+ * delivery headers understood by any consumer.</p>
+ */
+final class EventBusGrpcLocalCodec implements MessageCodec<EventBusGrpcLocalMessage, EventBusGrpcLocalMessage> {
+
+  static final String NAME = "vertx-grpc-local";
+
+  private static final EventBusGrpcLocalCodec INSTANCE = new EventBusGrpcLocalCodec();
+  private static final String REGISTRY_NAME = "__vertx.grpc.eventbus";
+
+  private EventBusGrpcLocalCodec() {
+  }
+
+  static void register(EventBus eventBus) {
+    try {
+      eventBus.registerCodec(INSTANCE);
+    } catch (IllegalStateException ignore) {
+      // Already registered
+    }
+  }
+
+  static DeliveryOptions deliveryOptions() {
+    return new DeliveryOptions().setCodecName(NAME);
+  }
+
+  /**
+   * Record that an event bus gRPC server consumes {@code address}.
+   */
+  static void bind(Vertx vertx, String address) {
+    LocalMap<String, Integer> registry = registry(vertx);
+    while (true) {
+      Integer count = registry.putIfAbsent(address, 1);
+      if (count == null || registry.replace(address, count, count + 1)) {
+        return;
+      }
+    }
+  }
+
+  static void unbind(Vertx vertx, String address) {
+    LocalMap<String, Integer> registry = registry(vertx);
+    while (true) {
+      Integer count = registry.get(address);
+      if (count == null || (count == 1 ? registry.remove(address, count) : registry.replace(address, count, count - 1))) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return whether a call to {@code address} can be delivered by reference
+   */
+  static boolean isLocal(Vertx vertx, String address) {
+    return !vertx.isClustered() && registry(vertx).get(address) != null;
+  }
+
+  private static LocalMap<String, Integer> registry(Vertx vertx) {
+    return vertx.sharedData().getLocalMap(REGISTRY_NAME);
+  }
+
+  @Override
+  public void encodeToWire(Buffer buffer, EventBusGrpcLocalMessage message) {
+    throw new UnsupportedOperationException("Local delivery only");
+  }
+
+  @Override
+  public EventBusGrpcLocalMessage decodeFromWire(int pos, Buffer buffer) {
+    throw new UnsupportedOperationException("Local delivery only");
+  }
+
+  @Override
+  public EventBusGrpcLocalMessage transform(EventBusGrpcLocalMessage message) {
+    return message;
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
@@ -0,0 +1,32 @@
+package io.vertx.grpc.eventbus.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.WireFormat;
+
+/**
+ * The body of a call between a client and a server of the same Vert.x instance, it is delivered by reference with
+ * the {@link EventBusGrpcLocalCodec}, the message is not serialized and the metadata is not encoded in delivery headers.
+ */
+final class EventBusGrpcLocalMessage {
+
+  /**
+   * The method name of a request, {@code null} for a reply.
+   */
+  final String methodName;
+  final WireFormat format;
+  final MultiMap headers;
+  /**
+   * The trailers of a reply, {@code null} for a request.
+   */
+  final MultiMap trailers;
+  final GrpcMessage message;
+
+  EventBusGrpcLocalMessage(String methodName, WireFormat format, MultiMap headers, MultiMap trailers, GrpcMessage message) {
+    this.methodName = methodName;
+    this.format = format;
+    this.headers = headers;
+    this.trailers = trailers;
+    this.message = message;
+  }
+}
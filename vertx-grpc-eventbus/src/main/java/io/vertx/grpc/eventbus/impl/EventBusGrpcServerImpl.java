@@ -2,16 +2,14 @@ package io.vertx.grpc.eventbus.impl;
 
 import com.google.protobuf.Descriptors;
 import io.vertx.core.*;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.internal.ContextInternal;
-import io.vertx.core.internal.logging.Logger;
-import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.grpc.common.*;
-import io.vertx.grpc.common.impl.GrpcMethodCall;
+import io.vertx.grpc.common.impl.*;
 import io.vertx.grpc.eventbus.EventBusGrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
 import io.vertx.grpc.server.GrpcServerRequest;
 import io.vertx.grpc.server.Service;
 import io.vertx.grpc.server.ServiceMethodInvoker;
@@ -19,21 +17,23 @@ import io.vertx.grpc.server.impl.GrpcServerRequestImpl;
 import io.vertx.grpc.server.impl.GrpcServerResponseImpl;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static io.vertx.grpc.eventbus.impl.EventBusHeaders.HEADER_PREFIX;
 
 public class EventBusGrpcServerImpl implements EventBusGrpcServer {
 
-  private static final Logger log = LoggerFactory.getLogger(EventBusGrpcServer.class);
-
   private final Vertx vertx;
   private final EventBus eventBus;
   private final Map<String, ServiceConsumer> consumers = new HashMap<>();
+  private final EventBusGrpcEndpoint endpoint;
 
   public EventBusGrpcServerImpl(Vertx vertx, EventBus eventBus) {
     this.vertx = vertx;
     this.eventBus = eventBus;
+    this.endpoint = new EventBusGrpcEndpoint(eventBus);
+    EventBusGrpcLocalCodec.register(eventBus);
   }
 
     private static class MethodHandler<Req, Resp> implements ServiceMethodInvoker<Req, Resp> {
@@ -75,6 +75,7 @@ public class EventBusGrpcServerImpl implements EventBusGrpcServer {
       if (handler != null) {
         simpleService.handlers.put(methodName, new MethodHandler<>(serviceMethod, handler));
         simpleService.methods.add(serviceMethod);
+        consumers.get(serviceFqn).adapter.methods.putIfAbsent(methodName, serviceMethod);
       } else {
         throw new UnsupportedOperationException("Not yet implemented");
       }
@@ -94,19 +95,10 @@ public class EventBusGrpcServerImpl implements EventBusGrpcServer {
     }
 
     String serviceFqn = service.name().fullyQualifiedName();
-    Descriptors.ServiceDescriptor descriptor1 = service.descriptor();
-    if (descriptor1 != null) {
-      for (Descriptors.MethodDescriptor descriptor : descriptor1.getMethods()) {
-        if (descriptor.isClientStreaming() || descriptor.isServerStreaming()) {
-//        streaming.add(descriptor.getName());
-          log.warn("Streaming method " + serviceFqn + "/" + descriptor.getName() + " is not supported over the event bus transport, calls will be rejected with UNIMPLEMENTED");
-        }
-      }
-    }
-
     Adapter adapter = new Adapter(serviceFqn, service);
     MessageConsumer<Object> consumer = eventBus.consumer(serviceFqn, adapter);
-    consumers.put(serviceFqn, new ServiceConsumer(consumer, service));
+    consumers.put(serviceFqn, new ServiceConsumer(consumer, adapter, service));
+    EventBusGrpcLocalCodec.bind(vertx, serviceFqn);
 
     return this;
   }
@@ -124,20 +116,24 @@ public class EventBusGrpcServerImpl implements EventBusGrpcServer {
   public void close(Completable<Void> completion) {
     List<Future<Void>> futures = new ArrayList<>();
     for (ServiceConsumer consumer : consumers.values()) {
+      EventBusGrpcLocalCodec.unbind(vertx, consumer.adapter.serviceFqn);
       futures.add(consumer.consumer.unregister());
       futures.add(consumer.service.close());
     }
     consumers.clear();
+    futures.add(endpoint.close());
     Future.all(futures).<Void> mapEmpty().onComplete(completion);
   }
 
   private static class ServiceConsumer {
 
     private final MessageConsumer<Object> consumer;
+    private final Adapter adapter;
     private final Service service;
 
-    public ServiceConsumer(MessageConsumer<Object> consumer, Service service) {
+    public ServiceConsumer(MessageConsumer<Object> consumer, Adapter adapter, Service service) {
       this.consumer = consumer;
+      this.adapter = adapter;
       this.service = service;
     }
   }
@@ -184,65 +180,81 @@ public class EventBusGrpcServerImpl implements EventBusGrpcServer {
 
     private final String serviceFqn;
     private final Service service;
+    // Method name index, updated by callHandler for a simple service
+    private final Map<String, ServiceMethod<?, ?>> methods = new ConcurrentHashMap<>();
+    // Streaming methods cannot be called with a single request/reply
+    private final Set<String> streaming = new HashSet<>();
 
     public Adapter(String serviceFqn, Service service) {
       this.serviceFqn = serviceFqn;
       this.service = service;
+      for (ServiceMethod<?, ?> method : service.methods()) {
+        methods.putIfAbsent(method.methodName(), method);
+      }
+      Descriptors.ServiceDescriptor descriptor = service.descriptor();
+      if (descriptor != null) {
+        for (Descriptors.MethodDescriptor method : descriptor.getMethods()) {
+          if (method.isClientStreaming() || method.isServerStreaming()) {
+            streaming.add(method.getName());
+          }
+        }
+      }
     }
 
     @Override
     public void handle(Message<Object> message) {
+      Object body = message.body();
+      // Absent for a plain request/reply
+      String clientAddress = message.headers().get(EventBusHeaders.STREAM);
+      if (body instanceof EventBusGrpcLocalMessage) {
+        EventBusGrpcLocalMessage local = (EventBusGrpcLocalMessage) body;
+        ServiceMethod<?, ?> serviceMethod = lookup(message, local.methodName, clientAddress);
+        if (serviceMethod == null) {
+          return;
+        }
+        MultiMap headers = local.headers != null ? local.headers : MultiMap.caseInsensitiveMultiMap();
+        dispatch(message, serviceMethod, local.format, headers, local.message, true, clientAddress);
+        return;
+      }
       String methodName = message.headers().get(EventBusHeaders.ACTION);
       if (methodName == null) {
         message.fail(GrpcStatus.INVALID_ARGUMENT.code, "Missing '" + EventBusHeaders.ACTION + "' header");
         return;
       }
-      if (message.headers().get(EventBusHeaders.WIRE_FORMAT) == null) {
+      String wireFormat = message.headers().get(EventBusHeaders.WIRE_FORMAT);
+      if (wireFormat == null) {
         message.fail(GrpcStatus.INVALID_ARGUMENT.code, "Missing '" + EventBusHeaders.WIRE_FORMAT + "' header");
         return;
       }
-      List<ServiceMethod<?, ?>> methods = service.methods();
-      ServiceMethod<?, ?> serviceMethod = null;
-      for (ServiceMethod<?, ?> candidate : methods) {
-        if (candidate.methodName().equals(methodName)) {
-          serviceMethod = candidate;
-          break;
-        }
-      }
+      ServiceMethod<?, ?> serviceMethod = lookup(message, methodName, clientAddress);
       if (serviceMethod == null) {
-        String reason = "Method not found: " + methodName;
-
-        // TODO: support streaming this depends on the event bus transport supporting streaming first
-        // See https://github.com/eclipse-vertx/vert.x/pull/4712
-        for (ServiceConsumer consumer : consumers.values()) {
-          if (consumer.service.name().fullyQualifiedName().equals(serviceFqn)) {
-            Descriptors.ServiceDescriptor desc = consumer.service.descriptor();
-            if (desc != null) {
-              Descriptors.MethodDescriptor methodDesc = desc.findMethodByName(methodName);
-              if (methodDesc != null && (methodDesc.isClientStreaming() || methodDesc.isServerStreaming())) {
-                reason = "Streaming method not supported over event bus transport: " + methodName;
-              }
-            }
-            break;
-          }
-        }
-
-        message.fail(GrpcStatus.UNIMPLEMENTED.code, reason);
         return;
       }
-      dispatch(message, serviceMethod);
+      WireFormat format = WireFormat.valueOf(wireFormat);
+      MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+      EventBusHeaders.decodeMultimap(HEADER_PREFIX, message.headers(), headers);
+      GrpcMessage grpcMessage = body != null ? GrpcMessage.message("identity", format, EventBusGrpcBody.asBuffer(body)) : null;
+      dispatch(message, serviceMethod, format, headers, grpcMessage, false, clientAddress);
     }
 
-      private <Req, Resp> void dispatch(Message<Object> message, ServiceMethod<Req, Resp> serviceMethod) {
-        ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
-        WireFormat wireFormat = WireFormat.valueOf(message.headers().get(EventBusHeaders.WIRE_FORMAT));
-
-        Buffer payload = EventBusGrpcBody.asBuffer(message.body());
+    private ServiceMethod<?, ?> lookup(Message<Object> message, String methodName, String clientAddress) {
+      ServiceMethod<?, ?> serviceMethod = methods.get(methodName);
+      if (serviceMethod == null) {
+        message.fail(GrpcStatus.UNIMPLEMENTED.code, "Method not found: " + methodName);
+      } else if (clientAddress == null && streaming.contains(methodName)) {
+        message.fail(GrpcStatus.UNIMPLEMENTED.code, "Streaming method requires a streaming event bus client: " + methodName);
+        serviceMethod = null;
+      }
+      return serviceMethod;
+    }
 
-        MultiMap headers = MultiMap.caseInsensitiveMultiMap();
-        EventBusHeaders.decodeMultimap(HEADER_PREFIX, message.headers(), headers);
+      private <Req, Resp> void dispatch(Message<Object> message, ServiceMethod<Req, Resp> serviceMethod, WireFormat wireFormat,
+                                        MultiMap headers, GrpcMessage grpcMessage, boolean local, String clientAddress) {
+        ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
 
-        EventBusGrpcServerStream stream = new EventBusGrpcServerStream(context, message, wireFormat);
+        boolean clientEnded = clientAddress == null || message.headers().contains(EventBusHeaders.END);
+        EventBusGrpcServerStream stream = new EventBusGrpcServerStream(context, eventBus, endpoint, message, wireFormat, local,
+          clientAddress, message.headers().get(EventBusHeaders.CALL), clientEnded);
         GrpcMethodCall methodCall = new GrpcMethodCall(serviceMethod.serviceName().pathOf(serviceMethod.methodName()));
         GrpcServerRequestImpl<Req, Resp> request = new GrpcServerRequestImpl<>(
           context,
@@ -252,15 +264,23 @@ public class EventBusGrpcServerImpl implements EventBusGrpcServer {
           stream,
           null,
           "identity",
+          GrpcCompressorRegistry.DEFAULT,
+          GrpcServerOptions.DEFAULT_MAX_MESSAGE_SIZE,
           serviceMethod.decoder(),
           methodCall
         );
 
-        GrpcMessage grpcMessage = GrpcMessage.message("identity", wireFormat, payload);
-        GrpcServerResponseImpl<Req, Resp> response = new GrpcServerResponseImpl<>(context, request, stream, null, serviceMethod.encoder());
+        GrpcServerResponseImpl<Req, Resp> response = new GrpcServerResponseImpl<>(context, request, stream, null, GrpcCompressorRegistry.DEFAULT, serviceMethod.encoder());
 
         response.format(wireFormat);
         request.init(response, false);
+        stream.handler(frame -> {
+          if (frame.type() == GrpcFrameType.CANCEL) {
+            response.handleCancel();
+          } else {
+            request.handleMessage(((GrpcMessageFrame) frame).message());
+          }
+        });
         stream.endHandler(v -> request.handleEnd());
 
         try {
@@ -271,8 +291,12 @@ public class EventBusGrpcServerImpl implements EventBusGrpcServer {
           return;
         }
 
-        request.handleMessage(grpcMessage);
-        stream.emitEnd();
+        if (grpcMessage != null) {
+          stream.emit(new DefaultGrpcMessageFrame(grpcMessage));
+        }
+        if (clientEnded) {
+          stream.emitEnd();
+        }
       }
   }
 }
@@ -4,12 +4,15 @@ import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.json.JsonObject;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.DefaultGrpcCancelFrame;
+import io.vertx.grpc.common.impl.DefaultGrpcMessageFrame;
 import io.vertx.grpc.common.impl.GrpcFrame;
 import io.vertx.grpc.common.impl.GrpcHeadersFrame;
 import io.vertx.grpc.common.impl.GrpcMessageFrame;
@@ -18,42 +21,93 @@ import io.vertx.grpc.common.impl.GrpcTrailersFrame;
 import static io.vertx.grpc.eventbus.impl.EventBusHeaders.HEADER_PREFIX;
 import static io.vertx.grpc.eventbus.impl.EventBusHeaders.TRAILER_PREFIX;
 
+/**
+ * <p>A response with a single message is sent as the reply of the request opening the call. The response is streamed
+ * when the client streams its request, when a second message is written, or when the response is not ended within the
+ * event loop tick of its first write.</p>
+ */
 public class EventBusGrpcServerStream extends EventBusGrpcStreamBase {
 
   private final Message<Object> eventBusMessage;
   private final WireFormat wireFormat;
+  private final boolean local;
+  private final boolean streamable;
 
   private GrpcMessage encodedMessage;
   private boolean replied;
+  private boolean streaming;
+  private boolean flushScheduled;
   private MultiMap headers;
 
-  public EventBusGrpcServerStream(ContextInternal context, Message<Object> eventBusMessage, WireFormat wireFormat) {
-    super(context);
+  EventBusGrpcServerStream(ContextInternal context, EventBus eventBus, EventBusGrpcEndpoint endpoint,
+                                  Message<Object> eventBusMessage, WireFormat wireFormat, boolean local,
+                                  String clientAddress, String clientId, boolean clientEnded) {
+    super(context, eventBus, endpoint);
     this.eventBusMessage = eventBusMessage;
     this.wireFormat = wireFormat;
+    this.local = local;
+    this.streamable = clientAddress != null;
+    if (clientEnded) {
+      peerEnded();
+    }
+    if (streamable) {
+      connect(clientAddress, clientId);
+      if (!clientEnded) {
+        startStreaming();
+      }
+    }
   }
 
-
   @Override
   public Future<Void> write(GrpcFrame frame) {
+    if (replied) {
+      return context.succeededFuture();
+    }
     switch (frame.type()) {
       case HEADERS:
-        GrpcHeadersFrame headersFrame = (GrpcHeadersFrame) frame;
-        headers = headersFrame.headers();
+        headers = ((GrpcHeadersFrame) frame).headers();
+        if (streaming) {
+          sendHeaders();
+        } else {
+          scheduleFlush();
+        }
         return context.succeededFuture();
       case MESSAGE:
-        encodedMessage = ((GrpcMessageFrame) frame).message();
+        GrpcMessage message = ((GrpcMessageFrame) frame).message();
+        if (streaming) {
+          sendMessage(message, local);
+        } else if (encodedMessage == null || !streamable) {
+          encodedMessage = message;
+          scheduleFlush();
+        } else {
+          flush();
+          sendMessage(message, local);
+        }
         return context.succeededFuture();
       case TRAILERS:
-        assert !replied;
         replied = true;
         GrpcTrailersFrame trailersFrame = (GrpcTrailersFrame) frame;
+        if (streaming) {
+          sendTrailers(trailersFrame.status(), trailersFrame.statusMessage(), trailersFrame.trailers());
+          close();
+          return context.succeededFuture();
+        }
+        close();
         return handleTrailers(
           trailersFrame.status(),
           trailersFrame.statusMessage(),
           encodedMessage,
           headers,
           trailersFrame.trailers());
+      case CANCEL:
+        replied = true;
+        if (streaming) {
+          sendTrailers(GrpcStatus.CANCELLED, null, null);
+        } else {
+          eventBusMessage.fail(GrpcStatus.CANCELLED.code, GrpcStatus.CANCELLED.name());
+        }
+        close();
+        return context.succeededFuture();
       default:
         return context.succeededFuture();
     }
@@ -69,6 +123,82 @@ public class EventBusGrpcServerStream extends EventBusGrpcStreamBase {
     return context.succeededFuture();
   }
 
+  private void scheduleFlush() {
+    if (streamable && !flushScheduled) {
+      flushScheduled = true;
+      context.runOnContext(v -> {
+        if (!replied && !streaming) {
+          flush();
+        }
+      });
+    }
+  }
+
+  /**
+   * Switch to streaming and send the response written so far.
+   */
+  private void flush() {
+    startStreaming();
+    if (headers != null) {
+      sendHeaders();
+    }
+    if (encodedMessage != null) {
+      GrpcMessage message = encodedMessage;
+      encodedMessage = null;
+      sendMessage(message, local);
+    }
+  }
+
+  private void startStreaming() {
+    streaming = true;
+    register().onComplete(ar -> {
+      if (ar.succeeded()) {
+        eventBusMessage.reply(null, new DeliveryOptions()
+          .addHeader(EventBusHeaders.STREAM, endpoint.address())
+          .addHeader(EventBusHeaders.CALL, id()));
+      } else {
+        eventBusMessage.fail(GrpcStatus.UNAVAILABLE.code, ar.cause().getMessage());
+        close();
+      }
+    });
+  }
+
+  private void sendHeaders() {
+    DeliveryOptions options = new DeliveryOptions();
+    EventBusHeaders.encodeMultiMap(HEADER_PREFIX, headers, options.getHeaders());
+    send(EventBusHeaders.FRAME_HEADERS, null, options);
+  }
+
+  private void sendTrailers(GrpcStatus status, String statusMessage, MultiMap trailers) {
+    DeliveryOptions options = new DeliveryOptions().addHeader(EventBusHeaders.STATUS, Integer.toString(status.code));
+    if (statusMessage != null) {
+      options.addHeader(EventBusHeaders.STATUS_MESSAGE, statusMessage);
+    }
+    if (trailers != null) {
+      EventBusHeaders.encodeMultiMap(TRAILER_PREFIX, trailers, options.getHeaders());
+    }
+    send(EventBusHeaders.FRAME_TRAILERS, null, options);
+  }
+
+  @Override
+  protected void handleFrame(String type, Message<Object> frame) {
+    switch (type) {
+      case EventBusHeaders.FRAME_MESSAGE:
+        emit(new DefaultGrpcMessageFrame(decodeMessage(frame.body(), "identity", wireFormat)));
+        break;
+      case EventBusHeaders.FRAME_END:
+        peerEnded();
+        emitEnd();
+        break;
+      case EventBusHeaders.FRAME_CANCEL:
+        // The client does not expect trailers
+        replied = true;
+        close();
+        emitNow(DefaultGrpcCancelFrame.INSTANCE);
+        break;
+    }
+  }
+
   private Future<Void> handleTrailers(
     GrpcStatus status,
     String statusMessage,
@@ -78,6 +208,14 @@ public class EventBusGrpcServerStream extends EventBusGrpcStreamBase {
     if (status != GrpcStatus.OK) {
       String msg = statusMessage != null ? statusMessage : status.name();
       eventBusMessage.fail(status.code, msg);
+    } else if (local) {
+      eventBusMessage.reply(new EventBusGrpcLocalMessage(
+        null,
+        wireFormat,
+        headers != null ? headers : MultiMap.caseInsensitiveMultiMap(),
+        trailers != null ? trailers : MultiMap.caseInsensitiveMultiMap(),
+        message != null ? message : GrpcMessage.message("identity", wireFormat, Buffer.buffer())
+      ), EventBusGrpcLocalCodec.deliveryOptions());
     } else {
       DeliveryOptions options = new DeliveryOptions();
       MultiMap multiMap = MultiMap.caseInsensitiveMultiMap();
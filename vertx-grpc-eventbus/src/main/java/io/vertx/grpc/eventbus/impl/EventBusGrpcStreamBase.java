@@ -1,18 +1,70 @@
 package io.vertx.grpc.eventbus.impl;
 
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.common.impl.*;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>The frames of a streamed call are sent to the endpoint of the peer, numbered from {@code 1} in each direction,
+ * a frame received out of order is held until the previous frames have been handled.</p>
+ *
+ * <p>Flow control is credit based: a side can send {@link #WINDOW} messages before being granted credits, the receiving
+ * side grants credits back when its read stream has consumed half of the window, so the credits follow
+ * {@code pause}/{@code fetch} of the read stream and drive {@link #writeQueueFull()} of the sending side.</p>
+ */
 abstract class EventBusGrpcStreamBase implements GrpcStream {
 
+  /**
+   * The number of messages a side can send before being granted credits.
+   */
+  static final int WINDOW = 16;
+
+  private static final Object END = new Object();
+
   protected final ContextInternal context;
+  protected final EventBus eventBus;
+  protected final EventBusGrpcEndpoint endpoint;
 
   private Handler<GrpcFrame> frameHandler;
   private Handler<Void> endHandler;
 
-  EventBusGrpcStreamBase(ContextInternal context) {
+  // Inbound
+  private final ArrayDeque<Object> inbound = new ArrayDeque<>();
+  private long demand = Long.MAX_VALUE;
+  private boolean draining;
+  private int consumed;
+  private boolean peerEnded;
+  private long expectedSeq = 1L;
+  private Map<Long, Message<Object>> reordered;
+
+  // Outbound
+  private String id;
+  private String peerAddress;
+  private String peerId;
+  private List<Object[]> pending;
+  private long seq;
+  private int outstanding;
+  private boolean full;
+  private Handler<Void> drainHandler;
+  private boolean closed;
+
+  EventBusGrpcStreamBase(ContextInternal context, EventBus eventBus, EventBusGrpcEndpoint endpoint) {
     this.context = context;
+    this.eventBus = eventBus;
+    this.endpoint = endpoint;
   }
 
   @Override
@@ -34,45 +86,262 @@ abstract class EventBusGrpcStreamBase implements GrpcStream {
 
   @Override
   public GrpcInboundStream pause() {
+    demand = 0L;
     return this;
   }
 
   @Override
   public GrpcInboundStream resume() {
-    return this;
+    return fetch(Long.MAX_VALUE);
   }
 
   @Override
   public GrpcInboundStream fetch(long amount) {
+    demand += amount;
+    if (demand < 0L) {
+      demand = Long.MAX_VALUE;
+    }
+    drain();
     return this;
   }
 
   protected void emit(GrpcFrame frame) {
+    inbound.add(frame);
+    drain();
+  }
+
+  protected void emitEnd() {
+    inbound.add(END);
+    drain();
+  }
+
+  /**
+   * Deliver a frame to the handler, bypassing the inbound queue.
+   */
+  protected void emitNow(GrpcFrame frame) {
     Handler<GrpcFrame> handler = frameHandler;
     if (handler != null) {
       handler.handle(frame);
     }
   }
 
-  protected void emitEnd() {
-    Handler<Void> handler = endHandler;
-    if (handler != null) {
-      handler.handle(null);
+  private void drain() {
+    if (draining) {
+      return;
+    }
+    draining = true;
+    try {
+      Object item;
+      while ((item = inbound.peek()) != null) {
+        boolean message = item != END && ((GrpcFrame) item).type() == GrpcFrameType.MESSAGE;
+        if (message) {
+          if (demand == 0L) {
+            break;
+          }
+          if (demand != Long.MAX_VALUE) {
+            demand--;
+          }
+        }
+        inbound.poll();
+        if (item == END) {
+          Handler<Void> handler = endHandler;
+          if (handler != null) {
+            handler.handle(null);
+          }
+        } else {
+          if (message) {
+            consumed();
+          }
+          emitNow((GrpcFrame) item);
+        }
+      }
+    } finally {
+      draining = false;
     }
   }
 
+  private void consumed() {
+    if (++consumed >= WINDOW / 2 && peerAddress != null && !peerEnded && !closed) {
+      send(EventBusHeaders.FRAME_CREDIT, null, new DeliveryOptions().addHeader(EventBusHeaders.CREDIT, Integer.toString(consumed)));
+      consumed = 0;
+    }
+  }
+
+  /**
+   * Signal the peer won't send messages anymore, no credits are granted afterwards.
+   */
+  protected void peerEnded() {
+    peerEnded = true;
+  }
+
   @Override
   public GrpcOutboundStream setWriteQueueMaxSize(int maxSize) {
+    // The window is fixed by the receiving side
     return this;
   }
 
   @Override
   public boolean writeQueueFull() {
-    return false;
+    return outstanding >= WINDOW;
   }
 
   @Override
   public GrpcOutboundStream drainHandler(Handler<Void> handler) {
+    this.drainHandler = handler;
     return this;
   }
+
+  /**
+   * Register this call in its endpoint.
+   *
+   * @return a future completed when the endpoint can receive frames
+   */
+  protected Future<Void> register() {
+    id = endpoint.nextId();
+    return endpoint.register(id, this);
+  }
+
+  protected String id() {
+    return id;
+  }
+
+  /**
+   * Start sending frames to the peer, the frames sent before are flushed and the frames received before are handled.
+   */
+  protected void connect(String peerAddress, String peerId) {
+    this.peerAddress = peerAddress;
+    this.peerId = peerId;
+    List<Object[]> list = pending;
+    if (list != null) {
+      pending = null;
+      for (Object[] frame : list) {
+        DeliveryOptions options = (DeliveryOptions) frame[1];
+        options.addHeader(EventBusHeaders.CALL, peerId);
+        eventBus.send(peerAddress, frame[0], options);
+      }
+    }
+    handleReordered();
+  }
+
+  protected boolean isConnected() {
+    return peerAddress != null;
+  }
+
+  /**
+   * Stop receiving frames.
+   */
+  protected void close() {
+    if (!closed) {
+      closed = true;
+      if (id != null) {
+        endpoint.unregister(id);
+      }
+    }
+  }
+
+  protected boolean isClosed() {
+    return closed;
+  }
+
+  protected void send(String type, Object body, DeliveryOptions options) {
+    options.addHeader(EventBusHeaders.FRAME, type);
+    options.addHeader(EventBusHeaders.SEQ, Long.toString(++seq));
+    if (peerAddress != null) {
+      options.addHeader(EventBusHeaders.CALL, peerId);
+      eventBus.send(peerAddress, body, options);
+    } else {
+      if (pending == null) {
+        pending = new ArrayList<>();
+      }
+      pending.add(new Object[]{body, options});
+    }
+  }
+
+  /**
+   * Send a message frame, the message is passed by reference when {@code local} is true.
+   */
+  protected void sendMessage(GrpcMessage message, boolean local) {
+    if (local) {
+      send(EventBusHeaders.FRAME_MESSAGE, new EventBusGrpcLocalMessage(null, message.format(), null, null, message), EventBusGrpcLocalCodec.deliveryOptions());
+    } else {
+      send(EventBusHeaders.FRAME_MESSAGE, message.payload(), new DeliveryOptions());
+    }
+    messageSent();
+  }
+
+  /**
+   * Account a message sent to the peer, e.g. carried by the request opening a call.
+   */
+  protected void messageSent() {
+    if (++outstanding >= WINDOW) {
+      full = true;
+    }
+  }
+
+  protected static GrpcMessage decodeMessage(Object body, String encoding, WireFormat format) {
+    if (body instanceof EventBusGrpcLocalMessage) {
+      return ((EventBusGrpcLocalMessage) body).message;
+    }
+    return GrpcMessage.message(encoding, format, EventBusGrpcBody.asBuffer(body));
+  }
+
+  protected static MultiMap decodeHeaders(String prefix, MultiMap src) {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    EventBusHeaders.decodeMultimap(prefix, src, headers);
+    return headers;
+  }
+
+  /**
+   * Called by the endpoint from any thread.
+   */
+  void receive(Message<Object> message) {
+    context.runOnContext(v -> handleReceived(message));
+  }
+
+  private void handleReceived(Message<Object> message) {
+    if (closed) {
+      return;
+    }
+    long seq = Long.parseLong(message.headers().get(EventBusHeaders.SEQ));
+    if (seq != expectedSeq || peerAddress == null) {
+      if (reordered == null) {
+        reordered = new HashMap<>();
+      }
+      reordered.put(seq, message);
+      return;
+    }
+    expectedSeq++;
+    handleFrame(message);
+    handleReordered();
+  }
+
+  private void handleReordered() {
+    Message<Object> message;
+    while (reordered != null && !closed && peerAddress != null && (message = reordered.remove(expectedSeq)) != null) {
+      expectedSeq++;
+      handleFrame(message);
+    }
+  }
+
+  private void handleFrame(Message<Object> message) {
+    String type = message.headers().get(EventBusHeaders.FRAME);
+    if (EventBusHeaders.FRAME_CREDIT.equals(type)) {
+      outstanding -= Integer.parseInt(message.headers().get(EventBusHeaders.CREDIT));
+      if (full && outstanding < WINDOW) {
+        full = false;
+        Handler<Void> handler = drainHandler;
+        if (handler != null) {
+          handler.handle(null);
+        }
+      }
+    } else {
+      handleFrame(type, message);
+    }
+  }
+
+  /**
+   * Handle a stream frame other than a credit frame, in sequence order.
+   */
+  protected abstract void handleFrame(String type, Message<Object> message);
+
 }
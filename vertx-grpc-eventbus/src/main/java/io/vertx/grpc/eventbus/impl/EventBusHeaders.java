@@ -29,6 +29,55 @@ public final class EventBusHeaders {
    */
   public static final String TRAILER_PREFIX = "__trailer__.";
 
+  /**
+   * The address of the endpoint receiving the stream frames of a call: the client sets it on the request, the server
+   * sets it on the reply accepting a streamed response.
+   */
+  public static final String STREAM = "grpc-stream";
+
+  /**
+   * The call identifier within the endpoint receiving a frame.
+   */
+  public static final String CALL = "grpc-call";
+
+  /**
+   * Set on a request carrying the last client message, a request without {@link #STREAM} header is always the last.
+   */
+  public static final String END = "grpc-end";
+
+  /**
+   * The type of stream frame: {@code headers}, {@code message}, {@code end}, {@code trailers}, {@code credit} or
+   * {@code cancel}.
+   */
+  public static final String FRAME = "grpc-frame";
+
+  /**
+   * The sequence number of a stream frame, starting at {@code 1} for each direction of a call.
+   */
+  public static final String SEQ = "grpc-seq";
+
+  /**
+   * The number of messages granted back to the sender by a {@code credit} frame.
+   */
+  public static final String CREDIT = "grpc-credit";
+
+  /**
+   * The status code of a {@code trailers} frame.
+   */
+  public static final String STATUS = "grpc-status";
+
+  /**
+   * The status message of a {@code trailers} frame.
+   */
+  public static final String STATUS_MESSAGE = "grpc-message";
+
+  static final String FRAME_HEADERS = "headers";
+  static final String FRAME_MESSAGE = "message";
+  static final String FRAME_END = "end";
+  static final String FRAME_TRAILERS = "trailers";
+  static final String FRAME_CREDIT = "credit";
+  static final String FRAME_CANCEL = "cancel";
+
   /**
    * Prefixed header encoding.
    */
@@ -11,6 +11,7 @@ import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.eventbus.EventBusGrpcClient;
+import io.vertx.grpc.eventbus.EventBusGrpcServer;
 import io.vertx.grpc.eventbus.impl.EventBusHeaders;
 import io.vertx.tests.common.GrpcTestBase;
 import io.vertx.tests.common.grpc.Reply;
@@ -22,6 +23,7 @@ import org.junit.Test;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class EventBusGrpcClientTest extends GrpcTestBase {
 
@@ -32,6 +34,13 @@ public class EventBusGrpcClientTest extends GrpcTestBase {
     TestConstants.REPLY_DEC
   );
 
+  private static final ServiceMethod<Request, Reply> SERVER_UNARY = ServiceMethod.server(
+    TestConstants.TEST_SERVICE,
+    "Unary",
+    TestConstants.REPLY_ENC,
+    TestConstants.REQUEST_DEC
+  );
+
   private EventBusGrpcClient client;
 
   @Before
@@ -222,4 +231,58 @@ public class EventBusGrpcClientTest extends GrpcTestBase {
       Assert.assertEquals(GrpcStatus.DEADLINE_EXCEEDED, e.actualStatus());
     }
   }
+
+  @Test
+  public void testLocalDeliveryByReference(TestContext testContext) throws Exception {
+    Request request = Request.newBuilder().setName("Julien").build();
+    Reply reply = Reply.newBuilder().setMessage("Hello Julien").build();
+    AtomicReference<Request> received = new AtomicReference<>();
+    EventBusGrpcServer.server(vertx).callHandler(SERVER_UNARY, call -> {
+      testContext.assertEquals("request_header_value", call.headers().get("x-custom"));
+      call.handler(msg -> {
+        received.set(msg);
+        call.response().headers().set("x-custom", "response_header_value");
+        call.response().trailers().set("x-custom", "response_trailer_value");
+        call.response().end(reply);
+      });
+    });
+
+    Reply result = client.request(UNARY)
+      .compose(req -> {
+        req.headers().add("x-custom", "request_header_value");
+        req.end(request);
+        return req.response().compose(response -> {
+          testContext.assertEquals("response_header_value", response.headers().get("x-custom"));
+          return response.last().andThen(ar -> {
+            if (ar.succeeded()) {
+              testContext.assertEquals("response_trailer_value", response.trailers().get("x-custom"));
+            }
+          });
+        });
+      })
+      .await(10, TimeUnit.SECONDS);
+
+    Assert.assertSame(request, received.get());
+    Assert.assertSame(reply, result);
+  }
+
+  @Test
+  public void testLocalDeliveryFailure() throws TimeoutException {
+    EventBusGrpcServer.server(vertx).callHandler(SERVER_UNARY, call -> call.handler(msg -> {
+      call.response().status(GrpcStatus.NOT_FOUND).end();
+    }));
+
+    try {
+      client.request(UNARY)
+        .compose(request -> {
+          request.end(Request.newBuilder().setName("Julien").build());
+          return request.response();
+        })
+        .compose(GrpcReadStream::last)
+        .await(10, TimeUnit.SECONDS);
+      Assert.fail("Should have thrown");
+    } catch (InvalidStatusException e) {
+      Assert.assertEquals(GrpcStatus.NOT_FOUND, e.actualStatus());
+    }
+  }
 }
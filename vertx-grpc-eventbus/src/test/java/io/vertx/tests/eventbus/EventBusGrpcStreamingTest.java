@@ -0,0 +1,438 @@
+package io.vertx.tests.eventbus;
+
+import io.vertx.core.Context;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryContext;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.eventbus.EventBusGrpcClient;
+import io.vertx.grpc.eventbus.EventBusGrpcServer;
+import io.vertx.grpc.eventbus.impl.EventBusHeaders;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import io.vertx.tests.common.GrpcTestBase;
+import io.vertx.tests.common.grpc.Empty;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestConstants;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class EventBusGrpcStreamingTest extends GrpcTestBase {
+
+  private static final int NUM_ITEMS = 128;
+
+  private static final ServiceMethod<Empty, Reply> SERVER_SOURCE = ServiceMethod.server(TestConstants.TEST_SERVICE, "Source", TestConstants.REPLY_ENC, TestConstants.EMPTY_DEC);
+  private static final ServiceMethod<Request, Empty> SERVER_SINK = ServiceMethod.server(TestConstants.TEST_SERVICE, "Sink", TestConstants.EMPTY_ENC, TestConstants.REQUEST_DEC);
+  private static final ServiceMethod<Request, Reply> SERVER_PIPE = ServiceMethod.server(TestConstants.TEST_SERVICE, "Pipe", TestConstants.REPLY_ENC, TestConstants.REQUEST_DEC);
+
+  private static final ServiceMethod<Reply, Empty> SOURCE = ServiceMethod.client(TestConstants.TEST_SERVICE, "Source", TestConstants.EMPTY_ENC, TestConstants.REPLY_DEC);
+  private static final ServiceMethod<Empty, Request> SINK = ServiceMethod.client(TestConstants.TEST_SERVICE, "Sink", TestConstants.REQUEST_ENC, TestConstants.EMPTY_DEC);
+  private static final ServiceMethod<Reply, Request> PIPE = ServiceMethod.client(TestConstants.TEST_SERVICE, "Pipe", TestConstants.REQUEST_ENC, TestConstants.REPLY_DEC);
+
+  private EventBusGrpcServer server;
+  private EventBusGrpcClient client;
+  private Vertx serverNode;
+  private Vertx clientNode;
+
+  @Before
+  public void setUp(TestContext should) {
+    super.setUp(should);
+    server = EventBusGrpcServer.server(vertx);
+    client = EventBusGrpcClient.client(vertx);
+  }
+
+  @After
+  public void closeCluster() throws Exception {
+    if (clientNode != null) {
+      clientNode.close().await(10, TimeUnit.SECONDS);
+    }
+    if (serverNode != null) {
+      serverNode.close().await(10, TimeUnit.SECONDS);
+    }
+    FakeClusterManager.reset();
+  }
+
+  /**
+   * Start a server node and a client node, the calls between clustered nodes are serialized instead of being delivered
+   * by reference.
+   */
+  private void startCluster() throws Exception {
+    serverNode = Vertx.builder().withClusterManager(new FakeClusterManager()).buildClustered().await(20, TimeUnit.SECONDS);
+    clientNode = Vertx.builder().withClusterManager(new FakeClusterManager()).buildClustered().await(20, TimeUnit.SECONDS);
+    server = EventBusGrpcServer.server(serverNode);
+    client = EventBusGrpcClient.client(clientNode);
+  }
+
+  /**
+   * Wait until the client node sees the consumer of the test service.
+   */
+  private void awaitConsumer() throws Exception {
+    long now = System.currentTimeMillis();
+    while (true) {
+      try {
+        // Rejected by the server for the missing action header
+        clientNode.eventBus().request(TestConstants.TEST_SERVICE.fullyQualifiedName(), null).await(10, TimeUnit.SECONDS);
+        return;
+      } catch (ReplyException e) {
+        if (e.failureType() != ReplyFailure.NO_HANDLERS) {
+          return;
+        }
+      }
+      Assert.assertTrue(System.currentTimeMillis() - now < 10_000);
+      Thread.sleep(10);
+    }
+  }
+
+  /**
+   * Record the bodies of the call messages received by {@code node}.
+   */
+  private static List<Object> recordBodies(Vertx node) {
+    List<Object> bodies = new CopyOnWriteArrayList<>();
+    node.eventBus().addInboundInterceptor(ctx -> {
+      MultiMap headers = ctx.message().headers();
+      if (headers.contains(EventBusHeaders.ACTION) || "message".equals(headers.get(EventBusHeaders.FRAME))) {
+        bodies.add(ctx.message().body());
+      }
+      ctx.next();
+    });
+    return bodies;
+  }
+
+  /**
+   * Swap the message frames sent by {@code node} two by two, so they are received out of order, a held frame is sent
+   * right after the next frame.
+   *
+   * @return the number of swapped frames
+   */
+  private static AtomicInteger swapMessageFrames(Vertx node) {
+    AtomicInteger swapped = new AtomicInteger();
+    AtomicReference<DeliveryContext<?>> held = new AtomicReference<>();
+    node.eventBus().addOutboundInterceptor(ctx -> {
+      String frame = ctx.message().headers().get(EventBusHeaders.FRAME);
+      if (frame == null) {
+        ctx.next();
+        return;
+      }
+      DeliveryContext<?> prev = held.getAndSet(null);
+      if (prev == null && "message".equals(frame)) {
+        held.set(ctx);
+        return;
+      }
+      ctx.next();
+      if (prev != null) {
+        prev.next();
+        swapped.incrementAndGet();
+      }
+    });
+    return swapped;
+  }
+
+  @Test
+  public void testServerStreaming() throws Exception {
+    server.callHandler(SERVER_SOURCE, call -> call.handler(msg -> {
+      for (int i = 0; i < NUM_ITEMS; i++) {
+        call.response().write(Reply.newBuilder().setMessage("the-value-" + i).build());
+      }
+      call.response().end();
+    }));
+
+    List<String> items = client.request(SOURCE)
+      .compose(request -> {
+        request.end(Empty.getDefaultInstance());
+        return request.response();
+      })
+      .compose(response -> response.collect(Collectors.mapping(Reply::getMessage, Collectors.toList())))
+      .await(10, TimeUnit.SECONDS);
+
+    List<String> expected = IntStream.range(0, NUM_ITEMS).mapToObj(val -> "the-value-" + val).collect(Collectors.toList());
+    Assert.assertEquals(expected, items);
+  }
+
+  @Test
+  public void testClientStreaming() throws Exception {
+    List<String> received = new ArrayList<>();
+    server.callHandler(SERVER_SINK, call -> {
+      call.handler(msg -> received.add(msg.getName()));
+      call.endHandler(v -> call.response().end(Empty.getDefaultInstance()));
+    });
+
+    client.request(SINK)
+      .compose(request -> {
+        for (int i = 0; i < NUM_ITEMS; i++) {
+          request.write(Request.newBuilder().setName("the-value-" + i).build());
+        }
+        request.end();
+        return request.response().compose(response -> response.last());
+      })
+      .await(10, TimeUnit.SECONDS);
+
+    List<String> expected = IntStream.range(0, NUM_ITEMS).mapToObj(val -> "the-value-" + val).collect(Collectors.toList());
+    Assert.assertEquals(expected, received);
+  }
+
+  @Test
+  public void testBidiStreaming() throws Exception {
+    server.callHandler(SERVER_PIPE, call -> {
+      call.handler(msg -> call.response().write(Reply.newBuilder().setMessage(msg.getName()).build()));
+      call.endHandler(v -> call.response().end());
+    });
+
+    List<String> items = client.request(PIPE)
+      .compose(request -> {
+        // Send the next request when the previous reply is received
+        AtomicInteger count = new AtomicInteger();
+        request.write(Request.newBuilder().setName("the-value-" + count.getAndIncrement()).build());
+        return request.response().compose(response -> {
+          List<String> replies = new ArrayList<>();
+          Promise<List<String>> promise = Promise.promise();
+          response.handler(reply -> {
+            replies.add(reply.getMessage());
+            int next = count.getAndIncrement();
+            if (next < NUM_ITEMS) {
+              request.write(Request.newBuilder().setName("the-value-" + next).build());
+            } else {
+              request.end();
+            }
+          });
+          response.endHandler(v -> promise.complete(replies));
+          return promise.future();
+        });
+      })
+      .await(10, TimeUnit.SECONDS);
+
+    List<String> expected = IntStream.range(0, NUM_ITEMS).mapToObj(val -> "the-value-" + val).collect(Collectors.toList());
+    Assert.assertEquals(expected, items);
+  }
+
+  @Test
+  public void testServerFlowControl() throws Exception {
+    Promise<Integer> full = Promise.promise();
+    Promise<Void> drained = Promise.promise();
+    server.callHandler(SERVER_SOURCE, call -> call.handler(msg -> {
+      int sent = 0;
+      while (!call.response().writeQueueFull()) {
+        call.response().write(Reply.newBuilder().setMessage("the-value-" + sent++).build());
+      }
+      int count = sent;
+      call.response().drainHandler(v -> {
+        call.response().end();
+        drained.complete();
+      });
+      full.complete(count);
+    }));
+
+    AtomicInteger received = new AtomicInteger();
+    Promise<Void> ended = Promise.promise();
+    client.request(SOURCE)
+      .compose(request -> {
+        request.end(Empty.getDefaultInstance());
+        return request.response();
+      })
+      .onSuccess(response -> {
+        response.pause();
+        response.handler(reply -> received.incrementAndGet());
+        response.endHandler(v -> ended.complete());
+        Context context = vertx.getOrCreateContext();
+        full.future().onSuccess(v -> context.runOnContext(v2 -> response.resume()));
+      });
+
+    int sent = full.future().await(10, TimeUnit.SECONDS);
+    Assert.assertTrue(sent > 0);
+    drained.future().await(10, TimeUnit.SECONDS);
+    ended.future().await(10, TimeUnit.SECONDS);
+    Assert.assertEquals(sent, received.get());
+  }
+
+  @Test
+  public void testClientFlowControl() throws Exception {
+    AtomicInteger received = new AtomicInteger();
+    Promise<Void> resumed = Promise.promise();
+    Promise<Integer> ended = Promise.promise();
+    server.callHandler(SERVER_SINK, call -> {
+      call.pause();
+      call.handler(msg -> received.incrementAndGet());
+      call.endHandler(v -> {
+        call.response().end(Empty.getDefaultInstance());
+        ended.complete(received.get());
+      });
+      Context context = vertx.getOrCreateContext();
+      resumed.future().onSuccess(v -> context.runOnContext(v2 -> call.resume()));
+    });
+
+    Promise<Integer> full = Promise.promise();
+    Promise<Void> drained = Promise.promise();
+    client.request(SINK)
+      .onSuccess(request -> {
+        int sent = 0;
+        while (!request.writeQueueFull()) {
+          request.write(Request.newBuilder().setName("the-value-" + sent++).build());
+        }
+        full.complete(sent);
+        request.drainHandler(v -> {
+          request.end();
+          drained.complete();
+        });
+      });
+
+    int sent = full.future().await(10, TimeUnit.SECONDS);
+    Assert.assertTrue(sent > 0);
+    resumed.complete();
+    drained.future().await(10, TimeUnit.SECONDS);
+    Assert.assertEquals(sent, (int) ended.future().await(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testClusteredClientStreaming() throws Exception {
+    startCluster();
+    List<Object> bodies = recordBodies(serverNode);
+    List<String> received = new ArrayList<>();
+    AtomicReference<String> requestHeader = new AtomicReference<>();
+    server.callHandler(SERVER_SINK, call -> {
+      requestHeader.set(call.headers().get("x-request"));
+      call.handler(msg -> received.add(msg.getName()));
+      call.endHandler(v -> {
+        call.response().headers().set("x-response", "response-value");
+        call.response().trailers().set("x-trailer", "trailer-value");
+        call.response().end(Empty.getDefaultInstance());
+      });
+    });
+    awaitConsumer();
+
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    MultiMap trailers = MultiMap.caseInsensitiveMultiMap();
+    client.request(SINK)
+      .compose(request -> {
+        request.headers().set("x-request", "request-value");
+        for (int i = 0; i < NUM_ITEMS; i++) {
+          request.write(Request.newBuilder().setName("the-value-" + i).build());
+        }
+        request.end();
+        return request.response().compose(response -> response.last().andThen(ar -> {
+          headers.addAll(response.headers());
+          trailers.addAll(response.trailers());
+        }));
+      })
+      .await(10, TimeUnit.SECONDS);
+
+    List<String> expected = IntStream.range(0, NUM_ITEMS).mapToObj(val -> "the-value-" + val).collect(Collectors.toList());
+    Assert.assertEquals(expected, received);
+    Assert.assertEquals("request-value", requestHeader.get());
+    Assert.assertEquals("response-value", headers.get("x-response"));
+    Assert.assertEquals("trailer-value", trailers.get("x-trailer"));
+    Assert.assertEquals(NUM_ITEMS, bodies.size());
+    for (Object body : bodies) {
+      Assert.assertTrue(body instanceof Buffer);
+    }
+  }
+
+  @Test
+  public void testClusteredJsonServerStreaming() throws Exception {
+    startCluster();
+    List<Object> bodies = recordBodies(serverNode);
+    AtomicReference<WireFormat> format = new AtomicReference<>();
+    server.callHandler(SERVER_SOURCE, call -> call.handler(msg -> {
+      format.set(call.format());
+      call.response().headers().set("x-response", "response-value");
+      for (int i = 0; i < NUM_ITEMS; i++) {
+        call.response().write(Reply.newBuilder().setMessage("the-value-" + i).build());
+      }
+      call.response().trailers().set("x-trailer", "trailer-value");
+      call.response().end();
+    }));
+    awaitConsumer();
+
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    MultiMap trailers = MultiMap.caseInsensitiveMultiMap();
+    List<String> items = client.request(SOURCE)
+      .compose(request -> {
+        request.format(WireFormat.JSON);
+        request.end(Empty.getDefaultInstance());
+        return request.response();
+      })
+      .compose(response -> response
+        .collect(Collectors.mapping(Reply::getMessage, Collectors.toList()))
+        .andThen(ar -> {
+          headers.addAll(response.headers());
+          trailers.addAll(response.trailers());
+        }))
+      .await(10, TimeUnit.SECONDS);
+
+    List<String> expected = IntStream.range(0, NUM_ITEMS).mapToObj(val -> "the-value-" + val).collect(Collectors.toList());
+    Assert.assertEquals(expected, items);
+    Assert.assertEquals(WireFormat.JSON, format.get());
+    Assert.assertEquals("response-value", headers.get("x-response"));
+    Assert.assertEquals("trailer-value", trailers.get("x-trailer"));
+    // The request carries its message as a JSON object
+    Assert.assertEquals(1, bodies.size());
+    Assert.assertTrue(bodies.get(0) instanceof JsonObject);
+  }
+
+  @Test
+  public void testReorderedClientFrames() throws Exception {
+    startCluster();
+    AtomicInteger swapped = swapMessageFrames(clientNode);
+    List<String> received = new ArrayList<>();
+    server.callHandler(SERVER_SINK, call -> {
+      call.handler(msg -> received.add(msg.getName()));
+      call.endHandler(v -> call.response().end(Empty.getDefaultInstance()));
+    });
+    awaitConsumer();
+
+    client.request(SINK)
+      .compose(request -> {
+        for (int i = 0; i < NUM_ITEMS; i++) {
+          request.write(Request.newBuilder().setName("the-value-" + i).build());
+        }
+        request.end();
+        return request.response().compose(response -> response.last());
+      })
+      .await(10, TimeUnit.SECONDS);
+
+    List<String> expected = IntStream.range(0, NUM_ITEMS).mapToObj(val -> "the-value-" + val).collect(Collectors.toList());
+    Assert.assertEquals(expected, received);
+    Assert.assertTrue(swapped.get() > 0);
+  }
+
+  @Test
+  public void testReorderedServerFrames() throws Exception {
+    startCluster();
+    AtomicInteger swapped = swapMessageFrames(serverNode);
+    server.callHandler(SERVER_SOURCE, call -> call.handler(msg -> {
+      for (int i = 0; i < NUM_ITEMS; i++) {
+        call.response().write(Reply.newBuilder().setMessage("the-value-" + i).build());
+      }
+      call.response().end();
+    }));
+    awaitConsumer();
+
+    List<String> items = client.request(SOURCE)
+      .compose(request -> {
+        request.end(Empty.getDefaultInstance());
+        return request.response();
+      })
+      .compose(response -> response.collect(Collectors.mapping(Reply::getMessage, Collectors.toList())))
+      .await(10, TimeUnit.SECONDS);
+
+    List<String> expected = IntStream.range(0, NUM_ITEMS).mapToObj(val -> "the-value-" + val).collect(Collectors.toList());
+    Assert.assertEquals(expected, items);
+    Assert.assertTrue(swapped.get() > 0);
+  }
+}
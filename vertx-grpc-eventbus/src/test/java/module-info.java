@@ -1,5 +1,6 @@
 open module io.vertx.tests.eventbus {
   requires io.vertx.core;
+  requires io.vertx.core.tests;
   requires io.vertx.grpc.client;
   requires io.vertx.grpc.common;
   requires io.vertx.grpc.server;
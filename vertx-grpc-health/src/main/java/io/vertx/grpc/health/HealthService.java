@@ -96,6 +96,31 @@ public interface HealthService extends Service {
   @Fluent
   HealthService unregister(String name);
 
+  /**
+   * Reports the health status of the specified service, the watchers of the service are notified immediately.
+   *
+   * @param name the service name to report the health status for
+   * @param status the health status, {@code true} when the service is serving
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  default HealthService report(ServiceName name, boolean status) {
+    return report(name.fullyQualifiedName(), status);
+  }
+
+  /**
+   * Reports the health status of the specified service, the watchers of the service are notified immediately.
+   * <p>
+   * When the service has a health check, the reported status is its result until the health check is evaluated
+   * again, otherwise the reported status remains until the next report.
+   *
+   * @param name the service name to report the health status for
+   * @param status the health status, {@code true} when the service is serving
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  HealthService report(String name, boolean status);
+
   /**
    * Checks the health status of the specified service.
    *
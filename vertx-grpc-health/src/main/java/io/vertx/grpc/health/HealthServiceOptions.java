@@ -27,13 +27,27 @@ public class HealthServiceOptions {
    */
   public static final Duration HEALTH_CHECK_INTERVAL = Duration.ofMillis(2500);
 
+  /**
+   * The time to live of a health check result, by default = {@code 1000} milliseconds.
+   */
+  public static final Duration DEFAULT_HEALTH_CHECK_CACHE_TTL = Duration.ofMillis(1000);
+
+  /**
+   * Whether the server overload is reported, by default = {@code false}.
+   */
+  public static final boolean DEFAULT_REPORT_OVERLOAD = false;
+
   private Duration healthCheckInterval;
+  private Duration healthCheckCacheTtl;
+  private boolean reportOverload;
 
   /**
    * Default options.
    */
   public HealthServiceOptions() {
     healthCheckInterval = HEALTH_CHECK_INTERVAL;
+    healthCheckCacheTtl = DEFAULT_HEALTH_CHECK_CACHE_TTL;
+    reportOverload = DEFAULT_REPORT_OVERLOAD;
   }
 
   /**
@@ -41,6 +55,8 @@ public class HealthServiceOptions {
    */
   public HealthServiceOptions(HealthServiceOptions other) {
     healthCheckInterval = other.healthCheckInterval;
+    healthCheckCacheTtl = other.healthCheckCacheTtl;
+    reportOverload = other.reportOverload;
   }
 
   /**
@@ -63,4 +79,46 @@ public class HealthServiceOptions {
     this.healthCheckInterval = healthCheckInterval;
     return this;
   }
+
+  /**
+   * @return the time to live of a health check result
+   */
+  public Duration getHealthCheckCacheTtl() {
+    return healthCheckCacheTtl;
+  }
+
+  /**
+   * Set the time to live of a health check result, the {@code Check}, {@code List} and {@code Watch} calls share the
+   * result of a health check until it expires. A zero duration only shares the result of a pending health check.
+   *
+   * @param healthCheckCacheTtl the time to live
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HealthServiceOptions setHealthCheckCacheTtl(Duration healthCheckCacheTtl) {
+    if (healthCheckCacheTtl == null || healthCheckCacheTtl.isNegative()) {
+      throw new IllegalArgumentException("Health check cache TTL must be >= 0. Provided: " + healthCheckCacheTtl);
+    }
+    this.healthCheckCacheTtl = healthCheckCacheTtl;
+    return this;
+  }
+
+  /**
+   * @return whether the server overload is reported
+   */
+  public boolean isReportOverload() {
+    return reportOverload;
+  }
+
+  /**
+   * Set whether services are reported {@code NOT_SERVING} while the server is overloaded according to its
+   * {@link io.vertx.grpc.server.GrpcServerOptions#setOverloadPolicy overload policy}, so clients balancing calls with
+   * health checks steer traffic away from the server.
+   *
+   * @param reportOverload whether to report the overload
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HealthServiceOptions setReportOverload(boolean reportOverload) {
+    this.reportOverload = reportOverload;
+    return this;
+  }
 }
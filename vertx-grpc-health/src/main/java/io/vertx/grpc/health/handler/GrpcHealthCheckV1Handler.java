@@ -3,6 +3,7 @@ package io.vertx.grpc.health.handler;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.health.HealthServiceOptions;
 import io.vertx.grpc.health.v1.HealthCheckRequest;
 import io.vertx.grpc.health.v1.HealthCheckResponse;
 import io.vertx.grpc.server.ServiceContainer;
@@ -24,6 +25,10 @@ public class GrpcHealthCheckV1Handler extends GrpcHealthV1HandlerBase implements
     super(server, healthChecks);
   }
 
+  public GrpcHealthCheckV1Handler(ServiceContainer server, Map<String, Supplier<Future<Boolean>>> healthChecks, HealthServiceOptions options) {
+    super(server, healthChecks, options);
+  }
+
   @Override
   public void invoke(GrpcServerRequest<HealthCheckRequest, HealthCheckResponse> request) {
     request.handler(check -> checkStatus(check.getService()).compose(result -> {
@@ -6,6 +6,7 @@ import io.vertx.grpc.common.GrpcMessageDecoder;
 import io.vertx.grpc.common.GrpcMessageEncoder;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.health.HealthServiceOptions;
 import io.vertx.grpc.health.v1.HealthCheckResponse;
 import io.vertx.grpc.health.v1.HealthListRequest;
 import io.vertx.grpc.health.v1.HealthListResponse;
@@ -28,6 +29,10 @@ public class GrpcHealthListV1Handler extends GrpcHealthV1HandlerBase implements
     super(server, healthChecks);
   }
 
+  public GrpcHealthListV1Handler(ServiceContainer server, Map<String, Supplier<Future<Boolean>>> healthChecks, HealthServiceOptions options) {
+    super(server, healthChecks, options);
+  }
+
   @Override
   public void invoke(GrpcServerRequest<HealthListRequest, HealthListResponse> event) {
     event.handler(request -> {
@@ -1,7 +1,10 @@
 package io.vertx.grpc.health.handler;
 
 import io.vertx.core.Future;
+import io.vertx.grpc.health.HealthServiceOptions;
 import io.vertx.grpc.health.v1.HealthCheckResponse;
+import io.vertx.grpc.server.GrpcOverloadStats;
+import io.vertx.grpc.server.GrpcServer;
 import io.vertx.grpc.server.ServiceContainer;
 
 import java.util.Map;
@@ -12,10 +15,16 @@ public abstract class GrpcHealthV1HandlerBase {
 
   protected final ServiceContainer server;
   protected final Map<String, Supplier<Future<Boolean>>> healthChecks;
+  private final boolean reportOverload;
 
   protected GrpcHealthV1HandlerBase(ServiceContainer server, Map<String, Supplier<Future<Boolean>>> healthChecks) {
+    this(server, healthChecks, new HealthServiceOptions());
+  }
+
+  protected GrpcHealthV1HandlerBase(ServiceContainer server, Map<String, Supplier<Future<Boolean>>> healthChecks, HealthServiceOptions options) {
     this.server = server;
     this.healthChecks = healthChecks;
+    this.reportOverload = options.isReportOverload();
   }
 
   protected Map<String, Supplier<Future<Boolean>>> healthChecks() {
@@ -29,6 +38,22 @@ public abstract class GrpcHealthV1HandlerBase {
   }
 
   protected Future<HealthCheckResponse.ServingStatus> checkStatus(String name) {
+    Future<HealthCheckResponse.ServingStatus> status = checkServiceStatus(name);
+    if (reportOverload && isOverloaded()) {
+      return status.map(s -> s == HealthCheckResponse.ServingStatus.SERVING ? HealthCheckResponse.ServingStatus.NOT_SERVING : s);
+    }
+    return status;
+  }
+
+  private boolean isOverloaded() {
+    if (server instanceof GrpcServer) {
+      GrpcOverloadStats stats = ((GrpcServer) server).overloadStats();
+      return stats != null && stats.isOverloaded();
+    }
+    return false;
+  }
+
+  private Future<HealthCheckResponse.ServingStatus> checkServiceStatus(String name) {
     // Default server status
     if (name == null || name.isBlank()) {
       return Future.succeededFuture(HealthCheckResponse.ServingStatus.SERVING);
@@ -34,7 +34,8 @@ public class GrpcHealthWatchV1Handler extends GrpcHealthV1HandlerBase implements
 
   private final Vertx vertx;
   private final HealthServiceOptions options;
-  private final Map<String, Map<GrpcServerResponse<HealthCheckRequest, HealthCheckResponse>, Boolean>> watchers = new ConcurrentHashMap<>();
+  // The last status sent to each watcher of a service
+  private final Map<String, Map<GrpcServerResponse<HealthCheckRequest, HealthCheckResponse>, HealthCheckResponse.ServingStatus>> watchers = new ConcurrentHashMap<>();
 
   private long timerId = -1;
 
@@ -43,7 +44,7 @@ public class GrpcHealthWatchV1Handler extends GrpcHealthV1HandlerBase implements
   }
 
   public GrpcHealthWatchV1Handler(Vertx vertx, ServiceContainer server, Map<String, Supplier<Future<Boolean>>> healthChecks, HealthServiceOptions options) {
-    super(server, healthChecks);
+    super(server, healthChecks, options);
 
     this.vertx = vertx;
     this.options = options;
@@ -53,21 +54,38 @@ public class GrpcHealthWatchV1Handler extends GrpcHealthV1HandlerBase implements
   private void checkHealthStatusChanges() {
     // For each service with watchers, check its status and notify watchers if changed
     for (String service : watchers.keySet()) {
-      checkStatus(service).onSuccess(result -> {
-        HealthCheckResponse.Builder builder = HealthCheckResponse.newBuilder();
-        builder.setStatus(result);
-        HealthCheckResponse response = builder.build();
+      statusChanged(service);
+    }
+  }
 
-        Map<GrpcServerResponse<HealthCheckRequest, HealthCheckResponse>, Boolean> serviceWatchers = watchers.get(service);
-        if (serviceWatchers != null) {
-          for (GrpcServerResponse<HealthCheckRequest, HealthCheckResponse> watcher : serviceWatchers.keySet()) {
-            watcher.write(response);
+  /**
+   * Check the status of {@code service} and send it to the watchers that have not received it yet.
+   *
+   * @param service the service name
+   */
+  public void statusChanged(String service) {
+    if (!watchers.containsKey(service)) {
+      return;
+    }
+    checkStatus(service).onSuccess(result -> {
+      Map<GrpcServerResponse<HealthCheckRequest, HealthCheckResponse>, HealthCheckResponse.ServingStatus> serviceWatchers = watchers.get(service);
+      if (serviceWatchers == null) {
+        return;
+      }
+      HealthCheckResponse response = null;
+      for (Map.Entry<GrpcServerResponse<HealthCheckRequest, HealthCheckResponse>, HealthCheckResponse.ServingStatus> entry : serviceWatchers.entrySet()) {
+        GrpcServerResponse<HealthCheckRequest, HealthCheckResponse> watcher = entry.getKey();
+        // A watcher that is not reading is sent the status of a later check
+        if (entry.getValue() != result && !watcher.writeQueueFull() && serviceWatchers.replace(watcher, entry.getValue(), result)) {
+          if (response == null) {
+            response = HealthCheckResponse.newBuilder().setStatus(result).build();
           }
+          watcher.write(response);
         }
-      }).onFailure(failure ->
-        logger.log(Level.WARNING, "Failed to check health status for service: " + service, failure)
-      );
-    }
+      }
+    }).onFailure(failure ->
+      logger.log(Level.WARNING, "Failed to check health status for service: " + service, failure)
+    );
   }
 
   @Override
@@ -84,7 +102,7 @@ public class GrpcHealthWatchV1Handler extends GrpcHealthV1HandlerBase implements
         response.write(builder.build());
 
         // Add to watchers
-        watchers.computeIfAbsent(service, k -> new ConcurrentHashMap<>()).put(response, Boolean.TRUE);
+        watchers.computeIfAbsent(service, k -> new ConcurrentHashMap<>()).put(response, result);
 
         // Handle client disconnection
         request.connection().closeHandler(v -> removeWatcher(service, response));
@@ -96,7 +114,7 @@ public class GrpcHealthWatchV1Handler extends GrpcHealthV1HandlerBase implements
         response.write(builder.build());
 
         // Add to watchers
-        watchers.computeIfAbsent(service, k -> new ConcurrentHashMap<>()).put(response, Boolean.TRUE);
+        watchers.computeIfAbsent(service, k -> new ConcurrentHashMap<>()).put(response, HealthCheckResponse.ServingStatus.SERVICE_UNKNOWN);
 
         // Handle client disconnection
         request.connection().closeHandler(v -> removeWatcher(service, response));
@@ -106,7 +124,7 @@ public class GrpcHealthWatchV1Handler extends GrpcHealthV1HandlerBase implements
   }
 
   private void removeWatcher(String service, GrpcServerResponse<HealthCheckRequest, HealthCheckResponse> response) {
-    Map<GrpcServerResponse<HealthCheckRequest, HealthCheckResponse>, Boolean> serviceWatchers = watchers.get(service);
+    Map<GrpcServerResponse<HealthCheckRequest, HealthCheckResponse>, HealthCheckResponse.ServingStatus> serviceWatchers = watchers.get(service);
     if (serviceWatchers != null) {
       serviceWatchers.remove(response);
       if (serviceWatchers.isEmpty()) {
@@ -0,0 +1,54 @@
+package io.vertx.grpc.health.impl;
+
+import io.vertx.core.Future;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * A health check caching its result for a time to live, concurrent evaluations share the pending result.
+ */
+final class CachedHealthCheck implements Supplier<Future<Boolean>> {
+
+  // null when the status is only reported
+  private final Supplier<Future<Boolean>> check;
+  private final long ttl;
+
+  private Future<Boolean> result;
+  private long expiresAt;
+
+  CachedHealthCheck(Supplier<Future<Boolean>> check, Duration ttl) {
+    this.check = check;
+    this.ttl = ttl.toNanos();
+  }
+
+  @Override
+  public synchronized Future<Boolean> get() {
+    Future<Boolean> current = result;
+    if (current != null && (check == null || !current.isComplete() || System.nanoTime() - expiresAt < 0L)) {
+      return current;
+    }
+    Future<Boolean> fut = check.get();
+    result = fut;
+    fut.onComplete(ar -> evaluated(fut, ar.succeeded()));
+    return fut;
+  }
+
+  private synchronized void evaluated(Future<Boolean> fut, boolean succeeded) {
+    if (result == fut) {
+      if (succeeded) {
+        expiresAt = System.nanoTime() + ttl;
+      } else {
+        result = null;
+      }
+    }
+  }
+
+  /**
+   * Cache a reported status, it is kept until the check is evaluated again.
+   */
+  synchronized void report(boolean status) {
+    result = Future.succeededFuture(status);
+    expiresAt = System.nanoTime() + ttl;
+  }
+}
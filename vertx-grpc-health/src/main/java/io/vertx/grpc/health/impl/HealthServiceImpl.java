@@ -36,7 +36,7 @@ public class HealthServiceImpl implements HealthService, ServerAware {
   private ServiceContainer server;
   private ServiceMethodInvoker checkHandler;
   private ServiceMethodInvoker listHandler;
-  private ServiceMethodInvoker watchHandler;
+  private GrpcHealthWatchV1Handler watchHandler;
 
   public HealthServiceImpl(Vertx vertx) {
     this(vertx, new HealthServiceOptions());
@@ -74,7 +74,7 @@ public class HealthServiceImpl implements HealthService, ServerAware {
         invoker = listHandler;
         break;
       case "Watch":
-        invoker = watchHandler;
+        invoker = (ServiceMethodInvoker) watchHandler;
         break;
       default:
         invoker = HealthService.super.invoker(method);
@@ -86,23 +86,43 @@ public class HealthServiceImpl implements HealthService, ServerAware {
   @Override
   public void setServer(ServiceContainer server) {
     this.server = server;
-    this.checkHandler = new GrpcHealthCheckV1Handler(server, checks);
-    this.listHandler = new GrpcHealthListV1Handler(server, checks);
+    this.checkHandler = new GrpcHealthCheckV1Handler(server, checks, options);
+    this.listHandler = new GrpcHealthListV1Handler(server, checks, options);
     this.watchHandler = new GrpcHealthWatchV1Handler(vertx, server, checks, options);
   }
 
   @Override
   public HealthService register(String name, Supplier<Future<Boolean>> check) {
-    checks.put(name, check);
+    checks.put(name, new CachedHealthCheck(check, options.getHealthCheckCacheTtl()));
+    statusChanged(name);
     return this;
   }
 
   @Override
   public HealthService unregister(String name) {
     checks.remove(name);
+    statusChanged(name);
     return this;
   }
 
+  @Override
+  public HealthService report(String name, boolean status) {
+    checks.compute(name, (key, check) -> {
+      CachedHealthCheck cached = check instanceof CachedHealthCheck ? (CachedHealthCheck) check : new CachedHealthCheck(null, options.getHealthCheckCacheTtl());
+      cached.report(status);
+      return cached;
+    });
+    statusChanged(name);
+    return this;
+  }
+
+  private void statusChanged(String name) {
+    GrpcHealthWatchV1Handler handler = watchHandler;
+    if (handler != null) {
+      handler.statusChanged(name);
+    }
+  }
+
   @Override
   public Future<Boolean> checkStatus(String name) {
     Promise<Boolean> promise = Promise.promise();
@@ -19,15 +19,19 @@ import io.vertx.core.Future;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.grpc.health.HealthService;
+import io.vertx.grpc.health.HealthServiceOptions;
 import io.vertx.grpc.server.GrpcServer;
 import io.vertx.tests.common.grpc.TestConstants;
 import io.vertx.tests.health.grpc.*;
 import io.vertx.tests.server.ServerTestBase;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -328,4 +332,132 @@ public class HealthServiceTest extends ServerTestBase {
 
     test.await(10000); // Give more time for the watch test
   }
+
+  @Test
+  public void testHealthWatchReport(TestContext should) throws StatusException, InterruptedException, TimeoutException {
+    // Watchers must be notified without waiting for the next health check
+    HealthService service = HealthService.create(vertx, new HealthServiceOptions().setHealthCheckInterval(Duration.ofHours(1)));
+    service.register(TestConstants.TEST_SERVICE, () -> Future.succeededFuture(true));
+
+    startServer(GrpcServer
+      .server(vertx)
+      .addService(service));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    Async test = should.async();
+    HealthGrpc.HealthStub stub = HealthGrpc.newStub(channel);
+
+    HealthCheckRequest request = HealthCheckRequest.newBuilder()
+      .setService(TestConstants.TEST_SERVICE.fullyQualifiedName())
+      .build();
+
+    List<HealthCheckResponse> responses = new ArrayList<>();
+
+    stub.watch(request, new StreamObserver<>() {
+      @Override
+      public void onNext(HealthCheckResponse response) {
+        responses.add(response);
+        if (responses.size() == 1) {
+          should.assertEquals(HealthCheckResponse.ServingStatus.SERVING, response.getStatus());
+          service.report(TestConstants.TEST_SERVICE, false);
+        } else {
+          should.assertEquals(HealthCheckResponse.ServingStatus.NOT_SERVING, response.getStatus());
+          test.complete();
+        }
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        if (throwable instanceof StatusRuntimeException) {
+          StatusRuntimeException sre = (StatusRuntimeException) throwable;
+          should.assertEquals(Status.UNAVAILABLE.getCode(), sre.getStatus().getCode());
+          return;
+        }
+
+        should.fail(throwable);
+      }
+
+      @Override
+      public void onCompleted() {
+      }
+    });
+
+    test.await(10000);
+  }
+
+  @Test
+  public void testHealthWatchSendsChangesOnly(TestContext should) throws StatusException, InterruptedException, TimeoutException {
+    HealthService service = HealthService.create(vertx, new HealthServiceOptions()
+      .setHealthCheckInterval(Duration.ofMillis(50))
+      .setHealthCheckCacheTtl(Duration.ZERO));
+    service.register(TestConstants.TEST_SERVICE, () -> Future.succeededFuture(true));
+
+    startServer(GrpcServer
+      .server(vertx)
+      .addService(service));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    Async test = should.async();
+    HealthGrpc.HealthStub stub = HealthGrpc.newStub(channel);
+
+    HealthCheckRequest request = HealthCheckRequest.newBuilder()
+      .setService(TestConstants.TEST_SERVICE.fullyQualifiedName())
+      .build();
+
+    List<HealthCheckResponse> responses = new ArrayList<>();
+
+    stub.watch(request, new StreamObserver<>() {
+      @Override
+      public void onNext(HealthCheckResponse response) {
+        responses.add(response);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        if (throwable instanceof StatusRuntimeException) {
+          StatusRuntimeException sre = (StatusRuntimeException) throwable;
+          should.assertEquals(Status.UNAVAILABLE.getCode(), sre.getStatus().getCode());
+          return;
+        }
+
+        should.fail(throwable);
+      }
+
+      @Override
+      public void onCompleted() {
+      }
+    });
+
+    vertx.setTimer(1000, id -> {
+      should.assertEquals(1, responses.size());
+      should.assertEquals(HealthCheckResponse.ServingStatus.SERVING, responses.get(0).getStatus());
+      test.complete();
+    });
+
+    test.await(10000);
+  }
+
+  @Test
+  public void testHealthCheckCache(TestContext should) throws Exception {
+    AtomicInteger evaluations = new AtomicInteger();
+    HealthService service = HealthService.create(vertx, new HealthServiceOptions().setHealthCheckCacheTtl(Duration.ofHours(1)));
+    service.register(TestConstants.TEST_SERVICE, () -> {
+      evaluations.incrementAndGet();
+      return Future.succeededFuture(true);
+    });
+
+    should.assertTrue(service.checkStatus(TestConstants.TEST_SERVICE).await(10, TimeUnit.SECONDS));
+    should.assertTrue(service.checkStatus(TestConstants.TEST_SERVICE).await(10, TimeUnit.SECONDS));
+    should.assertEquals(1, evaluations.get());
+
+    service.report(TestConstants.TEST_SERVICE, false);
+    should.assertFalse(service.checkStatus(TestConstants.TEST_SERVICE).await(10, TimeUnit.SECONDS));
+    should.assertEquals(1, evaluations.get());
+  }
 }
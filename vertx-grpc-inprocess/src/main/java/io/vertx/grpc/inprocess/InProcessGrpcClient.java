@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.inprocess;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.grpc.client.GrpcClientRequest;
+import io.vertx.grpc.client.ServiceInvoker;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.inprocess.impl.InProcessGrpcClientImpl;
+
+/**
+ * A gRPC client calling an {@link InProcessGrpcServer} of the same {@link Vertx} instance.
+ *
+ * <p>The frames of a call are handed over to the server without HTTP/2 framing, protobuf messages are passed by
+ * reference and are not serialized. Calls are flow controlled and the server is looked up by name on each request.</p>
+ *
+ * <p>This implements {@link ServiceInvoker} so it can be used directly with generated gRPC client stubs.</p>
+ */
+@Unstable
+@VertxGen
+public interface InProcessGrpcClient extends ServiceInvoker {
+
+  /**
+   * Create a client calling the server bound to {@code name}.
+   *
+   * @param vertx the vertx instance
+   * @param name the server name
+   * @return the created client
+   */
+  static InProcessGrpcClient client(Vertx vertx, String name) {
+    return client(vertx, name, new InProcessGrpcClientOptions());
+  }
+
+  /**
+   * Create a client calling the server bound to {@code name}.
+   *
+   * @param vertx the vertx instance
+   * @param name the server name
+   * @param options the client options
+   * @return the created client
+   */
+  static InProcessGrpcClient client(Vertx vertx, String name, InProcessGrpcClientOptions options) {
+    return new InProcessGrpcClientImpl(vertx, name, options);
+  }
+
+  /**
+   * Create a request for the given service method, the request fails when no server is bound to the client name.
+   *
+   * @param method the gRPC service method
+   * @return a future request
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(ServiceMethod<Resp, Req> method);
+
+}
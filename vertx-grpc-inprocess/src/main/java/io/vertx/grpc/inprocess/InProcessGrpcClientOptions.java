@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.inprocess;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * Options configuring an {@link InProcessGrpcClient}.
+ */
+@Unstable
+@DataObject
+public class InProcessGrpcClientOptions {
+
+  /**
+   * The default value for copying messages = {@code false}, messages are passed by reference.
+   */
+  public static final boolean DEFAULT_COPY_MESSAGES = false;
+
+  /**
+   * The default value for automatic deadline schedule = {@code false}.
+   */
+  public static final boolean DEFAULT_SCHEDULE_DEADLINE_AUTOMATICALLY = false;
+
+  /**
+   * The default maximum number of frames written to a call and not yet handled by the peer = {@code 16}.
+   */
+  public static final int DEFAULT_WRITE_QUEUE_MAX_SIZE = 16;
+
+  private boolean copyMessages;
+  private boolean scheduleDeadlineAutomatically;
+  private int writeQueueMaxSize;
+
+  /**
+   * Default options.
+   */
+  public InProcessGrpcClientOptions() {
+    copyMessages = DEFAULT_COPY_MESSAGES;
+    scheduleDeadlineAutomatically = DEFAULT_SCHEDULE_DEADLINE_AUTOMATICALLY;
+    writeQueueMaxSize = DEFAULT_WRITE_QUEUE_MAX_SIZE;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public InProcessGrpcClientOptions(InProcessGrpcClientOptions other) {
+    copyMessages = other.copyMessages;
+    scheduleDeadlineAutomatically = other.scheduleDeadlineAutomatically;
+    writeQueueMaxSize = other.writeQueueMaxSize;
+  }
+
+  /**
+   * @return whether messages are copied when they are handed over to the peer
+   */
+  public boolean isCopyMessages() {
+    return copyMessages;
+  }
+
+  /**
+   * Set whether messages are copied when they are handed over to the peer, in both directions. Protobuf messages are
+   * copied with {@code toBuilder().build()} and buffers are copied, so the client and the server never share a
+   * message instance.
+   *
+   * @param copyMessages whether to copy messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public InProcessGrpcClientOptions setCopyMessages(boolean copyMessages) {
+    this.copyMessages = copyMessages;
+    return this;
+  }
+
+  /**
+   * @return whether the client schedules the deadline of a request automatically
+   */
+  public boolean getScheduleDeadlineAutomatically() {
+    return scheduleDeadlineAutomatically;
+  }
+
+  /**
+   * Set whether a request with a timeout is cancelled by the client when its deadline fires, the server can also
+   * enforce the deadline with {@code GrpcServerOptions#setScheduleDeadlineAutomatically}.
+   *
+   * @param scheduleDeadlineAutomatically whether to schedule the deadline
+   * @return a reference to this, so the API can be used fluently
+   */
+  public InProcessGrpcClientOptions setScheduleDeadlineAutomatically(boolean scheduleDeadlineAutomatically) {
+    this.scheduleDeadlineAutomatically = scheduleDeadlineAutomatically;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of frames written to a call and not yet handled by the peer
+   */
+  public int getWriteQueueMaxSize() {
+    return writeQueueMaxSize;
+  }
+
+  /**
+   * Set the maximum number of frames written by each side of a call and not yet handled by the peer, a side
+   * reports a full write queue above this size until the peer has handled half of them.
+   *
+   * @param writeQueueMaxSize the write queue max size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public InProcessGrpcClientOptions setWriteQueueMaxSize(int writeQueueMaxSize) {
+    if (writeQueueMaxSize < 1) {
+      throw new IllegalArgumentException("Write queue max size must be > 0");
+    }
+    this.writeQueueMaxSize = writeQueueMaxSize;
+    return this;
+  }
+}
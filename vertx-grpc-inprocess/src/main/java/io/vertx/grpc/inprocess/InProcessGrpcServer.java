@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.inprocess;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.inprocess.impl.InProcessGrpcServerImpl;
+
+/**
+ * A {@link GrpcServer} bound to a name, an {@link InProcessGrpcClient} created with the same {@link Vertx} instance and
+ * name calls this server without going through HTTP/2.
+ *
+ * <p>The calls are handled by the server like any other call: the services, concurrency limits, deadlines and
+ * metrics of the server apply.</p>
+ */
+@Unstable
+@VertxGen
+public interface InProcessGrpcServer {
+
+  /**
+   * Bind {@code server} to {@code name}.
+   *
+   * @param vertx the vertx instance
+   * @param name the name
+   * @param server the server handling the calls
+   * @return the binding
+   * @throws IllegalStateException when a server is already bound to this name
+   */
+  static InProcessGrpcServer bind(Vertx vertx, String name, GrpcServer server) {
+    return InProcessGrpcServerImpl.bind(vertx, name, server);
+  }
+
+  /**
+   * @return the name of this server
+   */
+  String name();
+
+  /**
+   * Unbind the server, the calls in progress are not affected.
+   *
+   * @return a future completed when the server is unbound
+   */
+  Future<Void> close();
+
+}
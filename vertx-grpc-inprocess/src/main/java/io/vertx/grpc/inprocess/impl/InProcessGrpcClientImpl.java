@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.inprocess.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.client.GrpcClientRequest;
+import io.vertx.grpc.client.InvalidStatusException;
+import io.vertx.grpc.client.impl.GrpcClientRequestImpl;
+import io.vertx.grpc.common.GrpcLocal;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
+import io.vertx.grpc.inprocess.InProcessGrpcClient;
+import io.vertx.grpc.inprocess.InProcessGrpcClientOptions;
+
+import java.util.concurrent.TimeUnit;
+
+public class InProcessGrpcClientImpl implements InProcessGrpcClient {
+
+  private final Vertx vertx;
+  private final String name;
+  private final InProcessGrpcClientOptions options;
+
+  public InProcessGrpcClientImpl(Vertx vertx, String name, InProcessGrpcClientOptions options) {
+    this.vertx = vertx;
+    this.name = name;
+    this.options = new InProcessGrpcClientOptions(options);
+  }
+
+  @Override
+  public <Req, Resp> Future<GrpcClientRequest<Req, Resp>> invoker(ServiceMethod<Resp, Req> method) {
+    return request(method);
+  }
+
+  @Override
+  public <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(ServiceMethod<Resp, Req> method) {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    InProcessGrpcServerImpl server = InProcessGrpcServerImpl.lookup(vertx, name);
+    if (server == null) {
+      return context.failedFuture(new IllegalStateException("No in-process server bound to " + name));
+    }
+    GrpcClientRequestImpl<Req, Resp> request = new GrpcClientRequestImpl<>(
+      context,
+      new InProcessGrpcClientInvoker(context, server.server(), options),
+      options.getScheduleDeadlineAutomatically(),
+      GrpcCompressorRegistry.DEFAULT,
+      method.encoder(),
+      method.decoder()
+    );
+    request.serviceName(method.serviceName());
+    request.methodName(method.methodName());
+    // Propagate the deadline of the server call in progress
+    GrpcLocal local = context.getLocal(GrpcLocal.CONTEXT_LOCAL_KEY);
+    if (local != null) {
+      long timeout = local.deadline().toEpochMilli() - System.currentTimeMillis();
+      if (timeout <= 0L) {
+        return context.failedFuture(new InvalidStatusException(GrpcStatus.OK, GrpcStatus.DEADLINE_EXCEEDED));
+      }
+      request.timeout(timeout, TimeUnit.MILLISECONDS);
+    }
+    return context.succeededFuture(request);
+  }
+}
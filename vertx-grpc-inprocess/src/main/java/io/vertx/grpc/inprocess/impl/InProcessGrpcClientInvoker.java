@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.inprocess.impl;
+
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.client.impl.GrpcClientInvoker;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.common.impl.GrpcStream;
+import io.vertx.grpc.inprocess.InProcessGrpcClientOptions;
+import io.vertx.grpc.server.impl.GrpcServerImpl;
+
+public class InProcessGrpcClientInvoker implements GrpcClientInvoker {
+
+  private final ContextInternal context;
+  private final GrpcServerImpl server;
+  private final InProcessGrpcClientOptions options;
+
+  public InProcessGrpcClientInvoker(ContextInternal context, GrpcServerImpl server, InProcessGrpcClientOptions options) {
+    this.context = context;
+    this.server = server;
+    this.options = options;
+  }
+
+  @Override
+  public GrpcStream invoke(ServiceName serviceName, String methodName) {
+    // The server call runs on a duplicate of the client context, there is no thread hop
+    ContextInternal serverContext = context.duplicate();
+    InProcessGrpcStream clientStream = new InProcessGrpcStream(context, options.isCopyMessages(), options.getWriteQueueMaxSize());
+    InProcessGrpcStream serverStream = new InProcessGrpcStream(serverContext, options.isCopyMessages(), options.getWriteQueueMaxSize());
+    InProcessGrpcStream.link(clientStream, serverStream);
+    String path = serviceName.pathOf(methodName);
+    clientStream.connectHandler(headers -> server.handle(serverContext, path, headers.format(), serverStream));
+    return clientStream;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.inprocess.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import io.vertx.grpc.inprocess.InProcessGrpcServer;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.impl.GrpcServerImpl;
+
+import java.util.Objects;
+
+/**
+ * The servers are registered in a local map of the Vert.x instance.
+ */
+public class InProcessGrpcServerImpl implements InProcessGrpcServer, Shareable {
+
+  private static final String REGISTRY_NAME = "__vertx.grpc.inprocess";
+
+  private final Vertx vertx;
+  private final String name;
+  private final GrpcServerImpl server;
+
+  private InProcessGrpcServerImpl(Vertx vertx, String name, GrpcServerImpl server) {
+    this.vertx = vertx;
+    this.name = name;
+    this.server = server;
+  }
+
+  public static InProcessGrpcServerImpl bind(Vertx vertx, String name, GrpcServer server) {
+    Objects.requireNonNull(name, "name is null");
+    InProcessGrpcServerImpl binding = new InProcessGrpcServerImpl(vertx, name, (GrpcServerImpl) Objects.requireNonNull(server, "server is null"));
+    if (registry(vertx).putIfAbsent(name, binding) != null) {
+      throw new IllegalStateException("A server is already bound to " + name);
+    }
+    return binding;
+  }
+
+  /**
+   * @return the server bound to {@code name} or {@code null}
+   */
+  static InProcessGrpcServerImpl lookup(Vertx vertx, String name) {
+    return registry(vertx).get(name);
+  }
+
+  private static LocalMap<String, InProcessGrpcServerImpl> registry(Vertx vertx) {
+    return vertx.sharedData().getLocalMap(REGISTRY_NAME);
+  }
+
+  GrpcServerImpl server() {
+    return server;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public Future<Void> close() {
+    registry(vertx).remove(name, this);
+    return ((VertxInternal) vertx).getOrCreateContext().succeededFuture();
+  }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.inprocess.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.impl.DefaultGrpcCancelFrame;
+import io.vertx.grpc.common.impl.DefaultGrpcMessageFrame;
+import io.vertx.grpc.common.impl.GrpcFrame;
+import io.vertx.grpc.common.impl.GrpcFrameType;
+import io.vertx.grpc.common.impl.GrpcHeadersFrame;
+import io.vertx.grpc.common.impl.GrpcMessageFrame;
+import io.vertx.grpc.common.impl.GrpcStream;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>One side of an in-process call, the frames written to a side are handed over to its peer.</p>
+ *
+ * <p>Frames are delivered on the context of the reading side, after the write has returned. Message frames and the end
+ * of the stream are subject to the demand of the reading side. A side counts the messages it has written that the peer
+ * has not handled yet, its write queue is full when this count reaches the write queue max size and drains when the
+ * count is back to half of it.</p>
+ *
+ * <p>A cancel frame bypasses the queue, both sides drop the frames they have not delivered yet.</p>
+ */
+final class InProcessGrpcStream implements GrpcStream {
+
+  private static final Object END = new Object();
+
+  private final ContextInternal context;
+  private final boolean copyMessages;
+  private InProcessGrpcStream peer;
+  private Handler<GrpcHeadersFrame> connectHandler;
+  private boolean ended;
+
+  // Inbound, guarded by this
+  private final ArrayDeque<Object> inbound = new ArrayDeque<>();
+  private long demand = Long.MAX_VALUE;
+  private boolean draining;
+  private boolean reset;
+
+  private Handler<GrpcFrame> frameHandler;
+  private Handler<Void> endHandler;
+
+  // Outbound
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicBoolean full = new AtomicBoolean();
+  private volatile int writeQueueMaxSize;
+  private Handler<Void> drainHandler;
+
+  InProcessGrpcStream(ContextInternal context, boolean copyMessages, int writeQueueMaxSize) {
+    this.context = context;
+    this.copyMessages = copyMessages;
+    this.writeQueueMaxSize = writeQueueMaxSize;
+  }
+
+  static void link(InProcessGrpcStream client, InProcessGrpcStream server) {
+    client.peer = server;
+    server.peer = client;
+  }
+
+  /**
+   * Set a handler called with the first headers frame written to this stream, before the frame is handed over to the peer.
+   */
+  void connectHandler(Handler<GrpcHeadersFrame> handler) {
+    this.connectHandler = handler;
+  }
+
+  @Override
+  public Future<Void> write(GrpcFrame frame) {
+    return write(frame, false);
+  }
+
+  @Override
+  public Future<Void> end(GrpcFrame frame) {
+    return write(frame, true);
+  }
+
+  @Override
+  public Future<Void> end() {
+    return write(null, true);
+  }
+
+  private Future<Void> write(GrpcFrame frame, boolean end) {
+    if (ended) {
+      return frame == null ? context.succeededFuture() : context.failedFuture("Stream already ended");
+    }
+    if (frame != null) {
+      switch (frame.type()) {
+        case HEADERS:
+          Handler<GrpcHeadersFrame> handler = connectHandler;
+          if (handler != null) {
+            connectHandler = null;
+            handler.handle((GrpcHeadersFrame) frame);
+          }
+          break;
+        case MESSAGE:
+          if (copyMessages) {
+            frame = new DefaultGrpcMessageFrame(copy(((GrpcMessageFrame) frame).message()));
+          }
+          if (pending.incrementAndGet() >= writeQueueMaxSize) {
+            full.set(true);
+          }
+          break;
+        case TRAILERS:
+          end = true;
+          break;
+        case CANCEL:
+          ended = true;
+          reset();
+          peer.receiveCancel();
+          return context.succeededFuture();
+        default:
+          // E.g. the idle timeout of a request, there is no connection to configure
+          return context.succeededFuture();
+      }
+      peer.receive(frame);
+    }
+    if (end) {
+      ended = true;
+      peer.receive(END);
+    }
+    return context.succeededFuture();
+  }
+
+  private static GrpcMessage copy(GrpcMessage message) {
+    if (message instanceof ProtobufGrpcMessage) {
+      return new ProtobufGrpcMessage(((ProtobufGrpcMessage) message).message().toBuilder().build());
+    }
+    return GrpcMessage.message(message.encoding(), message.format(), message.payload().copy());
+  }
+
+  private void receive(Object item) {
+    synchronized (this) {
+      if (reset) {
+        return;
+      }
+      inbound.add(item);
+      if (draining) {
+        return;
+      }
+      draining = true;
+    }
+    context.runOnContext(v -> drain());
+  }
+
+  private void receiveCancel() {
+    synchronized (this) {
+      if (reset) {
+        return;
+      }
+      reset = true;
+      inbound.clear();
+    }
+    context.runOnContext(v -> {
+      Handler<GrpcFrame> handler = frameHandler;
+      if (handler != null) {
+        handler.handle(DefaultGrpcCancelFrame.INSTANCE);
+      }
+    });
+  }
+
+  private synchronized void reset() {
+    reset = true;
+    inbound.clear();
+  }
+
+  private void drain() {
+    while (true) {
+      Object item;
+      boolean message;
+      synchronized (this) {
+        item = inbound.peek();
+        if (item == null) {
+          draining = false;
+          return;
+        }
+        message = item != END && ((GrpcFrame) item).type() == GrpcFrameType.MESSAGE;
+        if (message || item == END) {
+          if (demand == 0L) {
+            draining = false;
+            return;
+          }
+          if (demand != Long.MAX_VALUE) {
+            demand--;
+          }
+        }
+        inbound.poll();
+      }
+      if (item == END) {
+        Handler<Void> handler = endHandler;
+        if (handler != null) {
+          handler.handle(null);
+        }
+      } else {
+        if (message) {
+          peer.handled();
+        }
+        Handler<GrpcFrame> handler = frameHandler;
+        if (handler != null) {
+          handler.handle((GrpcFrame) item);
+        }
+      }
+    }
+  }
+
+  /**
+   * Called by the peer when it has handled a message written by this side.
+   */
+  private void handled() {
+    int count = pending.decrementAndGet();
+    if (count <= writeQueueMaxSize / 2 && full.compareAndSet(true, false)) {
+      context.runOnContext(v -> {
+        Handler<Void> handler = drainHandler;
+        if (handler != null) {
+          handler.handle(null);
+        }
+      });
+    }
+  }
+
+  @Override
+  public InProcessGrpcStream handler(Handler<GrpcFrame> handler) {
+    this.frameHandler = handler;
+    return this;
+  }
+
+  @Override
+  public InProcessGrpcStream endHandler(Handler<Void> handler) {
+    this.endHandler = handler;
+    return this;
+  }
+
+  @Override
+  public InProcessGrpcStream exceptionHandler(Handler<Throwable> handler) {
+    // There is no transport failure
+    return this;
+  }
+
+  @Override
+  public InProcessGrpcStream pause() {
+    synchronized (this) {
+      demand = 0L;
+    }
+    return this;
+  }
+
+  @Override
+  public InProcessGrpcStream resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public InProcessGrpcStream fetch(long amount) {
+    if (amount < 0L) {
+      throw new IllegalArgumentException("Invalid fetch amount " + amount);
+    }
+    synchronized (this) {
+      demand += amount;
+      if (demand < 0L) {
+        demand = Long.MAX_VALUE;
+      }
+      if (draining || inbound.isEmpty()) {
+        return this;
+      }
+      draining = true;
+    }
+    context.runOnContext(v -> drain());
+    return this;
+  }
+
+  @Override
+  public InProcessGrpcStream setWriteQueueMaxSize(int maxSize) {
+    this.writeQueueMaxSize = maxSize;
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return pending.get() >= writeQueueMaxSize;
+  }
+
+  @Override
+  public InProcessGrpcStream drainHandler(Handler<Void> handler) {
+    this.drainHandler = handler;
+    return this;
+  }
+}
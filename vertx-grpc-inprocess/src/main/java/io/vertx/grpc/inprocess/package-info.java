@@ -0,0 +1,4 @@
+@ModuleGen(name = "vertx-grpc-inprocess", groupPackage = "io.vertx")
+package io.vertx.grpc.inprocess;
+
+import io.vertx.codegen.annotations.ModuleGen;
@@ -0,0 +1,14 @@
+module io.vertx.grpc.inprocess {
+  requires io.vertx.core;
+  requires io.vertx.grpc.common;
+  requires io.vertx.grpc.client;
+  requires io.vertx.grpc.server;
+  requires com.google.protobuf;
+
+  requires static io.vertx.docgen;
+  requires static io.vertx.codegen.api;
+  requires static io.vertx.codegen.json;
+
+  exports io.vertx.grpc.inprocess;
+  exports io.vertx.grpc.inprocess.impl to io.vertx.tests.inprocess;
+}
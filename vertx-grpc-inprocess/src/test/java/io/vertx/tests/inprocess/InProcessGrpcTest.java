@@ -0,0 +1,190 @@
+package io.vertx.tests.inprocess;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.client.InvalidStatusException;
+import io.vertx.grpc.common.GrpcReadStream;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.inprocess.InProcessGrpcClient;
+import io.vertx.grpc.inprocess.InProcessGrpcClientOptions;
+import io.vertx.grpc.inprocess.InProcessGrpcServer;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.grpc.server.GrpcServerResponse;
+import io.vertx.tests.common.GrpcTestBase;
+import io.vertx.tests.common.grpc.Empty;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestConstants;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class InProcessGrpcTest extends GrpcTestBase {
+
+  private static final ServiceMethod<Request, Reply> UNARY = ServiceMethod.server(
+    TestConstants.TEST_SERVICE,
+    "Unary",
+    TestConstants.REPLY_ENC,
+    TestConstants.REQUEST_DEC
+  );
+
+  private static final ServiceMethod<Empty, Reply> SOURCE = ServiceMethod.server(
+    TestConstants.TEST_SERVICE,
+    "Source",
+    TestConstants.REPLY_ENC,
+    TestConstants.EMPTY_DEC
+  );
+
+  private static final ServiceMethod<Reply, Request> UNARY_CLIENT = ServiceMethod.client(
+    TestConstants.TEST_SERVICE,
+    "Unary",
+    TestConstants.REQUEST_ENC,
+    TestConstants.REPLY_DEC
+  );
+
+  private static final ServiceMethod<Reply, Empty> SOURCE_CLIENT = ServiceMethod.client(
+    TestConstants.TEST_SERVICE,
+    "Source",
+    TestConstants.EMPTY_ENC,
+    TestConstants.REPLY_DEC
+  );
+
+  private static final String NAME = "test";
+
+  private Reply unary(InProcessGrpcClient client, Request request) throws Exception {
+    return client.request(UNARY_CLIENT)
+      .compose(req -> {
+        req.end(request);
+        return req.response();
+      })
+      .compose(GrpcReadStream::last)
+      .await(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testUnaryByReference() throws Exception {
+    Request request = Request.newBuilder().setName("Julien").build();
+    Reply reply = Reply.newBuilder().setMessage("Hello Julien").build();
+    AtomicReference<Request> received = new AtomicReference<>();
+    InProcessGrpcServer.bind(vertx, NAME, GrpcServer.server(vertx).callHandler(UNARY, call -> call.handler(msg -> {
+      received.set(msg);
+      call.response().end(reply);
+    })));
+    InProcessGrpcClient client = InProcessGrpcClient.client(vertx, NAME);
+    Assert.assertSame(reply, unary(client, request));
+    Assert.assertSame(request, received.get());
+  }
+
+  @Test
+  public void testUnaryCopyMessages() throws Exception {
+    Request request = Request.newBuilder().setName("Julien").build();
+    Reply reply = Reply.newBuilder().setMessage("Hello Julien").build();
+    AtomicReference<Request> received = new AtomicReference<>();
+    InProcessGrpcServer.bind(vertx, NAME, GrpcServer.server(vertx).callHandler(UNARY, call -> call.handler(msg -> {
+      received.set(msg);
+      call.response().end(reply);
+    })));
+    InProcessGrpcClient client = InProcessGrpcClient.client(vertx, NAME, new InProcessGrpcClientOptions().setCopyMessages(true));
+    Reply copy = unary(client, request);
+    Assert.assertNotSame(reply, copy);
+    Assert.assertEquals(reply, copy);
+    Assert.assertNotSame(request, received.get());
+    Assert.assertEquals(request, received.get());
+  }
+
+  @Test
+  public void testFlowControl(TestContext should) {
+    int numMessages = 64;
+    int writeQueueMaxSize = 16;
+    AtomicInteger sent = new AtomicInteger();
+    InProcessGrpcServer.bind(vertx, NAME, GrpcServer.server(vertx).callHandler(SOURCE, call -> {
+      GrpcServerResponse<Empty, Reply> response = call.response();
+      while (!response.writeQueueFull()) {
+        response.write(Reply.newBuilder().setMessage("msg-" + sent.getAndIncrement()).build());
+      }
+      response.drainHandler(v -> {
+        while (sent.get() < numMessages) {
+          response.write(Reply.newBuilder().setMessage("msg-" + sent.getAndIncrement()).build());
+        }
+        response.end();
+      });
+    }));
+    InProcessGrpcClient client = InProcessGrpcClient.client(vertx, NAME, new InProcessGrpcClientOptions().setWriteQueueMaxSize(writeQueueMaxSize));
+    Async async = should.async();
+    client.request(SOURCE_CLIENT)
+      .compose(req -> {
+        req.end(Empty.getDefaultInstance());
+        return req.response();
+      })
+      .onComplete(should.asyncAssertSuccess(response -> {
+        response.pause();
+        AtomicInteger received = new AtomicInteger();
+        response.handler(msg -> should.assertEquals("msg-" + received.getAndIncrement(), msg.getMessage()));
+        response.endHandler(v -> {
+          should.assertEquals(numMessages, received.get());
+          async.complete();
+        });
+        vertx.setTimer(100, id -> {
+          should.assertEquals(writeQueueMaxSize, sent.get());
+          should.assertEquals(0, received.get());
+          response.resume();
+        });
+      }));
+  }
+
+  @Test
+  public void testDeadline(TestContext should) {
+    InProcessGrpcServer.bind(vertx, NAME, GrpcServer.server(vertx, new GrpcServerOptions().setScheduleDeadlineAutomatically(true)).callHandler(UNARY, call -> {
+      should.assertTrue(call.timeout() > 0L);
+      // Never reply
+    }));
+    InProcessGrpcClient client = InProcessGrpcClient.client(vertx, NAME);
+    client.request(UNARY_CLIENT)
+      .compose(req -> {
+        req.timeout(100, TimeUnit.MILLISECONDS);
+        req.end(Request.newBuilder().setName("Julien").build());
+        return req.response();
+      })
+      .onComplete(should.asyncAssertSuccess(response -> {
+        response.end().onComplete(should.asyncAssertFailure(err -> {
+          should.assertEquals(GrpcStatus.DEADLINE_EXCEEDED, response.status());
+        }));
+      }));
+  }
+
+  @Test
+  public void testUnimplemented() throws Exception {
+    InProcessGrpcServer.bind(vertx, NAME, GrpcServer.server(vertx));
+    try {
+      unary(InProcessGrpcClient.client(vertx, NAME), Request.newBuilder().setName("Julien").build());
+      Assert.fail("Should have thrown");
+    } catch (InvalidStatusException e) {
+      Assert.assertEquals(GrpcStatus.UNIMPLEMENTED, e.actualStatus());
+    }
+  }
+
+  @Test
+  public void testUnbound() throws Exception {
+    InProcessGrpcServer server = InProcessGrpcServer.bind(vertx, NAME, GrpcServer.server(vertx).callHandler(UNARY, call -> call.handler(msg -> {
+      call.response().end(Reply.newBuilder().setMessage("Hello " + msg.getName()).build());
+    })));
+    InProcessGrpcClient client = InProcessGrpcClient.client(vertx, NAME);
+    Assert.assertEquals("Hello Julien", unary(client, Request.newBuilder().setName("Julien").build()).getMessage());
+    try {
+      InProcessGrpcServer.bind(vertx, NAME, GrpcServer.server(vertx));
+      Assert.fail("Should have thrown");
+    } catch (IllegalStateException expected) {
+    }
+    server.close().await(10, TimeUnit.SECONDS);
+    try {
+      unary(client, Request.newBuilder().setName("Julien").build());
+      Assert.fail("Should have thrown");
+    } catch (IllegalStateException expected) {
+    }
+  }
+}
@@ -0,0 +1,14 @@
+open module io.vertx.tests.inprocess {
+  requires io.vertx.core;
+  requires io.vertx.grpc.client;
+  requires io.vertx.grpc.common;
+  requires io.vertx.grpc.server;
+  requires io.vertx.grpc.inprocess;
+  requires io.vertx.testing.unit;
+  requires io.vertx.tests.common;
+
+  requires junit;
+
+  requires com.google.protobuf;
+  requires com.google.common;
+}
@@ -121,6 +121,7 @@ public class VertxGrpcGenerator {
     options.setGenerateClient(getBooleanParam(params, "grpc-client", false))
       .setGenerateService(getBooleanParam(params, "grpc-service", false))
       .setGenerateIo(getBooleanParam(params, "grpc-io", false))
+      .setGenerateBlockingService(getBooleanParam(params, "grpc-blocking-service", false))
       .setGenerateTranscoding(getBooleanParam(params, "grpc-transcoding", true))
       .setGenerateVertxGeneratorAnnotations(getBooleanParam(params, "vertx-codegen", false))
       .setServicePrefix(params.getOrDefault("service-prefix", ""));
@@ -175,6 +176,7 @@ public class VertxGrpcGenerator {
       generators.put(GenerationType.GRPC_CLIENT, List.of(new GrpcGrpcClientGenerator()));
       generators.put(GenerationType.SERVICE, List.of(new GrpcServiceGenerator()));
       generators.put(GenerationType.GRPC_SERVICE, List.of(new GrpcGrpcServiceGenerator()));
+      generators.put(GenerationType.GRPC_BLOCKING_SERVICE, List.of(new GrpcBlockingServiceGenerator()));
       generators.put(GenerationType.GRPC_IO, List.of(new GrpcIoGenerator()));
 
       CodeGenerationEngine engine = new CodeGenerationEngine(generators);
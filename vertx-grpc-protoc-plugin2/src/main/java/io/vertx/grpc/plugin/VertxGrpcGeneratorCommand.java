@@ -21,6 +21,9 @@ public class VertxGrpcGeneratorCommand implements Callable<Integer> {
   @CommandLine.Option(names = { "--grpc-io" }, description = "Generate gRPC IO code")
   public boolean grpcIo = false;
 
+  @CommandLine.Option(names = { "--grpc-blocking-service" }, description = "Generate blocking gRPC service interfaces, requires the service code")
+  public boolean grpcBlockingService = false;
+
   @CommandLine.Option(names = { "--grpc-transcoding" }, description = "Whether to generate transcoding options for methods with HTTP annotations")
   public boolean grpcTranscoding = true;
 
@@ -50,6 +53,7 @@ public class VertxGrpcGeneratorCommand implements Callable<Integer> {
     sb.append("grpc-client=").append(grpcClient).append(", ");
     sb.append("grpc-service=").append(grpcService).append(", ");
     sb.append("grpc-io=").append(grpcIo).append(", ");
+    sb.append("grpc-blocking-service=").append(grpcBlockingService).append(", ");
     sb.append("grpc-transcoding=").append(grpcTranscoding).append(", ");
     sb.append("vertx-codegen=").append(vertxCodegen).append(", ");
 
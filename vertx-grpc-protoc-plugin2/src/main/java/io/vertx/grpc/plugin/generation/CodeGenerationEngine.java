@@ -76,6 +76,9 @@ public class CodeGenerationEngine {
     if (options.isGenerateService()) {
       types.add(GenerationType.SERVICE);
       types.add(GenerationType.GRPC_SERVICE);
+      if (options.isGenerateBlockingService()) {
+        types.add(GenerationType.GRPC_BLOCKING_SERVICE);
+      }
     }
     if (options.isGenerateIo()) {
       types.add(GenerationType.GRPC_IO);
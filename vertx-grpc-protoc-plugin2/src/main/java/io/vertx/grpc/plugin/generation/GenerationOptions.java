@@ -28,6 +28,12 @@ public class GenerationOptions {
    */
   public static final boolean DEFAULT_GENERATE_IO = false;
 
+  /**
+   * Default value indicating whether blocking service interfaces are generated along with the service classes. By default, this is set to {@code false}, meaning blocking service
+   * interfaces are not generated unless explicitly enabled.
+   */
+  public static final boolean DEFAULT_GENERATE_BLOCKING_SERVICE = false;
+
   /**
    * Indicates whether transcoding generation is enabled by default. When set to true, it implies that the generation process should include support for transcoding features. This
    * is a configurable option in the generation process and can be overridden based on specific requirements.
@@ -48,6 +54,7 @@ public class GenerationOptions {
   private boolean generateClient;
   private boolean generateService;
   private boolean generateIo;
+  private boolean generateBlockingService;
   private boolean generateTranscoding;
   private boolean generateVertxGeneratorAnnotations;
   private String servicePrefix;
@@ -56,6 +63,7 @@ public class GenerationOptions {
     this.generateClient = DEFAULT_GENERATE_CLIENT;
     this.generateService = DEFAULT_GENERATE_SERVICE;
     this.generateIo = DEFAULT_GENERATE_IO;
+    this.generateBlockingService = DEFAULT_GENERATE_BLOCKING_SERVICE;
     this.generateTranscoding = DEFAULT_GENERATE_TRANSCODING;
     this.generateVertxGeneratorAnnotations = DEFAULT_GENERATE_VERTX_GENERATOR_ANNOTATIONS;
     this.servicePrefix = DEFAULT_SERVICE_PREFIX;
@@ -121,6 +129,26 @@ public class GenerationOptions {
     return this;
   }
 
+  /**
+   * Determines whether blocking service interfaces are generated.
+   *
+   * @return true if blocking service interfaces should be generated, false otherwise.
+   */
+  public boolean isGenerateBlockingService() {
+    return generateBlockingService;
+  }
+
+  /**
+   * Sets whether blocking service interfaces are generated, they are invoked on virtual threads or worker threads and require the service generation.
+   *
+   * @param generateBlockingService a boolean flag that determines whether blocking service interfaces should be generated
+   * @return the current instance of GenerationOptions for method chaining
+   */
+  public GenerationOptions setGenerateBlockingService(boolean generateBlockingService) {
+    this.generateBlockingService = generateBlockingService;
+    return this;
+  }
+
   /**
    * Determines whether the generation of transcoding features is enabled.
    *
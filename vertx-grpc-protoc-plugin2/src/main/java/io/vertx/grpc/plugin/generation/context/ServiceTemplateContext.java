@@ -17,6 +17,7 @@ public class ServiceTemplateContext {
   public String clientFqn;
   public String grpcClientFqn;
   public String grpcServiceFqn;
+  public String blockingServiceFqn;
   public String grpcIoFqn;
   public String outerFqn;
   public String prefixedServiceName;
@@ -50,6 +51,7 @@ public class ServiceTemplateContext {
     context.serviceFqn = prefix + service.getName() + "Service";
     context.grpcClientFqn = prefix + service.getName() + "GrpcClient";
     context.grpcServiceFqn = prefix + service.getName() + "GrpcService";
+    context.blockingServiceFqn = prefix + service.getName() + "BlockingGrpcService";
     context.grpcIoFqn = prefix + service.getName() + "GrpcIo";
     context.prefixedServiceName = prefix + service.getName();
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.MultiMap;
+import io.vertx.grpc.server.impl.BlockingServerCallImpl;
+
+/**
+ * <p>A synchronous view of a server call, for service methods invoked with the {@link io.vertx.core.ThreadingModel#WORKER}
+ * or the {@link io.vertx.core.ThreadingModel#VIRTUAL_THREAD} threading model.</p>
+ *
+ * <p>Messages are read one at a time, each {@link #read()} fetches a single message from the request. {@link #write(Object)}
+ * blocks while the response write queue is full. The request and the response are always used from the context of the
+ * connection, this view must not be used from an event loop thread.</p>
+ */
+@Unstable
+public interface BlockingServerCall<Req, Resp> {
+
+  /**
+   * Create a blocking view of {@code request}, this must be called before the request is resumed.
+   *
+   * @param request the server request
+   * @return the blocking call
+   * @throws IllegalStateException when called from an event loop thread
+   */
+  static <Req, Resp> BlockingServerCall<Req, Resp> create(GrpcServerRequest<Req, Resp> request) {
+    return new BlockingServerCallImpl<>(request);
+  }
+
+  /**
+   * @return the request headers
+   */
+  MultiMap headers();
+
+  /**
+   * Read the next request message, blocking until it is received.
+   *
+   * @return the message or {@code null} when the request has ended
+   * @throws StatusException with {@link io.vertx.grpc.common.GrpcStatus#CANCELLED} when the call has been cancelled
+   */
+  Req read();
+
+  /**
+   * Write a response message, blocking while the response write queue is full.
+   *
+   * @param message the message
+   * @throws StatusException with {@link io.vertx.grpc.common.GrpcStatus#CANCELLED} when the call has been cancelled
+   * @throws IllegalStateException when the call has ended
+   */
+  void write(Resp message);
+
+  /**
+   * End the call with the {@code OK} status, this has no effect when the call has ended.
+   */
+  void end();
+
+  /**
+   * Write {@code message} and end the call with the {@code OK} status, this has no effect when the call has ended.
+   *
+   * @param message the last message
+   */
+  void end(Resp message);
+
+  /**
+   * End the call with a status mapped from {@code failure}, this has no effect when the call has ended.
+   *
+   * @param failure the failure, a {@link StatusException} sets the status
+   */
+  void fail(Throwable failure);
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * <p>Invoker of a service method implemented with a {@link BlockingServerCall}.</p>
+ *
+ * <p>The call ends with the {@code OK} status when {@link #invoke(BlockingServerCall)} returns, or fails with the
+ * thrown exception. The service method must use the {@link io.vertx.core.ThreadingModel#WORKER} or the
+ * {@link io.vertx.core.ThreadingModel#VIRTUAL_THREAD} threading model.</p>
+ */
+@Unstable
+@FunctionalInterface
+public interface BlockingServiceMethodInvoker<Req, Resp> extends ServiceMethodInvoker<Req, Resp> {
+
+  /**
+   * Handle the method call.
+   *
+   * @param call the blocking call
+   * @throws Exception ends the call, a {@link StatusException} sets the status
+   */
+  void invoke(BlockingServerCall<Req, Resp> call) throws Exception;
+
+  @Override
+  default void invoke(GrpcServerRequest<Req, Resp> request) {
+    BlockingServerCall<Req, Resp> call = BlockingServerCall.create(request);
+    try {
+      invoke(call);
+    } catch (Exception e) {
+      call.fail(e);
+      return;
+    }
+    call.end();
+  }
+}
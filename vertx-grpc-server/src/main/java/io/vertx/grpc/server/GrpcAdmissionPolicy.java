@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * <p>Controls the admission of the calls of a method according to their deadline.</p>
+ *
+ * <p>A call whose remaining deadline is not greater than {@link #getMinBudget()} fails with {@code DEADLINE_EXCEEDED}
+ * before its messages are decoded. When the method has a {@link io.vertx.grpc.common.GrpcConcurrencyLimitPolicy concurrency limit},
+ * calls above the limit wait in a queue of at most {@link #getMaxQueueSize()} calls instead of failing, the queue admits
+ * the call with the earliest deadline first and drops the calls whose deadline expired while waiting.</p>
+ */
+@Unstable
+public class GrpcAdmissionPolicy {
+
+  /**
+   * The default maximum number of calls waiting for admission = {@code 128}
+   */
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 128;
+
+  /**
+   * The default minimum remaining deadline of an admitted call = {@code 0}
+   */
+  public static final Duration DEFAULT_MIN_BUDGET = Duration.ZERO;
+
+  private int maxQueueSize;
+  private Duration minBudget;
+
+  /**
+   * Default policy.
+   */
+  public GrpcAdmissionPolicy() {
+    maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+    minBudget = DEFAULT_MIN_BUDGET;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public GrpcAdmissionPolicy(GrpcAdmissionPolicy other) {
+    maxQueueSize = other.maxQueueSize;
+    minBudget = other.minBudget;
+  }
+
+  /**
+   * @return the maximum number of calls waiting for admission
+   */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * Set the maximum number of calls waiting for admission when the concurrency limit of the method is reached, calls
+   * beyond fail with {@code RESOURCE_EXHAUSTED}, {@code 0} disables the queue.
+   *
+   * @param maxQueueSize the maximum queue size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcAdmissionPolicy setMaxQueueSize(int maxQueueSize) {
+    if (maxQueueSize < 0) {
+      throw new IllegalArgumentException("Max queue size must be >= 0");
+    }
+    this.maxQueueSize = maxQueueSize;
+    return this;
+  }
+
+  /**
+   * @return the minimum remaining deadline of an admitted call
+   */
+  public Duration getMinBudget() {
+    return minBudget;
+  }
+
+  /**
+   * Set the minimum remaining deadline of a call to be admitted, e.g. the time needed to process a call, calls without
+   * a deadline are always admitted.
+   *
+   * @param minBudget the minimum budget
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcAdmissionPolicy setMinBudget(Duration minBudget) {
+    Objects.requireNonNull(minBudget);
+    if (minBudget.isNegative()) {
+      throw new IllegalArgumentException("Min budget must be >= 0");
+    }
+    this.minBudget = minBudget;
+    return this;
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * State maintained by a {@link GrpcAdmissionPolicy} for a method.
+ */
+@Unstable
+public interface GrpcAdmissionStats {
+
+  /**
+   * @return the number of calls waiting for admission
+   */
+  int queued();
+
+  /**
+   * @return the number of calls dropped because their deadline expired before admission
+   */
+  long expiredCalls();
+
+  /**
+   * @return the number of calls rejected because the queue was full
+   */
+  long rejectedCalls();
+
+}
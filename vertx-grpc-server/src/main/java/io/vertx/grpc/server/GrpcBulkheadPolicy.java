@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+
+import java.util.Objects;
+
+/**
+ * <p>Isolates the methods bound to a named bulkhead from the other methods of the server.</p>
+ *
+ * <p>The calls of these methods run on a worker pool of {@link #getMaxInFlight()} threads named after the bulkhead,
+ * calls beyond wait in a queue of at most {@link #getMaxQueueSize()} calls and calls that do not fit fail immediately
+ * with {@code RESOURCE_EXHAUSTED}. The methods bound to the same name share the bulkhead, the policy of the first bound
+ * method configures it. The name is scoped to the server, the pool is never shared with another server or with a worker
+ * executor of the same name.</p>
+ *
+ * <p>A call holds a worker while its invoker or its message handlers run, a streaming call waiting for its next message
+ * releases its worker and might wait in the queue again when the message arrives. A blocking call holds its worker until
+ * it returns.</p>
+ */
+@Unstable
+public class GrpcBulkheadPolicy {
+
+  /**
+   * The default maximum number of calls holding a worker at the same time = {@code 10}
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT = 10;
+
+  /**
+   * The default maximum number of calls waiting to run = {@code 100}
+   */
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 100;
+
+  private final String name;
+  private int maxInFlight;
+  private int maxQueueSize;
+
+  /**
+   * Default policy for the bulkhead {@code name}.
+   *
+   * @param name the bulkhead name
+   */
+  public GrpcBulkheadPolicy(String name) {
+    this.name = Objects.requireNonNull(name);
+    maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public GrpcBulkheadPolicy(GrpcBulkheadPolicy other) {
+    name = other.name;
+    maxInFlight = other.maxInFlight;
+    maxQueueSize = other.maxQueueSize;
+  }
+
+  /**
+   * @return the bulkhead name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the maximum number of calls holding a worker at the same time
+   */
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Set the maximum number of calls holding a worker at the same time, this is the size of the worker pool. Streaming
+   * calls only hold a worker while they have messages to handle, so more calls than this might be in progress.
+   *
+   * @param maxInFlight the maximum number of calls
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcBulkheadPolicy setMaxInFlight(int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("Max in flight must be > 0");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of calls waiting to run
+   */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * Set the maximum number of calls waiting for a worker, calls beyond fail with {@code RESOURCE_EXHAUSTED},
+   * {@code 0} disables the queue.
+   *
+   * @param maxQueueSize the maximum queue size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcBulkheadPolicy setMaxQueueSize(int maxQueueSize) {
+    if (maxQueueSize < 0) {
+      throw new IllegalArgumentException("Max queue size must be >= 0");
+    }
+    this.maxQueueSize = maxQueueSize;
+    return this;
+  }
+}
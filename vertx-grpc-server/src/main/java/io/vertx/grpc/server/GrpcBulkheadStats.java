@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * State maintained by a {@link GrpcBulkheadPolicy} for a bulkhead.
+ */
+@Unstable
+public interface GrpcBulkheadStats {
+
+  /**
+   * @return the number of calls holding a bulkhead worker, streaming calls waiting for a message are not counted
+   */
+  int inFlight();
+
+  /**
+   * @return the number of calls waiting for a worker
+   */
+  int queued();
+
+  /**
+   * @return the number of calls that failed because the bulkhead was full
+   */
+  long rejectedCalls();
+
+  /**
+   * @return the number of times a call ran on a worker
+   */
+  long executions();
+
+  /**
+   * @return the total time in nanoseconds calls waited for a worker
+   */
+  long queueNanos();
+
+  /**
+   * @return the total time in nanoseconds calls ran on a worker
+   */
+  long executionNanos();
+
+}
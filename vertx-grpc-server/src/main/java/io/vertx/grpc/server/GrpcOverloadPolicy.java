@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * <p>Sheds calls when the event loops of the server lag.</p>
+ *
+ * <p>Each event loop receiving calls runs a probe every {@link #getSampleInterval()}, the delay between the time the
+ * probe was due and the time it actually ran is smoothed into a lag estimate. While the lag of an event loop is above
+ * {@link #getMaxLag()}, the new calls received by this event loop fail with {@code UNAVAILABLE} and a
+ * {@code grpc-retry-pushback-ms} trailer set to {@link #getRetryPushback()}.</p>
+ */
+@Unstable
+public class GrpcOverloadPolicy {
+
+  /**
+   * The default interval between two lag samples = {@code 100} milliseconds
+   */
+  public static final Duration DEFAULT_SAMPLE_INTERVAL = Duration.ofMillis(100);
+
+  /**
+   * The default lag above which calls are shed = {@code 100} milliseconds
+   */
+  public static final Duration DEFAULT_MAX_LAG = Duration.ofMillis(100);
+
+  /**
+   * The default weight of a new sample in the lag estimate = {@code 0.25}
+   */
+  public static final double DEFAULT_SMOOTHING = 0.25;
+
+  /**
+   * The default retry pushback sent with shed calls = {@code 1} second
+   */
+  public static final Duration DEFAULT_RETRY_PUSHBACK = Duration.ofSeconds(1);
+
+  private Duration sampleInterval;
+  private Duration maxLag;
+  private double smoothing;
+  private Duration retryPushback;
+
+  /**
+   * Default policy.
+   */
+  public GrpcOverloadPolicy() {
+    sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+    maxLag = DEFAULT_MAX_LAG;
+    smoothing = DEFAULT_SMOOTHING;
+    retryPushback = DEFAULT_RETRY_PUSHBACK;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public GrpcOverloadPolicy(GrpcOverloadPolicy other) {
+    sampleInterval = other.sampleInterval;
+    maxLag = other.maxLag;
+    smoothing = other.smoothing;
+    retryPushback = other.retryPushback;
+  }
+
+  /**
+   * @return the interval between two lag samples
+   */
+  public Duration getSampleInterval() {
+    return sampleInterval;
+  }
+
+  /**
+   * Set the interval between two lag samples of an event loop.
+   *
+   * @param sampleInterval the sample interval
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcOverloadPolicy setSampleInterval(Duration sampleInterval) {
+    Objects.requireNonNull(sampleInterval);
+    if (sampleInterval.isNegative() || sampleInterval.isZero()) {
+      throw new IllegalArgumentException("Sample interval must be > 0");
+    }
+    this.sampleInterval = sampleInterval;
+    return this;
+  }
+
+  /**
+   * @return the lag above which calls are shed
+   */
+  public Duration getMaxLag() {
+    return maxLag;
+  }
+
+  /**
+   * Set the lag of an event loop above which the calls it receives are shed.
+   *
+   * @param maxLag the maximum lag
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcOverloadPolicy setMaxLag(Duration maxLag) {
+    Objects.requireNonNull(maxLag);
+    if (maxLag.isNegative()) {
+      throw new IllegalArgumentException("Max lag must be >= 0");
+    }
+    this.maxLag = maxLag;
+    return this;
+  }
+
+  /**
+   * @return the weight of a new sample in the lag estimate
+   */
+  public double getSmoothing() {
+    return smoothing;
+  }
+
+  /**
+   * Set the weight of a new sample in the lag estimate, {@code 1} uses the last sample as is.
+   *
+   * @param smoothing the smoothing factor
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcOverloadPolicy setSmoothing(double smoothing) {
+    if (smoothing <= 0D || smoothing > 1D) {
+      throw new IllegalArgumentException("Smoothing must be in ]0,1]");
+    }
+    this.smoothing = smoothing;
+    return this;
+  }
+
+  /**
+   * @return the retry pushback sent with shed calls
+   */
+  public Duration getRetryPushback() {
+    return retryPushback;
+  }
+
+  /**
+   * Set the delay a client should wait before retrying a shed call, sent in the {@code grpc-retry-pushback-ms} trailer.
+   *
+   * @param retryPushback the retry pushback
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcOverloadPolicy setRetryPushback(Duration retryPushback) {
+    Objects.requireNonNull(retryPushback);
+    if (retryPushback.isNegative()) {
+      throw new IllegalArgumentException("Retry pushback must be >= 0");
+    }
+    this.retryPushback = retryPushback;
+    return this;
+  }
+}
@@ -11,14 +11,20 @@
 package io.vertx.grpc.server;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.grpc.common.GrpcCompressionStats;
+import io.vertx.grpc.common.GrpcConcurrencyLimitStats;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.server.impl.GrpcServerImpl;
 
+import java.util.function.Function;
+
 /**
  * <p>A gRPC server based on Vert.x HTTP server.</p>
  *
@@ -72,7 +78,67 @@ public interface GrpcServer extends ServiceContainer, Handler<HttpServerRequest>
   @Fluent
   <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler);
 
+  /**
+   * Set a handler for a unary service method, the handler is called with the request message and returns the response.
+   *
+   * <p>Over HTTP/2 such calls are handled without the streaming machinery, the request body is aggregated and decoded once
+   * and the response is written at once. A failure with a {@link StatusException} sets the status of the response.</p>
+   *
+   * @param serviceMethod the service method
+   * @param handler the unary handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  <Req, Resp> GrpcServer unaryCallHandler(ServiceMethod<Req, Resp> serviceMethod, Function<Req, Future<Resp>> handler);
+
   @Override
   @Fluent
   GrpcServer addService(Service service);
+
+  /**
+   * Return the compression counters of a service method bound with {@link #callHandler(ServiceMethod, Handler)} or
+   * {@link #addService(Service)}, the method must have a {@link io.vertx.grpc.server.GrpcServerOptions#setCompressionPolicy(io.vertx.grpc.common.GrpcCompressionPolicy) compression policy}.
+   *
+   * @param serviceMethod the service method
+   * @return the counters or {@code null} when the method is not bound or has no compression policy
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  GrpcCompressionStats compressionStats(ServiceMethod<?, ?> serviceMethod);
+
+  /**
+   * Return the concurrency limit state of a service method bound with {@link #callHandler(ServiceMethod, Handler)} or
+   * {@link #addService(Service)}, the method must have a {@link io.vertx.grpc.server.GrpcServerOptions#setConcurrencyLimitPolicy(io.vertx.grpc.common.GrpcConcurrencyLimitPolicy) concurrency limit policy}.
+   *
+   * @param serviceMethod the service method
+   * @return the state or {@code null} when the method is not bound or has no concurrency limit policy
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  GrpcConcurrencyLimitStats concurrencyLimitStats(ServiceMethod<?, ?> serviceMethod);
+
+  /**
+   * Return the admission state of a service method bound with {@link #callHandler(ServiceMethod, Handler)} or
+   * {@link #addService(Service)}, the server must have an {@link io.vertx.grpc.server.GrpcServerOptions#setAdmissionPolicy(GrpcAdmissionPolicy) admission policy}.
+   *
+   * @param serviceMethod the service method
+   * @return the state or {@code null} when the method is not bound or the server has no admission policy
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  GrpcAdmissionStats admissionStats(ServiceMethod<?, ?> serviceMethod);
+
+  /**
+   * @return the event loop lag state of this server or {@code null} when the server has no
+   * {@link io.vertx.grpc.server.GrpcServerOptions#setOverloadPolicy(GrpcOverloadPolicy) overload policy}
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  GrpcOverloadStats overloadStats();
+
+  /**
+   * Return the state of a bulkhead of the services added with {@link #addService(Service)}.
+   *
+   * @param name the {@link GrpcBulkheadPolicy#getName() bulkhead name}
+   * @return the state or {@code null} when no method is bound to this bulkhead
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  GrpcBulkheadStats bulkheadStats(String name);
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.HistogramSnapshot;
+
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the metrics of a method aggregated by {@link GrpcServerMetricsAggregator}.
+ */
+@Unstable
+public final class GrpcServerMethodMetrics {
+
+  private final long activeCalls;
+  private final long messagesReceived;
+  private final long bytesReceived;
+  private final long messagesSent;
+  private final long bytesSent;
+  private final Map<GrpcStatus, Long> statuses;
+  private final HistogramSnapshot latency;
+
+  public GrpcServerMethodMetrics(long activeCalls, long messagesReceived, long bytesReceived, long messagesSent,
+                                 long bytesSent, Map<GrpcStatus, Long> statuses, HistogramSnapshot latency) {
+    this.activeCalls = activeCalls;
+    this.messagesReceived = messagesReceived;
+    this.bytesReceived = bytesReceived;
+    this.messagesSent = messagesSent;
+    this.bytesSent = bytesSent;
+    this.statuses = statuses;
+    this.latency = latency;
+  }
+
+  /**
+   * @return the number of calls in progress
+   */
+  public long activeCalls() {
+    return activeCalls;
+  }
+
+  /**
+   * @return the number of calls that have ended
+   */
+  public long calls() {
+    return latency.count();
+  }
+
+  /**
+   * @return the number of messages received
+   */
+  public long messagesReceived() {
+    return messagesReceived;
+  }
+
+  /**
+   * @return the number of bytes received
+   */
+  public long bytesReceived() {
+    return bytesReceived;
+  }
+
+  /**
+   * @return the number of messages sent
+   */
+  public long messagesSent() {
+    return messagesSent;
+  }
+
+  /**
+   * @return the number of bytes sent
+   */
+  public long bytesSent() {
+    return bytesSent;
+  }
+
+  /**
+   * @return the number of ended calls per status, statuses without calls are omitted
+   */
+  public Map<GrpcStatus, Long> statuses() {
+    return statuses;
+  }
+
+  /**
+   * @return the call duration histogram in nanoseconds
+   */
+  public HistogramSnapshot latency() {
+    return latency;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.GrpcStatus;
+
+/**
+ * <p>The server metrics SPI, invoked by the server for each call.</p>
+ *
+ * <p>The metric of a method is resolved once per service method bound to the server. Calls handled by the generic call
+ * handler share the {@link #GENERIC_METHOD} metric, their paths are chosen by the client and would otherwise create
+ * an unbounded number of metrics. Callbacks are invoked on the call context, except {@link #callExecuted}, and should
+ * not block.</p>
+ *
+ * @param <M> the type of the method metric
+ */
+@Unstable
+public interface GrpcServerMetrics<M> {
+
+  /**
+   * The method name of the metric of the calls handled by the generic call handler.
+   */
+  String GENERIC_METHOD = "*";
+
+  /**
+   * Resolve the metric of a method.
+   *
+   * @param fullMethodName the full method name, e.g. {@code helloworld.Greeter/SayHello}
+   * @return the method metric
+   */
+  M method(String fullMethodName);
+
+  /**
+   * Called when the request headers of a call have been received.
+   *
+   * @param method the method metric
+   */
+  default void callBegin(M method) {
+  }
+
+  /**
+   * Called when a message has been received.
+   *
+   * @param method the method metric
+   * @param size the message size in bytes
+   */
+  default void messageReceived(M method, long size) {
+  }
+
+  /**
+   * Called when a message is sent.
+   *
+   * @param method the method metric
+   * @param size the message size in bytes
+   */
+  default void messageSent(M method, long size) {
+  }
+
+  /**
+   * Called on the worker thread when the work of a call of a method bound to a {@link GrpcBulkheadPolicy bulkhead} has
+   * run, a call can run several times.
+   *
+   * @param method the method metric
+   * @param queueNanos the time in nanoseconds the call waited for a worker
+   * @param executionNanos the time in nanoseconds the call ran on the worker
+   */
+  default void callExecuted(M method, long queueNanos, long executionNanos) {
+  }
+
+  /**
+   * Called when a call ends, i.e. when the response trailers are sent or when the call is cancelled.
+   *
+   * @param method the method metric
+   * @param status the call status
+   * @param durationNanos the call duration in nanoseconds
+   */
+  default void callEnd(M method, GrpcStatus status, long durationNanos) {
+  }
+}
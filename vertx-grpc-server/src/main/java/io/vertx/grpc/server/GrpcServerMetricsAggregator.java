@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.server.impl.GrpcServerMetricsAggregatorImpl;
+
+import java.util.Map;
+
+/**
+ * The default {@link GrpcServerMetrics}, a lock-free in-memory aggregation of the server calls per method.
+ */
+@Unstable
+public interface GrpcServerMetricsAggregator extends GrpcServerMetrics<Object> {
+
+  /**
+   * @return a new aggregator
+   */
+  static GrpcServerMetricsAggregator create() {
+    return new GrpcServerMetricsAggregatorImpl();
+  }
+
+  /**
+   * @return a snapshot of the metrics keyed by full method name
+   */
+  Map<String, GrpcServerMethodMetrics> snapshot();
+
+}
@@ -11,12 +11,20 @@
 package io.vertx.grpc.server;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.Unstable;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.GrpcCoalescingPolicy;
+import io.vertx.grpc.common.GrpcCompressionPolicy;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.GrpcConcurrencyLimitPolicy;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -47,10 +55,22 @@ public class GrpcServerOptions {
    */
   public static final long DEFAULT_MAX_MESSAGE_SIZE = 256 * 1024;
 
+  /**
+   * The default compressors = {@code [gzip]}
+   */
+  public static final List<GrpcCompressor> DEFAULT_COMPRESSORS = List.of(GrpcCompressor.gzip());
+
   private Set<GrpcProtocol> enabledProtocols;
   private boolean scheduleDeadlineAutomatically;
   private boolean deadlinePropagation;
   private long maxMessageSize;
+  private List<GrpcCompressor> compressors;
+  private GrpcCompressionPolicy compressionPolicy;
+  private GrpcCoalescingPolicy coalescingPolicy;
+  private GrpcConcurrencyLimitPolicy concurrencyLimitPolicy;
+  private GrpcAdmissionPolicy admissionPolicy;
+  private GrpcOverloadPolicy overloadPolicy;
+  private GrpcServerMetrics<?> metrics;
 
   /**
    * Default options.
@@ -60,6 +80,7 @@ public class GrpcServerOptions {
     scheduleDeadlineAutomatically = DEFAULT_SCHEDULE_DEADLINE_AUTOMATICALLY;
     deadlinePropagation = DEFAULT_PROPAGATE_DEADLINE;
     maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+    compressors = new ArrayList<>(DEFAULT_COMPRESSORS);
   }
 
   /**
@@ -70,6 +91,13 @@ public class GrpcServerOptions {
     scheduleDeadlineAutomatically = other.scheduleDeadlineAutomatically;
     deadlinePropagation = other.deadlinePropagation;
     maxMessageSize = other.maxMessageSize;
+    compressors = new ArrayList<>(other.compressors);
+    compressionPolicy = other.compressionPolicy != null ? new GrpcCompressionPolicy(other.compressionPolicy) : null;
+    coalescingPolicy = other.coalescingPolicy != null ? new GrpcCoalescingPolicy(other.coalescingPolicy) : null;
+    concurrencyLimitPolicy = other.concurrencyLimitPolicy != null ? new GrpcConcurrencyLimitPolicy(other.concurrencyLimitPolicy) : null;
+    admissionPolicy = other.admissionPolicy != null ? new GrpcAdmissionPolicy(other.admissionPolicy) : null;
+    overloadPolicy = other.overloadPolicy != null ? new GrpcOverloadPolicy(other.overloadPolicy) : null;
+    metrics = other.metrics;
   }
 
   /**
@@ -189,6 +217,170 @@ public class GrpcServerOptions {
     return this;
   }
 
+  /**
+   * @return the compressors used to decompress requests and compress responses, their encodings are advertised with the
+   *         {@code grpc-accept-encoding} header
+   */
+  @GenIgnore
+  public List<GrpcCompressor> getCompressors() {
+    return compressors;
+  }
+
+  /**
+   * Set the compressors used to decompress requests and compress responses.
+   *
+   * @param compressors the compressors
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcServerOptions setCompressors(List<GrpcCompressor> compressors) {
+    this.compressors = new ArrayList<>(Objects.requireNonNull(compressors));
+    return this;
+  }
+
+  /**
+   * Add a compressor, replacing any compressor registered for the same encoding.
+   *
+   * @param compressor the compressor
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcServerOptions addCompressor(GrpcCompressor compressor) {
+    Objects.requireNonNull(compressor);
+    compressors.removeIf(c -> c.encoding().equals(compressor.encoding()));
+    compressors.add(compressor);
+    return this;
+  }
+
+  /**
+   * @return the compression policy applied to compressed responses, {@code null} when every message is compressed
+   */
+  @GenIgnore
+  public GrpcCompressionPolicy getCompressionPolicy() {
+    return compressionPolicy;
+  }
+
+  /**
+   * Set the compression policy applied to compressed responses of methods that do not declare their own
+   * {@link io.vertx.grpc.common.ServiceMethod#compressionPolicy() policy}, by default every message is compressed.
+   *
+   * @param compressionPolicy the compression policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcServerOptions setCompressionPolicy(GrpcCompressionPolicy compressionPolicy) {
+    this.compressionPolicy = compressionPolicy;
+    return this;
+  }
+
+  /**
+   * @return the coalescing policy applied to response messages, {@code null} when each message is written on its own
+   */
+  @GenIgnore
+  public GrpcCoalescingPolicy getCoalescingPolicy() {
+    return coalescingPolicy;
+  }
+
+  /**
+   * Set the coalescing policy packing the messages of an HTTP/2 response stream into fewer writes, by default each
+   * message is written on its own. This reduces the number of DATA frames and flushes of streams sending many small
+   * messages at the expense of the latency of each message, which is bounded by the policy linger.
+   *
+   * @param coalescingPolicy the coalescing policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcServerOptions setCoalescingPolicy(GrpcCoalescingPolicy coalescingPolicy) {
+    this.coalescingPolicy = coalescingPolicy;
+    return this;
+  }
+
+  /**
+   * @return the concurrency limit policy applied to service methods, {@code null} when calls are not limited
+   */
+  @GenIgnore
+  public GrpcConcurrencyLimitPolicy getConcurrencyLimitPolicy() {
+    return concurrencyLimitPolicy;
+  }
+
+  /**
+   * Set the concurrency limit policy applied to service methods that do not declare their own
+   * {@link io.vertx.grpc.common.ServiceMethod#concurrencyLimitPolicy() policy}, each method gets its own limit. Calls
+   * above the limit fail with {@code RESOURCE_EXHAUSTED}, by default calls are not limited.
+   *
+   * @param concurrencyLimitPolicy the concurrency limit policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcServerOptions setConcurrencyLimitPolicy(GrpcConcurrencyLimitPolicy concurrencyLimitPolicy) {
+    this.concurrencyLimitPolicy = concurrencyLimitPolicy;
+    return this;
+  }
+
+  /**
+   * @return the admission policy applied to service methods, {@code null} when calls are admitted regardless of their deadline
+   */
+  @GenIgnore
+  public GrpcAdmissionPolicy getAdmissionPolicy() {
+    return admissionPolicy;
+  }
+
+  /**
+   * Set the admission policy applied to service methods, each method gets its own admission queue. Calls whose deadline
+   * is too close fail with {@code DEADLINE_EXCEEDED} before being processed and calls above the
+   * {@link #setConcurrencyLimitPolicy(GrpcConcurrencyLimitPolicy) concurrency limit} wait in a queue ordered by deadline.
+   *
+   * @param admissionPolicy the admission policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcServerOptions setAdmissionPolicy(GrpcAdmissionPolicy admissionPolicy) {
+    this.admissionPolicy = admissionPolicy;
+    return this;
+  }
+
+  /**
+   * @return the overload policy shedding calls when event loops lag, {@code null} when calls are not shed
+   */
+  @GenIgnore
+  public GrpcOverloadPolicy getOverloadPolicy() {
+    return overloadPolicy;
+  }
+
+  /**
+   * Set the overload policy monitoring the scheduling delay of the event loops receiving calls, calls received by a
+   * lagging event loop fail with {@code UNAVAILABLE}. This catches handlers blocking the event loop that a
+   * {@link #setConcurrencyLimitPolicy(GrpcConcurrencyLimitPolicy) concurrency limit} does not see.
+   *
+   * @param overloadPolicy the overload policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcServerOptions setOverloadPolicy(GrpcOverloadPolicy overloadPolicy) {
+    this.overloadPolicy = overloadPolicy;
+    return this;
+  }
+
+  /**
+   * @return the server metrics or {@code null} when metrics are disabled
+   */
+  @GenIgnore
+  public GrpcServerMetrics<?> getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Set the server metrics, e.g. {@link GrpcServerMetricsAggregator#create()}, by default metrics are disabled.
+   *
+   * @param metrics the server metrics
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public GrpcServerOptions setMetrics(GrpcServerMetrics<?> metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   /**
    * @return a JSON representation of options
    */
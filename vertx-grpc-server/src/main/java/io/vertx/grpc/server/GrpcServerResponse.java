@@ -51,9 +51,10 @@ public interface GrpcServerResponse<Req, Resp> extends GrpcWriteStream<Resp> {
   GrpcServerResponse<Req, Resp> format(WireFormat format);
 
   /**
-   * @return the set of accepted encodings sent by the client, note that {@code identity} should not be part of this set.
-   *         This can be used to set the response {@link #encoding(String) encoding} to ensure the client will accept
-   *         the encoding. This is a glorified wrapper for the {@code grpc-accept-encoding} header.
+   * @return the set of encodings accepted by the client that the server has a compressor for, note that {@code identity}
+   *         should not be part of this set. This can be used to set the response {@link #encoding(String) encoding} to
+   *         ensure the client will accept the encoding. This is the {@code grpc-accept-encoding} header negotiated
+   *         against the server compressors.
    */
   Set<String> acceptedEncodings();
 
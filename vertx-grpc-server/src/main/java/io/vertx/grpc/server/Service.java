@@ -3,6 +3,7 @@ package io.vertx.grpc.server;
 import com.google.protobuf.Descriptors;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.ServiceName;
@@ -58,6 +59,31 @@ public interface Service extends ServiceInvoker {
     return Collections.emptyList();
   }
 
+  /**
+   * <p>Get the threading model used to invoke a method of this service.</p>
+   *
+   * <p>With {@link ThreadingModel#WORKER} or {@link ThreadingModel#VIRTUAL_THREAD} the invoker is called on a worker
+   * thread or a virtual thread and can block, e.g. using a {@link BlockingServerCall}. The handlers set by the invoker
+   * are called on the call context and the writes made from the invoker thread are performed on the call context.</p>
+   *
+   * @param method the service method
+   * @return the threading model, {@link ThreadingModel#EVENT_LOOP} by default
+   */
+  default ThreadingModel threadingModel(ServiceMethod<?, ?> method) {
+    return ThreadingModel.EVENT_LOOP;
+  }
+
+  /**
+   * Get the bulkhead isolating a method of this service, a method bound to a bulkhead runs on the workers of the
+   * bulkhead whatever its {@link #threadingModel(ServiceMethod) threading model}.
+   *
+   * @param method the service method
+   * @return the bulkhead policy or {@code null} by default
+   */
+  default GrpcBulkheadPolicy bulkheadPolicy(ServiceMethod<?, ?> method) {
+    return null;
+  }
+
   /**
    * Close the service.
    */
@@ -1,6 +1,7 @@
 package io.vertx.grpc.server;
 
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.grpc.common.ServiceMethod;
 
 /**
@@ -19,6 +20,40 @@ public interface ServiceBuilder {
    */
   <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler);
 
+  /**
+   * Set the threading model used to invoke the methods of the service, {@link ThreadingModel#EVENT_LOOP} by default.
+   *
+   * @param threadingModel the threading model
+   * @return a reference to this, so the API can be used fluently
+   */
+  ServiceBuilder threadingModel(ThreadingModel threadingModel);
+
+  /**
+   * Set the threading model used to invoke a method of the service, overriding the threading model of the service.
+   *
+   * @param serviceMethod the service method
+   * @param threadingModel the threading model
+   * @return a reference to this, so the API can be used fluently
+   */
+  ServiceBuilder threadingModel(ServiceMethod<?, ?> serviceMethod, ThreadingModel threadingModel);
+
+  /**
+   * Bind the methods of the service to a bulkhead, calls beyond its capacity fail with {@code RESOURCE_EXHAUSTED}.
+   *
+   * @param policy the bulkhead policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  ServiceBuilder bulkheadPolicy(GrpcBulkheadPolicy policy);
+
+  /**
+   * Bind a method of the service to a bulkhead, overriding the bulkhead of the service.
+   *
+   * @param serviceMethod the service method
+   * @param policy the bulkhead policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  ServiceBuilder bulkheadPolicy(ServiceMethod<?, ?> serviceMethod, GrpcBulkheadPolicy policy);
+
   /**
    * Constructs and returns a {@link Service} instance based on the current configuration of the builder.
    *
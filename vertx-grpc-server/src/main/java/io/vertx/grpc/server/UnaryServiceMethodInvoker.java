@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.Completable;
+
+/**
+ * <p>Invoker of a unary service method, receiving the decoded request message and completing with the response message.</p>
+ *
+ * <p>Over HTTP/2 the server calls {@link #invoke(Object, Completable)} directly, other protocols fall back to
+ * {@link #invoke(GrpcServerRequest)}.</p>
+ */
+@Unstable
+@FunctionalInterface
+public interface UnaryServiceMethodInvoker<Req, Resp> extends ServiceMethodInvoker<Req, Resp> {
+
+  /**
+   * Handle the method call.
+   *
+   * @param request the request message
+   * @param completion completed with the response message or the failure, a {@link StatusException} sets the status
+   */
+  void invoke(Req request, Completable<Resp> completion);
+
+  @Override
+  default void invoke(GrpcServerRequest<Req, Resp> request) {
+    request.handler(msg -> invoke(msg, (res, err) -> {
+      if (err == null) {
+        request.response().end(res);
+      } else {
+        request.response().fail(err);
+      }
+    }));
+  }
+}
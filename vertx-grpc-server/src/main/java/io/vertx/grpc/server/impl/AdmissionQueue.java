@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.server.GrpcAdmissionPolicy;
+import io.vertx.grpc.server.GrpcAdmissionStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The state of a {@link GrpcAdmissionPolicy} for a method, shared by all the calls of this method.</p>
+ *
+ * <p>Calls waiting for a {@link ConcurrencyLimiter} slot are ordered by deadline, calls without a deadline come last in
+ * arrival order. {@link Waiter} callbacks are invoked outside the queue lock from any thread.</p>
+ */
+final class AdmissionQueue implements GrpcAdmissionStats {
+
+  /**
+   * A call waiting for admission.
+   */
+  interface Waiter {
+
+    /**
+     * The call has been admitted and holds a limiter slot.
+     */
+    void admit();
+
+    /**
+     * The call deadline expired before admission.
+     */
+    void expire();
+
+  }
+
+  private static final class Entry implements Comparable<Entry> {
+
+    private final Waiter waiter;
+    private final boolean hasDeadline;
+    private final long deadline;
+    private final long sequence;
+
+    private Entry(Waiter waiter, boolean hasDeadline, long deadline, long sequence) {
+      this.waiter = waiter;
+      this.hasDeadline = hasDeadline;
+      this.deadline = deadline;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int compareTo(Entry o) {
+      if (hasDeadline != o.hasDeadline) {
+        return hasDeadline ? -1 : 1;
+      }
+      if (hasDeadline && deadline != o.deadline) {
+        return deadline - o.deadline < 0L ? -1 : 1;
+      }
+      return Long.compare(sequence, o.sequence);
+    }
+  }
+
+  private final int maxSize;
+  private final long minBudgetNanos;
+  private final LongAdder expiredCalls = new LongAdder();
+  private final LongAdder rejectedCalls = new LongAdder();
+
+  // Guarded by this
+  private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+  private long sequence;
+
+  AdmissionQueue(GrpcAdmissionPolicy policy) {
+    this.maxSize = policy.getMaxQueueSize();
+    this.minBudgetNanos = policy.getMinBudget().toNanos();
+  }
+
+  /**
+   * Check the remaining deadline of a call on arrival, a call failing the check is counted as expired.
+   *
+   * @param timeout the call timeout or {@code null}
+   * @return whether the call has enough budget left
+   */
+  boolean hasBudget(Duration timeout) {
+    if (timeout != null && !timeout.isNegative() && !timeout.isZero() && timeout.toNanos() <= minBudgetNanos) {
+      expiredCalls.increment();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Queue a call refused by {@code limiter}, the call might be admitted before this method returns.
+   *
+   * @param timeout the call timeout or {@code null}
+   * @return whether the call was queued, otherwise it is counted as rejected
+   */
+  boolean offer(ConcurrencyLimiter limiter, Duration timeout, Waiter waiter) {
+    boolean hasDeadline = timeout != null && !timeout.isNegative() && !timeout.isZero();
+    long now = System.nanoTime();
+    List<Entry> expired = null;
+    boolean queued;
+    synchronized (this) {
+      if (queue.size() >= maxSize) {
+        expired = purge(now);
+      }
+      queued = queue.size() < maxSize;
+      if (queued) {
+        queue.add(new Entry(waiter, hasDeadline, hasDeadline ? now + timeout.toNanos() : 0L, sequence++));
+      }
+    }
+    if (!queued) {
+      rejectedCalls.increment();
+    }
+    expire(expired);
+    // A slot might have been released before the call was queued
+    drain(limiter);
+    return queued;
+  }
+
+  /**
+   * Remove a call that ended while waiting, e.g. when it was cancelled.
+   *
+   * @return whether the call was still waiting
+   */
+  synchronized boolean remove(Waiter waiter) {
+    for (Iterator<Entry> it = queue.iterator(); it.hasNext(); ) {
+      if (it.next().waiter == waiter) {
+        it.remove();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Admit the waiting calls while {@code limiter} has slots, dropping the expired ones.
+   */
+  void drain(ConcurrencyLimiter limiter) {
+    while (true) {
+      Entry entry;
+      boolean admitted;
+      synchronized (this) {
+        entry = queue.peek();
+        if (entry == null) {
+          return;
+        }
+        admitted = !isExpired(entry, System.nanoTime());
+        if (admitted && !limiter.tryAcquire()) {
+          return;
+        }
+        queue.poll();
+      }
+      if (admitted) {
+        entry.waiter.admit();
+      } else {
+        expiredCalls.increment();
+        entry.waiter.expire();
+      }
+    }
+  }
+
+  private boolean isExpired(Entry entry, long now) {
+    return entry.hasDeadline && entry.deadline - now <= minBudgetNanos;
+  }
+
+  private List<Entry> purge(long now) {
+    List<Entry> expired = null;
+    for (Iterator<Entry> it = queue.iterator(); it.hasNext(); ) {
+      Entry entry = it.next();
+      if (isExpired(entry, now)) {
+        it.remove();
+        if (expired == null) {
+          expired = new ArrayList<>();
+        }
+        expired.add(entry);
+      }
+    }
+    return expired;
+  }
+
+  private void expire(List<Entry> expired) {
+    if (expired != null) {
+      for (Entry entry : expired) {
+        expiredCalls.increment();
+        entry.waiter.expire();
+      }
+    }
+  }
+
+  @Override
+  public synchronized int queued() {
+    return queue.size();
+  }
+
+  @Override
+  public long expiredCalls() {
+    return expiredCalls.sum();
+  }
+
+  @Override
+  public long rejectedCalls() {
+    return rejectedCalls.sum();
+  }
+}
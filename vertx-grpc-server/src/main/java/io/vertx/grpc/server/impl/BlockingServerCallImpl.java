@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.MultiMap;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.server.BlockingServerCall;
+import io.vertx.grpc.server.GrpcServerRequest;
+import io.vertx.grpc.server.GrpcServerResponse;
+import io.vertx.grpc.server.StatusException;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>Hands the request messages and the response writes over between the blocking thread and the connection context.</p>
+ *
+ * <p>The calling thread parks on a {@link ReentrantLock} condition, which does not pin a virtual thread to its carrier.</p>
+ */
+public final class BlockingServerCallImpl<Req, Resp> implements BlockingServerCall<Req, Resp> {
+
+  // Writes handed to the context that have not been written yet
+  private static final int MAX_PENDING_WRITES = 16;
+
+  private final ContextInternal context;
+  private final GrpcServerRequest<Req, Resp> request;
+  private final GrpcServerResponse<Req, Resp> response;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+
+  // Guarded by lock
+  private final ArrayDeque<Req> messages = new ArrayDeque<>();
+  private boolean fetching;
+  private boolean inputEnded;
+  private boolean cancelled;
+  private boolean writable = true;
+  private int pendingWrites;
+  private boolean ended;
+
+  public BlockingServerCallImpl(GrpcServerRequest<Req, Resp> request) {
+    if (Context.isOnEventLoopThread()) {
+      throw new IllegalStateException("Cannot block an event loop thread");
+    }
+    this.context = ((GrpcServerRequestImpl<Req, Resp>) request).context();
+    this.request = request;
+    this.response = request.response();
+    context.runOnContext(v -> {
+      // The calling thread might hold the bulkhead lane of the call, the messages must not wait for it
+      ((GrpcServerRequestImpl<Req, Resp>) request).lane(null);
+      request.pause();
+      request.handler(this::handleMessage);
+      request.endHandler(v2 -> handleEnd());
+      request.exceptionHandler(err -> handleCancel());
+      response.exceptionHandler(err -> handleCancel());
+      response.drainHandler(v2 -> handleDrain());
+    });
+  }
+
+  @Override
+  public MultiMap headers() {
+    return request.headers();
+  }
+
+  @Override
+  public Req read() {
+    lock.lock();
+    try {
+      while (true) {
+        Req message = messages.poll();
+        if (message != null) {
+          return message;
+        }
+        if (cancelled) {
+          throw new StatusException(GrpcStatus.CANCELLED);
+        }
+        if (inputEnded) {
+          return null;
+        }
+        if (!fetching) {
+          fetching = true;
+          context.runOnContext(v -> request.fetch(1));
+        }
+        await();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void write(Resp message) {
+    lock.lock();
+    try {
+      while (!cancelled && !ended && (!writable || pendingWrites >= MAX_PENDING_WRITES)) {
+        await();
+      }
+      if (cancelled) {
+        throw new StatusException(GrpcStatus.CANCELLED);
+      }
+      if (ended) {
+        throw new IllegalStateException("Call has ended");
+      }
+      pendingWrites++;
+    } finally {
+      lock.unlock();
+    }
+    context.runOnContext(v -> {
+      response.write(message);
+      boolean full = response.writeQueueFull();
+      lock.lock();
+      try {
+        pendingWrites--;
+        writable = !full;
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    });
+  }
+
+  @Override
+  public void end() {
+    if (markEnded()) {
+      context.runOnContext(v -> response.end());
+    }
+  }
+
+  @Override
+  public void end(Resp message) {
+    if (markEnded()) {
+      context.runOnContext(v -> response.end(message));
+    }
+  }
+
+  @Override
+  public void fail(Throwable failure) {
+    if (markEnded()) {
+      context.runOnContext(v -> response.fail(failure));
+    }
+  }
+
+  private boolean markEnded() {
+    lock.lock();
+    try {
+      if (ended) {
+        return false;
+      }
+      ended = true;
+      changed.signalAll();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void await() {
+    try {
+      changed.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new StatusException(GrpcStatus.CANCELLED);
+    }
+  }
+
+  private void handleMessage(Req message) {
+    lock.lock();
+    try {
+      messages.add(message);
+      fetching = false;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void handleEnd() {
+    lock.lock();
+    try {
+      inputEnded = true;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void handleCancel() {
+    lock.lock();
+    try {
+      cancelled = true;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void handleDrain() {
+    lock.lock();
+    try {
+      writable = true;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.grpc.server.GrpcBulkheadPolicy;
+import io.vertx.grpc.server.GrpcBulkheadStats;
+import io.vertx.grpc.server.GrpcServerMetrics;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The state of a {@link GrpcBulkheadPolicy}, shared by the methods bound to the same bulkhead name.</p>
+ *
+ * <p>The tasks of a call run in order on a {@link Lane}. A lane holds one of the {@code maxInFlight} workers while it
+ * has tasks to run, otherwise it waits in a bounded FIFO queue for a lane to release its worker.</p>
+ */
+final class Bulkhead implements GrpcBulkheadStats {
+
+  private static final Logger log = LoggerFactory.getLogger(Bulkhead.class);
+
+  private final WorkerExecutor executor;
+  private final int maxInFlight;
+  private final int maxQueueSize;
+  private final GrpcServerMetrics<Object> metrics;
+
+  private final LongAdder rejectedCalls = new LongAdder();
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder queueNanos = new LongAdder();
+  private final LongAdder executionNanos = new LongAdder();
+
+  // Guarded by this
+  private final ArrayDeque<Lane> queue = new ArrayDeque<>();
+  private int inFlight;
+
+  Bulkhead(WorkerExecutor executor, GrpcBulkheadPolicy policy, GrpcServerMetrics<Object> metrics) {
+    this.executor = executor;
+    this.maxInFlight = policy.getMaxInFlight();
+    this.maxQueueSize = policy.getMaxQueueSize();
+    this.metrics = metrics;
+  }
+
+  /**
+   * @param metric the method metric or {@code null}
+   * @return a new lane for the tasks of a call
+   */
+  Lane lane(Object metric) {
+    return new Lane(metric);
+  }
+
+  void close() {
+    executor.close();
+  }
+
+  private void submit(Lane lane) {
+    executor.executeBlocking(() -> {
+      run(lane);
+      return null;
+    }, false);
+  }
+
+  private void run(Lane lane) {
+    long start = System.nanoTime();
+    long waited = start - lane.scheduledNanos;
+    Lane next;
+    while (true) {
+      Runnable task;
+      synchronized (this) {
+        task = lane.tasks.poll();
+        if (task == null) {
+          lane.scheduled = false;
+          next = queue.poll();
+          if (next == null) {
+            inFlight--;
+          }
+          break;
+        }
+      }
+      try {
+        task.run();
+      } catch (Throwable t) {
+        // The lane must keep running its tasks and hand its worker over
+        log.error("Unhandled bulkhead task failure", t);
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+    executions.increment();
+    queueNanos.add(waited);
+    executionNanos.add(elapsed);
+    if (metrics != null && lane.metric != null) {
+      metrics.callExecuted(lane.metric, waited, elapsed);
+    }
+    if (next != null) {
+      // Hand the worker over
+      submit(next);
+    }
+  }
+
+  @Override
+  public synchronized int inFlight() {
+    return inFlight;
+  }
+
+  @Override
+  public synchronized int queued() {
+    return queue.size();
+  }
+
+  @Override
+  public long rejectedCalls() {
+    return rejectedCalls.sum();
+  }
+
+  @Override
+  public long executions() {
+    return executions.sum();
+  }
+
+  @Override
+  public long queueNanos() {
+    return queueNanos.sum();
+  }
+
+  @Override
+  public long executionNanos() {
+    return executionNanos.sum();
+  }
+
+  final class Lane {
+
+    private final Object metric;
+
+    // Guarded by the bulkhead
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private boolean scheduled;
+    private long scheduledNanos;
+
+    private Lane(Object metric) {
+      this.metric = metric;
+    }
+
+    /**
+     * Run {@code task} on a worker after the previous tasks of this lane.
+     *
+     * @return {@code false} when the bulkhead is full, the task is not run
+     */
+    boolean execute(Runnable task) {
+      boolean submit;
+      synchronized (Bulkhead.this) {
+        if (scheduled) {
+          tasks.add(task);
+          return true;
+        }
+        if (inFlight < maxInFlight) {
+          inFlight++;
+          submit = true;
+        } else if (queue.size() < maxQueueSize) {
+          queue.add(this);
+          submit = false;
+        } else {
+          rejectedCalls.increment();
+          return false;
+        }
+        tasks.add(task);
+        scheduled = true;
+        scheduledNanos = System.nanoTime();
+      }
+      if (submit) {
+        submit(this);
+      }
+      return true;
+    }
+  }
+}
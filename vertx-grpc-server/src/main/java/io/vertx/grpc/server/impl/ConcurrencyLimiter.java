@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.common.GrpcConcurrencyLimitPolicy;
+import io.vertx.grpc.common.GrpcConcurrencyLimitStats;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The state of a {@link GrpcConcurrencyLimitPolicy} for a method, shared by all the calls of this method.</p>
+ *
+ * <p>Admission only touches the in-flight counter, the limit is updated from the latency of successful calls using a
+ * gradient of the long term latency over the call latency.</p>
+ */
+final class ConcurrencyLimiter implements GrpcConcurrencyLimitStats {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double tolerance;
+  private final double smoothing;
+  private final int longWindow;
+  private final AdmissionQueue queue;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder rejectedCalls = new LongAdder();
+  private volatile int limit;
+
+  // Guarded by this
+  private double estimatedLimit;
+  private double longRtt;
+  private int samples;
+
+  ConcurrencyLimiter(GrpcConcurrencyLimitPolicy policy, AdmissionQueue queue) {
+    this.minLimit = policy.getMinLimit();
+    this.maxLimit = Math.max(policy.getMinLimit(), policy.getMaxLimit());
+    this.tolerance = policy.getTolerance();
+    this.smoothing = policy.getSmoothing();
+    this.longWindow = policy.getLongWindow();
+    this.queue = queue;
+    this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, policy.getInitialLimit()));
+    this.limit = (int) estimatedLimit;
+  }
+
+  /**
+   * @return whether a call can be admitted, in which case it must be released with {@link #release(long, boolean)}
+   */
+  boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Count a call rejected after {@link #tryAcquire()} failed.
+   */
+  void reject() {
+    rejectedCalls.increment();
+  }
+
+  /**
+   * Release an admitted call, the slot goes to the next call waiting in the admission queue.
+   *
+   * @param rttNanos the call latency
+   * @param sample whether the latency should update the limit, only successful calls are sampled
+   */
+  void release(long rttNanos, boolean sample) {
+    int current = inFlight.getAndDecrement();
+    if (sample && rttNanos > 0L) {
+      update(rttNanos, current);
+    }
+    if (queue != null) {
+      queue.drain(this);
+    }
+  }
+
+  private synchronized void update(long rttNanos, int inFlight) {
+    double rtt = rttNanos;
+    if (samples < longWindow) {
+      samples++;
+    }
+    // Exponential average, a simple average until the window is filled
+    longRtt += (rtt - longRtt) / samples;
+    // Let the long term latency recover faster after a latency increase
+    if (longRtt > 2 * rtt) {
+      longRtt *= 0.95;
+    }
+    // Do not grow the limit of a method that does not use it
+    if (inFlight < estimatedLimit / 2) {
+      return;
+    }
+    double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / rtt));
+    double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    limit = (int) estimatedLimit;
+  }
+
+  @Override
+  public int limit() {
+    return limit;
+  }
+
+  @Override
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  @Override
+  public long rejectedCalls() {
+    return rejectedCalls.sum();
+  }
+}
@@ -5,53 +5,69 @@ import io.vertx.core.http.HttpConnection;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.spi.context.storage.AccessMode;
 import io.vertx.grpc.common.GrpcCancelFrame;
+import io.vertx.grpc.common.GrpcHeaderNames;
 import io.vertx.grpc.common.GrpcLocal;
 import io.vertx.grpc.common.GrpcMessageDecoder;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.MessageSizeOverflowException;
 import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 import io.vertx.grpc.common.impl.GrpcFrame;
 import io.vertx.grpc.common.impl.GrpcHeadersFrame;
 import io.vertx.grpc.common.impl.GrpcStream;
 import io.vertx.grpc.common.impl.GrpcMessageFrame;
 import io.vertx.grpc.common.impl.GrpcMethodCall;
+import io.vertx.grpc.common.impl.GrpcWriteStreamBase;
 import io.vertx.grpc.server.GrpcProtocol;
+import io.vertx.grpc.server.GrpcServerMetrics;
 
-class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
+class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame>, AdmissionQueue.Waiter {
 
   private final GrpcStream stream;
   private final ContextInternal context;
   private final GrpcProtocol protocol;
   private final WireFormat format;
   private final GrpcMessageDecoder<Req> messageDecoder;
+  private final GrpcCompressorRegistry compressors;
+  private final long maxMessageSize;
   private final GrpcMethodCall methodCall;
   private final HttpConnection httpConnection;
   private final GrpcServerImpl.MethodCallHandler<Req, Resp> method;
   private final boolean propagateDeadline;
   private final boolean scheduleDeadline;
+  private final GrpcServerMetrics<Object> metrics;
+  private Object metric;
   private GrpcServerRequestImpl<Req, Resp> grpcRequest;
   private GrpcServerResponseImpl<Req, Resp> grpcResponse;
+  // Whether the call waits in the admission queue
+  private boolean queued;
 
   GrpcDispatcher(GrpcStream stream,
                  ContextInternal context,
                  GrpcProtocol protocol,
                  WireFormat format,
                  GrpcMessageDecoder<Req> messageDecoder,
+                 GrpcCompressorRegistry compressors,
+                 long maxMessageSize,
                  GrpcMethodCall methodCall,
                  HttpConnection httpConnection,
                  GrpcServerImpl.MethodCallHandler<Req, Resp> method,
                  boolean propagateDeadline,
-                 boolean scheduleDeadline) {
+                 boolean scheduleDeadline,
+                 GrpcServerMetrics<Object> metrics) {
     this.stream = stream;
     this.context = context;
     this.protocol = protocol;
     this.format = format;
     this.messageDecoder = messageDecoder;
+    this.compressors = compressors;
+    this.maxMessageSize = maxMessageSize;
     this.methodCall = methodCall;
     this.httpConnection = httpConnection;
     this.method = method;
     this.propagateDeadline = propagateDeadline;
     this.scheduleDeadline = scheduleDeadline;
+    this.metrics = metrics;
   }
 
   @Override
@@ -82,6 +98,8 @@ class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
       stream,
       frame.timeout(),
       frame.encoding(),
+      compressors,
+      maxMessageSize,
       messageDecoder,
       methodCall) {
       @Override
@@ -95,8 +113,41 @@ class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
       grpcRequest,
       stream,
       protocol,
+      compressors,
       method.messageEncoder);
     grpcResponse.format(format);
+    grpcResponse.adaptiveCompression(method.compression);
+    if (metrics != null) {
+      metric = method.metric;
+      metrics.callBegin(metric);
+      grpcResponse.metrics(metrics, metric, System.nanoTime());
+    }
+    String encoding = frame.encoding();
+    if (encoding != null && !encoding.equals("identity") && compressors.lookup(encoding) == null) {
+      String acceptEncoding = compressors.acceptEncoding();
+      if (acceptEncoding != null) {
+        grpcResponse.trailers().set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, acceptEncoding);
+      }
+      reject(GrpcStatus.UNIMPLEMENTED, "Unsupported encoding " + encoding);
+      return;
+    }
+    AdmissionQueue queue = method.admission;
+    if (queue != null && !queue.hasBudget(frame.timeout())) {
+      reject(GrpcStatus.DEADLINE_EXCEEDED, null);
+      return;
+    }
+    ConcurrencyLimiter limiter = method.limiter;
+    if (limiter != null) {
+      if (limiter.tryAcquire()) {
+        grpcResponse.concurrencyLimit(limiter, System.nanoTime());
+      } else if (queue != null && queue.offer(limiter, frame.timeout(), this)) {
+        queued = true;
+      } else {
+        limiter.reject();
+        reject(GrpcStatus.RESOURCE_EXHAUSTED, "Concurrency limit exceeded");
+        return;
+      }
+    }
     long timeout = grpcRequest.timeout();
     if (propagateDeadline && timeout > 0L) {
       long deadline = System.currentTimeMillis() + timeout;
@@ -110,17 +161,58 @@ class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
         grpcResponse.cancel();
       }
     });
-    grpcRequest.context().dispatch(grpcRequest, method);
+    if (queued) {
+      // Hold the request messages until admission
+      grpcRequest.pause();
+    } else {
+      grpcRequest.context().dispatch(grpcRequest, method);
+    }
+  }
+
+  private void reject(GrpcStatus status, String message) {
+    grpcRequest.init(grpcResponse, false);
+    grpcResponse.status(status).statusMessage(message).end();
+  }
+
+  @Override
+  public void admit() {
+    context.runOnContext(v -> {
+      queued = false;
+      GrpcServerResponseImpl<Req, Resp> response = grpcResponse;
+      if (response.isCancelled() || response.isTrailersSent()) {
+        method.limiter.release(0L, false);
+        return;
+      }
+      response.concurrencyLimit(method.limiter, System.nanoTime());
+      // Messages are delivered after the dispatch
+      grpcRequest.resume();
+      grpcRequest.context().dispatch(grpcRequest, method);
+    });
+  }
+
+  @Override
+  public void expire() {
+    context.runOnContext(v -> {
+      queued = false;
+      GrpcServerResponseImpl<Req, Resp> response = grpcResponse;
+      if (!response.isCancelled() && !response.isTrailersSent()) {
+        response.status(GrpcStatus.DEADLINE_EXCEEDED).end();
+      }
+    });
   }
 
   private void handleMessage(GrpcMessageFrame frame) {
     GrpcServerRequestImpl<Req, Resp> r = grpcRequest;
     if (r != null) {
+      if (metrics != null) {
+        metrics.messageReceived(metric, GrpcWriteStreamBase.sizeOf(frame.message()));
+      }
       r.handleMessage(frame.message());
     }
   }
 
   private void handleCancel(GrpcCancelFrame frame) {
+    dequeue();
     GrpcServerRequestImpl<Req, Resp> r = grpcRequest;
     if (r != null) {
       r.handleCancel();
@@ -128,11 +220,22 @@ class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
   }
 
   void handleException(Throwable exception) {
+    dequeue();
     if (grpcRequest != null) {
       grpcRequest.handleException(exception);
     }
   }
 
+  /**
+   * Remove the call from the admission queue when it ends before admission.
+   */
+  private void dequeue() {
+    if (queued) {
+      queued = false;
+      method.admission.remove(this);
+    }
+  }
+
   void handleEnd() {
     if (grpcRequest != null) {
       grpcRequest.handleEnd();
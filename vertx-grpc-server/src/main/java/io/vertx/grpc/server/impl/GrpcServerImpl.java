@@ -14,23 +14,32 @@ import io.vertx.core.Closeable;
 import io.vertx.core.Completable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.http.HttpServerRequestInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.AdaptiveCompression;
+import io.vertx.grpc.common.impl.DefaultGrpcTrailersFrame;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 import io.vertx.grpc.common.impl.GrpcMessageDeframer;
 import io.vertx.grpc.common.impl.GrpcMethodCall;
+import io.vertx.grpc.common.impl.GrpcStream;
 import io.vertx.grpc.common.impl.Http2GrpcMessageDeframer;
 import io.vertx.grpc.server.*;
 
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
@@ -40,33 +49,60 @@ import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
  */
 public class GrpcServerImpl implements GrpcServer, Closeable {
 
-  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("application/grpc(-web(-text)?)?(\\+(json|proto))?");
-
   private static final Logger log = LoggerFactory.getLogger(GrpcServer.class);
+  private static final AtomicLong SERVER_IDS = new AtomicLong();
 
+  private final Vertx vertx;
   private final GrpcServerOptions options;
+  private final GrpcCompressorRegistry compressors;
+  private final AdaptiveCompression defaultCompression;
+  private final AdmissionQueue defaultAdmission;
+  private final ConcurrencyLimiter defaultLimiter;
+  private final OverloadMonitor overload;
+  private final GrpcServerMetrics<Object> metrics;
+  private final Object genericMetric;
   private Handler<GrpcServerRequest<Buffer, Buffer>> requestHandler;
 
   private final List<Service> services = new ArrayList<>();
   private final Map<String, List<MethodCallHandler<?, ?>>> methodCallHandlers = new HashMap<>();
+  private final Map<String, Bulkhead> bulkheads = new HashMap<>();
+  // Scopes the worker pools of the bulkheads to this server
+  private final long id = SERVER_IDS.incrementAndGet();
+  private volatile RoutingTable routes = RoutingTable.EMPTY;
 
   private final List<GrpcHttpInvoker> invokers;
 
   private boolean closing;
 
+  @SuppressWarnings("unchecked")
   public GrpcServerImpl(Vertx vertx, GrpcServerOptions options) {
     ServiceLoader<GrpcHttpInvoker> loader = ServiceLoader.load(GrpcHttpInvoker.class);
     this.invokers = loader.stream().map(ServiceLoader.Provider::get).collect(Collectors.toList());
+    this.vertx = vertx;
     this.options = new GrpcServerOptions(Objects.requireNonNull(options, "options is null"));
+    this.compressors = GrpcCompressorRegistry.create(this.options.getCompressors());
+    this.defaultCompression = adaptiveCompression(null);
+    this.defaultAdmission = admissionQueue();
+    this.defaultLimiter = concurrencyLimiter(null, defaultAdmission);
+    this.overload = this.options.getOverloadPolicy() != null ? new OverloadMonitor(this.options.getOverloadPolicy()) : null;
+    this.metrics = (GrpcServerMetrics<Object>) this.options.getMetrics();
+    this.genericMetric = metrics != null ? metrics.method(GrpcServerMetrics.GENERIC_METHOD) : null;
   }
 
   @Override
   public void close(Completable<Void> completion) {
     List<Service> toClose;
+    List<Bulkhead> bulkheadsToClose;
     synchronized (this) {
       closing = true;
       toClose = new ArrayList<>(services);
       services.clear();
+      bulkheadsToClose = new ArrayList<>(bulkheads.values());
+      bulkheads.clear();
+    }
+    bulkheadsToClose.forEach(Bulkhead::close);
+    if (overload != null) {
+      overload.close();
     }
     List<Future<Void>> futures = toClose
       .stream()
@@ -93,28 +129,35 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       return;
     }
 
-    GrpcMethodCall methodCall = new GrpcMethodCall(httpRequest.path());
+    OverloadMonitor monitor = overload;
+    if (monitor != null && monitor.shouldShed(((HttpServerRequestInternal) httpRequest).context().nettyEventLoop())) {
+      shed(httpRequest.response(), details.protocol, monitor.retryPushbackMillis());
+      return;
+    }
+
     String path = httpRequest.path();
-    while (true) {
-      List<MethodCallHandler<?, ?>> mchList = methodCallHandlers.get(path);
-      if (mchList != null) {
-        for (MethodCallHandler<?, ?> mch : mchList) {
-          if (handle(mch, httpRequest, methodCall, details.protocol, details.format)) {
-            return;
-          }
+    GrpcMethodCall methodCall = new GrpcMethodCall(path);
+    RoutingTable table = routes;
+    MethodCallHandler<?, ?>[] mchList = table.lookup(path);
+    if (mchList != null) {
+      for (MethodCallHandler<?, ?> mch : mchList) {
+        if (handle(mch, httpRequest, methodCall, details.protocol, details.format)) {
+          return;
         }
       }
-      int idx = path.lastIndexOf('/');
-      if (idx <= 0) {
-        break;
+    }
+    for (RoutingTable.Node node = table.lookupParent(path); node != null; node = node.next()) {
+      for (MethodCallHandler<?, ?> mch : node.handlers) {
+        if (handle(mch, httpRequest, methodCall, details.protocol, details.format)) {
+          return;
+        }
       }
-      path = path.substring(0, idx);
     }
 
     // Generic handling
     Handler<GrpcServerRequest<Buffer, Buffer>> handler = requestHandler;
     if (handler != null) {
-      handle(new MethodCallHandler<>(null, GrpcMessageDecoder.IDENTITY, GrpcMessageEncoder.IDENTITY, handler), httpRequest, methodCall, details.protocol, details.format);
+      handle(new MethodCallHandler<>(null, GrpcMessageDecoder.IDENTITY, GrpcMessageEncoder.IDENTITY, handler, defaultCompression, defaultAdmission, defaultLimiter, genericMetric, ThreadingModel.EVENT_LOOP, null), httpRequest, methodCall, details.protocol, details.format);
     } else {
       String msg = "Method not found: " + httpRequest.path().substring(1);
       HttpServerResponse response = httpRequest.response();
@@ -138,6 +181,107 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
     }
   }
 
+  /**
+   * Handle a call that does not come from an HTTP request, e.g. an in-process call. The {@code stream} emits the frames
+   * of the call starting with the headers frame, the response frames are written to it.
+   *
+   * @param context the context of the call
+   * @param path the method path, e.g. {@code /helloworld.Greeter/SayHello}
+   * @param format the wire format of the call
+   * @param stream the stream of the call
+   */
+  public void handle(ContextInternal context, String path, WireFormat format, GrpcStream stream) {
+    OverloadMonitor monitor = overload;
+    if (monitor != null && monitor.shouldShed(context.nettyEventLoop())) {
+      MultiMap trailers = HttpHeaders.headers().set(GrpcHeaderNames.GRPC_RETRY_PUSHBACK_MS, Long.toString(monitor.retryPushbackMillis()));
+      stream.end(new DefaultGrpcTrailersFrame(GrpcStatus.UNAVAILABLE, "Server overloaded", trailers));
+      return;
+    }
+    GrpcMethodCall methodCall = new GrpcMethodCall(path);
+    MethodCallHandler<?, ?> mch = route(path);
+    if (mch != null) {
+      handle(mch, context, methodCall, format, stream);
+      return;
+    }
+    Handler<GrpcServerRequest<Buffer, Buffer>> handler = requestHandler;
+    if (handler != null) {
+      handle(new MethodCallHandler<>(null, GrpcMessageDecoder.IDENTITY, GrpcMessageEncoder.IDENTITY, handler, defaultCompression, defaultAdmission, defaultLimiter, genericMetric, ThreadingModel.EVENT_LOOP, null), context, methodCall, format, stream);
+    } else {
+      stream.end(new DefaultGrpcTrailersFrame(GrpcStatus.UNIMPLEMENTED, "Method not found: " + path.substring(1), HttpHeaders.headers()));
+    }
+  }
+
+  /**
+   * Resolve the method call handler of a call that does not come from an HTTP request, the generic call handler is not
+   * considered. This is the routing a call performs, it is exposed for the routing benchmarks.
+   *
+   * @param path the method path, e.g. {@code /helloworld.Greeter/SayHello}
+   * @return whether a method call handler is registered for this {@code path}
+   */
+  public boolean isRouted(String path) {
+    return route(path) != null;
+  }
+
+  private MethodCallHandler<?, ?> route(String path) {
+    RoutingTable table = routes;
+    MethodCallHandler<?, ?>[] mchList = table.lookup(path);
+    if (mchList != null) {
+      for (MethodCallHandler<?, ?> mch : mchList) {
+        if (mch.path == null || path.equals(mch.path)) {
+          return mch;
+        }
+      }
+    }
+    for (RoutingTable.Node node = table.lookupParent(path); node != null; node = node.next()) {
+      for (MethodCallHandler<?, ?> mch : node.handlers) {
+        if (mch.path == null || path.equals(mch.path)) {
+          return mch;
+        }
+      }
+    }
+    return null;
+  }
+
+  private <Req, Resp> void handle(MethodCallHandler<Req, Resp> method, ContextInternal context, GrpcMethodCall methodCall, WireFormat format, GrpcStream stream) {
+    GrpcDispatcher<Req, Resp> dispatcher = new GrpcDispatcher<>(
+      stream,
+      context,
+      GrpcProtocol.HTTP_2,
+      format,
+      method.messageDecoder,
+      compressors,
+      options.getMaxMessageSize(),
+      methodCall,
+      null,
+      method,
+      options.getDeadlinePropagation(),
+      options.getScheduleDeadlineAutomatically(),
+      metrics);
+    stream.handler(dispatcher);
+    stream.exceptionHandler(dispatcher::handleException);
+    stream.endHandler(v -> dispatcher.handleEnd());
+  }
+
+  private void shed(HttpServerResponse response, GrpcProtocol protocol, long retryPushbackMillis) {
+    switch (protocol) {
+      case HTTP_2:
+      case WEB:
+      case WEB_TEXT:
+        response.setStatusCode(200);
+        response.putHeader(HttpHeaders.CONTENT_TYPE, protocol.mediaType());
+        response.putHeader(GrpcHeaderNames.GRPC_STATUS, GrpcStatus.UNAVAILABLE.toString());
+        response.putHeader(GrpcHeaderNames.GRPC_MESSAGE, "Server overloaded");
+        response.putHeader(GrpcHeaderNames.GRPC_RETRY_PUSHBACK_MS, Long.toString(retryPushbackMillis));
+        response.end();
+        break;
+      default:
+        response
+          .setStatusCode(503)
+          .end();
+        break;
+    }
+  }
+
   private int validate(GrpcServerRequestInspector.RequestInspectionDetails details) {
     // Check HTTP version compatibility
     if (!details.protocol.accepts(details.version)) {
@@ -163,15 +307,31 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
     GrpcMessageDecoder<Req> messageDecoder;
     switch (protocol) {
       case HTTP_2:
-        if (method.method != null && !httpRequest.path().equals("/" + method.method.fullMethodName())) {
+        if (method.path != null && !httpRequest.path().equals(method.path)) {
           return false;
         }
-        outboundInvoker = new Http2GrpcOutboundStream(httpRequest, new Http2GrpcMessageDeframer(encoding, format));
+        if (method.invoker instanceof UnaryServiceMethodInvoker) {
+          GrpcUnaryCall<Req, Resp> call = new GrpcUnaryCall<>(
+            context,
+            httpRequest,
+            method,
+            (UnaryServiceMethodInvoker<Req, Resp>) method.invoker,
+            format,
+            compressors,
+            options.getMaxMessageSize(),
+            metrics);
+          call.init(options.getDeadlinePropagation(), options.getScheduleDeadlineAutomatically());
+          return true;
+        }
+        outboundInvoker = new Http2GrpcOutboundStream(httpRequest, new Http2GrpcMessageDeframer(encoding, format), compressors);
+        if (options.getCoalescingPolicy() != null) {
+          outboundInvoker.coalescing(options.getCoalescingPolicy());
+        }
         messageDecoder = method.messageDecoder;
         break;
       case WEB:
       case WEB_TEXT:
-        if (method.method != null && !httpRequest.path().equals("/" + method.method.fullMethodName())) {
+        if (method.path != null && !httpRequest.path().equals(method.path)) {
           return false;
         }
         GrpcMessageDeframer deframer;
@@ -210,11 +370,14 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       protocol,
       format,
       messageDecoder,
+      compressors,
+      options.getMaxMessageSize(),
       methodCall,
       httpRequest.connection(),
       method,
       options.getDeadlinePropagation(),
-      options.getScheduleDeadlineAutomatically());
+      options.getScheduleDeadlineAutomatically(),
+      metrics);
     outboundInvoker.handler(dispatcher);
     outboundInvoker.exceptionHandler(dispatcher::handleException);
     outboundInvoker.endHandler(v -> dispatcher.handleEnd());
@@ -236,6 +399,10 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
     methodCallHandlers.computeIfAbsent(path, k -> new ArrayList<>()).add(mch);
   }
 
+  private void updateRoutes() {
+    routes = new RoutingTable(methodCallHandlers);
+  }
+
   private <Req, Resp> void unregisterMethodCallHandler(String path, ServiceMethod<Req, Resp> serviceMethod) {
     methodCallHandlers.computeIfPresent(path, (p, registrations) -> {
       registrations.removeIf(mch -> mch.method.equals(serviceMethod));
@@ -244,13 +411,23 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
   }
 
   @Override
+  public <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler) {
+    return callHandler(serviceMethod, handler != null ? (ServiceMethodInvoker<Req, Resp>) handler::handle : null);
+  }
+
+  @Override
+  public <Req, Resp> GrpcServer unaryCallHandler(ServiceMethod<Req, Resp> serviceMethod, Function<Req, Future<Resp>> handler) {
+    return callHandler(serviceMethod, handler != null ? (UnaryServiceMethodInvoker<Req, Resp>) (request, completion) -> handler.apply(request).onComplete(completion) : null);
+  }
+
   @SuppressWarnings("unchecked")
-  public synchronized <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler) {
+  private synchronized <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, ServiceMethodInvoker<Req, Resp> invoker) {
     if (closing) {
       throw new IllegalStateException("Server closed");
     }
-    if (handler != null) {
-      MethodCallHandler<Req, Resp> p = new MethodCallHandler<>(serviceMethod, serviceMethod.decoder(), serviceMethod.encoder(), handler);
+    if (invoker != null) {
+      AdmissionQueue admission = admissionQueue();
+      MethodCallHandler<Req, Resp> p = new MethodCallHandler<>(serviceMethod, serviceMethod.decoder(), serviceMethod.encoder(), invoker, adaptiveCompression(serviceMethod), admission, concurrencyLimiter(serviceMethod, admission), methodMetric(serviceMethod), ThreadingModel.EVENT_LOOP, null);
       if (serviceMethod instanceof MountPoint) {
         MountPoint<Req, Resp> mountPoint = (MountPoint<Req, Resp>) serviceMethod;
         List<String> paths = mountPoint.paths();
@@ -269,6 +446,7 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       }
       unregisterMethodCallHandler("/" + serviceMethod.fullMethodName(), serviceMethod);
     }
+    updateRoutes();
     return this;
   }
 
@@ -288,8 +466,10 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       }
       for (ServiceMethod method : service.methods()) {
         ServiceMethodInvoker invoker = service.invoker(method);
-        registerMethodCallHandler(service.pathOfMethod(method.methodName()), new MethodCallHandler<Object, Object>(method, method.decoder(), method.encoder(), invoker));
+        AdmissionQueue admission = admissionQueue();
+        registerMethodCallHandler(service.pathOfMethod(method.methodName()), new MethodCallHandler<Object, Object>(method, method.decoder(), method.encoder(), invoker, adaptiveCompression(method), admission, concurrencyLimiter(method, admission), methodMetric(method), service.threadingModel(method), bulkhead(service.bulkheadPolicy(method))));
       }
+      updateRoutes();
 
       this.services.add(service);
     }
@@ -302,33 +482,208 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
     return Collections.unmodifiableList(services);
   }
 
+  @Override
+  public GrpcCompressionStats compressionStats(ServiceMethod<?, ?> serviceMethod) {
+    MethodCallHandler<?, ?> mch = routes.lookupMethod("/" + serviceMethod.fullMethodName());
+    return mch != null ? mch.compression : null;
+  }
+
+  @Override
+  public GrpcConcurrencyLimitStats concurrencyLimitStats(ServiceMethod<?, ?> serviceMethod) {
+    MethodCallHandler<?, ?> mch = routes.lookupMethod("/" + serviceMethod.fullMethodName());
+    return mch != null ? mch.limiter : null;
+  }
+
+  @Override
+  public GrpcAdmissionStats admissionStats(ServiceMethod<?, ?> serviceMethod) {
+    MethodCallHandler<?, ?> mch = routes.lookupMethod("/" + serviceMethod.fullMethodName());
+    return mch != null ? mch.admission : null;
+  }
+
+  @Override
+  public GrpcOverloadStats overloadStats() {
+    return overload;
+  }
+
+  @Override
+  public synchronized GrpcBulkheadStats bulkheadStats(String name) {
+    return bulkheads.get(name);
+  }
+
+  private Bulkhead bulkhead(GrpcBulkheadPolicy policy) {
+    if (policy == null) {
+      return null;
+    }
+    return bulkheads.computeIfAbsent(policy.getName(), name -> {
+      // A shared executor name is global to the Vert.x instance, the pool must not be shared with another server or user code
+      WorkerExecutor executor = vertx.createSharedWorkerExecutor(name + "@grpc-" + id, policy.getMaxInFlight());
+      return new Bulkhead(executor, policy, metrics);
+    });
+  }
+
+  private Object methodMetric(ServiceMethod<?, ?> serviceMethod) {
+    return metrics != null ? metrics.method(serviceMethod.fullMethodName()) : null;
+  }
+
+  private AdaptiveCompression adaptiveCompression(ServiceMethod<?, ?> serviceMethod) {
+    GrpcCompressionPolicy policy = serviceMethod != null ? serviceMethod.compressionPolicy() : null;
+    if (policy == null) {
+      policy = options.getCompressionPolicy();
+    }
+    return policy != null ? new AdaptiveCompression(policy) : null;
+  }
+
+  private AdmissionQueue admissionQueue() {
+    GrpcAdmissionPolicy policy = options.getAdmissionPolicy();
+    return policy != null ? new AdmissionQueue(policy) : null;
+  }
+
+  private ConcurrencyLimiter concurrencyLimiter(ServiceMethod<?, ?> serviceMethod, AdmissionQueue admission) {
+    GrpcConcurrencyLimitPolicy policy = serviceMethod != null ? serviceMethod.concurrencyLimitPolicy() : null;
+    if (policy == null) {
+      policy = options.getConcurrencyLimitPolicy();
+    }
+    return policy != null ? new ConcurrencyLimiter(policy, admission) : null;
+  }
+
   static class MethodCallHandler<Req, Resp> implements Handler<GrpcServerRequest<Req, Resp>> {
 
     final ServiceMethod<Req, Resp> method;
+    final String path;
     final GrpcMessageDecoder<Req> messageDecoder;
     final GrpcMessageEncoder<Resp> messageEncoder;
     final ServiceMethodInvoker<Req, Resp> invoker;
-
-    MethodCallHandler(ServiceMethod<Req, Resp> method, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, Handler<GrpcServerRequest<Req, Resp>> handler) {
+    final AdaptiveCompression compression;
+    final AdmissionQueue admission;
+    final ConcurrencyLimiter limiter;
+    final Object metric;
+    final ThreadingModel threadingModel;
+    final Bulkhead bulkhead;
+
+    MethodCallHandler(ServiceMethod<Req, Resp> method, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, Handler<GrpcServerRequest<Req, Resp>> handler, AdaptiveCompression compression, AdmissionQueue admission, ConcurrencyLimiter limiter, Object metric, ThreadingModel threadingModel, Bulkhead bulkhead) {
       this.method = method;
+      this.path = method != null ? "/" + method.fullMethodName() : null;
       this.messageDecoder = messageDecoder;
       this.messageEncoder = messageEncoder;
       this.invoker = handler::handle;
+      this.compression = compression;
+      this.admission = admission;
+      this.limiter = limiter;
+      this.metric = metric;
+      this.threadingModel = threadingModel;
+      this.bulkhead = bulkhead;
     }
 
-    MethodCallHandler(ServiceMethod<Req, Resp> method, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, ServiceMethodInvoker<Req, Resp> invoker) {
+    MethodCallHandler(ServiceMethod<Req, Resp> method, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, ServiceMethodInvoker<Req, Resp> invoker, AdaptiveCompression compression, AdmissionQueue admission, ConcurrencyLimiter limiter, Object metric, ThreadingModel threadingModel, Bulkhead bulkhead) {
       this.method = method;
+      this.path = method != null ? "/" + method.fullMethodName() : null;
       this.messageDecoder = messageDecoder;
       this.messageEncoder = messageEncoder;
       this.invoker = invoker;
+      this.compression = compression;
+      this.admission = admission;
+      this.limiter = limiter;
+      this.metric = metric;
+      this.threadingModel = threadingModel;
+      this.bulkhead = bulkhead;
     }
 
     @Override
     public void handle(GrpcServerRequest<Req, Resp> grpcRequest) {
-      try {
-        invoker.invoke(grpcRequest);
-      } catch (Exception e) {
-        grpcRequest.response().fail(e);
+      if (threadingModel == ThreadingModel.EVENT_LOOP && bulkhead == null) {
+        try {
+          invoker.invoke(grpcRequest);
+        } catch (Exception e) {
+          grpcRequest.response().fail(e);
+        }
+        return;
+      }
+      ContextInternal context = ((GrpcServerRequestImpl<Req, Resp>) grpcRequest).context();
+      GrpcServerResponse<Req, Resp> response = grpcRequest.response();
+      Bulkhead.Lane lane = lane();
+      if (invoker instanceof UnaryServiceMethodInvoker) {
+        // Only the message handling is moved off the event loop
+        UnaryServiceMethodInvoker<Req, Resp> unary = (UnaryServiceMethodInvoker<Req, Resp>) invoker;
+        Completable<Resp> completion = (res, err) -> context.runOnContext(v -> {
+          if (err == null) {
+            response.end(res);
+          } else {
+            response.fail(err);
+          }
+        });
+        grpcRequest.handler(msg -> execute(context, lane, () -> unary.invoke(msg, completion), response::fail));
+      } else {
+        // The invoker might use the call from its thread, e.g. to write the response
+        ((GrpcServerRequestImpl<Req, Resp>) grpcRequest).marshalFlowControl();
+        ((GrpcServerResponseImpl<Req, Resp>) response).marshalWrites();
+        // The messages are delivered on the lane of the call after the invoker
+        ((GrpcServerRequestImpl<Req, Resp>) grpcRequest).lane(lane);
+        // Hold the messages until the invoker has set its handlers, the flow control of the invoker is kept
+        GrpcServerRequestImpl<Req, Resp> request = (GrpcServerRequestImpl<Req, Resp>) grpcRequest;
+        request.hold();
+        execute(context, lane, () -> {
+          invoker.invoke(grpcRequest);
+          context.runOnContext(v -> request.release());
+        }, response::fail);
+      }
+    }
+
+    /**
+     * @return a new bulkhead lane for the tasks of a call or {@code null} when the method has no bulkhead
+     */
+    Bulkhead.Lane lane() {
+      return bulkhead != null ? bulkhead.lane(metric) : null;
+    }
+
+    /**
+     * Run {@code task} on the bulkhead {@code lane} or with the threading model of the method, a failure is reported to
+     * {@code failureHandler} on {@code context}.
+     */
+    void execute(ContextInternal context, Bulkhead.Lane lane, Runnable task, Handler<Throwable> failureHandler) {
+      if (lane != null) {
+        boolean accepted = lane.execute(() -> {
+          try {
+            task.run();
+          } catch (Throwable t) {
+            context.runOnContext(v -> failureHandler.handle(t));
+          }
+        });
+        if (!accepted) {
+          failureHandler.handle(new StatusException(GrpcStatus.RESOURCE_EXHAUSTED, "Bulkhead full"));
+        }
+        return;
+      }
+      switch (threadingModel) {
+        case WORKER:
+          context.executeBlocking(() -> {
+            task.run();
+            return null;
+          }, false).onFailure(failureHandler);
+          break;
+        case VIRTUAL_THREAD:
+          ContextInternal virtualThreadContext;
+          try {
+            // Tasks of a virtual thread context run one at a time, each call gets its own context
+            virtualThreadContext = context.owner().createVirtualThreadContext();
+          } catch (Exception e) {
+            failureHandler.handle(e);
+            return;
+          }
+          virtualThreadContext.runOnContext(v -> {
+            try {
+              task.run();
+            } catch (Throwable t) {
+              context.runOnContext(v2 -> failureHandler.handle(t));
+            }
+          });
+          break;
+        default:
+          try {
+            task.run();
+          } catch (Exception e) {
+            failureHandler.handle(e);
+          }
+          break;
       }
     }
   }
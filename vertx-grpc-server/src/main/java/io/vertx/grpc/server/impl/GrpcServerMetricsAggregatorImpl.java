@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.impl.LogHistogram;
+import io.vertx.grpc.server.GrpcServerMethodMetrics;
+import io.vertx.grpc.server.GrpcServerMetricsAggregator;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GrpcServerMetricsAggregatorImpl implements GrpcServerMetricsAggregator {
+
+  private static final GrpcStatus[] STATUSES = GrpcStatus.values();
+
+  private final ConcurrentHashMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+  @Override
+  public Object method(String fullMethodName) {
+    MethodMetrics metrics = methods.get(fullMethodName);
+    if (metrics == null) {
+      metrics = methods.computeIfAbsent(fullMethodName, k -> new MethodMetrics());
+    }
+    return metrics;
+  }
+
+  @Override
+  public void callBegin(Object method) {
+    ((MethodMetrics) method).activeCalls.increment();
+  }
+
+  @Override
+  public void messageReceived(Object method, long size) {
+    MethodMetrics metrics = (MethodMetrics) method;
+    metrics.messagesReceived.increment();
+    metrics.bytesReceived.add(size);
+  }
+
+  @Override
+  public void messageSent(Object method, long size) {
+    MethodMetrics metrics = (MethodMetrics) method;
+    metrics.messagesSent.increment();
+    metrics.bytesSent.add(size);
+  }
+
+  @Override
+  public void callEnd(Object method, GrpcStatus status, long durationNanos) {
+    MethodMetrics metrics = (MethodMetrics) method;
+    metrics.activeCalls.decrement();
+    metrics.statuses[status.ordinal()].increment();
+    metrics.latency.record(durationNanos);
+  }
+
+  @Override
+  public Map<String, GrpcServerMethodMetrics> snapshot() {
+    Map<String, GrpcServerMethodMetrics> snapshot = new HashMap<>();
+    methods.forEach((name, metrics) -> snapshot.put(name, metrics.snapshot()));
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  private static class MethodMetrics {
+
+    private final LongAdder activeCalls = new LongAdder();
+    private final LongAdder messagesReceived = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder[] statuses = new LongAdder[STATUSES.length];
+    private final LogHistogram latency = new LogHistogram();
+
+    MethodMetrics() {
+      for (int i = 0; i < statuses.length; i++) {
+        statuses[i] = new LongAdder();
+      }
+    }
+
+    GrpcServerMethodMetrics snapshot() {
+      Map<GrpcStatus, Long> counts = new EnumMap<>(GrpcStatus.class);
+      for (GrpcStatus status : STATUSES) {
+        long count = statuses[status.ordinal()].sum();
+        if (count > 0L) {
+          counts.put(status, count);
+        }
+      }
+      return new GrpcServerMethodMetrics(
+        activeCalls.sum(),
+        messagesReceived.sum(),
+        bytesReceived.sum(),
+        messagesSent.sum(),
+        bytesSent.sum(),
+        Collections.unmodifiableMap(counts),
+        latency.snapshot());
+    }
+  }
+}
@@ -16,11 +16,13 @@ import io.vertx.core.Timer;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 import io.vertx.grpc.common.impl.GrpcInboundStream;
 import io.vertx.grpc.common.impl.GrpcMethodCall;
 import io.vertx.grpc.common.impl.GrpcReadStreamBase;
 import io.vertx.grpc.server.GrpcProtocol;
 import io.vertx.grpc.server.GrpcServerRequest;
+import io.vertx.grpc.server.StatusException;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +39,10 @@ public class GrpcServerRequestImpl<Req, Resp> extends GrpcReadStreamBase<GrpcSer
   private GrpcServerResponseImpl<Req, Resp> response;
   private final GrpcMethodCall methodCall;
   private Timer deadline;
+  private boolean marshalFlowControl;
+  // Whether the messages are held by the server, cleared when the application drives the flow control
+  private volatile boolean held;
+  private Bulkhead.Lane lane;
 
   public GrpcServerRequestImpl(ContextInternal context,
                                MultiMap headers,
@@ -45,9 +51,11 @@ public class GrpcServerRequestImpl<Req, Resp> extends GrpcReadStreamBase<GrpcSer
                                GrpcInboundStream inbound,
                                Duration timeout,
                                String encoding,
+                               GrpcCompressorRegistry compressors,
+                               long maxMessageSize,
                                GrpcMessageDecoder<Req> messageDecoder,
                                GrpcMethodCall methodCall) {
-    super(context, encoding, format, messageDecoder);
+    super(context, encoding, format, compressors, maxMessageSize, messageDecoder);
 
     this.inbound = inbound;
     this.headers = headers;
@@ -91,15 +99,79 @@ public class GrpcServerRequestImpl<Req, Resp> extends GrpcReadStreamBase<GrpcSer
     response.handleCancel();
   }
 
+  /**
+   * Marshal the flow control calls made outside of the request context onto the context, for a request used from a
+   * worker or a virtual thread.
+   */
+  void marshalFlowControl() {
+    marshalFlowControl = true;
+  }
+
+  /**
+   * Hold the messages until {@link #release()}, e.g. until the invoker has set its handlers.
+   */
+  void hold() {
+    inbound.pause();
+    held = true;
+  }
+
+  /**
+   * Resume the messages held by {@link #hold()}, unless the application paused or fetched the request meanwhile.
+   */
+  void release() {
+    if (held) {
+      held = false;
+      inbound.resume();
+    }
+  }
+
+  /**
+   * Deliver the messages and the end of the request on a bulkhead {@code lane}, {@code null} delivers them on the
+   * context.
+   */
+  void lane(Bulkhead.Lane lane) {
+    this.lane = lane;
+  }
+
+  @Override
+  public void handleEnd() {
+    Bulkhead.Lane l = lane;
+    if (l != null) {
+      if (!l.execute(this::deliverEnd)) {
+        response.fail(new StatusException(GrpcStatus.RESOURCE_EXHAUSTED, "Bulkhead full"));
+      }
+    } else {
+      deliverEnd();
+    }
+  }
+
+  private void deliverEnd() {
+    try {
+      super.handleEnd();
+    } catch (Exception e) {
+      response.fail(e);
+    }
+  }
+
   @Override
   public GrpcServerRequestImpl<Req, Resp> pause() {
-    inbound.pause();
+    held = false;
+    if (marshalFlowControl && !context.isRunningOnContext()) {
+      context.runOnContext(v -> inbound.pause());
+    } else {
+      inbound.pause();
+    }
     return this;
   }
 
   @Override
   public GrpcServerRequestImpl<Req, Resp> fetch(long amount) {
-    inbound.fetch(amount);
+    held = false;
+    if (marshalFlowControl && !context.isRunningOnContext()) {
+      context.runOnContext(v -> inbound.fetch(amount));
+    } else {
+      inbound.fetch(amount);
+    }
     return this;
   }
 
@@ -132,11 +204,15 @@ public class GrpcServerRequestImpl<Req, Resp> extends GrpcReadStreamBase<GrpcSer
         } catch (CodecException e) {
           response.cancel();
           return;
+        } catch (MessageSizeOverflowException e) {
+          handleInvalidMessage(e);
+          return;
         }
-        try {
-          handler.handle(decoded);
-        } catch (Exception e) {
-          response.fail(e);
+        Bulkhead.Lane l = lane;
+        if (l == null) {
+          deliver(handler, decoded);
+        } else if (!l.execute(() -> deliver(handler, decoded))) {
+          response.fail(new StatusException(GrpcStatus.RESOURCE_EXHAUSTED, "Bulkhead full"));
         }
       });
     } else {
@@ -144,6 +220,14 @@ public class GrpcServerRequestImpl<Req, Resp> extends GrpcReadStreamBase<GrpcSer
     }
   }
 
+  private void deliver(Handler<Req> handler, Req message) {
+    try {
+      handler.handle(message);
+    } catch (Exception e) {
+      response.fail(e);
+    }
+  }
+
   public GrpcServerResponseImpl<Req, Resp> response() {
     return response;
   }
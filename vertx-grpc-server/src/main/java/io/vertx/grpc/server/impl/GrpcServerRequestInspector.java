@@ -6,59 +6,45 @@ import io.vertx.core.http.HttpVersion;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.server.GrpcProtocol;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
 
 final class GrpcServerRequestInspector {
 
-  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("application/grpc(-web(-text)?)?(\\+(json|proto))?");
+  /**
+   * Precomputed details for each recognized content type, indexed by HTTP version ordinal.
+   */
+  private static final Map<String, RequestInspectionDetails[]> CONTENT_TYPES = new HashMap<>();
 
-  private GrpcServerRequestInspector() {
+  static {
+    GrpcProtocol[] protocols = { GrpcProtocol.HTTP_2, GrpcProtocol.WEB, GrpcProtocol.WEB_TEXT };
+    for (GrpcProtocol protocol : protocols) {
+      register(protocol.mediaType(), protocol, WireFormat.PROTOBUF);
+      register(protocol.mediaType() + "+proto", protocol, WireFormat.PROTOBUF);
+      register(protocol.mediaType() + "+json", protocol, WireFormat.JSON);
+    }
+    register(GrpcProtocol.TRANSCODING.mediaType(), GrpcProtocol.TRANSCODING, WireFormat.JSON);
   }
 
-  public static RequestInspectionDetails inspect(HttpServerRequest request) {
-    RequestInspectionDetailsBuilder builder = new RequestInspectionDetailsBuilder().version(request.version());
-    if (!determineContentType(request.getHeader(HttpHeaders.CONTENT_TYPE), builder)) {
-      return null;
+  private static void register(String contentType, GrpcProtocol protocol, WireFormat format) {
+    HttpVersion[] versions = HttpVersion.values();
+    RequestInspectionDetails[] details = new RequestInspectionDetails[versions.length];
+    for (HttpVersion version : versions) {
+      details[version.ordinal()] = new RequestInspectionDetails(version, protocol, format);
     }
+    CONTENT_TYPES.put(contentType, details);
+  }
 
-    return builder.build();
+  private GrpcServerRequestInspector() {
   }
 
-  private static boolean determineContentType(String contentType, RequestInspectionDetailsBuilder builder) {
-    if (contentType != null) {
-      Matcher matcher = CONTENT_TYPE_PATTERN.matcher(contentType);
-      if (matcher.matches()) {
-        if (matcher.group(1) != null) {
-          builder.protocol(matcher.group(2) == null ? GrpcProtocol.WEB : GrpcProtocol.WEB_TEXT);
-        } else {
-          builder.protocol(GrpcProtocol.HTTP_2);
-        }
-        if (matcher.group(3) != null) {
-          switch (matcher.group(4)) {
-            case "proto":
-              builder.format(WireFormat.PROTOBUF);
-              break;
-            case "json":
-              builder.format(WireFormat.JSON);
-              break;
-            default:
-              throw new UnsupportedOperationException("Not possible");
-          }
-        } else {
-          builder.format(WireFormat.PROTOBUF);
-        }
-        return true;
-      } else {
-        if (GrpcProtocol.TRANSCODING.mediaType().equals(contentType)) {
-          builder.protocol(GrpcProtocol.TRANSCODING);
-          builder.format(WireFormat.JSON);
-          return true;
-        }
-      }
+  public static RequestInspectionDetails inspect(HttpServerRequest request) {
+    String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+    if (contentType == null) {
+      return null;
     }
-
-    return false;
+    RequestInspectionDetails[] details = CONTENT_TYPES.get(contentType);
+    return details != null ? details[request.version().ordinal()] : null;
   }
 
   static final class RequestInspectionDetails {
@@ -72,32 +58,4 @@ final class GrpcServerRequestInspector {
       this.format = format;
     }
   }
-
-  static final class RequestInspectionDetailsBuilder {
-    private HttpVersion version;
-    private GrpcProtocol protocol;
-    private WireFormat format;
-
-    RequestInspectionDetailsBuilder() {
-    }
-
-    RequestInspectionDetailsBuilder version(HttpVersion version) {
-      this.version = version;
-      return this;
-    }
-
-    RequestInspectionDetailsBuilder protocol(GrpcProtocol protocol) {
-      this.protocol = protocol;
-      return this;
-    }
-
-    RequestInspectionDetailsBuilder format(WireFormat format) {
-      this.format = format;
-      return this;
-    }
-
-    RequestInspectionDetails build() {
-      return new RequestInspectionDetails(version, protocol, format);
-    }
-  }
 }
@@ -15,16 +15,20 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.GrpcHeaderNames;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcMessageEncoder;
 import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.InvalidMessageException;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.common.impl.DefaultGrpcHeadersFrame;
 import io.vertx.grpc.common.impl.DefaultGrpcMessageFrame;
 import io.vertx.grpc.common.impl.DefaultGrpcTrailersFrame;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 import io.vertx.grpc.common.impl.GrpcOutboundStream;
 import io.vertx.grpc.common.impl.GrpcWriteStreamBase;
 import io.vertx.grpc.server.GrpcProtocol;
+import io.vertx.grpc.server.GrpcServerMetrics;
 import io.vertx.grpc.server.GrpcServerResponse;
 import io.vertx.grpc.server.StatusException;
 
@@ -37,24 +41,53 @@ import java.util.regex.Pattern;
 public final class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcServerResponseImpl<Req, Resp>, Resp> implements GrpcServerResponse<Req, Resp> {
 
   private static final Pattern COMMA_SEPARATOR = Pattern.compile(" *, *");
-  private static final Set<String> GZIP_ACCEPT_ENCODING = Collections.singleton("gzip");
 
   private final GrpcServerRequestImpl<Req, Resp> request;
   private final GrpcOutboundStream outbound;
   private GrpcStatus status = GrpcStatus.OK;
   private String statusMessage;
   private Set<String> acceptedEncodings;
+  private GrpcServerMetrics<Object> metrics;
+  private Object metric;
+  private long startNanos;
+  private ConcurrencyLimiter limiter;
+  private long admissionNanos;
 
   public GrpcServerResponseImpl(ContextInternal context,
                                 GrpcServerRequestImpl<Req, Resp> request,
                                 GrpcOutboundStream outbound,
                                 GrpcProtocol protocol,
+                                GrpcCompressorRegistry compressors,
                                 GrpcMessageEncoder<Resp> encoder) {
-    super(context, encoder);
+    super(context, encoder, compressors);
     this.outbound = outbound;
     this.request = request;
   }
 
+  void metrics(GrpcServerMetrics<Object> metrics, Object metric, long startNanos) {
+    this.metrics = metrics;
+    this.metric = metric;
+    this.startNanos = startNanos;
+  }
+
+  void concurrencyLimit(ConcurrencyLimiter limiter, long admissionNanos) {
+    this.limiter = limiter;
+    this.admissionNanos = admissionNanos;
+  }
+
+  private void reportEnd(GrpcStatus status) {
+    ConcurrencyLimiter l = limiter;
+    if (l != null) {
+      limiter = null;
+      l.release(System.nanoTime() - admissionNanos, status == GrpcStatus.OK);
+    }
+    GrpcServerMetrics<Object> m = metrics;
+    if (m != null) {
+      metrics = null;
+      m.callEnd(metric, status, System.nanoTime() - startNanos);
+    }
+  }
+
   @Override
   public GrpcServerResponse<Req, Resp> setWriteQueueMaxSize(int maxSize) {
     outbound.setWriteQueueMaxSize(maxSize);
@@ -118,24 +151,44 @@ public final class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamBase
   @Override
   public Set<String> acceptedEncodings() {
     if (acceptedEncodings == null) {
-      String acceptEncodingHeader = request.headers().get("grpc-accept-encoding");
-      if (acceptEncodingHeader != null) {
-        if (acceptEncodingHeader.equals("gzip")) {
-          acceptedEncodings = GZIP_ACCEPT_ENCODING;
-        } else {
-          acceptedEncodings = new HashSet<>(2);
-          String[] encodings = COMMA_SEPARATOR.split(acceptEncodingHeader);
-          for (String encoding : encodings) {
-            acceptedEncodings.add(encoding.trim());
-          }
-        }
-      } else {
-        acceptedEncodings = Collections.emptySet();
-      }
+      acceptedEncodings = acceptedEncodings(request.headers().get(GrpcHeaderNames.GRPC_ACCEPT_ENCODING), compressors);
     }
     return acceptedEncodings;
   }
 
+  /**
+   * @return the encodings of a {@code grpc-accept-encoding} header both peers can use, in the client order
+   */
+  static Set<String> acceptedEncodings(String acceptEncodingHeader, GrpcCompressorRegistry compressors) {
+    if (acceptEncodingHeader == null) {
+      return Collections.emptySet();
+    }
+    Set<String> encodings = new LinkedHashSet<>(2);
+    for (String encoding : COMMA_SEPARATOR.split(acceptEncodingHeader.trim())) {
+      if (compressors.lookup(encoding) != null) {
+        encodings.add(encoding);
+      }
+    }
+    return encodings;
+  }
+
+  @Override
+  public void handleCancel() {
+    super.handleCancel();
+    if (!isTrailersSent()) {
+      reportEnd(GrpcStatus.CANCELLED);
+    }
+  }
+
+  @Override
+  public void handleException(Throwable err) {
+    super.handleException(err);
+    if (!(err instanceof InvalidMessageException) && !isTrailersSent()) {
+      // Stream reset or connection closed, the trailers will never be sent
+      reportEnd(GrpcStatus.CANCELLED);
+    }
+  }
+
   protected boolean sendCancel() {
     if (!isTrailersSent()) {
       status(GrpcStatus.CANCELLED);
@@ -150,14 +203,28 @@ public final class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamBase
   protected Future<Void> sendTrailers(MultiMap grpcTrailers) {
     handleStatus(status);
     request.cancelTimeout();
+    reportEnd(status);
     return outbound.write(new DefaultGrpcTrailersFrame(status, statusMessage, grpcTrailers));
   }
 
   @Override
   protected Future<Void> sendMessage(GrpcMessage message) {
+    if (metrics != null) {
+      metrics.messageSent(metric, sizeOf(message));
+    }
     return outbound.write(new DefaultGrpcMessageFrame(message));
   }
 
+  @Override
+  protected Future<Void> sendMessages(List<GrpcMessage> messages) {
+    if (metrics != null) {
+      for (GrpcMessage message : messages) {
+        metrics.messageSent(metric, sizeOf(message));
+      }
+    }
+    return outbound.writeMessages(messages);
+  }
+
   @Override
   protected Future<Void> sendHeaders(WireFormat wireFormat, String encoding, MultiMap headers) {
     return outbound.write(new DefaultGrpcHeadersFrame(format, encoding, headers));
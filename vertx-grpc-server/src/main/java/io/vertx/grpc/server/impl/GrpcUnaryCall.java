@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Completable;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Timer;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.spi.context.storage.AccessMode;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcLocal;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.AdaptiveCompression;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
+import io.vertx.grpc.common.impl.PooledBuffers;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
+import io.vertx.grpc.common.impl.Utils;
+import io.vertx.grpc.server.GrpcServerMetrics;
+import io.vertx.grpc.server.StatusException;
+import io.vertx.grpc.server.UnaryServiceMethodInvoker;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A unary call over HTTP/2 bypassing the streaming machinery.</p>
+ *
+ * <p>The request body is aggregated and decoded once, then the {@link UnaryServiceMethodInvoker} is called and its
+ * response is written with the headers and the trailers in a single {@link HttpServerResponse#end(Buffer)}.</p>
+ *
+ * <p>When the method has a compression policy, the response is compressed with an encoding accepted by the client,
+ * preferably the encoding of the request.</p>
+ *
+ * <p>The invoker is called on the bulkhead or with the threading model of the method, the response is written back on
+ * the context of the connection.</p>
+ */
+final class GrpcUnaryCall<Req, Resp> implements Handler<Buffer>, Completable<Resp>, AdmissionQueue.Waiter {
+
+  private final ContextInternal context;
+  private final HttpServerRequest httpRequest;
+  private final HttpServerResponse httpResponse;
+  private final GrpcServerImpl.MethodCallHandler<Req, Resp> method;
+  private final UnaryServiceMethodInvoker<Req, Resp> invoker;
+  private final WireFormat format;
+  private final GrpcCompressorRegistry compressors;
+  private final long maxMessageSize;
+  private final GrpcServerMetrics<Object> metrics;
+  private Object metric;
+  private long startNanos;
+  private ConcurrencyLimiter limiter;
+  private long admissionNanos;
+  // Whether the call waits in the admission queue
+  private boolean queued;
+  private Buffer body;
+  private boolean aggregated;
+  private Timer deadline;
+  private boolean done;
+
+  GrpcUnaryCall(ContextInternal context,
+                HttpServerRequest httpRequest,
+                GrpcServerImpl.MethodCallHandler<Req, Resp> method,
+                UnaryServiceMethodInvoker<Req, Resp> invoker,
+                WireFormat format,
+                GrpcCompressorRegistry compressors,
+                long maxMessageSize,
+                GrpcServerMetrics<Object> metrics) {
+    this.context = context;
+    this.httpRequest = httpRequest;
+    this.httpResponse = httpRequest.response();
+    this.method = method;
+    this.invoker = invoker;
+    this.format = format;
+    this.compressors = compressors;
+    this.maxMessageSize = maxMessageSize;
+    this.metrics = metrics;
+  }
+
+  void init(boolean propagateDeadline, boolean scheduleDeadline) {
+    if (metrics != null) {
+      metric = method.metric;
+      startNanos = System.nanoTime();
+      metrics.callBegin(metric);
+    }
+    String timeoutHeader = httpRequest.getHeader(GrpcHeaderNames.GRPC_TIMEOUT);
+    Duration timeout = timeoutHeader != null ? HttpGrpcInboundStream.parseTimeout(timeoutHeader) : null;
+    AdmissionQueue queue = method.admission;
+    if (queue != null && !queue.hasBudget(timeout)) {
+      sendStatus(GrpcStatus.DEADLINE_EXCEEDED, null);
+      return;
+    }
+    ConcurrencyLimiter l = method.limiter;
+    if (l != null) {
+      if (l.tryAcquire()) {
+        limiter = l;
+        admissionNanos = System.nanoTime();
+      } else if (queue != null && queue.offer(l, timeout, this)) {
+        queued = true;
+      } else {
+        l.reject();
+        sendStatus(GrpcStatus.RESOURCE_EXHAUSTED, "Concurrency limit exceeded");
+        return;
+      }
+    }
+    if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
+      if (propagateDeadline) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        context.putLocal(GrpcLocal.CONTEXT_LOCAL_KEY, AccessMode.CONCURRENT, new GrpcLocal(deadline));
+      }
+      if (scheduleDeadline) {
+        Timer timer = context.timer(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        deadline = timer;
+        timer.onSuccess(v -> sendStatus(GrpcStatus.DEADLINE_EXCEEDED, null));
+      }
+    }
+    httpResponse.exceptionHandler(this::handleException);
+    httpRequest.exceptionHandler(this::handleException);
+    httpRequest.endHandler(v -> handleEnd());
+    httpRequest.handler(this);
+    if (queued) {
+      // Hold the request body until admission
+      httpRequest.pause();
+    }
+  }
+
+  @Override
+  public void admit() {
+    context.runOnContext(v -> {
+      queued = false;
+      ConcurrencyLimiter l = method.limiter;
+      if (done) {
+        l.release(0L, false);
+        return;
+      }
+      limiter = l;
+      admissionNanos = System.nanoTime();
+      httpRequest.resume();
+    });
+  }
+
+  @Override
+  public void expire() {
+    context.runOnContext(v -> {
+      queued = false;
+      sendStatus(GrpcStatus.DEADLINE_EXCEEDED, null);
+    });
+  }
+
+  @Override
+  public void handle(Buffer chunk) {
+    if (done) {
+      return;
+    }
+    Buffer b = body;
+    if (b == null) {
+      body = chunk;
+      return;
+    }
+    if (b.length() + chunk.length() > maxMessageSize + 5) {
+      sendStatus(GrpcStatus.RESOURCE_EXHAUSTED, null);
+      return;
+    }
+    if (!aggregated) {
+      aggregated = true;
+      b = Buffer.buffer(b.length() + chunk.length()).appendBuffer(b);
+      body = b;
+    }
+    b.appendBuffer(chunk);
+  }
+
+  private void handleException(Throwable err) {
+    if (queued) {
+      queued = false;
+      method.admission.remove(this);
+    }
+    if (!done) {
+      done = true;
+      cancelDeadline();
+      reportEnd(GrpcStatus.CANCELLED);
+    }
+  }
+
+  private void handleEnd() {
+    if (done) {
+      return;
+    }
+    Buffer b = body;
+    body = null;
+    if (b == null || b.length() < 5) {
+      sendStatus(GrpcStatus.INTERNAL, "Half-closed without a request");
+      return;
+    }
+    long len = ((long) b.getInt(1)) & 0xFFFFFFFFL;
+    if (len > maxMessageSize) {
+      sendStatus(GrpcStatus.RESOURCE_EXHAUSTED, null);
+      return;
+    }
+    if (len != b.length() - 5) {
+      sendStatus(GrpcStatus.INTERNAL, len > b.length() - 5 ? "Incomplete request" : "Too many requests");
+      return;
+    }
+    boolean compressed = b.getByte(0) == 1;
+    Buffer payload = b.slice(5, b.length());
+    Req request;
+    try {
+      if (compressed) {
+        String encoding = httpRequest.getHeader(GrpcHeaderNames.GRPC_ENCODING);
+        if (encoding == null) {
+          sendStatus(GrpcStatus.INTERNAL, "Compressed message without grpc-encoding");
+          return;
+        }
+        GrpcCompressor compressor = compressors.lookup(encoding);
+        if (compressor == null) {
+          String acceptEncoding = compressors.acceptEncoding();
+          if (acceptEncoding != null) {
+            httpResponse.headers().set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, acceptEncoding);
+          }
+          sendStatus(GrpcStatus.UNIMPLEMENTED, "Unsupported encoding " + encoding);
+          return;
+        }
+        payload = compressor.decompress(payload, maxMessageSize);
+      }
+      request = method.messageDecoder.decode(GrpcMessage.message("identity", format, payload));
+    } catch (CodecException e) {
+      sendStatus(GrpcStatus.CANCELLED, null);
+      return;
+    } catch (MessageSizeOverflowException e) {
+      sendStatus(GrpcStatus.RESOURCE_EXHAUSTED, null);
+      return;
+    } catch (RuntimeException e) {
+      // E.g. a wire format the decoder does not support
+      sendStatus(GrpcStatus.INTERNAL, null);
+      return;
+    }
+    if (metrics != null) {
+      metrics.messageReceived(metric, len);
+    }
+    Req msg = request;
+    method.execute(context, method.lane(), () -> invoker.invoke(msg, this), err -> complete(null, err));
+  }
+
+  @Override
+  public void complete(Resp result, Throwable failure) {
+    if (!context.isRunningOnContext()) {
+      context.runOnContext(v -> complete(result, failure));
+      return;
+    }
+    if (done) {
+      return;
+    }
+    if (failure != null) {
+      if (failure instanceof StatusException) {
+        StatusException se = (StatusException) failure;
+        sendStatus(se.status(), se.message());
+      } else {
+        sendStatus(failure instanceof UnsupportedOperationException ? GrpcStatus.UNIMPLEMENTED : GrpcStatus.UNKNOWN, null);
+      }
+      return;
+    }
+    String encoding = responseEncoding();
+    Buffer encoded;
+    ByteBuf pooled = null;
+    try {
+      GrpcMessage message = method.messageEncoder.encode(result, format);
+      if (encoding != null) {
+        Buffer payload = message.payload();
+        AdaptiveCompression compression = method.compression;
+        if (compression.shouldCompress(payload.length())) {
+          encoded = DefaultGrpcMessage.encode(compression.compress(compressors.lookup(encoding), payload), true, false);
+        } else {
+          encoded = DefaultGrpcMessage.encode(payload, false, false);
+        }
+      } else if (message instanceof ProtobufGrpcMessage) {
+        // Serialize straight into a pooled buffer
+        pooled = ((ProtobufGrpcMessage) message).encode(false);
+        encoded = BufferInternal.buffer(pooled);
+      } else {
+        encoded = DefaultGrpcMessage.encode(message.payload(), false, false);
+      }
+    } catch (RuntimeException e) {
+      sendStatus(GrpcStatus.INTERNAL, null);
+      return;
+    }
+    done = true;
+    cancelDeadline();
+    if (metrics != null) {
+      metrics.messageSent(metric, encoded.length() - 5);
+    }
+    reportEnd(GrpcStatus.OK);
+    MultiMap headers = httpResponse.headers();
+    headers.set(HttpHeaders.CONTENT_TYPE, contentType());
+    if (encoding != null) {
+      headers.set(GrpcHeaderNames.GRPC_ENCODING, encoding);
+    }
+    String acceptEncoding = compressors.acceptEncoding();
+    if (acceptEncoding != null) {
+      headers.set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, acceptEncoding);
+    }
+    httpResponse.trailers().set(GrpcHeaderNames.GRPC_STATUS, GrpcStatus.OK.toString());
+    // Headers, message and trailers are flushed at once
+    if (pooled != null) {
+      PooledBuffers.write(pooled, httpResponse::end);
+    } else {
+      httpResponse.end(encoded);
+    }
+  }
+
+  /**
+   * @return the response encoding when the method has a compression policy and the client accepts a compressed
+   *         response, {@code null} otherwise
+   */
+  private String responseEncoding() {
+    if (method.compression == null) {
+      return null;
+    }
+    Set<String> accepted = GrpcServerResponseImpl.acceptedEncodings(httpRequest.getHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING), compressors);
+    if (accepted.isEmpty()) {
+      return null;
+    }
+    // Prefer the encoding of the request
+    String encoding = httpRequest.getHeader(GrpcHeaderNames.GRPC_ENCODING);
+    return encoding != null && accepted.contains(encoding) ? encoding : accepted.iterator().next();
+  }
+
+  private String contentType() {
+    return format == WireFormat.JSON ? "application/grpc+json" : "application/grpc";
+  }
+
+  /**
+   * Send a trailers-only response.
+   */
+  private void sendStatus(GrpcStatus status, String statusMessage) {
+    if (done) {
+      return;
+    }
+    done = true;
+    cancelDeadline();
+    reportEnd(status);
+    MultiMap headers = httpResponse.headers();
+    headers.set(HttpHeaders.CONTENT_TYPE, contentType());
+    headers.set(GrpcHeaderNames.GRPC_STATUS, status.toString());
+    if (statusMessage != null) {
+      headers.set(GrpcHeaderNames.GRPC_MESSAGE, Utils.utf8PercentEncode(statusMessage));
+    }
+    httpResponse.end();
+  }
+
+  private void cancelDeadline() {
+    Timer timer = deadline;
+    if (timer != null) {
+      deadline = null;
+      timer.cancel();
+    }
+  }
+
+  private void reportEnd(GrpcStatus status) {
+    ConcurrencyLimiter l = limiter;
+    if (l != null) {
+      limiter = null;
+      l.release(System.nanoTime() - admissionNanos, status == GrpcStatus.OK);
+    }
+    if (metrics != null) {
+      metrics.callEnd(metric, status, System.nanoTime() - startNanos);
+    }
+  }
+}
@@ -4,13 +4,17 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.grpc.common.GrpcHeaderNames;
 import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcCompressorRegistry;
 import io.vertx.grpc.common.impl.GrpcMessageDeframer;
 import io.vertx.grpc.server.GrpcProtocol;
 
 public class Http2GrpcOutboundStream extends HttpGrpcOutboundStream {
 
-  public Http2GrpcOutboundStream(HttpServerRequest httpRequest, GrpcMessageDeframer deframer) {
+  private final String acceptEncoding;
+
+  public Http2GrpcOutboundStream(HttpServerRequest httpRequest, GrpcMessageDeframer deframer, GrpcCompressorRegistry compressors) {
     super(httpRequest, GrpcProtocol.HTTP_2, deframer);
+    this.acceptEncoding = compressors.acceptEncoding();
   }
 
   @Override
@@ -29,6 +33,8 @@ public class Http2GrpcOutboundStream extends HttpGrpcOutboundStream {
   protected void encodeGrpcHeaders(MultiMap grpcHeaders, MultiMap httpHeaders, String encoding) {
     super.encodeGrpcHeaders(grpcHeaders, httpHeaders, encoding);
     httpHeaders.set(GrpcHeaderNames.GRPC_ENCODING, encoding);
-    httpHeaders.set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, "gzip");
+    if (acceptEncoding != null) {
+      httpHeaders.set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, acceptEncoding);
+    }
   }
 }
@@ -156,7 +156,7 @@ public class HttpGrpcInboundStream implements GrpcInboundStream {
     return this;
   }
 
-  private static Duration parseTimeout(String timeout) {
+  static Duration parseTimeout(String timeout) {
     Matcher matcher = TIMEOUT_PATTERN.matcher(timeout);
     if (matcher.matches()) {
       long value = Long.parseLong(matcher.group(1));
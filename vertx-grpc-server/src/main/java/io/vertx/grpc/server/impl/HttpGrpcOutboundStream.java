@@ -1,5 +1,6 @@
 package io.vertx.grpc.server.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -10,7 +11,9 @@ import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.internal.http.HttpServerRequestInternal;
 import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCoalescingPolicy;
 import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.common.impl.DefaultGrpcMessage;
@@ -21,9 +24,13 @@ import io.vertx.grpc.common.impl.GrpcMessageDeframer;
 import io.vertx.grpc.common.impl.GrpcMessageFrame;
 import io.vertx.grpc.common.impl.GrpcOutboundStream;
 import io.vertx.grpc.common.impl.GrpcTrailersFrame;
+import io.vertx.grpc.common.impl.GrpcWriteCoalescer;
+import io.vertx.grpc.common.impl.PooledBuffers;
+import io.vertx.grpc.common.impl.ProtobufGrpcMessage;
 import io.vertx.grpc.common.impl.Utils;
 import io.vertx.grpc.server.GrpcProtocol;
 
+import java.util.List;
 import java.util.Map;
 
 public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream implements GrpcStream {
@@ -31,6 +38,7 @@ public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream imple
   private boolean headersSent;
   private final HttpServerResponse httpResponse;
   protected GrpcStatus status;
+  private GrpcWriteCoalescer coalescer;
 
   public HttpGrpcOutboundStream(HttpServerRequest httpRequest, GrpcProtocol protocol, GrpcMessageDeframer deframer) {
     super(((HttpServerRequestInternal) httpRequest).context(), protocol, deframer);
@@ -43,6 +51,15 @@ public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream imple
     httpResponse.exceptionHandler(this::handleException);
   }
 
+  /**
+   * Coalesce the messages written on this stream, only applies to {@link GrpcProtocol#HTTP_2}.
+   */
+  void coalescing(GrpcCoalescingPolicy policy) {
+    if (protocol == GrpcProtocol.HTTP_2) {
+      coalescer = new GrpcWriteCoalescer(context, policy, httpResponse::write);
+    }
+  }
+
   @Override
   public Future<Void> end() {
     return context.succeededFuture();
@@ -142,19 +159,62 @@ public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream imple
   }
 
   protected Future<Void> writeEnd() {
+    if (coalescer != null) {
+      coalescer.flush();
+    }
     headersSent = true;
     return httpResponse.end();
   }
 
   protected Future<Void> writeMessage(GrpcMessageFrame frame) {
+    GrpcMessage message = frame.message();
+    if (coalescer != null) {
+      Future<Void> fut;
+      try {
+        fut = coalescer.write(message);
+      } catch (CodecException e) {
+        return context.failedFuture(e);
+      }
+      headersSent = true;
+      return fut;
+    }
+    if (protocol == GrpcProtocol.HTTP_2 && message instanceof ProtobufGrpcMessage) {
+      // Serialize straight into a pooled buffer
+      Future<Void> fut;
+      try {
+        fut = ((ProtobufGrpcMessage) message).write(false, httpResponse::write);
+      } catch (CodecException e) {
+        return context.failedFuture(e);
+      }
+      headersSent = true;
+      return fut;
+    }
     Buffer payload;
     try {
-      payload = frame.message().payload();
+      payload = message.payload();
+    } catch (CodecException e) {
+      return context.failedFuture(e);
+    }
+    headersSent = true;
+    return httpResponse.write(encodeMessage(payload, message.isCompressed(), false));
+  }
+
+  @Override
+  public Future<Void> writeMessages(List<GrpcMessage> messages) {
+    if (protocol != GrpcProtocol.HTTP_2) {
+      return GrpcStream.super.writeMessages(messages);
+    }
+    ByteBuf encoded;
+    try {
+      encoded = DefaultGrpcMessage.encode(messages);
     } catch (CodecException e) {
       return context.failedFuture(e);
     }
+    if (coalescer != null) {
+      coalescer.flush();
+    }
     headersSent = true;
-    return httpResponse.write(encodeMessage(payload, frame.message().isCompressed(), false));
+    return PooledBuffers.write(encoded, httpResponse::write);
   }
 
   protected Buffer encodeMessage(Buffer message, boolean compressed, boolean trailer) {
@@ -170,17 +230,24 @@ public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream imple
   @Override
   public GrpcOutboundStream setWriteQueueMaxSize(int maxSize) {
     httpResponse.setWriteQueueMaxSize(maxSize);
+    if (coalescer != null) {
+      coalescer.writeQueueMaxSize(maxSize);
+    }
     return this;
   }
 
   @Override
   public boolean writeQueueFull() {
-    return httpResponse.writeQueueFull();
+    // The bytes held by the coalescer are not in the write queue yet
+    return httpResponse.writeQueueFull() || (coalescer != null && coalescer.writeQueueFull());
   }
 
   @Override
   public GrpcOutboundStream drainHandler(@Nullable Handler<Void> handler) {
     httpResponse.drainHandler(handler);
+    if (coalescer != null) {
+      coalescer.drainHandler(handler);
+    }
     return this;
   }
 }
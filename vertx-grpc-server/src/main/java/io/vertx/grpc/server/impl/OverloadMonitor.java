@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.grpc.server.GrpcOverloadPolicy;
+import io.vertx.grpc.server.GrpcOverloadStats;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The state of a {@link GrpcOverloadPolicy} for a server.</p>
+ *
+ * <p>A probe is started on each event loop the first time it receives a call, the probe schedules itself on the event
+ * loop and measures how late it runs. A probe that is overdue counts its current delay, so a blocked event loop is seen
+ * as overloaded from other threads before the probe gets a chance to run.</p>
+ */
+final class OverloadMonitor implements GrpcOverloadStats {
+
+  private final long intervalNanos;
+  private final long maxLagNanos;
+  private final double smoothing;
+  private final long retryPushbackMillis;
+  private final ConcurrentMap<EventLoop, Probe> probes = new ConcurrentHashMap<>();
+  private final LongAdder shedCalls = new LongAdder();
+  private volatile boolean closed;
+
+  OverloadMonitor(GrpcOverloadPolicy policy) {
+    this.intervalNanos = policy.getSampleInterval().toNanos();
+    this.maxLagNanos = policy.getMaxLag().toNanos();
+    this.smoothing = policy.getSmoothing();
+    this.retryPushbackMillis = policy.getRetryPushback().toMillis();
+  }
+
+  /**
+   * @return the retry pushback in milliseconds sent with shed calls
+   */
+  long retryPushbackMillis() {
+    return retryPushbackMillis;
+  }
+
+  /**
+   * Check the lag of the event loop receiving a call, a call that should be shed is counted.
+   *
+   * @param eventLoop the event loop receiving the call
+   * @return whether the call should be shed
+   */
+  boolean shouldShed(EventLoop eventLoop) {
+    Probe probe = probes.get(eventLoop);
+    if (probe == null) {
+      if (closed) {
+        return false;
+      }
+      probes.computeIfAbsent(eventLoop, Probe::new);
+      return false;
+    }
+    if (probe.lag(System.nanoTime()) > maxLagNanos) {
+      shedCalls.increment();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Stop the probes, each probe stops the next time it runs.
+   */
+  void close() {
+    closed = true;
+    probes.clear();
+  }
+
+  @Override
+  public long lagNanos() {
+    long now = System.nanoTime();
+    long max = 0L;
+    for (Probe probe : probes.values()) {
+      max = Math.max(max, probe.lag(now));
+    }
+    return max;
+  }
+
+  @Override
+  public boolean isOverloaded() {
+    return lagNanos() > maxLagNanos;
+  }
+
+  @Override
+  public long shedCalls() {
+    return shedCalls.sum();
+  }
+
+  private final class Probe implements Runnable {
+
+    private final EventLoop eventLoop;
+    private volatile long due;
+    private volatile long lag;
+
+    Probe(EventLoop eventLoop) {
+      this.eventLoop = eventLoop;
+      eventLoop.execute(this::schedule);
+    }
+
+    private void schedule() {
+      if (!closed) {
+        due = System.nanoTime() + intervalNanos;
+        eventLoop.schedule(this, intervalNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    @Override
+    public void run() {
+      long sample = Math.max(0L, System.nanoTime() - due);
+      lag += (long) (smoothing * (sample - lag));
+      schedule();
+    }
+
+    /**
+     * @return the lag estimate, or the current delay when the probe is overdue by more
+     */
+    long lag(long now) {
+      long d = due;
+      long overdue = d != 0L ? now - d : 0L;
+      return Math.max(lag, overdue);
+    }
+  }
+}
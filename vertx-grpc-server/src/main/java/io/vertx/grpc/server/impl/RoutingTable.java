@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>An immutable snapshot of the registered method call handlers, rebuilt on each registration change.</p>
+ *
+ * <p>A request path is first looked up as is, then its parent paths are walked up from the deepest one using a trie
+ * of path segments, e.g. {@code /a/b/c} then {@code /a/b} then {@code /a}. Lookups do not allocate.</p>
+ */
+final class RoutingTable {
+
+  static final RoutingTable EMPTY = new RoutingTable(Map.of());
+
+  private static final GrpcServerImpl.MethodCallHandler<?, ?>[] NO_HANDLERS = new GrpcServerImpl.MethodCallHandler<?, ?>[0];
+
+  private final Map<String, GrpcServerImpl.MethodCallHandler<?, ?>[]> routes;
+  private final Node root;
+
+  RoutingTable(Map<String, List<GrpcServerImpl.MethodCallHandler<?, ?>>> registrations) {
+    Map<String, GrpcServerImpl.MethodCallHandler<?, ?>[]> routes = new HashMap<>();
+    Builder root = new Builder();
+    registrations.forEach((path, handlers) -> {
+      GrpcServerImpl.MethodCallHandler<?, ?>[] array = handlers.toArray(NO_HANDLERS);
+      routes.put(path, array);
+      if (path.startsWith("/")) {
+        Builder node = root;
+        int pos = 1;
+        while (true) {
+          int end = path.indexOf('/', pos);
+          if (end == -1) {
+            end = path.length();
+          }
+          node = node.children.computeIfAbsent(path.substring(pos, end), k -> new Builder());
+          if (end == path.length()) {
+            break;
+          }
+          pos = end + 1;
+        }
+        node.handlers = array;
+      }
+    });
+    this.routes = routes;
+    this.root = root.build(null);
+  }
+
+  /**
+   * @return the handlers registered for this exact {@code path} or {@code null}
+   */
+  GrpcServerImpl.MethodCallHandler<?, ?>[] lookup(String path) {
+    return routes.get(path);
+  }
+
+  /**
+   * @return the deepest node registered for a parent path of {@code path}, walk up with {@link Node#next()}, or {@code null}
+   */
+  Node lookupParent(String path) {
+    if (!path.startsWith("/")) {
+      return null;
+    }
+    Node node = root;
+    int len = path.length();
+    int pos = 1;
+    while (true) {
+      int end = path.indexOf('/', pos);
+      if (end == -1) {
+        end = len;
+      }
+      Node child = node.child(path, pos, end);
+      if (child == null) {
+        break;
+      }
+      if (end == len) {
+        // Exact path, it has been looked up already
+        break;
+      }
+      node = child;
+      pos = end + 1;
+    }
+    return node.handlers != null ? node : node.next;
+  }
+
+  /**
+   * Lookup by path rather than by method: a method registered with policies is a different instance than the method
+   * it configures.
+   *
+   * @return the handler of the service method registered for this exact {@code path} or {@code null}
+   */
+  GrpcServerImpl.MethodCallHandler<?, ?> lookupMethod(String path) {
+    GrpcServerImpl.MethodCallHandler<?, ?>[] handlers = routes.get(path);
+    if (handlers != null) {
+      for (GrpcServerImpl.MethodCallHandler<?, ?> handler : handlers) {
+        if (handler.method != null) {
+          return handler;
+        }
+      }
+    }
+    return null;
+  }
+
+  static final class Node {
+
+    private final String[] keys;
+    private final Node[] children;
+    private final int mask;
+    final GrpcServerImpl.MethodCallHandler<?, ?>[] handlers;
+    // The closest ancestor having handlers
+    private Node next;
+
+    private Node(int numChildren, GrpcServerImpl.MethodCallHandler<?, ?>[] handlers) {
+      // Keep the load factor below 0.5
+      int size = Integer.highestOneBit(Math.max(1, numChildren) * 2 - 1) << 1;
+      this.keys = new String[size];
+      this.children = new Node[size];
+      this.mask = size - 1;
+      this.handlers = handlers;
+    }
+
+    /**
+     * @return the closest ancestor having handlers or {@code null}
+     */
+    Node next() {
+      return next;
+    }
+
+    private Node child(String path, int start, int end) {
+      int idx = spread(hash(path, start, end)) & mask;
+      int len = end - start;
+      while (true) {
+        String key = keys[idx];
+        if (key == null) {
+          return null;
+        }
+        if (key.length() == len && key.regionMatches(0, path, start, len)) {
+          return children[idx];
+        }
+        idx = (idx + 1) & mask;
+      }
+    }
+
+    private void put(String key, Node child) {
+      int idx = spread(key.hashCode()) & mask;
+      while (keys[idx] != null) {
+        idx = (idx + 1) & mask;
+      }
+      keys[idx] = key;
+      children[idx] = child;
+    }
+
+    private static int hash(String s, int start, int end) {
+      // Same as String#hashCode
+      int h = 0;
+      for (int i = start; i < end; i++) {
+        h = 31 * h + s.charAt(i);
+      }
+      return h;
+    }
+
+    private static int spread(int h) {
+      return h ^ (h >>> 16);
+    }
+  }
+
+  private static final class Builder {
+
+    private final Map<String, Builder> children = new HashMap<>();
+    private GrpcServerImpl.MethodCallHandler<?, ?>[] handlers;
+
+    private Node build(Node parent) {
+      Node node = new Node(children.size(), handlers);
+      if (parent != null) {
+        node.next = parent.handlers != null ? parent : parent.next;
+      }
+      children.forEach((key, child) -> node.put(key, child.build(node)));
+      return node;
+    }
+  }
+}
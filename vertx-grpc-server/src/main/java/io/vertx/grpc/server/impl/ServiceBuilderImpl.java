@@ -2,12 +2,17 @@ package io.vertx.grpc.server.impl;
 
 import com.google.protobuf.Descriptors;
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.ServiceName;
 import io.vertx.grpc.server.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 public class ServiceBuilderImpl implements ServiceBuilder {
 
@@ -15,6 +20,10 @@ public class ServiceBuilderImpl implements ServiceBuilder {
 
   private final Descriptors.ServiceDescriptor descriptor;
   private final List<ServiceMethodBinding<?, ?>> handlers = new LinkedList<>(); // Maybe use MAP instead
+  private final Map<ServiceMethod<?, ?>, ThreadingModel> threadingModels = new HashMap<>();
+  private ThreadingModel threadingModel = ThreadingModel.EVENT_LOOP;
+  private final Map<ServiceMethod<?, ?>, GrpcBulkheadPolicy> bulkheadPolicies = new HashMap<>();
+  private GrpcBulkheadPolicy bulkheadPolicy;
 
   public ServiceBuilderImpl(ServiceName serviceName, Descriptors.ServiceDescriptor descriptor) {
     this.serviceName = serviceName;
@@ -27,8 +36,40 @@ public class ServiceBuilderImpl implements ServiceBuilder {
     return this;
   }
 
+  @Override
+  public ServiceBuilder threadingModel(ThreadingModel threadingModel) {
+    this.threadingModel = Objects.requireNonNull(threadingModel);
+    return this;
+  }
+
+  @Override
+  public ServiceBuilder threadingModel(ServiceMethod<?, ?> serviceMethod, ThreadingModel threadingModel) {
+    threadingModels.put(serviceMethod, Objects.requireNonNull(threadingModel));
+    return this;
+  }
+
+  @Override
+  public ServiceBuilder bulkheadPolicy(GrpcBulkheadPolicy policy) {
+    this.bulkheadPolicy = new GrpcBulkheadPolicy(policy);
+    return this;
+  }
+
+  @Override
+  public ServiceBuilder bulkheadPolicy(ServiceMethod<?, ?> serviceMethod, GrpcBulkheadPolicy policy) {
+    bulkheadPolicies.put(serviceMethod, new GrpcBulkheadPolicy(policy));
+    return this;
+  }
+
   @Override
   public Service build() {
+    ThreadingModel defaultThreadingModel = threadingModel;
+    Map<ServiceMethod<?, ?>, ThreadingModel> threadingModels = new HashMap<>(this.threadingModels);
+    GrpcBulkheadPolicy defaultBulkheadPolicy = bulkheadPolicy;
+    Map<ServiceMethod<?, ?>, GrpcBulkheadPolicy> bulkheadPolicies = new HashMap<>(this.bulkheadPolicies);
+    List<ServiceMethod<?, ?>> methods = new ArrayList<>();
+    for (ServiceMethodBinding<?, ?> handler : handlers) {
+      methods.add(handler.serviceMethod);
+    }
     return new Service() {
       @Override
       public ServiceName name() {
@@ -40,6 +81,11 @@ public class ServiceBuilderImpl implements ServiceBuilder {
         return descriptor;
       }
 
+      @Override
+      public List<ServiceMethod<?, ?>> methods() {
+        return methods;
+      }
+
       @Override
       public <Req, Resp> ServiceMethodInvoker<Req, Resp> invoker(ServiceMethod<Req, Resp> method) {
         for (ServiceMethodBinding<?, ?> handler : handlers) {
@@ -49,6 +95,16 @@ public class ServiceBuilderImpl implements ServiceBuilder {
         }
         return Service.super.invoker(method);
       }
+
+      @Override
+      public ThreadingModel threadingModel(ServiceMethod<?, ?> method) {
+        return threadingModels.getOrDefault(method, defaultThreadingModel);
+      }
+
+      @Override
+      public GrpcBulkheadPolicy bulkheadPolicy(ServiceMethod<?, ?> method) {
+        return bulkheadPolicies.getOrDefault(method, defaultBulkheadPolicy);
+      }
     };
   }
 
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcConcurrencyLimitPolicy;
+import io.vertx.grpc.server.GrpcAdmissionPolicy;
+import io.vertx.grpc.server.GrpcAdmissionStats;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class ServerAdmissionTest extends ServerTestBase {
+
+  private static final GrpcConcurrencyLimitPolicy LIMIT_ONE = new GrpcConcurrencyLimitPolicy()
+    .setInitialLimit(1)
+    .setMinLimit(1)
+    .setMaxLimit(1);
+
+  private void connect() {
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+  }
+
+  private static Request request(String name) {
+    return Request.newBuilder().setName(name).build();
+  }
+
+  private static void waitUntil(TestContext should, BooleanSupplier condition) throws Exception {
+    long now = System.currentTimeMillis();
+    while (!condition.getAsBoolean()) {
+      should.assertTrue(System.currentTimeMillis() - now < 10_000);
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  public void testRejectInsufficientBudget(TestContext should) {
+    List<String> received = new CopyOnWriteArrayList<>();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+        .setAdmissionPolicy(new GrpcAdmissionPolicy().setMinBudget(Duration.ofSeconds(5))))
+      .unaryCallHandler(UNARY, req -> {
+        received.add(req.getName());
+        return Future.succeededFuture(Reply.newBuilder().setMessage("Hello " + req.getName()).build());
+      });
+    startServer(server);
+    connect();
+    try {
+      TestServiceGrpc.newBlockingStub(channel).withDeadlineAfter(1, TimeUnit.SECONDS).unary(request("Julien"));
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.DEADLINE_EXCEEDED, e.getStatus().getCode());
+    }
+    should.assertTrue(received.isEmpty());
+    should.assertEquals(1L, server.admissionStats(UNARY).expiredCalls());
+    // Calls without deadline or with enough budget are admitted
+    should.assertEquals("Hello Paulo", TestServiceGrpc.newBlockingStub(channel).unary(request("Paulo")).getMessage());
+    should.assertEquals("Hello Paulo", TestServiceGrpc.newBlockingStub(channel).withDeadlineAfter(10, TimeUnit.SECONDS).unary(request("Paulo")).getMessage());
+  }
+
+  @Test
+  public void testEarliestDeadlineFirst(TestContext should) throws Exception {
+    List<String> received = new CopyOnWriteArrayList<>();
+    Promise<Reply> pending = Promise.promise();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+        .setConcurrencyLimitPolicy(LIMIT_ONE)
+        .setAdmissionPolicy(new GrpcAdmissionPolicy()))
+      .unaryCallHandler(UNARY, req -> {
+        received.add(req.getName());
+        if (req.getName().equals("first")) {
+          return pending.future();
+        }
+        return Future.succeededFuture(Reply.newBuilder().setMessage("Hello " + req.getName()).build());
+      });
+    startServer(server);
+    connect();
+    GrpcAdmissionStats stats = server.admissionStats(UNARY);
+    ListenableFuture<Reply> first = TestServiceGrpc.newFutureStub(channel).unary(request("first"));
+    waitUntil(should, () -> received.size() == 1);
+    ListenableFuture<Reply> late = TestServiceGrpc.newFutureStub(channel).withDeadlineAfter(30, TimeUnit.SECONDS).unary(request("late"));
+    waitUntil(should, () -> stats.queued() == 1);
+    ListenableFuture<Reply> early = TestServiceGrpc.newFutureStub(channel).withDeadlineAfter(20, TimeUnit.SECONDS).unary(request("early"));
+    waitUntil(should, () -> stats.queued() == 2);
+    pending.complete(Reply.newBuilder().setMessage("Hello first").build());
+    should.assertEquals("Hello first", first.get(10, TimeUnit.SECONDS).getMessage());
+    should.assertEquals("Hello early", early.get(10, TimeUnit.SECONDS).getMessage());
+    should.assertEquals("Hello late", late.get(10, TimeUnit.SECONDS).getMessage());
+    should.assertEquals(List.of("first", "early", "late"), received);
+    should.assertEquals(0, stats.queued());
+    should.assertEquals(0L, stats.rejectedCalls());
+    should.assertEquals(0L, server.concurrencyLimitStats(UNARY).rejectedCalls());
+  }
+
+  @Test
+  public void testCancelInQueueUnary(TestContext should) throws Exception {
+    List<String> received = new CopyOnWriteArrayList<>();
+    Promise<Reply> pending = Promise.promise();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+        .setConcurrencyLimitPolicy(LIMIT_ONE)
+        .setAdmissionPolicy(new GrpcAdmissionPolicy()))
+      .unaryCallHandler(UNARY, req -> {
+        received.add(req.getName());
+        return pending.future();
+      });
+    testCancelInQueue(should, server, received, () -> pending.complete(Reply.newBuilder().setMessage("Hello").build()));
+  }
+
+  @Test
+  public void testCancelInQueueStreaming(TestContext should) throws Exception {
+    List<String> received = new CopyOnWriteArrayList<>();
+    Promise<Reply> pending = Promise.promise();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+        .setConcurrencyLimitPolicy(LIMIT_ONE)
+        .setAdmissionPolicy(new GrpcAdmissionPolicy()))
+      .callHandler(UNARY, call -> {
+        call.handler(req -> {
+          received.add(req.getName());
+          pending.future().onSuccess(reply -> call.response().end(reply));
+        });
+      });
+    testCancelInQueue(should, server, received, () -> vertx.runOnContext(v -> pending.complete(Reply.newBuilder().setMessage("Hello").build())));
+  }
+
+  private void testCancelInQueue(TestContext should, GrpcServer server, List<String> received, Runnable release) throws Exception {
+    startServer(server);
+    connect();
+    GrpcAdmissionStats stats = server.admissionStats(UNARY);
+    ListenableFuture<Reply> first = TestServiceGrpc.newFutureStub(channel).unary(request("first"));
+    waitUntil(should, () -> received.size() == 1);
+    ListenableFuture<Reply> cancelled = TestServiceGrpc.newFutureStub(channel).unary(request("cancelled"));
+    waitUntil(should, () -> stats.queued() == 1);
+    cancelled.cancel(true);
+    // The cancelled call leaves the queue without waiting for a slot
+    waitUntil(should, () -> stats.queued() == 0);
+    release.run();
+    should.assertEquals("Hello", first.get(10, TimeUnit.SECONDS).getMessage());
+    should.assertEquals("Hello", TestServiceGrpc.newBlockingStub(channel).unary(request("next")).getMessage());
+    should.assertEquals(List.of("first", "next"), received);
+  }
+
+  @Test
+  public void testExpireInQueue(TestContext should) throws Exception {
+    List<String> received = new CopyOnWriteArrayList<>();
+    Promise<Reply> pending = Promise.promise();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+        .setConcurrencyLimitPolicy(LIMIT_ONE)
+        .setAdmissionPolicy(new GrpcAdmissionPolicy().setMaxQueueSize(1)))
+      .callHandler(UNARY, call -> {
+        call.handler(req -> {
+          received.add(req.getName());
+          pending.future().onSuccess(reply -> call.response().end(reply));
+        });
+      });
+    startServer(server);
+    connect();
+    GrpcAdmissionStats stats = server.admissionStats(UNARY);
+    ListenableFuture<Reply> first = TestServiceGrpc.newFutureStub(channel).unary(request("first"));
+    waitUntil(should, () -> received.size() == 1);
+    ListenableFuture<Reply> queued = TestServiceGrpc.newFutureStub(channel).withDeadlineAfter(200, TimeUnit.MILLISECONDS).unary(request("queued"));
+    waitUntil(should, () -> stats.queued() == 1);
+    Thread.sleep(300);
+    // The queue is full, the expired call is dropped to make room
+    ListenableFuture<Reply> next = TestServiceGrpc.newFutureStub(channel).unary(request("next"));
+    waitUntil(should, () -> stats.expiredCalls() == 1);
+    try {
+      queued.get(10, TimeUnit.SECONDS);
+      should.fail();
+    } catch (ExecutionException e) {
+      should.assertEquals(Status.Code.DEADLINE_EXCEEDED, Status.fromThrowable(e.getCause()).getCode());
+    }
+    try {
+      TestServiceGrpc.newBlockingStub(channel).unary(request("rejected"));
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+    }
+    should.assertEquals(1L, stats.rejectedCalls());
+    vertx.runOnContext(v -> pending.complete(Reply.newBuilder().setMessage("Hello").build()));
+    should.assertEquals("Hello", first.get(10, TimeUnit.SECONDS).getMessage());
+    should.assertEquals("Hello", next.get(10, TimeUnit.SECONDS).getMessage());
+    should.assertEquals(List.of("first", "next"), received);
+  }
+}
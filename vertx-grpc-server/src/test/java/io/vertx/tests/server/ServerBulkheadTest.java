@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import com.google.protobuf.Descriptors;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Context;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.server.*;
+import io.vertx.tests.common.grpc.Empty;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+public class ServerBulkheadTest extends ServerTestBase {
+
+  private GrpcServer startServer(UnaryServiceMethodInvoker<Request, Reply> invoker, GrpcBulkheadPolicy policy) {
+    Service service = new Service() {
+      @Override
+      public ServiceName name() {
+        return UNARY.serviceName();
+      }
+      @Override
+      public Descriptors.ServiceDescriptor descriptor() {
+        throw new UnsupportedOperationException();
+      }
+      @Override
+      public List<ServiceMethod<?, ?>> methods() {
+        return List.of(UNARY);
+      }
+      @Override
+      public <Req, Resp> ServiceMethodInvoker<Req, Resp> invoker(ServiceMethod<Req, Resp> method) {
+        return (ServiceMethodInvoker<Req, Resp>) invoker;
+      }
+      @Override
+      public GrpcBulkheadPolicy bulkheadPolicy(ServiceMethod<?, ?> method) {
+        return policy;
+      }
+    };
+    GrpcServer server = GrpcServer.server(vertx).addService(service);
+    startServer(server);
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    return server;
+  }
+
+  private static void waitUntil(TestContext should, BooleanSupplier condition) throws InterruptedException {
+    long now = System.currentTimeMillis();
+    while (!condition.getAsBoolean()) {
+      should.assertTrue(System.currentTimeMillis() - now < 10_000);
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  public void testRunOnBulkhead(TestContext should) throws Exception {
+    GrpcServer server = startServer((request, completion) -> {
+      should.assertFalse(Context.isOnEventLoopThread());
+      should.assertTrue(Thread.currentThread().getName().startsWith("test"));
+      completion.complete(Reply.newBuilder().setMessage("Hello " + request.getName()).build(), null);
+    }, new GrpcBulkheadPolicy("test"));
+
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    for (int i = 0; i < 4; i++) {
+      Reply res = stub.unary(Request.newBuilder().setName("Julien").build());
+      should.assertEquals("Hello Julien", res.getMessage());
+    }
+
+    GrpcBulkheadStats stats = server.bulkheadStats("test");
+    should.assertNotNull(stats);
+    // The stats are updated after the response is sent
+    waitUntil(should, () -> stats.executions() == 4L);
+    should.assertEquals(0L, stats.rejectedCalls());
+    should.assertNull(server.bulkheadStats("unknown"));
+  }
+
+  @Test
+  public void testRejectWhenFull(TestContext should) throws Exception {
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+    GrpcServer server = startServer((request, completion) -> {
+      started.countDown();
+      try {
+        release.await(20, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        completion.fail(e);
+        return;
+      }
+      completion.complete(Reply.newBuilder().setMessage("Hello " + request.getName()).build(), null);
+    }, new GrpcBulkheadPolicy("test").setMaxInFlight(1).setMaxQueueSize(1));
+
+    TestServiceGrpc.TestServiceStub stub = TestServiceGrpc.newStub(channel);
+    Async done = should.async(2);
+    for (int i = 0; i < 2; i++) {
+      stub.unary(Request.newBuilder().setName("Julien").build(), new StreamObserver<>() {
+        @Override
+        public void onNext(Reply value) {
+          should.assertEquals("Hello Julien", value.getMessage());
+        }
+        @Override
+        public void onError(Throwable t) {
+          should.fail(t);
+        }
+        @Override
+        public void onCompleted() {
+          done.countDown();
+        }
+      });
+    }
+
+    GrpcBulkheadStats stats = server.bulkheadStats("test");
+    waitUntil(should, () -> stats.inFlight() == 1 && stats.queued() == 1);
+
+    try {
+      TestServiceGrpc.newBlockingStub(channel).unary(Request.newBuilder().setName("Julien").build());
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+    }
+    should.assertEquals(1L, stats.rejectedCalls());
+
+    release.countDown();
+    done.awaitSuccess(20_000);
+    should.assertEquals(0L, started.getCount());
+    waitUntil(should, () -> stats.executions() == 2L);
+    should.assertEquals(0, stats.inFlight());
+    should.assertEquals(0, stats.queued());
+    should.assertTrue(stats.queueNanos() > 0L);
+  }
+
+  @Test
+  public void testStreamingOnBulkhead(TestContext should) throws Exception {
+    int num = 8;
+    List<String> names = new ArrayList<>();
+    Service service = Service.service(SINK.serviceName(), null)
+      .bind(SINK, request -> {
+        should.assertTrue(Thread.currentThread().getName().startsWith("test"));
+        request.handler(msg -> {
+          should.assertFalse(Context.isOnEventLoopThread());
+          should.assertTrue(Thread.currentThread().getName().startsWith("test"));
+          names.add(msg.getName());
+        });
+        request.endHandler(v -> {
+          should.assertTrue(Thread.currentThread().getName().startsWith("test"));
+          request.response().end(Empty.getDefaultInstance());
+        });
+      })
+      .bulkheadPolicy(new GrpcBulkheadPolicy("test").setMaxInFlight(1))
+      .build();
+    GrpcServer server = GrpcServer.server(vertx).addService(service);
+    startServer(server);
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    Async done = should.async();
+    StreamObserver<Request> requests = TestServiceGrpc.newStub(channel).sink(new StreamObserver<>() {
+      @Override
+      public void onNext(Empty value) {
+      }
+      @Override
+      public void onError(Throwable t) {
+        should.fail(t);
+      }
+      @Override
+      public void onCompleted() {
+        done.complete();
+      }
+    });
+    for (int i = 0; i < num; i++) {
+      requests.onNext(Request.newBuilder().setName("msg-" + i).build());
+    }
+    requests.onCompleted();
+    done.awaitSuccess(20_000);
+
+    should.assertEquals(num, names.size());
+    for (int i = 0; i < num; i++) {
+      should.assertEquals("msg-" + i, names.get(i));
+    }
+    GrpcBulkheadStats stats = server.bulkheadStats("test");
+    waitUntil(should, () -> stats.inFlight() == 0);
+    should.assertEquals(0L, stats.rejectedCalls());
+  }
+
+  @Test
+  public void testEndHandlerFailure(TestContext should) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    Service service = Service.service(SINK.serviceName(), null)
+      .bind(SINK, request -> {
+        boolean fail = calls.incrementAndGet() == 1;
+        request.handler(msg -> {
+        });
+        request.endHandler(v -> {
+          if (fail) {
+            throw new RuntimeException("Expected");
+          }
+          request.response().end(Empty.getDefaultInstance());
+        });
+      })
+      .bulkheadPolicy(new GrpcBulkheadPolicy("test").setMaxInFlight(1))
+      .build();
+    GrpcServer server = GrpcServer.server(vertx).addService(service);
+    startServer(server);
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    for (int i = 0; i < 2; i++) {
+      boolean fail = i == 0;
+      Async done = should.async();
+      StreamObserver<Request> requests = TestServiceGrpc.newStub(channel).sink(new StreamObserver<>() {
+        @Override
+        public void onNext(Empty value) {
+        }
+        @Override
+        public void onError(Throwable t) {
+          should.assertTrue(fail);
+          done.complete();
+        }
+        @Override
+        public void onCompleted() {
+          should.assertFalse(fail);
+          done.complete();
+        }
+      });
+      requests.onNext(Request.newBuilder().setName("Julien").build());
+      requests.onCompleted();
+      done.awaitSuccess(20_000);
+    }
+
+    // The failed task released its worker
+    GrpcBulkheadStats stats = server.bulkheadStats("test");
+    waitUntil(should, () -> stats.inFlight() == 0);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import io.grpc.ManagedChannelBuilder;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcCoalescingPolicy;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.grpc.server.GrpcServerResponse;
+import io.vertx.tests.common.grpc.Empty;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ServerCoalescingTest extends ServerTestBase {
+
+  private HttpClient client;
+
+  @Override
+  public void tearDown(TestContext should) {
+    if (client != null) {
+      client.close();
+    }
+    super.tearDown(should);
+  }
+
+  private Iterator<Reply> source() {
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    return TestServiceGrpc.newBlockingStub(channel).source(Empty.getDefaultInstance());
+  }
+
+  @Test
+  public void testCoalesceMessages(TestContext should) {
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setCoalescingPolicy(new GrpcCoalescingPolicy().setMaxMessages(8)))
+      .callHandler(SOURCE, call -> {
+        for (int i = 0; i < 100; i++) {
+          call.response().write(Reply.newBuilder().setMessage("the-value-" + i).build());
+        }
+        call.response().end();
+      }));
+    List<String> received = new ArrayList<>();
+    source().forEachRemaining(reply -> received.add(reply.getMessage()));
+    should.assertEquals(100, received.size());
+    for (int i = 0; i < 100; i++) {
+      should.assertEquals("the-value-" + i, received.get(i));
+    }
+  }
+
+  @Test
+  public void testCoalescedDataFrames(TestContext should) {
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setCoalescingPolicy(new GrpcCoalescingPolicy().setMaxMessages(8)))
+      .callHandler(SOURCE, call -> {
+        for (int i = 0; i < 96; i++) {
+          call.response().write(Reply.newBuilder().setMessage("the-value-" + i).build());
+        }
+        call.response().end();
+      }));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    Async done = should.async();
+    client.request(HttpMethod.POST, 8080, "localhost", "/" + SOURCE.fullMethodName()).onComplete(should.asyncAssertSuccess(request -> {
+      request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+      request.send(Buffer.buffer().appendByte((byte) 0).appendInt(0)).onComplete(should.asyncAssertSuccess(resp -> {
+        // Each chunk is the payload of a DATA frame
+        List<Buffer> frames = new ArrayList<>();
+        resp.handler(chunk -> {
+          if (chunk.length() > 0) {
+            frames.add(chunk);
+          }
+        });
+        resp.endHandler(v -> {
+          Buffer body = Buffer.buffer();
+          frames.forEach(body::appendBuffer);
+          int count = 0;
+          for (int pos = 0; pos < body.length(); pos += 5 + body.getInt(pos + 1)) {
+            count++;
+          }
+          should.assertEquals(96, count);
+          should.assertTrue(frames.size() <= 96 / 8, "Expected at most 12 DATA frames instead of " + frames.size());
+          done.complete();
+        });
+      }));
+    }));
+  }
+
+  @Test
+  public void testLinger(TestContext should) {
+    AtomicBoolean ended = new AtomicBoolean();
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setCoalescingPolicy(new GrpcCoalescingPolicy().setLinger(Duration.ofMillis(10))))
+      .callHandler(SOURCE, call -> {
+        call.response().write(Reply.newBuilder().setMessage("the-value").build());
+        vertx.setTimer(1000, id -> {
+          ended.set(true);
+          call.response().end();
+        });
+      }));
+    Iterator<Reply> it = source();
+    should.assertEquals("the-value", it.next().getMessage());
+    // The batch is written after the linger, not when the stream ends
+    should.assertFalse(ended.get());
+    should.assertFalse(it.hasNext());
+  }
+
+  @Test
+  public void testBufferedBytesBackPressure(TestContext should) {
+    AtomicInteger sent = new AtomicInteger();
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setCoalescingPolicy(new GrpcCoalescingPolicy().setLinger(Duration.ofMillis(10))))
+      .callHandler(SOURCE, call -> {
+        GrpcServerResponse<Empty, Reply> response = call.response();
+        response.setWriteQueueMaxSize(64);
+        while (!response.writeQueueFull()) {
+          response.write(Reply.newBuilder().setMessage("the-value-" + sent.getAndIncrement()).build());
+        }
+        response.drainHandler(v -> response.end());
+      }));
+    List<String> received = new ArrayList<>();
+    source().forEachRemaining(reply -> received.add(reply.getMessage()));
+    // The buffered bytes make the response full before a batch of max messages is written
+    should.assertTrue(sent.get() < GrpcCoalescingPolicy.DEFAULT_MAX_MESSAGES);
+    should.assertEquals(sent.get(), received.size());
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcConcurrencyLimitPolicy;
+import io.vertx.grpc.common.GrpcConcurrencyLimitStats;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerMetricsAggregator;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class ServerConcurrencyLimitTest extends ServerTestBase {
+
+  private static final GrpcConcurrencyLimitPolicy LIMIT_ONE = new GrpcConcurrencyLimitPolicy()
+    .setInitialLimit(1)
+    .setMinLimit(1)
+    .setMaxLimit(1);
+
+  private void connect() {
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+  }
+
+  @Test
+  public void testRejectUnary(TestContext should) throws Exception {
+    CountDownLatch received = new CountDownLatch(1);
+    Promise<Reply> pending = Promise.promise();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions().setConcurrencyLimitPolicy(LIMIT_ONE))
+      .unaryCallHandler(UNARY, request -> {
+        received.countDown();
+        return pending.future();
+      });
+    startServer(server);
+    connect();
+    ListenableFuture<Reply> first = TestServiceGrpc.newFutureStub(channel).unary(Request.newBuilder().setName("Julien").build());
+    should.assertTrue(received.await(10, TimeUnit.SECONDS));
+    GrpcConcurrencyLimitStats stats = server.concurrencyLimitStats(UNARY);
+    should.assertEquals(1, stats.limit());
+    should.assertEquals(1, stats.inFlight());
+    try {
+      TestServiceGrpc.newBlockingStub(channel).unary(Request.newBuilder().setName("Paulo").build());
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+    }
+    should.assertEquals(1L, stats.rejectedCalls());
+    pending.complete(Reply.newBuilder().setMessage("Hello Julien").build());
+    should.assertEquals("Hello Julien", first.get(10, TimeUnit.SECONDS).getMessage());
+    should.assertEquals(0, stats.inFlight());
+    Reply reply = TestServiceGrpc.newBlockingStub(channel).unary(Request.newBuilder().setName("Paulo").build());
+    should.assertEquals("Hello Paulo", reply.getMessage());
+  }
+
+  @Test
+  public void testRejectStreaming(TestContext should) throws Exception {
+    CountDownLatch received = new CountDownLatch(1);
+    ServiceMethod<Request, Reply> method = UNARY.withConcurrencyLimitPolicy(LIMIT_ONE);
+    Promise<Void> pending = Promise.promise();
+    GrpcServer server = GrpcServer.server(vertx)
+      .callHandler(method, call -> {
+        call.handler(request -> {
+          received.countDown();
+          pending.future().onSuccess(v -> call.response().end(Reply.newBuilder().setMessage("Hello " + request.getName()).build()));
+        });
+      });
+    startServer(server);
+    connect();
+    ListenableFuture<Reply> first = TestServiceGrpc.newFutureStub(channel).unary(Request.newBuilder().setName("Julien").build());
+    should.assertTrue(received.await(10, TimeUnit.SECONDS));
+    try {
+      TestServiceGrpc.newBlockingStub(channel).unary(Request.newBuilder().setName("Paulo").build());
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+    }
+    GrpcConcurrencyLimitStats stats = server.concurrencyLimitStats(method);
+    should.assertEquals(1L, stats.rejectedCalls());
+    // Looked up by path, whichever instance of the method is used
+    should.assertSame(stats, server.concurrencyLimitStats(UNARY));
+    should.assertSame(stats, server.concurrencyLimitStats(UNARY.withConcurrencyLimitPolicy(LIMIT_ONE)));
+    vertx.runOnContext(v -> pending.complete());
+    should.assertEquals("Hello Julien", first.get(10, TimeUnit.SECONDS).getMessage());
+    should.assertEquals(0, stats.inFlight());
+  }
+
+  @Test
+  public void testConnectionClosed(TestContext should) throws Exception {
+    CountDownLatch received = new CountDownLatch(1);
+    ServiceMethod<Request, Reply> method = UNARY.withConcurrencyLimitPolicy(LIMIT_ONE);
+    GrpcServerMetricsAggregator metrics = GrpcServerMetricsAggregator.create();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions().setMetrics(metrics))
+      .callHandler(method, call -> call.handler(request -> received.countDown()));
+    startServer(server);
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+    HttpClientRequest request = client.request(HttpMethod.POST, port, "localhost", "/" + UNARY.fullMethodName()).await();
+    request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+    Buffer payload = Buffer.buffer(Request.newBuilder().setName("Julien").build().toByteArray());
+    // The request is not ended, the call is in progress
+    request.write(Buffer.buffer().appendByte((byte) 0).appendInt(payload.length()).appendBuffer(payload)).await();
+    should.assertTrue(received.await(10, TimeUnit.SECONDS));
+    GrpcConcurrencyLimitStats stats = server.concurrencyLimitStats(method);
+    should.assertEquals(1, stats.inFlight());
+    request.connection().close().await();
+    waitUntil(should, () -> stats.inFlight() == 0);
+    waitUntil(should, () -> metrics.snapshot().get(UNARY.fullMethodName()).calls() == 1L);
+    should.assertEquals(1L, metrics.snapshot().get(UNARY.fullMethodName()).statuses().get(GrpcStatus.CANCELLED));
+    client.close().await();
+  }
+
+  private static void waitUntil(TestContext should, BooleanSupplier condition) throws Exception {
+    long now = System.currentTimeMillis();
+    while (!condition.getAsBoolean()) {
+      should.assertTrue(System.currentTimeMillis() - now < 10_000);
+      Thread.sleep(10);
+    }
+  }
+}
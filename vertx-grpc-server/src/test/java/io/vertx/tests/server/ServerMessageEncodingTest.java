@@ -26,11 +26,14 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcCompressionPolicy;
+import io.vertx.grpc.common.GrpcCompressor;
 import io.vertx.grpc.common.GrpcError;
 import io.vertx.grpc.common.GrpcHeaderNames;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
 import io.vertx.grpc.server.GrpcServerRequest;
 import io.vertx.grpc.server.GrpcServerResponse;
 import io.vertx.tests.common.GrpcTestBase;
@@ -213,6 +216,199 @@ public class ServerMessageEncodingTest extends ServerTestBase {
     }));
   }
 
+  @Test
+  public void testCompressors(TestContext should) {
+
+    Buffer expected = Buffer.buffer("Hello World");
+
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions()
+      .addCompressor(GrpcCompressor.deflate())
+      .addCompressor(GrpcCompressor.snappy())).callHandler(call -> {
+      should.assertEquals("deflate", call.encoding());
+      call.handler(msg -> {
+        should.assertEquals(expected, msg);
+        call.response()
+          .encoding("snappy")
+          .end(msg);
+      });
+    }));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    Async done = should.async();
+
+    Buffer payload = GrpcCompressor.deflate().compress(expected);
+    client.request(HttpMethod.POST, 8080, "localhost", "/").onComplete(should.asyncAssertSuccess(request -> {
+      request.putHeader(GrpcHeaderNames.GRPC_ENCODING, "deflate");
+      request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+      request.send(Buffer
+        .buffer()
+        .appendByte((byte)1)
+        .appendInt(payload.length())
+        .appendBuffer(payload)).onComplete(should.asyncAssertSuccess(resp -> {
+        should.assertEquals("snappy", resp.getHeader(GrpcHeaderNames.GRPC_ENCODING));
+        should.assertEquals("gzip,deflate,snappy", resp.getHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING));
+        resp.body().onComplete(should.asyncAssertSuccess(body -> {
+          should.assertEquals(1, (int)body.getByte(0));
+          int len = body.getInt(1);
+          should.assertEquals(expected, GrpcCompressor.snappy().decompress(body.slice(5, 5 + len)));
+          done.complete();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testUnsupportedEncoding(TestContext should) {
+
+    startServer(GrpcServer.server(vertx).callHandler(call -> {
+      should.fail();
+    }));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    Async done = should.async();
+
+    client.request(HttpMethod.POST, 8080, "localhost", "/").onComplete(should.asyncAssertSuccess(request -> {
+      request.putHeader(GrpcHeaderNames.GRPC_ENCODING, "br");
+      request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+      request.send(Buffer
+        .buffer()
+        .appendByte((byte)1)
+        .appendInt(11)
+        .appendString("Hello World")).onComplete(should.asyncAssertSuccess(resp -> {
+        should.assertEquals(200, resp.statusCode());
+        should.assertEquals("" + GrpcStatus.UNIMPLEMENTED.code, resp.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        should.assertEquals("gzip", resp.getHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING));
+        done.complete();
+      }));
+    }));
+  }
+
+  @Test
+  public void testAcceptedEncodings(TestContext should) {
+
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions()
+      .addCompressor(GrpcCompressor.snappy())).callHandler(call -> {
+      call.handler(msg -> {
+        GrpcServerResponse<Buffer, Buffer> response = call.response();
+        should.assertEquals(List.of("snappy", "gzip"), List.copyOf(response.acceptedEncodings()));
+        response.end(msg);
+      });
+    }));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    Async done = should.async();
+
+    client.request(HttpMethod.POST, 8080, "localhost", "/").onComplete(should.asyncAssertSuccess(request -> {
+      request.putHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, "br, snappy,zstd , gzip");
+      request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+      request.send(Buffer
+        .buffer()
+        .appendByte((byte)0)
+        .appendInt(11)
+        .appendString("Hello World")).onComplete(should.asyncAssertSuccess(resp -> {
+        resp.end().onComplete(should.asyncAssertSuccess(v -> {
+          should.assertEquals("" + GrpcStatus.OK.code, resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+          done.complete();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testDecompressedMessageTooLarge(TestContext should) {
+
+    Buffer large = Buffer.buffer(new byte[64 * 1024]);
+
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions()
+      .setMaxMessageSize(1024)).callHandler(call -> {
+      call.handler(msg -> {
+        should.fail();
+      });
+    }));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    Async done = should.async();
+
+    // Well below the max message size on the wire
+    Buffer payload = GrpcCompressor.gzip().compress(large);
+    should.assertTrue(payload.length() < 1024);
+    client.request(HttpMethod.POST, 8080, "localhost", "/").onComplete(should.asyncAssertSuccess(request -> {
+      request.putHeader(GrpcHeaderNames.GRPC_ENCODING, "gzip");
+      request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+      request.send(Buffer
+        .buffer()
+        .appendByte((byte)1)
+        .appendInt(payload.length())
+        .appendBuffer(payload)).onComplete(should.asyncAssertSuccess(resp -> {
+        should.assertEquals("" + GrpcStatus.RESOURCE_EXHAUSTED.code, resp.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        done.complete();
+      }));
+    }));
+  }
+
+  @Test
+  public void testAdaptiveCompression(TestContext should) {
+
+    Buffer small = Buffer.buffer("Hello World");
+    Buffer large = Buffer.buffer("Hello World".repeat(100));
+
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions()
+      .setCompressionPolicy(new GrpcCompressionPolicy().setMinSize(256))).callHandler(call -> {
+      call.handler(msg -> {
+        GrpcServerResponse<Buffer, Buffer> response = call.response();
+        response.encoding("gzip");
+        response.write(small);
+        response.end(large);
+      });
+    }));
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+
+    Async done = should.async();
+
+    client.request(HttpMethod.POST, 8080, "localhost", "/").onComplete(should.asyncAssertSuccess(request -> {
+      request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+      request.send(Buffer
+        .buffer()
+        .appendByte((byte)0)
+        .appendInt(small.length())
+        .appendBuffer(small)).onComplete(should.asyncAssertSuccess(resp -> {
+        should.assertEquals("gzip", resp.getHeader(GrpcHeaderNames.GRPC_ENCODING));
+        resp.body().onComplete(should.asyncAssertSuccess(body -> {
+          // Below the min size: sent uncompressed
+          should.assertEquals(0, (int)body.getByte(0));
+          int len = body.getInt(1);
+          should.assertEquals(small, body.slice(5, 5 + len));
+          int idx = 5 + len;
+          // Above the min size: compressed
+          should.assertEquals(1, (int)body.getByte(idx));
+          len = body.getInt(idx + 1);
+          should.assertEquals(large, GrpcCompressor.gzip().decompress(body.slice(idx + 5, idx + 5 + len)));
+          done.complete();
+        }));
+      }));
+    }));
+  }
+
   // A test to check, gRPC implementation behavior
   @Test
   public void testClientDecodingError(TestContext should) throws Exception {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerMethodMetrics;
+import io.vertx.grpc.server.GrpcServerMetrics;
+import io.vertx.grpc.server.GrpcServerMetricsAggregator;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+public class ServerMetricsTest extends ServerTestBase {
+
+  @Test
+  public void testUnaryMetrics(TestContext should) {
+    GrpcServerMetricsAggregator metrics = GrpcServerMetricsAggregator.create();
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setMetrics(metrics)).callHandler(UNARY, call -> {
+      call.handler(helloRequest -> {
+        if (helloRequest.getName().isEmpty()) {
+          call.response().status(GrpcStatus.INVALID_ARGUMENT).end();
+        } else {
+          call.response().end(Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build());
+        }
+      });
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    Request request = Request.newBuilder().setName("Julien").build();
+    stub.unary(request);
+    stub.unary(request);
+    try {
+      stub.unary(Request.getDefaultInstance());
+      should.fail();
+    } catch (StatusRuntimeException expected) {
+    }
+
+    Map<String, GrpcServerMethodMetrics> snapshot = metrics.snapshot();
+    GrpcServerMethodMetrics method = snapshot.get(UNARY.fullMethodName());
+    should.assertNotNull(method);
+    should.assertEquals(0L, method.activeCalls());
+    should.assertEquals(3L, method.calls());
+    should.assertEquals(2L, method.statuses().get(GrpcStatus.OK));
+    should.assertEquals(1L, method.statuses().get(GrpcStatus.INVALID_ARGUMENT));
+    should.assertEquals(3L, method.messagesReceived());
+    should.assertEquals(2L * request.getSerializedSize(), method.bytesReceived());
+    should.assertEquals(2L, method.messagesSent());
+    should.assertTrue(method.bytesSent() > 0L);
+    should.assertTrue(method.latency().valueAtPercentile(50) > 0L);
+    should.assertTrue(method.latency().valueAtPercentile(100) <= method.latency().max());
+  }
+
+  @Test
+  public void testGenericHandlerMetrics(TestContext should) {
+    GrpcServerMetricsAggregator metrics = GrpcServerMetricsAggregator.create();
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setMetrics(metrics)).callHandler(call -> {
+      call.handler(request -> {
+        call.response().end(Buffer.buffer(Reply.newBuilder().setMessage("Hello").build().toByteArray()));
+      });
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    Request request = Request.newBuilder().setName("Julien").build();
+    stub.unary(request);
+    stub.unary(request);
+
+    // Paths chosen by the client share a single metric
+    Map<String, GrpcServerMethodMetrics> snapshot = metrics.snapshot();
+    should.assertEquals(Set.of(GrpcServerMetrics.GENERIC_METHOD), snapshot.keySet());
+    GrpcServerMethodMetrics method = snapshot.get(GrpcServerMetrics.GENERIC_METHOD);
+    should.assertEquals(2L, method.calls());
+    should.assertEquals(2L, method.statuses().get(GrpcStatus.OK));
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.vertx.core.Future;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.server.GrpcOverloadPolicy;
+import io.vertx.grpc.server.GrpcOverloadStats;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class ServerOverloadTest extends ServerTestBase {
+
+  private static final Metadata.Key<String> RETRY_PUSHBACK = Metadata.Key.of("grpc-retry-pushback-ms", Metadata.ASCII_STRING_MARSHALLER);
+
+  private static Request request(String name) {
+    return Request.newBuilder().setName(name).build();
+  }
+
+  @Test
+  public void testShedWhenEventLoopLags(TestContext should) throws Exception {
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+        .setOverloadPolicy(new GrpcOverloadPolicy()
+          .setSampleInterval(Duration.ofMillis(10))
+          .setMaxLag(Duration.ofMillis(50))
+          .setRetryPushback(Duration.ofMillis(250))))
+      .unaryCallHandler(UNARY, req -> {
+        if (req.getName().equals("block")) {
+          try {
+            // Block the event loop
+            Thread.sleep(500);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        return Future.succeededFuture(Reply.newBuilder().setMessage("Hello " + req.getName()).build());
+      });
+    startServer(server);
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    GrpcOverloadStats stats = server.overloadStats();
+
+    // The first call starts the probe of the event loop
+    should.assertEquals("Hello Julien", TestServiceGrpc.newBlockingStub(channel).unary(request("Julien")).getMessage());
+    should.assertFalse(stats.isOverloaded());
+
+    ListenableFuture<Reply> blocking = TestServiceGrpc.newFutureStub(channel).unary(request("block"));
+    Thread.sleep(200);
+    should.assertTrue(stats.isOverloaded());
+    try {
+      TestServiceGrpc.newBlockingStub(channel).unary(request("Paulo"));
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.UNAVAILABLE, e.getStatus().getCode());
+      should.assertEquals("250", e.getTrailers().get(RETRY_PUSHBACK));
+    }
+    should.assertEquals("Hello block", blocking.get(10, TimeUnit.SECONDS).getMessage());
+    should.assertEquals(1L, stats.shedCalls());
+
+    long now = System.currentTimeMillis();
+    while (stats.isOverloaded()) {
+      should.assertTrue(System.currentTimeMillis() - now < 10_000);
+      Thread.sleep(10);
+    }
+    should.assertEquals("Hello Paulo", TestServiceGrpc.newBlockingStub(channel).unary(request("Paulo")).getMessage());
+  }
+
+  @Test
+  public void testNoPolicy(TestContext should) {
+    GrpcServer server = GrpcServer.server(vertx);
+    should.assertNull(server.overloadStats());
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import com.google.protobuf.Descriptors;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Context;
+import io.vertx.core.ThreadingModel;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.server.*;
+import io.vertx.tests.common.grpc.Empty;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ServerThreadingModelTest extends ServerTestBase {
+
+  private void connect() {
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+  }
+
+  @Test
+  public void testUnaryOnWorker(TestContext should) {
+    UnaryServiceMethodInvoker<Request, Reply> invoker = (request, completion) -> {
+      should.assertFalse(Context.isOnEventLoopThread());
+      completion.complete(Reply.newBuilder().setMessage("Hello " + request.getName()).build(), null);
+    };
+    Service service = new Service() {
+      @Override
+      public ServiceName name() {
+        return UNARY.serviceName();
+      }
+      @Override
+      public Descriptors.ServiceDescriptor descriptor() {
+        throw new UnsupportedOperationException();
+      }
+      @Override
+      public List<ServiceMethod<?, ?>> methods() {
+        return List.of(UNARY);
+      }
+      @Override
+      public <Req, Resp> ServiceMethodInvoker<Req, Resp> invoker(ServiceMethod<Req, Resp> method) {
+        return (ServiceMethodInvoker<Req, Resp>) invoker;
+      }
+      @Override
+      public ThreadingModel threadingModel(ServiceMethod<?, ?> method) {
+        return ThreadingModel.WORKER;
+      }
+    };
+    startServer(GrpcServer.server(vertx).addService(service));
+    connect();
+
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    Reply res = stub.unary(Request.newBuilder().setName("Julien").build());
+    should.assertEquals("Hello Julien", res.getMessage());
+  }
+
+  @Test
+  public void testBlockingWritesOnWorker(TestContext should) {
+    int num = 1024;
+    BlockingServiceMethodInvoker<Empty, Reply> invoker = call -> {
+      should.assertFalse(Context.isOnEventLoopThread());
+      should.assertNotNull(call.read());
+      for (int i = 0; i < num; i++) {
+        call.write(Reply.newBuilder().setMessage("msg-" + i).build());
+      }
+    };
+    Service service = Service.service(SOURCE.serviceName(), null)
+      .bind(SOURCE, invoker::invoke)
+      .threadingModel(ThreadingModel.WORKER)
+      .build();
+    startServer(GrpcServer.server(vertx).addService(service));
+    connect();
+
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    Iterator<Reply> it = stub.source(Empty.getDefaultInstance());
+    int count = 0;
+    while (it.hasNext()) {
+      should.assertEquals("msg-" + count++, it.next().getMessage());
+    }
+    should.assertEquals(num, count);
+  }
+
+  @Test
+  public void testStreamingOnWorker(TestContext should) {
+    int num = 256;
+    Service service = Service.service(SOURCE.serviceName(), null)
+      .bind(SOURCE, request -> {
+        should.assertFalse(Context.isOnEventLoopThread());
+        GrpcServerResponse<Empty, Reply> response = request.response();
+        // Written from the worker thread
+        for (int i = 0; i < num; i++) {
+          response.write(Reply.newBuilder().setMessage("msg-" + i).build());
+        }
+        request.endHandler(v -> {
+          should.assertTrue(Context.isOnEventLoopThread());
+          response.end();
+        });
+      })
+      .threadingModel(ThreadingModel.WORKER)
+      .build();
+    startServer(GrpcServer.server(vertx).addService(service));
+    connect();
+
+    Iterator<Reply> it = TestServiceGrpc.newBlockingStub(channel).source(Empty.getDefaultInstance());
+    int count = 0;
+    while (it.hasNext()) {
+      should.assertEquals("msg-" + count++, it.next().getMessage());
+    }
+    should.assertEquals(num, count);
+  }
+
+  @Test
+  public void testStreamingFlowControlOnWorker(TestContext should) {
+    int num = 8;
+    AtomicInteger demand = new AtomicInteger();
+    AtomicInteger received = new AtomicInteger();
+    Service service = Service.service(SINK.serviceName(), null)
+      .bind(SINK, request -> {
+        should.assertFalse(Context.isOnEventLoopThread());
+        // One message at a time, the server must not resume the request behind the handler
+        request.pause();
+        request.handler(msg -> {
+          should.assertTrue(demand.decrementAndGet() >= 0);
+          received.incrementAndGet();
+          vertx.setTimer(10, id -> {
+            demand.incrementAndGet();
+            request.fetch(1);
+          });
+        });
+        request.endHandler(v -> request.response().end(Empty.getDefaultInstance()));
+        demand.incrementAndGet();
+        request.fetch(1);
+      })
+      .threadingModel(ThreadingModel.WORKER)
+      .build();
+    startServer(GrpcServer.server(vertx).addService(service));
+    connect();
+
+    Async done = should.async();
+    StreamObserver<Request> requests = TestServiceGrpc.newStub(channel).sink(new StreamObserver<>() {
+      @Override
+      public void onNext(Empty value) {
+      }
+      @Override
+      public void onError(Throwable t) {
+        should.fail(t);
+      }
+      @Override
+      public void onCompleted() {
+        done.complete();
+      }
+    });
+    for (int i = 0; i < num; i++) {
+      requests.onNext(Request.newBuilder().setName("msg-" + i).build());
+    }
+    requests.onCompleted();
+    done.awaitSuccess(20_000);
+    should.assertEquals(num, received.get());
+  }
+
+  @Test
+  public void testBlockingReadsOnVirtualThread(TestContext should) {
+    Assume.assumeTrue(Runtime.version().feature() >= 21);
+    int num = 16;
+    BlockingServiceMethodInvoker<Request, Empty> invoker = call -> {
+      should.assertFalse(Context.isOnEventLoopThread());
+      List<String> names = new ArrayList<>();
+      Request request;
+      while ((request = call.read()) != null) {
+        names.add(request.getName());
+      }
+      should.assertEquals(num, names.size());
+      for (int i = 0; i < num; i++) {
+        should.assertEquals("msg-" + i, names.get(i));
+      }
+      call.end(Empty.getDefaultInstance());
+    };
+    Service service = Service.service(SINK.serviceName(), null)
+      .bind(SINK, invoker::invoke)
+      .threadingModel(SINK, ThreadingModel.VIRTUAL_THREAD)
+      .build();
+    startServer(GrpcServer.server(vertx).addService(service));
+    connect();
+
+    Async done = should.async();
+    TestServiceGrpc.TestServiceStub stub = TestServiceGrpc.newStub(channel);
+    StreamObserver<Request> requests = stub.sink(new StreamObserver<>() {
+      @Override
+      public void onNext(Empty value) {
+      }
+      @Override
+      public void onError(Throwable t) {
+        should.fail(t);
+      }
+      @Override
+      public void onCompleted() {
+        done.complete();
+      }
+    });
+    for (int i = 0; i < num; i++) {
+      requests.onNext(Request.newBuilder().setName("msg-" + i).build());
+    }
+    requests.onCompleted();
+    done.awaitSuccess(20_000);
+  }
+}
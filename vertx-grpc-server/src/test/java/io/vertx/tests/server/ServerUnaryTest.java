@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcCompressionPolicy;
+import io.vertx.grpc.common.GrpcCompressionStats;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerMethodMetrics;
+import io.vertx.grpc.server.GrpcServerMetricsAggregator;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.grpc.server.StatusException;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.Request;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class ServerUnaryTest extends ServerTestBase {
+
+  private TestServiceGrpc.TestServiceBlockingStub stub() {
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    return TestServiceGrpc.newBlockingStub(channel);
+  }
+
+  @Test
+  public void testUnary(TestContext should) {
+    GrpcServerMetricsAggregator metrics = GrpcServerMetricsAggregator.create();
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setMetrics(metrics))
+      .unaryCallHandler(UNARY, request -> Future.succeededFuture(Reply.newBuilder().setMessage("Hello " + request.getName()).build())));
+    Request request = Request.newBuilder().setName("Julien").build();
+    Reply reply = stub().unary(request);
+    should.assertEquals("Hello Julien", reply.getMessage());
+    GrpcServerMethodMetrics method = metrics.snapshot().get(UNARY.fullMethodName());
+    should.assertEquals(1L, method.calls());
+    should.assertEquals(1L, method.statuses().get(GrpcStatus.OK));
+    should.assertEquals((long) request.getSerializedSize(), method.bytesReceived());
+    should.assertEquals((long) reply.getSerializedSize(), method.bytesSent());
+  }
+
+  @Test
+  public void testCompressedResponse(TestContext should) {
+    String name = "x".repeat(1024);
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions().setCompressionPolicy(new GrpcCompressionPolicy()))
+      .unaryCallHandler(UNARY, request -> Future.succeededFuture(Reply.newBuilder().setMessage("Hello " + request.getName()).build()));
+    startServer(server);
+    Reply reply = stub().withCompression("gzip").unary(Request.newBuilder().setName(name).build());
+    should.assertEquals("Hello " + name, reply.getMessage());
+    GrpcCompressionStats stats = server.compressionStats(UNARY);
+    should.assertEquals(1L, stats.compressedMessages());
+    should.assertTrue(stats.compressedBytes() < stats.uncompressedBytes());
+  }
+
+  @Test
+  public void testStatusException(TestContext should) {
+    startServer(GrpcServer.server(vertx)
+      .unaryCallHandler(UNARY, request -> Future.failedFuture(new StatusException(GrpcStatus.INVALID_ARGUMENT, "Invalid name"))));
+    try {
+      stub().unary(Request.newBuilder().setName("Julien").build());
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+      should.assertEquals("Invalid name", e.getStatus().getDescription());
+    }
+  }
+
+  @Test
+  public void testHandlerFailure(TestContext should) {
+    startServer(GrpcServer.server(vertx)
+      .unaryCallHandler(UNARY, request -> {
+        throw new RuntimeException();
+      }));
+    try {
+      stub().unary(Request.newBuilder().setName("Julien").build());
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.UNKNOWN, e.getStatus().getCode());
+    }
+  }
+
+  @Test
+  public void testDeadline(TestContext should) {
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().setScheduleDeadlineAutomatically(true))
+      .unaryCallHandler(UNARY, request -> Promise.<Reply>promise().future()));
+    try {
+      stub().withDeadlineAfter(100, TimeUnit.MILLISECONDS).unary(Request.newBuilder().setName("Julien").build());
+      should.fail();
+    } catch (StatusRuntimeException e) {
+      should.assertEquals(Status.Code.DEADLINE_EXCEEDED, e.getStatus().getCode());
+    }
+  }
+
+  @Test
+  public void testCompressedWithoutEncoding(TestContext should) {
+    startServer(GrpcServer.server(vertx)
+      .unaryCallHandler(UNARY, request -> Future.succeededFuture(Reply.newBuilder().setMessage("Hello " + request.getName()).build())));
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+    );
+    Buffer payload = Buffer.buffer("{\"name\":\"Julien\"}");
+    client.request(HttpMethod.POST, port, "localhost", "/" + UNARY.fullMethodName())
+      .compose(request -> {
+        request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc+json");
+        // Compressed flag without grpc-encoding header
+        return request.send(Buffer.buffer().appendByte((byte) 1).appendInt(payload.length()).appendBuffer(payload));
+      })
+      .onComplete(should.asyncAssertSuccess(response -> {
+        should.assertEquals("application/grpc+json", response.getHeader(HttpHeaders.CONTENT_TYPE));
+        should.assertEquals(String.valueOf(GrpcStatus.INTERNAL.code), response.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        should.assertFalse(response.getHeader(GrpcHeaderNames.GRPC_MESSAGE).contains("null"));
+        client.close();
+      }));
+  }
+}
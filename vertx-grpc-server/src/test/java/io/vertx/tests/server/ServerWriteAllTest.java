@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.server;
+
+import io.grpc.ManagedChannelBuilder;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.tests.common.grpc.Empty;
+import io.vertx.tests.common.grpc.Reply;
+import io.vertx.tests.common.grpc.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ServerWriteAllTest extends ServerTestBase {
+
+  private List<String> source() {
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    List<String> received = new ArrayList<>();
+    TestServiceGrpc.newBlockingStub(channel).source(Empty.getDefaultInstance()).forEachRemaining(reply -> received.add(reply.getMessage()));
+    return received;
+  }
+
+  private static List<Reply> replies(int from, int to) {
+    List<Reply> replies = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      replies.add(Reply.newBuilder().setMessage("the-value-" + i).build());
+    }
+    return replies;
+  }
+
+  private static List<String> values(int num) {
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < num; i++) {
+      values.add("the-value-" + i);
+    }
+    return values;
+  }
+
+  @Test
+  public void testWriteAll(TestContext should) {
+    startServer(GrpcServer.server(vertx).callHandler(SOURCE, call -> {
+      call.response()
+        .writeAll(replies(0, 10))
+        .onComplete(should.asyncAssertSuccess(v -> call.response()
+          .endAll(replies(10, 20))
+          .onComplete(should.asyncAssertSuccess())));
+    }));
+    should.assertEquals(values(20), source());
+  }
+
+  @Test
+  public void testWriteAllCompressed(TestContext should) {
+    startServer(GrpcServer.server(vertx).callHandler(SOURCE, call -> {
+      call.response().encoding("gzip");
+      call.response().endAll(replies(0, 10));
+    }));
+    should.assertEquals(values(10), source());
+  }
+
+  @Test
+  public void testEndAllEmpty(TestContext should) {
+    startServer(GrpcServer.server(vertx).callHandler(SOURCE, call -> {
+      call.response().endAll(List.of());
+    }));
+    should.assertEquals(List.of(), source());
+  }
+}
@@ -12,6 +12,7 @@ package io.vertx.grpcio.client.impl;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
+import io.vertx.grpc.client.GrpcClientMetrics;
 import io.vertx.grpc.client.GrpcClientOptions;
 import io.vertx.grpc.client.impl.GrpcClientBuilderImpl;
 import io.vertx.grpcio.client.GrpcIoClient;
@@ -23,7 +24,7 @@ public class GrpcIoClientBuilder extends GrpcClientBuilderImpl<GrpcIoClient> {
   }
 
   @Override
-  protected GrpcIoClient create(Vertx vertx, GrpcClientOptions options, HttpClient transport) {
-    return new GrpcIoClientImpl(vertx, options, transport, true);
+  protected GrpcIoClient create(Vertx vertx, GrpcClientOptions options, GrpcClientMetrics<?> metrics, HttpClient transport) {
+    return new GrpcIoClientImpl(vertx, options, metrics, transport, true);
   }
 }
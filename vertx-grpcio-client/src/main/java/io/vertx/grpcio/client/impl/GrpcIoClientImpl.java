@@ -15,6 +15,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.*;
 import io.vertx.core.net.Address;
+import io.vertx.grpc.client.GrpcClientMetrics;
 import io.vertx.grpc.client.GrpcClientOptions;
 import io.vertx.grpc.client.GrpcClientRequest;
 import io.vertx.grpc.common.ServiceMethod;
@@ -39,6 +40,10 @@ public class GrpcIoClientImpl extends GrpcClientImpl implements GrpcIoClient {
     super(vertx, grpcOptions, client, close);
   }
 
+  public GrpcIoClientImpl(Vertx vertx, GrpcClientOptions grpcOptions, GrpcClientMetrics<?> metrics, HttpClient client, boolean close) {
+    super(vertx, grpcOptions, metrics, client, close);
+  }
+
   @Override
   public <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(MethodDescriptor<Req, Resp> service) {
     GrpcMessageDecoder<Resp> messageDecoder = new BridgeMessageDecoder<>(service.getResponseMarshaller(), null);